@@ -0,0 +1,58 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmarks.handwritten.HandwrittenShipmentMapper;
+import org.mapstruct.benchmarks.mapper.ShipmentMapper;
+import org.mapstruct.benchmarks.model.Shipment;
+import org.mapstruct.benchmarks.model.ShipmentDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the mapping into an immutable type through its builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+    private Shipment shipment;
+
+    private ShipmentMapper mapstruct;
+    private ShipmentMapper handwritten;
+
+    @Setup
+    public void setUp() {
+        mapstruct = Mappers.getMapper( ShipmentMapper.class );
+        handwritten = new HandwrittenShipmentMapper();
+        shipment = Fixtures.shipment();
+    }
+
+    @Benchmark
+    public ShipmentDto mapstruct() {
+        return mapstruct.toDto( shipment );
+    }
+
+    @Benchmark
+    public ShipmentDto handwritten() {
+        return handwritten.toDto( shipment );
+    }
+}
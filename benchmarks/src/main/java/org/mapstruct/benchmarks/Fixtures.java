@@ -0,0 +1,121 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.benchmarks.model.Address;
+import org.mapstruct.benchmarks.model.Bike;
+import org.mapstruct.benchmarks.model.Car;
+import org.mapstruct.benchmarks.model.Country;
+import org.mapstruct.benchmarks.model.Customer;
+import org.mapstruct.benchmarks.model.Order;
+import org.mapstruct.benchmarks.model.OrderLine;
+import org.mapstruct.benchmarks.model.OrderStatus;
+import org.mapstruct.benchmarks.model.Person;
+import org.mapstruct.benchmarks.model.Shipment;
+import org.mapstruct.benchmarks.model.Vehicle;
+
+/**
+ * Creates the source objects used by the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Person person() {
+        Person person = new Person();
+        person.setFirstName( "Jane" );
+        person.setLastName( "Doe" );
+        person.setAge( 42 );
+        person.setEmail( "jane.doe@example.org" );
+        person.setPhone( "+1 555 0100" );
+        person.setActive( true );
+        person.setHeight( 1.72 );
+        person.setScore( 1234567L );
+        person.setCity( "Springfield" );
+        person.setZipCode( "12345" );
+        return person;
+    }
+
+    static Address address() {
+        Country country = new Country();
+        country.setCode( "NL" );
+        country.setName( "Netherlands" );
+
+        Address address = new Address();
+        address.setStreet( "Main Street 1" );
+        address.setCity( "Amsterdam" );
+        address.setCountry( country );
+        return address;
+    }
+
+    static Order order(int lineCount) {
+        Customer customer = new Customer();
+        customer.setName( "ACME" );
+        customer.setAddress( address() );
+
+        List<OrderLine> lines = new ArrayList<>( lineCount );
+        for ( int i = 0; i < lineCount; i++ ) {
+            OrderLine line = new OrderLine();
+            line.setProduct( "Product " + i );
+            line.setQuantity( i + 1 );
+            line.setPrice( new BigDecimal( "19.99" ).add( BigDecimal.valueOf( i ) ) );
+            lines.add( line );
+        }
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put( "channel", "web" );
+        attributes.put( "campaign", "spring-sale" );
+
+        Order order = new Order();
+        order.setId( "order-1" );
+        order.setStatus( OrderStatus.PAID );
+        order.setPriority( 2 );
+        order.setCreatedAt( new Date( 1700000000000L ) );
+        order.setTotal( new BigDecimal( "1234567.891" ) );
+        order.setCustomer( customer );
+        order.setLines( lines );
+        order.setAttributes( attributes );
+        return order;
+    }
+
+    static Shipment shipment() {
+        Shipment shipment = new Shipment();
+        shipment.setTrackingNumber( "1Z999AA10123456784" );
+        shipment.setCarrier( "UPS" );
+        shipment.setWeight( 12.5 );
+        shipment.setDestination( address() );
+        return shipment;
+    }
+
+    static List<Vehicle> vehicles(int count) {
+        List<Vehicle> vehicles = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ) {
+            Vehicle vehicle;
+            if ( i % 2 == 0 ) {
+                Car car = new Car();
+                car.setSeats( 5 );
+                vehicle = car;
+            }
+            else {
+                Bike bike = new Bike();
+                bike.setElectric( true );
+                vehicle = bike;
+            }
+            vehicle.setName( "Vehicle " + i );
+            vehicle.setWheels( i % 2 == 0 ? 4 : 2 );
+            vehicles.add( vehicle );
+        }
+        return vehicles;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmarks.handwritten.HandwrittenPersonMapper;
+import org.mapstruct.benchmarks.mapper.PersonMapper;
+import org.mapstruct.benchmarks.model.Person;
+import org.mapstruct.benchmarks.model.PersonDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the mapping of a flat bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatBeanBenchmark {
+
+    private Person person;
+
+    private PersonMapper mapstruct;
+    private PersonMapper handwritten;
+
+    @Setup
+    public void setUp() {
+        mapstruct = Mappers.getMapper( PersonMapper.class );
+        handwritten = new HandwrittenPersonMapper();
+        person = Fixtures.person();
+    }
+
+    @Benchmark
+    public PersonDto mapstruct() {
+        return mapstruct.toDto( person );
+    }
+
+    @Benchmark
+    public PersonDto handwritten() {
+        return handwritten.toDto( person );
+    }
+}
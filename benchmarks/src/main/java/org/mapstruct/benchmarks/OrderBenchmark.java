@@ -0,0 +1,62 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmarks.handwritten.HandwrittenOrderMapper;
+import org.mapstruct.benchmarks.mapper.OrderMapper;
+import org.mapstruct.benchmarks.model.Order;
+import org.mapstruct.benchmarks.model.OrderDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the mapping of a nested bean with collections, maps, enums as well as date and number conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int lineCount;
+
+    private Order order;
+
+    private OrderMapper mapstruct;
+    private OrderMapper handwritten;
+
+    @Setup
+    public void setUp() {
+        mapstruct = Mappers.getMapper( OrderMapper.class );
+        handwritten = new HandwrittenOrderMapper();
+        order = Fixtures.order( lineCount );
+    }
+
+    @Benchmark
+    public OrderDto mapstruct() {
+        return mapstruct.toDto( order );
+    }
+
+    @Benchmark
+    public OrderDto handwritten() {
+        return handwritten.toDto( order );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmarks.handwritten.HandwrittenVehicleMapper;
+import org.mapstruct.benchmarks.mapper.VehicleMapper;
+import org.mapstruct.benchmarks.model.Vehicle;
+import org.mapstruct.benchmarks.model.VehicleDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the mapping of a list of beans which are mapped through subclass mappings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubclassMappingBenchmark {
+
+    @Param({ "10", "100" })
+    int vehicleCount;
+
+    private List<Vehicle> vehicles;
+
+    private VehicleMapper mapstruct;
+    private VehicleMapper handwritten;
+
+    @Setup
+    public void setUp() {
+        mapstruct = Mappers.getMapper( VehicleMapper.class );
+        handwritten = new HandwrittenVehicleMapper();
+        vehicles = Fixtures.vehicles( vehicleCount );
+    }
+
+    @Benchmark
+    public List<VehicleDto> mapstruct() {
+        return mapstruct.toDtos( vehicles );
+    }
+
+    @Benchmark
+    public List<VehicleDto> handwritten() {
+        return handwritten.toDtos( vehicles );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.handwritten;
+
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.mapstruct.benchmarks.mapper.OrderMapper;
+import org.mapstruct.benchmarks.model.Address;
+import org.mapstruct.benchmarks.model.Customer;
+import org.mapstruct.benchmarks.model.Order;
+import org.mapstruct.benchmarks.model.OrderDto;
+import org.mapstruct.benchmarks.model.OrderLine;
+import org.mapstruct.benchmarks.model.OrderLineDto;
+import org.mapstruct.benchmarks.model.OrderStatusDto;
+import org.mapstruct.benchmarks.model.Priority;
+
+/**
+ * Hand-written equivalent of the generated {@link OrderMapper}.
+ */
+public class HandwrittenOrderMapper implements OrderMapper {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final ThreadLocal<SimpleDateFormat> dateFormat =
+        ThreadLocal.withInitial( () -> new SimpleDateFormat( "yyyy-MM-dd HH:mm" ) );
+    private final ThreadLocal<DecimalFormat> totalFormat =
+        ThreadLocal.withInitial( () -> new DecimalFormat( "#,##0.00" ) );
+    private final ThreadLocal<DecimalFormat> priceFormat =
+        ThreadLocal.withInitial( () -> new DecimalFormat( "#0.00" ) );
+
+    @Override
+    public OrderDto toDto(Order order) {
+        if ( order == null ) {
+            return null;
+        }
+
+        OrderDto dto = new OrderDto();
+        dto.setId( order.getId() );
+        if ( order.getStatus() != null ) {
+            dto.setStatus( OrderStatusDto.valueOf( order.getStatus().name() ) );
+        }
+        dto.setPriority( PRIORITIES[order.getPriority()] );
+        if ( order.getCreatedAt() != null ) {
+            dto.setCreatedAt( dateFormat.get().format( order.getCreatedAt() ) );
+        }
+        if ( order.getTotal() != null ) {
+            dto.setTotal( totalFormat.get().format( order.getTotal() ) );
+        }
+
+        Customer customer = order.getCustomer();
+        if ( customer != null ) {
+            dto.setCustomerName( customer.getName() );
+            Address address = customer.getAddress();
+            if ( address != null ) {
+                dto.setCustomerStreet( address.getStreet() );
+                dto.setCustomerCity( address.getCity() );
+                if ( address.getCountry() != null ) {
+                    dto.setCustomerCountryCode( address.getCountry().getCode() );
+                }
+            }
+        }
+
+        if ( order.getLines() != null ) {
+            List<OrderLineDto> lines = new ArrayList<>( order.getLines().size() );
+            for ( OrderLine line : order.getLines() ) {
+                lines.add( toDto( line ) );
+            }
+            dto.setLines( lines );
+        }
+        if ( order.getAttributes() != null ) {
+            dto.setAttributes( new LinkedHashMap<>( order.getAttributes() ) );
+        }
+
+        return dto;
+    }
+
+    @Override
+    public OrderLineDto toDto(OrderLine line) {
+        if ( line == null ) {
+            return null;
+        }
+
+        OrderLineDto dto = new OrderLineDto();
+        dto.setProduct( line.getProduct() );
+        dto.setQuantity( line.getQuantity() );
+        if ( line.getPrice() != null ) {
+            dto.setPrice( priceFormat.get().format( line.getPrice() ) );
+        }
+        return dto;
+    }
+
+    @Override
+    public List<OrderDto> toDtos(List<Order> orders) {
+        if ( orders == null ) {
+            return null;
+        }
+
+        List<OrderDto> dtos = new ArrayList<>( orders.size() );
+        for ( Order order : orders ) {
+            dtos.add( toDto( order ) );
+        }
+        return dtos;
+    }
+}
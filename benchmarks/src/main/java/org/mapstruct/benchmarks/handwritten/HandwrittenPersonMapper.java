@@ -0,0 +1,36 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.handwritten;
+
+import org.mapstruct.benchmarks.mapper.PersonMapper;
+import org.mapstruct.benchmarks.model.Person;
+import org.mapstruct.benchmarks.model.PersonDto;
+
+/**
+ * Hand-written equivalent of the generated {@link PersonMapper}.
+ */
+public class HandwrittenPersonMapper implements PersonMapper {
+
+    @Override
+    public PersonDto toDto(Person person) {
+        if ( person == null ) {
+            return null;
+        }
+
+        PersonDto dto = new PersonDto();
+        dto.setFirstName( person.getFirstName() );
+        dto.setLastName( person.getLastName() );
+        dto.setAge( person.getAge() );
+        dto.setEmail( person.getEmail() );
+        dto.setPhone( person.getPhone() );
+        dto.setActive( person.isActive() );
+        dto.setHeight( person.getHeight() );
+        dto.setScore( person.getScore() );
+        dto.setCity( person.getCity() );
+        dto.setZipCode( person.getZipCode() );
+        return dto;
+    }
+}
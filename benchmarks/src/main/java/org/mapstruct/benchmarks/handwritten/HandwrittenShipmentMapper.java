@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.handwritten;
+
+import org.mapstruct.benchmarks.mapper.ShipmentMapper;
+import org.mapstruct.benchmarks.model.Address;
+import org.mapstruct.benchmarks.model.Shipment;
+import org.mapstruct.benchmarks.model.ShipmentDto;
+
+/**
+ * Hand-written equivalent of the generated {@link ShipmentMapper}.
+ */
+public class HandwrittenShipmentMapper implements ShipmentMapper {
+
+    @Override
+    public ShipmentDto toDto(Shipment shipment) {
+        if ( shipment == null ) {
+            return null;
+        }
+
+        ShipmentDto.Builder builder = ShipmentDto.builder()
+            .trackingNumber( shipment.getTrackingNumber() )
+            .carrier( shipment.getCarrier() )
+            .weight( shipment.getWeight() );
+
+        Address destination = shipment.getDestination();
+        if ( destination != null ) {
+            builder.destinationCity( destination.getCity() );
+            if ( destination.getCountry() != null ) {
+                builder.destinationCountry( destination.getCountry().getName() );
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.handwritten;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.benchmarks.mapper.VehicleMapper;
+import org.mapstruct.benchmarks.model.Bike;
+import org.mapstruct.benchmarks.model.BikeDto;
+import org.mapstruct.benchmarks.model.Car;
+import org.mapstruct.benchmarks.model.CarDto;
+import org.mapstruct.benchmarks.model.Vehicle;
+import org.mapstruct.benchmarks.model.VehicleDto;
+
+/**
+ * Hand-written equivalent of the generated {@link VehicleMapper}.
+ */
+public class HandwrittenVehicleMapper implements VehicleMapper {
+
+    @Override
+    public VehicleDto toDto(Vehicle vehicle) {
+        if ( vehicle == null ) {
+            return null;
+        }
+
+        VehicleDto dto;
+        if ( vehicle instanceof Car ) {
+            CarDto carDto = new CarDto();
+            carDto.setSeats( ( (Car) vehicle ).getSeats() );
+            dto = carDto;
+        }
+        else if ( vehicle instanceof Bike ) {
+            BikeDto bikeDto = new BikeDto();
+            bikeDto.setElectric( ( (Bike) vehicle ).isElectric() );
+            dto = bikeDto;
+        }
+        else {
+            throw new IllegalArgumentException( "Not all subclasses are supported for this mapping. Missing for "
+                + vehicle.getClass() );
+        }
+
+        dto.setName( vehicle.getName() );
+        dto.setWheels( vehicle.getWheels() );
+        return dto;
+    }
+
+    @Override
+    public List<VehicleDto> toDtos(List<Vehicle> vehicles) {
+        if ( vehicles == null ) {
+            return null;
+        }
+
+        List<VehicleDto> dtos = new ArrayList<>( vehicles.size() );
+        for ( Vehicle vehicle : vehicles ) {
+            dtos.add( toDto( vehicle ) );
+        }
+        return dtos;
+    }
+}
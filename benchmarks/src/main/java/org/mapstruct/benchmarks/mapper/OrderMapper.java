@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.benchmarks.model.Order;
+import org.mapstruct.benchmarks.model.OrderDto;
+import org.mapstruct.benchmarks.model.OrderLine;
+import org.mapstruct.benchmarks.model.OrderLineDto;
+
+/**
+ * Maps a deeply nested bean with collections, maps, enums as well as date and number conversions.
+ */
+@Mapper
+public interface OrderMapper {
+
+    @Mapping(target = "createdAt", dateFormat = "yyyy-MM-dd HH:mm")
+    @Mapping(target = "total", numberFormat = "#,##0.00")
+    @Mapping(target = "customerName", source = "customer.name")
+    @Mapping(target = "customerStreet", source = "customer.address.street")
+    @Mapping(target = "customerCity", source = "customer.address.city")
+    @Mapping(target = "customerCountryCode", source = "customer.address.country.code")
+    OrderDto toDto(Order order);
+
+    @Mapping(target = "price", numberFormat = "#0.00")
+    OrderLineDto toDto(OrderLine line);
+
+    List<OrderDto> toDtos(List<Order> orders);
+}
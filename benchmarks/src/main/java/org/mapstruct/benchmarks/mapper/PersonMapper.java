@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.benchmarks.model.Person;
+import org.mapstruct.benchmarks.model.PersonDto;
+
+/**
+ * Maps a flat bean with properties of the same name and type.
+ */
+@Mapper
+public interface PersonMapper {
+
+    PersonDto toDto(Person person);
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.benchmarks.model.Shipment;
+import org.mapstruct.benchmarks.model.ShipmentDto;
+
+/**
+ * Maps into an immutable type through its builder.
+ */
+@Mapper
+public interface ShipmentMapper {
+
+    @Mapping(target = "destinationCity", source = "destination.city")
+    @Mapping(target = "destinationCountry", source = "destination.country.name")
+    ShipmentDto toDto(Shipment shipment);
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.SubclassExhaustiveStrategy;
+import org.mapstruct.SubclassMapping;
+import org.mapstruct.benchmarks.model.Bike;
+import org.mapstruct.benchmarks.model.BikeDto;
+import org.mapstruct.benchmarks.model.Car;
+import org.mapstruct.benchmarks.model.CarDto;
+import org.mapstruct.benchmarks.model.Vehicle;
+import org.mapstruct.benchmarks.model.VehicleDto;
+
+/**
+ * Maps a type hierarchy through subclass mappings.
+ */
+@Mapper(subclassExhaustiveStrategy = SubclassExhaustiveStrategy.RUNTIME_EXCEPTION)
+public interface VehicleMapper {
+
+    @SubclassMapping(source = Car.class, target = CarDto.class)
+    @SubclassMapping(source = Bike.class, target = BikeDto.class)
+    VehicleDto toDto(Vehicle vehicle);
+
+    List<VehicleDto> toDtos(List<Vehicle> vehicles);
+}
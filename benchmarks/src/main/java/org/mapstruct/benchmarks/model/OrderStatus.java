@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.model;
+
+/**
+ * Status of an {@link Order}.
+ */
+public enum OrderStatus {
+
+    NEW, PAID, SHIPPED, DELIVERED, CANCELLED
+}
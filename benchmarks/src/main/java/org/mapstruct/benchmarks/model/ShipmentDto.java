@@ -0,0 +1,88 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.model;
+
+/**
+ * Immutable target of the builder benchmark.
+ */
+public class ShipmentDto {
+
+    private final String trackingNumber;
+    private final String carrier;
+    private final double weight;
+    private final String destinationCity;
+    private final String destinationCountry;
+
+    private ShipmentDto(Builder builder) {
+        this.trackingNumber = builder.trackingNumber;
+        this.carrier = builder.carrier;
+        this.weight = builder.weight;
+        this.destinationCity = builder.destinationCity;
+        this.destinationCountry = builder.destinationCountry;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getTrackingNumber() {
+        return trackingNumber;
+    }
+
+    public String getCarrier() {
+        return carrier;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public String getDestinationCity() {
+        return destinationCity;
+    }
+
+    public String getDestinationCountry() {
+        return destinationCountry;
+    }
+
+    public static class Builder {
+
+        private String trackingNumber;
+        private String carrier;
+        private double weight;
+        private String destinationCity;
+        private String destinationCountry;
+
+        public Builder trackingNumber(String trackingNumber) {
+            this.trackingNumber = trackingNumber;
+            return this;
+        }
+
+        public Builder carrier(String carrier) {
+            this.carrier = carrier;
+            return this;
+        }
+
+        public Builder weight(double weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        public Builder destinationCity(String destinationCity) {
+            this.destinationCity = destinationCity;
+            return this;
+        }
+
+        public Builder destinationCountry(String destinationCountry) {
+            this.destinationCountry = destinationCountry;
+            return this;
+        }
+
+        public ShipmentDto build() {
+            return new ShipmentDto( this );
+        }
+    }
+}
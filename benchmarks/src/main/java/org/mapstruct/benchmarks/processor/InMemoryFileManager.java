@@ -0,0 +1,61 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.processor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * A file manager keeping all files written by the compiler and the annotation processor in memory, so that the file
+ * system does not influence the measurements.
+ */
+class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super( fileManager );
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location, String className,
+                                               JavaFileObject.Kind kind, FileObject sibling) {
+        return new InMemoryFile( URI.create( "mem:///" + className.replace( '.', '/' ) + kind.extension ), kind );
+    }
+
+    @Override
+    public FileObject getFileForOutput(JavaFileManager.Location location, String packageName, String relativeName,
+                                       FileObject sibling) {
+        String path = packageName.isEmpty() ? relativeName : packageName.replace( '.', '/' ) + "/" + relativeName;
+        return new InMemoryFile( URI.create( "mem:///" + path ), JavaFileObject.Kind.OTHER );
+    }
+
+    private static class InMemoryFile extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        InMemoryFile(URI uri, Kind kind) {
+            super( uri, kind );
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            content.reset();
+            return content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return new String( content.toByteArray(), StandardCharsets.UTF_8 );
+        }
+    }
+}
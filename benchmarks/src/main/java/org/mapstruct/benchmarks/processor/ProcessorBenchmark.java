@@ -0,0 +1,200 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.processor;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import com.sun.management.ThreadMXBean;
+import org.mapstruct.ap.MappingProcessor;
+
+/**
+ * Measures the time the annotation processor takes for a suite of synthetic mappers, see
+ * {@link SyntheticMapperSuite}. The suite is processed in-process by javac (with {@code -proc:only}) for a number of
+ * warmup and measured iterations. For the measured iterations the average total time, the time per processing phase
+ * (as reported by MapStruct in verbose mode) and the memory allocated by the compiling thread are reported.
+ * <p>
+ * The shape of the suite and the number of iterations can be configured via arguments, e.g.:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.mapstruct.benchmarks.processor.ProcessorBenchmark \
+ *     --mappers=2000 --properties=20 --depth=3 --collections=true --warmup=3 --iterations=5
+ * </pre>
+ */
+public class ProcessorBenchmark {
+
+    private static final Pattern PHASE_DURATION = Pattern.compile( "MapStruct: (\\w+) took ([0-9.]+) ms for .*" );
+
+    private final SyntheticMapperSuite suite;
+    private final JavaCompiler compiler;
+    private final String classPath;
+
+    private ProcessorBenchmark(SyntheticMapperSuite suite) {
+        this.suite = suite;
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        this.classPath = System.getProperty( "java.class.path" );
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = parseArguments( args );
+        int mappers = Integer.parseInt( arguments.getOrDefault( "mappers", "100" ) );
+        int properties = Integer.parseInt( arguments.getOrDefault( "properties", "20" ) );
+        int depth = Integer.parseInt( arguments.getOrDefault( "depth", "3" ) );
+        boolean collections = Boolean.parseBoolean( arguments.getOrDefault( "collections", "true" ) );
+        int warmup = Integer.parseInt( arguments.getOrDefault( "warmup", "3" ) );
+        int iterations = Integer.parseInt( arguments.getOrDefault( "iterations", "5" ) );
+
+        System.out.printf(
+            Locale.ROOT,
+            "Suite: %d mappers, %d properties, nesting depth %d, collections %b%n",
+            mappers,
+            properties,
+            depth,
+            collections
+        );
+
+        ProcessorBenchmark benchmark =
+            new ProcessorBenchmark( new SyntheticMapperSuite( mappers, properties, depth, collections ) );
+
+        for ( int i = 1; i <= warmup; i++ ) {
+            Result result = benchmark.run();
+            System.out.printf( Locale.ROOT, "Warmup %d: %.1f ms%n", i, result.totalMillis );
+        }
+
+        Result total = new Result();
+        for ( int i = 1; i <= iterations; i++ ) {
+            Result result = benchmark.run();
+            System.out.printf(
+                Locale.ROOT,
+                "Iteration %d: %.1f ms, %.1f MB allocated%n",
+                i,
+                result.totalMillis,
+                result.allocatedBytes / 1_000_000.0
+            );
+            total.add( result );
+        }
+
+        total.printAverage( iterations );
+    }
+
+    private Result run() throws Exception {
+        List<JavaFileObject> sources = suite.generate();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standardFileManager = compiler.getStandardFileManager( null, Locale.ROOT, null );
+
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        try ( InMemoryFileManager fileManager = new InMemoryFileManager( standardFileManager ) ) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                Arrays.asList(
+                    "-proc:only",
+                    "-classpath", classPath,
+                    "-Amapstruct.verbose=true",
+                    "-Amapstruct.suppressGeneratorTimestamp=true"
+                ),
+                null,
+                sources
+            );
+            task.setProcessors( Collections.singletonList( new MappingProcessor() ) );
+
+            long allocatedBefore = threadBean.getThreadAllocatedBytes( threadId );
+            long start = System.nanoTime();
+            boolean success = task.call();
+            long duration = System.nanoTime() - start;
+            long allocated = threadBean.getThreadAllocatedBytes( threadId ) - allocatedBefore;
+
+            if ( !success ) {
+                throw new IllegalStateException( "Processing the synthetic mappers failed: " + errors( diagnostics ) );
+            }
+
+            Result result = new Result();
+            result.totalMillis = duration / 1_000_000.0;
+            result.allocatedBytes = allocated;
+            for ( Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics() ) {
+                Matcher matcher = PHASE_DURATION.matcher( diagnostic.getMessage( Locale.ROOT ) );
+                if ( diagnostic.getKind() == Diagnostic.Kind.NOTE && matcher.matches() ) {
+                    double millis = Double.parseDouble( matcher.group( 2 ) );
+                    result.phaseMillis.merge( matcher.group( 1 ), millis, Double::sum );
+                }
+            }
+            return result;
+        }
+    }
+
+    private static String errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        StringBuilder sb = new StringBuilder();
+        for ( Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics() ) {
+            if ( diagnostic.getKind() == Diagnostic.Kind.ERROR ) {
+                sb.append( System.lineSeparator() ).append( diagnostic );
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for ( String arg : args ) {
+            if ( !arg.startsWith( "--" ) || !arg.contains( "=" ) ) {
+                throw new IllegalArgumentException( "Arguments must be given as --name=value, but got " + arg );
+            }
+            int separator = arg.indexOf( '=' );
+            arguments.put( arg.substring( 2, separator ), arg.substring( separator + 1 ) );
+        }
+        return arguments;
+    }
+
+    private static class Result {
+
+        private double totalMillis;
+        private long allocatedBytes;
+        private final Map<String, Double> phaseMillis = new LinkedHashMap<>();
+
+        private void add(Result other) {
+            totalMillis += other.totalMillis;
+            allocatedBytes += other.allocatedBytes;
+            other.phaseMillis.forEach( (phase, millis) -> phaseMillis.merge( phase, millis, Double::sum ) );
+        }
+
+        private void printAverage(int iterations) {
+            double phasesMillis = 0;
+            System.out.printf( Locale.ROOT, "Average over %d iterations:%n", iterations );
+            for ( Map.Entry<String, Double> phase : phaseMillis.entrySet() ) {
+                phasesMillis += phase.getValue();
+                System.out.printf( Locale.ROOT, "  %-40s %10.1f ms%n", phase.getKey(), phase.getValue() / iterations );
+            }
+            System.out.printf(
+                Locale.ROOT,
+                "  %-40s %10.1f ms%n",
+                "javac and MapStruct outside of phases",
+                ( totalMillis - phasesMillis ) / iterations
+            );
+            System.out.printf( Locale.ROOT, "  %-40s %10.1f ms%n", "total", totalMillis / iterations );
+            System.out.printf(
+                Locale.ROOT,
+                "  %-40s %10.1f MB%n",
+                "allocated",
+                allocatedBytes / 1_000_000.0 / iterations
+            );
+        }
+    }
+}
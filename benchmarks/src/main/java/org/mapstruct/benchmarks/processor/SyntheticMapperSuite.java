@@ -0,0 +1,114 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.benchmarks.processor;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * Generates the sources of a suite of synthetic mappers. Each mapper maps a source bean to a target bean with the
+ * given number of properties, cycling through properties of the same type, properties requiring a type conversion and,
+ * optionally, collection properties. Beans are nested up to the given depth, so that MapStruct has to generate the
+ * mapping methods for the nested beans as well.
+ */
+public class SyntheticMapperSuite {
+
+    private static final String PACKAGE = "org.mapstruct.benchmarks.synthetic";
+
+    private final int mapperCount;
+    private final int propertyCount;
+    private final int nestingDepth;
+    private final boolean collections;
+
+    public SyntheticMapperSuite(int mapperCount, int propertyCount, int nestingDepth, boolean collections) {
+        this.mapperCount = mapperCount;
+        this.propertyCount = propertyCount;
+        this.nestingDepth = nestingDepth;
+        this.collections = collections;
+    }
+
+    public List<JavaFileObject> generate() {
+        List<JavaFileObject> sources = new ArrayList<>();
+        for ( int mapper = 0; mapper < mapperCount; mapper++ ) {
+            for ( int level = 0; level < nestingDepth; level++ ) {
+                sources.add( bean( "Source" + mapper + "_" + level, level, true ) );
+                sources.add( bean( "Target" + mapper + "_" + level, level, false ) );
+            }
+            sources.add( mapper( mapper ) );
+        }
+        return sources;
+    }
+
+    private JavaFileObject bean(String name, int level, boolean source) {
+        String prefix = name.substring( source ? "Source".length() : "Target".length() );
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package " ).append( PACKAGE ).append( ";\n\n" );
+        sb.append( "public class " ).append( name ).append( " {\n" );
+
+        for ( int property = 0; property < propertyCount; property++ ) {
+            appendProperty( sb, propertyType( property, source ), "property" + property );
+        }
+        if ( level < nestingDepth - 1 ) {
+            String nestedPrefix = prefix.substring( 0, prefix.indexOf( '_' ) + 1 ) + ( level + 1 );
+            appendProperty( sb, ( source ? "Source" : "Target" ) + nestedPrefix, "child" );
+        }
+
+        sb.append( "}\n" );
+        return new SourceFile( PACKAGE + "." + name, sb.toString() );
+    }
+
+    private String propertyType(int property, boolean source) {
+        int kinds = collections ? 4 : 3;
+        switch ( property % kinds ) {
+            case 0:
+                return "String";
+            case 1:
+                return source ? "int" : "Long";
+            case 2:
+                return source ? "long" : "String";
+            default:
+                return "java.util.List<String>";
+        }
+    }
+
+    private void appendProperty(StringBuilder sb, String type, String name) {
+        String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+        sb.append( "    private " ).append( type ).append( ' ' ).append( name ).append( ";\n" );
+        sb.append( "    public " ).append( type ).append( " get" ).append( capitalized ).append( "() { return " )
+            .append( name ).append( "; }\n" );
+        sb.append( "    public void set" ).append( capitalized ).append( '(' ).append( type ).append( ' ' )
+            .append( name ).append( ") { this." ).append( name ).append( " = " ).append( name ).append( "; }\n" );
+    }
+
+    private JavaFileObject mapper(int mapper) {
+        String name = "Mapper" + mapper;
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package " ).append( PACKAGE ).append( ";\n\n" );
+        sb.append( "@org.mapstruct.Mapper\n" );
+        sb.append( "public interface " ).append( name ).append( " {\n" );
+        sb.append( "    Target" ).append( mapper ).append( "_0 map(Source" ).append( mapper ).append( "_0 source);\n" );
+        sb.append( "}\n" );
+        return new SourceFile( PACKAGE + "." + name, sb.toString() );
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String content;
+
+        SourceFile(String className, String content) {
+            super( URI.create( "string:///" + className.replace( '.', '/' ) + Kind.SOURCE.extension ), Kind.SOURCE );
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
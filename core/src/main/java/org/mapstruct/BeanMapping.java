@@ -144,6 +144,39 @@ NullValuePropertyMappingStrategy nullValuePropertyMappingStrategy()
      */
     Class<? extends Exception> subclassExhaustiveException() default IllegalArgumentException.class;
 
+    /**
+     * Determines how the {@link SubclassMapping} matching the source object is selected in the generated code.
+     *
+     * Overrides the setting on {@link MapperConfig} and {@link Mapper}.
+     *
+     * @return strategy to select the subclass mapping for the source object
+     *
+     * @since 1.7
+     */
+    SubclassDispatchStrategy subclassDispatchStrategy() default SubclassDispatchStrategy.INSTANCEOF;
+
+    /**
+     * Whether the generated mapping methods keep track of the targets created for source objects during a mapping
+     * call. When enabled, a source object referenced more than once within the mapped object graph is mapped only once
+     * and the same target instance is reused, and cycles in the source graph are reproduced in the target graph
+     * instead of causing a {@link StackOverflowError}.
+     * <p>
+     * Source objects are compared by identity. Tracking applies to bean mapping methods with a single source
+     * parameter that create a new target. Cycles can only be reproduced for targets created via a no-args
+     * constructor or a factory method, as targets created via a constructor with parameters or a builder only exist
+     * once all their properties have been mapped. The targets are tracked per mapping method. Reference tracking
+     * can't be combined with {@link IterableMapping#parallel()} or {@link IterableMapping#lazy()} in the same mapper.
+     * <p>
+     * Overrides the setting on {@link MapperConfig} and {@link Mapper}.
+     *
+     * @return whether the targets created for source objects are tracked and reused
+     *
+     * @see org.mapstruct.util.MappedReferences
+     *
+     * @since 1.7
+     */
+    boolean trackReferences() default false;
+
     /**
      * Default ignore all mappings. All mappings have to be defined manually. No automatic mapping will take place. No
      * warning will be issued on missing source or target properties.
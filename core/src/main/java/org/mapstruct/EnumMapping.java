@@ -153,4 +153,42 @@
      * @return the exception that should be used in the generated code
      */
     Class<? extends Exception> unexpectedValueMappingException() default IllegalArgumentException.class;
+
+    /**
+     * The strategy for looking up the target value in the generated implementation. By default a {@code switch}
+     * statement over the source value is generated. {@link ValueMappingLookupStrategy#LOOKUP_TABLE} is an alternative
+     * for mappings from large enums or from {@link String}s, as the lookup doesn't grow with the number of constants.
+     *
+     * @return the strategy for looking up the target value
+     *
+     * @since 1.7
+     */
+    ValueMappingLookupStrategy lookupStrategy() default ValueMappingLookupStrategy.SWITCH;
+
+    /**
+     * Whether the case of the source value should be ignored when mapping from a {@link String} to an enum. The source
+     * values of the mapping (as defined via {@link ValueMapping#source()} or derived from the enum constants and the
+     * {@link #nameTransformationStrategy()}) and the {@link String} passed to the mapping method are compared in upper
+     * case (using {@link java.util.Locale#ROOT}).
+     * <p>
+     * This can only be used for mappings from a {@link String} to an enum.
+     *
+     * @return whether the case of the source value should be ignored
+     *
+     * @since 1.7
+     */
+    boolean ignoreCase() default false;
+
+    /**
+     * Whether leading and trailing whitespace should be removed from the source value when mapping from a
+     * {@link String} to an enum, see {@link String#trim()}. Applies to the source values of the mapping as well as to
+     * the {@link String} passed to the mapping method.
+     * <p>
+     * This can only be used for mappings from a {@link String} to an enum.
+     *
+     * @return whether leading and trailing whitespace should be removed from the source value
+     *
+     * @since 1.7
+     */
+    boolean trimWhitespace() default false;
 }
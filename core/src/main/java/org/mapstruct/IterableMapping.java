@@ -156,4 +156,85 @@
      */
     Class<? extends Annotation> elementMappingControl() default MappingControl.class;
 
+    /**
+     * Whether the elements of large sources should be mapped in parallel. If enabled, the generated method maps the
+     * elements of a source with at least {@link #parallelThreshold()} elements concurrently and collects the mapped
+     * elements in the order of the source.
+     * <p>
+     * Parallel mapping is only applied if the source is an array or a {@link java.util.List} implementing
+     * {@link java.util.RandomAccess} and the result is a collection. The elements are mapped using the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, unless the mapping method has a
+     * {@link Context} parameter of type {@link java.util.concurrent.Executor}, in which case that executor is used.
+     * <p>
+     * The element mappings are invoked from multiple threads, so they must not rely on state that is not safe for
+     * concurrent use. Element mappings declaring checked exceptions can't be mapped in parallel. Parallel mapping
+     * can't be combined with {@link Mapper#trackReferences() reference tracking}, which is bound to the calling thread.
+     *
+     * @return whether the elements of large sources should be mapped in parallel
+     *
+     * @since 1.7
+     */
+    boolean parallel() default false;
+
+    /**
+     * The minimum number of source elements for which the elements are mapped in parallel. Smaller sources are mapped
+     * sequentially. Only taken into account if {@link #parallel()} is enabled. Must be a positive number.
+     *
+     * @return the minimum number of source elements for parallel mapping
+     *
+     * @since 1.7
+     */
+    int parallelThreshold() default 10000;
+
+    /**
+     * Whether the elements should be mapped lazily. If enabled, the generated method returns an unmodifiable
+     * {@link java.util.List} view of the source, which maps an element when it is accessed for the first time and
+     * caches the mapped element for subsequent accesses. Elements which are never accessed are never mapped.
+     * <p>
+     * Lazy mapping is only applied if the source is an array or a {@link java.util.List} implementing
+     * {@link java.util.RandomAccess}, and a {@code List} can be assigned to the result type. It is not applied to
+     * update methods, methods with a factory for the result, with any {@link AfterMapping} method or with
+     * {@link BeforeMapping} methods taking the {@link MappingTarget}, nor for element mappings declaring checked
+     * exceptions.
+     * <p>
+     * The view reads from the source whenever an element is mapped, so the source must not be modified afterwards.
+     * Elements are mapped when the view is accessed, so the element mappings must not rely on state that changes in
+     * between. {@link #parallel()} is not applied to lazily mapped elements. Lazy mapping can't be combined with
+     * {@link Mapper#trackReferences() reference tracking}, as the elements are mapped after the mapping call.
+     *
+     * @return whether the elements should be mapped lazily
+     *
+     * @since 1.7
+     */
+    boolean lazy() default false;
+
+    /**
+     * The name of the property identifying an element in the source and in the target collection, e.g. {@code "id"}.
+     * If set on an update method, the elements of the {@link MappingTarget} collection are merged with the source
+     * elements instead of being replaced:
+     * <ul>
+     * <li>target elements with the key of a source element are updated in place by the update method for the
+     * elements, i.e. a method taking the source element and the target element as {@link MappingTarget}</li>
+     * <li>source elements without a matching target element are mapped and added to the target collection</li>
+     * <li>target elements without a matching source element are removed from the target collection</li>
+     * </ul>
+     * Unless the target collection is a {@link java.util.List}, the updated target elements are removed from it while
+     * being updated and added again afterwards, as updating an element may change its hash code, e.g. in a
+     * {@link java.util.HashSet}, or its position, e.g. in a {@link java.util.TreeSet}.
+     * <p>
+     * The key is read from the source and the target elements via the property of this name, and the keys are
+     * compared using {@link Object#equals(Object)}. {@code null} source elements and source elements without a key
+     * are mapped and added as new elements, {@code null} target elements are removed. If several source elements share
+     * a key, an {@link IllegalArgumentException} is thrown before the target collection is modified.
+     * <p>
+     * Merging keeps the element instances of the target collection, which matters e.g. for collections managed by a
+     * persistence provider, where replacing all elements results in deleting and re-inserting them. It is only
+     * applied to update methods with a collection result, and can't be combined with {@link #parallel()}.
+     *
+     * @return the name of the property identifying the elements
+     *
+     * @since 1.7
+     */
+    String elementKey() default "";
+
 }
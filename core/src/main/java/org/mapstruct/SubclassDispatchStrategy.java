@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for selecting the {@link SubclassMapping} matching the runtime type of the source object in the generated
+ * implementation of a mapping method.
+ *
+ * @since 1.7
+ */
+public enum SubclassDispatchStrategy {
+
+    /**
+     * The subclass mappings are checked one after the other in the order they are defined, using {@code instanceof}.
+     * The number of type checks per mapped object grows with the number of subclass mappings.
+     */
+    INSTANCEOF,
+
+    /**
+     * The subclass mapping is selected by the concrete class of the source object via a {@link ClassValue} held by
+     * the mapper. The matching subclass mapping is determined once per concrete class, using the same order as
+     * {@link #INSTANCEOF}, so that classes which are not mentioned in a {@link SubclassMapping} themselves (e.g. a
+     * subclass of a subclass) are supported as well. Recommended for large class hierarchies.
+     */
+    CLASS_VALUE;
+}
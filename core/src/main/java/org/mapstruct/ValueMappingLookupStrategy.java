@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for looking up the target value in the generated implementation of a value mapping method, see
+ * {@link EnumMapping#lookupStrategy()}.
+ *
+ * @since 1.7
+ */
+public enum ValueMappingLookupStrategy {
+
+    /**
+     * The target value is determined by a {@code switch} statement over the source value.
+     */
+    SWITCH,
+
+    /**
+     * The target value is read from a lookup table created once per mapper class. For enum to enum mappings the
+     * table is an array indexed by the ordinal of the source constant, keeping the mapping method small for large
+     * enums. For {@link String} to enum mappings the table is an immutable hash map, so that unknown values fall back
+     * to the default without any exception being created when the default is not
+     * {@link MappingConstants#THROW_EXCEPTION}. Source values which map to {@code null}, throw an exception or fall
+     * back to the default are still handled by a {@code switch} statement, which is only evaluated if the lookup table
+     * holds no target. Lookup tables are only generated for mappings to an enum, for enum to {@link String} mappings a
+     * warning is reported and a {@code switch} statement is generated.
+     */
+    LOOKUP_TABLE;
+}
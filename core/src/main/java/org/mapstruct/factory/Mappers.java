@@ -33,6 +33,10 @@
  *     // mapping methods...
  * }
  * </pre>
+ * <p>
+ * Mapper implementations which can be loaded through the class loader of their mapper type are resolved only once.
+ * {@link #getMapper(Class)} then returns the same instance on every invocation, so repeated lookups are cheap. Use
+ * {@link #createMapper(Class)} for mappers which keep state and therefore must not be shared.
  *
  * @author Gunnar Morling
  */
@@ -40,11 +44,54 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    /**
+     * The implementation classes, keyed by mapper type. Only implementations loadable by name through the class loader
+     * of the mapper type are cached, otherwise the value is {@code null}.
+     */
+    private static final ClassValue<Class<?>> MAPPER_CLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            if ( type.getClassLoader() == null ) {
+                return null;
+            }
+
+            return loadImplementationClass( type, type.getClassLoader() );
+        }
+    };
+
+    /**
+     * The shared mapper instances, keyed by mapper type. Implementations provided through the {@link ServiceLoader} of
+     * the class loader of the mapper type are cached as returned by the service loader. {@code null} if no
+     * implementation can be found through the class loader of the mapper type.
+     */
+    private static final ClassValue<Object> MAPPER_INSTANCES = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            if ( type.getClassLoader() == null ) {
+                return null;
+            }
+
+            Class<?> implementation = MAPPER_CLASSES.get( type );
+            if ( implementation == null ) {
+                return getMapperFromServiceLoader( type, type.getClassLoader() );
+            }
+
+            try {
+                return newInstance( implementation );
+            }
+            catch ( NoSuchMethodException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+    };
+
     private Mappers() {
     }
 
     /**
-     * Returns an instance of the given mapper type.
+     * Returns an instance of the given mapper type. Subsequent invocations for the same mapper type return the same
+     * instance, unless the implementation can only be loaded through the context class loader. Implementations
+     * provided through the {@link ServiceLoader} are returned as created by the service loader.
      *
      * @param clazz The type of the mapper to return.
      * @param <T> The type of the mapper to create.
@@ -52,7 +99,32 @@ private Mappers() {
      * @return An instance of the given mapper type.
      */
     public static <T> T getMapper(Class<T> clazz) {
+        Object mapper = MAPPER_INSTANCES.get( clazz );
+        if ( mapper != null ) {
+            return clazz.cast( mapper );
+        }
+
+        return createMapper( clazz );
+    }
+
+    /**
+     * Returns a new instance of the given mapper type on every invocation. In contrast to {@link #getMapper(Class)}
+     * the instance is not shared, which is required for mappers that keep state.
+     *
+     * @param clazz The type of the mapper to create.
+     * @param <T> The type of the mapper to create.
+     *
+     * @return A new instance of the given mapper type.
+     *
+     * @since 1.7
+     */
+    public static <T> T createMapper(Class<T> clazz) {
         try {
+            Class<?> implementation = MAPPER_CLASSES.get( clazz );
+            if ( implementation != null ) {
+                return clazz.cast( newInstance( implementation ) );
+            }
+
             List<ClassLoader> classLoaders = collectClassLoaders( clazz.getClassLoader() );
 
             return getMapper( clazz, classLoaders );
@@ -79,14 +151,21 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
         try {
             @SuppressWarnings( "unchecked" )
             Class<T> implementation = (Class<T>) classLoader.loadClass( clazz.getName() + IMPLEMENTATION_SUFFIX );
-            Constructor<T> constructor = implementation.getDeclaredConstructor();
-            constructor.setAccessible( true );
 
-            return constructor.newInstance();
+            return newInstance( implementation );
         }
         catch (ClassNotFoundException e) {
             return getMapperFromServiceLoader( clazz, classLoader );
         }
+    }
+
+    private static <T> T newInstance(Class<T> implementation) throws NoSuchMethodException {
+        try {
+            Constructor<T> constructor = implementation.getDeclaredConstructor();
+            constructor.setAccessible( true );
+
+            return constructor.newInstance();
+        }
         catch ( InstantiationException | InvocationTargetException | IllegalAccessException e) {
             throw new RuntimeException( e );
         }
@@ -102,7 +181,18 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
      *
      * @since 1.3
      */
+    @SuppressWarnings("unchecked")
     public static <T> Class<? extends T> getMapperClass(Class<T> clazz) {
+        Class<?> implementation = MAPPER_CLASSES.get( clazz );
+        if ( implementation != null ) {
+            return (Class<? extends T>) implementation;
+        }
+
+        Object mapper = MAPPER_INSTANCES.get( clazz );
+        if ( mapper != null ) {
+            return (Class<? extends T>) mapper.getClass();
+        }
+
         try {
             List<ClassLoader> classLoaders = collectClassLoaders( clazz.getClassLoader() );
 
@@ -128,15 +218,25 @@ private static <T> Class<? extends T> getMapperClass(Class<T> mapperType, Iterab
 
     @SuppressWarnings("unchecked")
     private static <T> Class<? extends T> doGetMapperClass(Class<T> clazz, ClassLoader classLoader) {
+        Class<? extends T> implementation = loadImplementationClass( clazz, classLoader );
+        if ( implementation != null ) {
+            return implementation;
+        }
+
+        T mapper = getMapperFromServiceLoader( clazz, classLoader );
+        if ( mapper != null ) {
+            return (Class<? extends T>) mapper.getClass();
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<? extends T> loadImplementationClass(Class<T> clazz, ClassLoader classLoader) {
         try {
             return (Class<? extends T>) classLoader.loadClass( clazz.getName() + IMPLEMENTATION_SUFFIX );
         }
         catch ( ClassNotFoundException e ) {
-            T mapper = getMapperFromServiceLoader( clazz, classLoader );
-            if ( mapper != null ) {
-                return (Class<? extends T>) mapper.getClass();
-            }
-
             return null;
         }
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.util;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of the targets created for source objects during a mapping call of a mapper with reference tracking
+ * enabled, see {@link org.mapstruct.Mapper#trackReferences()}. Each generated mapping method looks up the target for
+ * its source before mapping it, so that source objects referenced more than once in a graph are mapped only once and
+ * cycles in the source graph are reproduced in the target graph.
+ * <p>
+ * Source objects are compared by identity. As the same source object can be mapped by different mapping methods, e.g.
+ * to different target types or with different mapping configurations, an entry is keyed by the source object together
+ * with a key of the mapping method. Each generated mapping method uses a constant key of its own, which is compared by
+ * identity as well. The entries are held in an open addressing table with linear probing, avoiding the entry objects
+ * and the boxing of {@link java.util.IdentityHashMap}.
+ * <p>
+ * The table of the current thread is obtained with {@link #enter()} by every tracking mapping method and must be
+ * released with {@link #exit()}. The outermost call clears the table on exit, so no references are kept between mapping
+ * calls.
+ * <p>
+ * As the table is bound to the thread, it is not visible to code mapping parts of the graph on other threads or after
+ * the mapping call, such as parallel or lazy element mapping, see {@link org.mapstruct.IterableMapping#parallel()} and
+ * {@link org.mapstruct.IterableMapping#lazy()}. Those can't be combined with reference tracking.
+ * <p>
+ * This class is used by generated code and not intended to be used directly.
+ *
+ * @since 1.7
+ */
+@Experimental
+public final class MappedReferences {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Tables growing beyond this capacity are dropped on exit of the outermost call, instead of being cleared and
+     * kept for the next call of the thread.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 12;
+
+    private static final ThreadLocal<MappedReferences> CURRENT = new ThreadLocal<MappedReferences>() {
+        @Override
+        protected MappedReferences initialValue() {
+            return new MappedReferences();
+        }
+    };
+
+    private Object[] sources;
+    private Object[] methodKeys;
+    private Object[] targets;
+    private int size;
+    private int depth;
+
+    private MappedReferences() {
+        allocate( INITIAL_CAPACITY );
+    }
+
+    /**
+     * Returns the table of the current thread, to be released with {@link #exit()} when the mapping method
+     * completes.
+     *
+     * @return the table of the current thread
+     */
+    public static MappedReferences enter() {
+        MappedReferences references = CURRENT.get();
+        references.depth++;
+        return references;
+    }
+
+    /**
+     * Releases the table obtained with {@link #enter()}. When the outermost mapping method exits, all entries are
+     * removed.
+     */
+    public void exit() {
+        if ( --depth > 0 || size == 0 ) {
+            return;
+        }
+
+        if ( sources.length > MAX_RETAINED_CAPACITY ) {
+            allocate( INITIAL_CAPACITY );
+        }
+        else {
+            Arrays.fill( sources, null );
+            Arrays.fill( methodKeys, null );
+            Arrays.fill( targets, null );
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the target the given source has been mapped to by the mapping method with the given key.
+     *
+     * @param source the source object
+     * @param methodKey the key of the mapping method
+     * @param <T> the type of the target
+     *
+     * @return the target the source has been mapped to, or {@code null} if it has not been mapped by the mapping method
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object source, Object methodKey) {
+        int mask = sources.length - 1;
+        int index = indexFor( source, mask );
+        Object candidate;
+        while ( ( candidate = sources[index] ) != null ) {
+            if ( candidate == source && methodKeys[index] == methodKey ) {
+                return (T) targets[index];
+            }
+            index = ( index + 1 ) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Registers the target the given source has been mapped to by the mapping method with the given key.
+     *
+     * @param source the source object
+     * @param methodKey the key of the mapping method
+     * @param target the target
+     * @param <T> the type of the target
+     *
+     * @return the given target
+     */
+    public <T> T put(Object source, Object methodKey, T target) {
+        if ( source == null ) {
+            return target;
+        }
+
+        int mask = sources.length - 1;
+        int index = indexFor( source, mask );
+        Object candidate;
+        while ( ( candidate = sources[index] ) != null ) {
+            if ( candidate == source && methodKeys[index] == methodKey ) {
+                targets[index] = target;
+                return target;
+            }
+            index = ( index + 1 ) & mask;
+        }
+
+        sources[index] = source;
+        methodKeys[index] = methodKey;
+        targets[index] = target;
+        // keep the load factor below 2/3, so that probe sequences stay short
+        if ( ++size * 3 > sources.length * 2 ) {
+            resize();
+        }
+        return target;
+    }
+
+    private void resize() {
+        Object[] oldSources = sources;
+        Object[] oldMethodKeys = methodKeys;
+        Object[] oldTargets = targets;
+
+        allocate( oldSources.length * 2 );
+        int mask = sources.length - 1;
+        for ( int i = 0; i < oldSources.length; i++ ) {
+            Object source = oldSources[i];
+            if ( source != null ) {
+                int index = indexFor( source, mask );
+                while ( sources[index] != null ) {
+                    index = ( index + 1 ) & mask;
+                }
+                sources[index] = source;
+                methodKeys[index] = oldMethodKeys[i];
+                targets[index] = oldTargets[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        sources = new Object[capacity];
+        methodKeys = new Object[capacity];
+        targets = new Object[capacity];
+    }
+
+    private static int indexFor(Object source, int mask) {
+        int hash = System.identityHashCode( source );
+        // mix the higher bits into the lower ones, which are the only ones used for the index in small tables
+        return ( hash ^ ( hash >>> 16 ) ) & mask;
+    }
+}
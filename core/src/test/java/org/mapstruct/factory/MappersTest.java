@@ -58,4 +58,40 @@ public void shouldReturnPackagePrivateImplementationInstance() {
     public void shouldReturnPackagePrivateImplementationClass() {
         assertThat( Mappers.getMapperClass( PackagePrivateMapper.class ) ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnSameInstanceOnRepeatedLookup() {
+        assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( Mappers.getMapper( Foo.class ) );
+        assertThat( Mappers.getMapperClass( Foo.class ) ).isSameAs( Mappers.getMapperClass( Foo.class ) );
+    }
+
+    @Test
+    public void shouldReturnInstanceCreatedByServiceLoader() {
+        ServiceLoadedMapper mapper = Mappers.getMapper( ServiceLoadedMapper.class );
+        int instances = ServiceLoadedMapperProvider.INSTANCES.get();
+
+        assertThat( mapper ).isInstanceOf( ServiceLoadedMapperProvider.class );
+        assertThat( Mappers.getMapper( ServiceLoadedMapper.class ) ).isSameAs( mapper );
+        assertThat( Mappers.getMapper( ServiceLoadedMapper.class ) ).isSameAs( mapper );
+        assertThat( ServiceLoadedMapperProvider.INSTANCES.get() ).isEqualTo( instances );
+
+        assertThat( Mappers.getMapperClass( ServiceLoadedMapper.class ) )
+            .isEqualTo( ServiceLoadedMapperProvider.class );
+        assertThat( ServiceLoadedMapperProvider.INSTANCES.get() ).isEqualTo( instances );
+
+        ServiceLoadedMapper created = Mappers.createMapper( ServiceLoadedMapper.class );
+        assertThat( created ).isNotSameAs( mapper );
+        assertThat( ( (ServiceLoadedMapperProvider) created ).getInstanceNumber() ).isEqualTo( instances + 1 );
+        assertThat( ServiceLoadedMapperProvider.INSTANCES.get() ).isEqualTo( instances + 1 );
+    }
+
+    @Test
+    public void shouldCreateNewInstance() {
+        Foo mapper = Mappers.createMapper( Foo.class );
+
+        assertThat( mapper ).isNotNull();
+        assertThat( mapper ).isNotSameAs( Mappers.createMapper( Foo.class ) );
+        assertThat( mapper ).isNotSameAs( Mappers.getMapper( Foo.class ) );
+        assertThat( Mappers.createMapper( PackagePrivateMapper.class ) ).isNotNull();
+    }
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.factory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link ServiceLoadedMapper} which can only be found through the {@link java.util.ServiceLoader},
+ * as its name doesn't follow the naming convention for mapper implementations.
+ */
+public class ServiceLoadedMapperProvider implements ServiceLoadedMapper {
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final int instanceNumber = INSTANCES.incrementAndGet();
+
+    public int getInstanceNumber() {
+        return instanceNumber;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MappedReferences}.
+ */
+public class MappedReferencesTest {
+
+    private static final Object METHOD_KEY = new Object();
+    private static final Object OTHER_METHOD_KEY = new Object();
+
+    @Test
+    public void shouldKeySourcesByIdentityAndMethod() {
+        MappedReferences references = MappedReferences.enter();
+        try {
+            String source = new String( "source" );
+            Object target = new Object();
+            Object otherTarget = new Object();
+            references.put( source, METHOD_KEY, target );
+
+            assertThat( references.<Object>get( source, METHOD_KEY ) ).isSameAs( target );
+            assertThat( references.<Object>get( new String( "source" ), METHOD_KEY ) ).isNull();
+            assertThat( references.<Object>get( source, OTHER_METHOD_KEY ) ).isNull();
+            assertThat( references.<Object>get( null, METHOD_KEY ) ).isNull();
+
+            references.put( source, OTHER_METHOD_KEY, otherTarget );
+            assertThat( references.<Object>get( source, METHOD_KEY ) ).isSameAs( target );
+            assertThat( references.<Object>get( source, OTHER_METHOD_KEY ) ).isSameAs( otherTarget );
+        }
+        finally {
+            references.exit();
+        }
+    }
+
+    @Test
+    public void shouldKeepEntriesWhenGrowing() {
+        List<Object> sources = new ArrayList<>();
+        MappedReferences references = MappedReferences.enter();
+        try {
+            for ( int i = 0; i < 10_000; i++ ) {
+                Object source = new Object();
+                sources.add( source );
+                references.put( source, METHOD_KEY, i );
+            }
+
+            for ( int i = 0; i < sources.size(); i++ ) {
+                assertThat( references.<Integer>get( sources.get( i ), METHOD_KEY ) ).isEqualTo( i );
+            }
+        }
+        finally {
+            references.exit();
+        }
+    }
+
+    @Test
+    public void shouldClearEntriesWhenOutermostCallExits() {
+        Object source = new Object();
+        MappedReferences outer = MappedReferences.enter();
+        MappedReferences inner = MappedReferences.enter();
+        assertThat( inner ).isSameAs( outer );
+
+        inner.put( source, METHOD_KEY, "target" );
+        inner.exit();
+        assertThat( outer.<String>get( source, METHOD_KEY ) ).isEqualTo( "target" );
+
+        outer.exit();
+        MappedReferences next = MappedReferences.enter();
+        try {
+            assertThat( next.<Object>get( source, METHOD_KEY ) ).isNull();
+        }
+        finally {
+            next.exit();
+        }
+    }
+}
@@ -13,6 +13,7 @@
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -38,12 +39,16 @@
 import org.mapstruct.ap.internal.option.MappingOption;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.DefaultVersionInformation;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
+import org.mapstruct.ap.internal.processor.RoundModelCache;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
 import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
 import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.util.Services;
+import org.mapstruct.ap.internal.util.TypeUtils;
+import org.mapstruct.ap.internal.version.VersionInformation;
 import org.mapstruct.ap.spi.AdditionalSupportedOptionsProvider;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
@@ -69,6 +74,8 @@
  * <li>if no error occurred, write out the model into Java source files</li>
  * </ul>
  * <p>
+ * In verbose mode the time spent in each of these processors is reported for every mapper.
+ * <p>
  * For reading annotation attributes, gems as generated with help of <a
  * href="https://github.com/mapstruct/tools-gem">Gem Tools</a>. These gems allow comfortable access to annotations and
  * their attributes without depending on their class objects.
@@ -123,6 +130,13 @@ public class MappingProcessor extends AbstractProcessor {
 
     private AnnotationProcessorContext annotationProcessorContext;
 
+    /**
+     * State which doesn't depend on the mapper being processed, set up once instead of once per mapper.
+     */
+    private VersionInformation versionInformation;
+    private TypeUtils typeUtils;
+    private List<ModelElementProcessor<?, ?>> processors;
+
     /**
      * Any mappers for which an implementation cannot be generated in the current round because they have source/target
      * types with incomplete hierarchies (as super-types are to be generated by other processors). They will be
@@ -162,10 +176,21 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
             options.isVerbose(),
             resolveAdditionalOptions( processingEnv.getOptions() )
         );
+        versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnv );
+        typeUtils = TypeUtils.create( processingEnv, versionInformation );
 
         if ( additionalSupportedOptionsError != null ) {
             processingEnv.getMessager().printMessage( Kind.ERROR, additionalSupportedOptionsError );
         }
+
+        if ( !options.isMaxMethodSizeValid() ) {
+            String optionName = MappingOption.MAX_METHOD_SIZE.getOptionName();
+            processingEnv.getMessager().printMessage(
+                Kind.ERROR,
+                "The processor option " + optionName + " must be zero or a positive number, but was \""
+                    + processingEnv.getOptions().get( optionName ) + "\"."
+            );
+        }
     }
 
     @Override
@@ -177,15 +202,16 @@ public SourceVersion getSupportedSourceVersion() {
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
         // nothing to do in the last round
         if ( !roundEnvironment.processingOver() ) {
-            RoundContext roundContext = new RoundContext( annotationProcessorContext );
+            RoundContext roundContext = new RoundContext( annotationProcessorContext, versionInformation, typeUtils );
+            RoundModelCache roundModelCache = new RoundModelCache();
 
             // process any mappers left over from previous rounds
             Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
-            processMapperElements( deferredMappers, roundContext );
+            processMapperElements( deferredMappers, roundContext, roundModelCache );
 
             // get and process any mappers from this round
             Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
-            processMapperElements( mappers, roundContext );
+            processMapperElements( mappers, roundContext, roundModelCache );
         }
         else if ( !deferredMappers.isEmpty() ) {
             // If the processing is over and there are deferred mappers it means something wrong occurred and
@@ -282,7 +308,8 @@ private Set<TypeElement> getMappers(final Set<? extends TypeElement> annotations
         return mapperTypes;
     }
 
-    private void processMapperElements(Set<TypeElement> mapperElements, RoundContext roundContext) {
+    private void processMapperElements(Set<TypeElement> mapperElements, RoundContext roundContext,
+                                       RoundModelCache roundModelCache) {
         for ( TypeElement mapperElement : mapperElements ) {
             try {
                 // create a new context for each generated mapper in order to have imports of referenced types
@@ -295,6 +322,7 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
                     processingEnv,
                     options,
                     roundContext,
+                    roundModelCache,
                     getDeclaredTypesNotToBeImported( mapperElement ),
                     mapperElement
                 );
@@ -350,7 +378,11 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
 
         for ( ModelElementProcessor<?, ?> processor : getProcessors() ) {
             try {
+                long start = System.nanoTime();
                 model = process( context, processor, mapperTypeElement, model );
+                if ( options.isVerbose() ) {
+                    printPhaseDuration( processor, mapperTypeElement, System.nanoTime() - start );
+                }
             }
             catch ( AnnotationProcessingException e ) {
                 processingEnv.getMessager()
@@ -366,6 +398,20 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
         }
     }
 
+    private void printPhaseDuration(ModelElementProcessor<?, ?> processor, TypeElement mapperTypeElement,
+                                    long durationNanos) {
+        processingEnv.getMessager().printMessage(
+            Kind.NOTE,
+            String.format(
+                Locale.ROOT,
+                "MapStruct: %s took %.3f ms for %s",
+                processor.getClass().getSimpleName(),
+                durationNanos / 1_000_000.0,
+                mapperTypeElement
+            )
+        );
+    }
+
     private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> processor,
                              TypeElement mapperTypeElement, Object modelElement) {
         @SuppressWarnings("unchecked")
@@ -381,6 +427,12 @@ private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> p
      * @return A list with all model element processors.
      */
     private Iterable<ModelElementProcessor<?, ?>> getProcessors() {
+        // the processors take all mapper specific state from the processor context passed to them, so they are
+        // loaded once and used for all mappers
+        if ( processors != null ) {
+            return processors;
+        }
+
         // TODO Re-consider which class loader to use in case processors are
         // loaded from other modules, too
         @SuppressWarnings("rawtypes")
@@ -389,14 +441,15 @@ private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> p
             MappingProcessor.class.getClassLoader()
         )
             .iterator();
-        List<ModelElementProcessor<?, ?>> processors = new ArrayList<>();
+        List<ModelElementProcessor<?, ?>> loadedProcessors = new ArrayList<>();
 
         while ( processorIterator.hasNext() ) {
-            processors.add( processorIterator.next() );
+            loadedProcessors.add( processorIterator.next() );
         }
 
-        processors.sort( new ProcessorComparator() );
+        loadedProcessors.sort( new ProcessorComparator() );
 
+        processors = loadedProcessors;
         return processors;
     }
 
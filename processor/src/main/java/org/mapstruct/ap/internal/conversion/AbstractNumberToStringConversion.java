@@ -5,15 +5,20 @@
  */
 package org.mapstruct.ap.internal.conversion;
 
-import java.text.DecimalFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.defaultFormatLocale;
+
 /**
  * Abstract base class for {@link PrimitiveToStringConversion}, {@link WrapperToStringConversion},
  * {@link BigDecimalToStringConversion} and {@link BigIntegerToStringConversion}
@@ -25,15 +30,26 @@
 public abstract class AbstractNumberToStringConversion extends SimpleConversion {
 
     private final boolean sourceTypeNumberSubclass;
+    private final boolean parseBigDecimal;
 
     public AbstractNumberToStringConversion(boolean sourceTypeNumberSubclass) {
+        this( sourceTypeNumberSubclass, false );
+    }
+
+    /**
+     * @param sourceTypeNumberSubclass whether the source type is a {@link Number}
+     * @param parseBigDecimal whether the {@link java.text.DecimalFormat} used for a number format should parse into
+     * {@link java.math.BigDecimal}
+     */
+    protected AbstractNumberToStringConversion(boolean sourceTypeNumberSubclass, boolean parseBigDecimal) {
         this.sourceTypeNumberSubclass = sourceTypeNumberSubclass;
+        this.parseBigDecimal = parseBigDecimal;
     }
 
     @Override
     public Set<Type> getToConversionImportTypes(ConversionContext conversionContext) {
         if ( requiresDecimalFormat( conversionContext ) ) {
-            return Collections.singleton( conversionContext.getTypeFactory().getType( DecimalFormat.class ) );
+            return Collections.singleton( conversionContext.getTypeFactory().getType( Locale.class ) );
         }
         else {
             return super.getToConversionImportTypes( conversionContext );
@@ -44,10 +60,38 @@ protected boolean requiresDecimalFormat(ConversionContext conversionContext) {
         return sourceTypeNumberSubclass && conversionContext.getNumberFormat() != null;
     }
 
+    /**
+     * Appends the lookup of the {@link java.text.DecimalFormat} for the number format and locale of the conversion,
+     * see {@link GetDecimalFormat}.
+     *
+     * @param sb the builder of the conversion expression
+     * @param conversionContext the conversion context
+     */
+    protected void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
+        sb.append( parseBigDecimal ? "getBigDecimalFormat" : "getDecimalFormat" );
+        sb.append( "( " );
+        sb.append( GetDecimalFormatField.getDecimalFormatFieldName(
+            conversionContext.getNumberFormat(),
+            parseBigDecimal
+        ) );
+        sb.append( ", \"" );
+        sb.append( conversionContext.getNumberFormat() );
+        sb.append( "\", " );
+
+        if ( conversionContext.getLocale() != null ) {
+            sb.append( GetLocaleField.getLocaleFieldName( conversionContext.getLocale() ) );
+        }
+        else {
+            sb.append( defaultFormatLocale( conversionContext ) );
+        }
+
+        sb.append( " )" );
+    }
+
     @Override
     protected Set<Type> getFromConversionImportTypes(ConversionContext conversionContext) {
         if ( requiresDecimalFormat( conversionContext ) ) {
-            return Collections.singleton( conversionContext.getTypeFactory().getType( DecimalFormat.class ) );
+            return Collections.singleton( conversionContext.getTypeFactory().getType( Locale.class ) );
         }
         else {
             return super.getFromConversionImportTypes( conversionContext );
@@ -63,4 +107,33 @@ protected List<Type> getFromConversionExceptionTypes(ConversionContext conversio
             return super.getFromConversionExceptionTypes( conversionContext );
         }
     }
+
+    @Override
+    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
+        if ( requiresDecimalFormat( conversionContext ) ) {
+            return Collections.singletonList(
+                new GetDecimalFormat( conversionContext.getTypeFactory(), parseBigDecimal )
+            );
+        }
+
+        return super.getRequiredHelperMethods( conversionContext );
+    }
+
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        if ( requiresDecimalFormat( conversionContext ) ) {
+            List<FieldReference> fields = new ArrayList<>();
+            fields.add( new GetDecimalFormatField(
+                conversionContext.getTypeFactory(),
+                conversionContext.getNumberFormat(),
+                parseBigDecimal
+            ) );
+            if ( conversionContext.getLocale() != null ) {
+                fields.add( new GetLocaleField( conversionContext.getTypeFactory(), conversionContext.getLocale() ) );
+            }
+            return fields;
+        }
+
+        return super.getRequiredHelperFields( conversionContext );
+    }
 }
@@ -6,16 +6,12 @@
 package org.mapstruct.ap.internal.conversion;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
-import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
 import static org.mapstruct.ap.internal.conversion.ConversionUtils.bigDecimal;
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.locale;
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
 /**
@@ -26,7 +22,7 @@
 public class BigDecimalToStringConversion extends AbstractNumberToStringConversion  {
 
     public BigDecimalToStringConversion() {
-        super( true );
+        super( true, true );
     }
 
     @Override
@@ -60,37 +56,4 @@ public String getFromExpression(ConversionContext conversionContext) {
     protected Set<Type> getFromConversionImportTypes(ConversionContext conversionContext) {
         return asSet( conversionContext.getTypeFactory().getType( BigDecimal.class ) );
     }
-
-    @Override
-    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        List<HelperMethod> helpers = new ArrayList<>();
-        if ( conversionContext.getNumberFormat() != null ) {
-            helpers.add( new CreateDecimalFormat(
-                conversionContext.getTypeFactory(),
-                conversionContext.getLocale() != null
-            ) );
-        }
-        return helpers;
-    }
-
-    private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        boolean withLocale = conversionContext.getLocale() != null;
-        sb.append( "createDecimalFormat" );
-        if ( withLocale ) {
-            sb.append( "WithLocale" );
-        }
-        sb.append( "( " );
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-        if ( withLocale ) {
-            sb.append( ", " ).append( locale( conversionContext ) ).append( ".forLanguageTag( \"" );
-            sb.append( conversionContext.getLocale() );
-            sb.append( "\" )" );
-        }
-
-        sb.append( " )" );
-    }
 }
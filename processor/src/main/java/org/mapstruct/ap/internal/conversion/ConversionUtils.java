@@ -93,6 +93,18 @@ public static String locale(ConversionContext conversionContext) {
         return typeReferenceName( conversionContext, Locale.class );
     }
 
+    /**
+     * Expression for the default {@link java.util.Locale} for formatting, as used by formatters that are created
+     * without a locale.
+     *
+     * @param conversionContext Conversion context
+     *
+     * @return Expression obtaining the default locale for formatting.
+     */
+    public static String defaultFormatLocale(ConversionContext conversionContext) {
+        return locale( conversionContext ) + ".getDefault( " + locale( conversionContext ) + ".Category.FORMAT )";
+    }
+
     /**
      * Name for {@link java.util.Currency}.
      *
@@ -291,4 +303,39 @@ public static String decimalFormatSymbols(ConversionContext conversionContext) {
         return typeReferenceName( conversionContext, DecimalFormatSymbols.class );
     }
 
+    /**
+     * Name for a helper field of the mapper that is derived from the given {@code key}, e.g. a date or number format.
+     * Characters that cannot be used in a Java identifier are replaced and the hash code of the key is appended to
+     * keep names of different keys distinct.
+     *
+     * @param prefix Prefix of the field name
+     * @param key Key the field is derived from
+     *
+     * @return Name of the field.
+     */
+    public static String helperFieldName(String prefix, String key) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( prefix );
+        sb.append( "_" );
+
+        key.codePoints().forEach( cp -> {
+            if ( Character.isJavaIdentifierPart( cp ) ) {
+                // safe to character to field name as is
+                sb.append( Character.toChars( cp ) );
+            }
+            else {
+                // could not be used in field name
+                sb.append( "_" );
+            }
+        } );
+
+        sb.append( "_" );
+
+        int hashCode = key.hashCode();
+        sb.append( hashCode < 0 ? "0" : "1" );
+        sb.append( Math.abs( hashCode ) );
+
+        return sb.toString();
+    }
+
 }
@@ -44,9 +44,15 @@ public class Conversions {
     private final Type stringType;
     private final Type integerType;
     private final TypeFactory typeFactory;
+    private final boolean jodaTimeAvailable;
+    private final boolean javaSqlAvailable;
+    private final boolean javaURLAvailable;
 
     public Conversions(TypeFactory typeFactory) {
         this.typeFactory = typeFactory;
+        this.jodaTimeAvailable = isJodaTimeAvailable( typeFactory );
+        this.javaSqlAvailable = isJavaSqlAvailable( typeFactory );
+        this.javaURLAvailable = isJavaURLAvailable( typeFactory );
 
         this.enumType = typeFactory.getType( Enum.class );
         this.stringType = typeFactory.getType( String.class );
@@ -205,7 +211,7 @@ public Conversions(TypeFactory typeFactory) {
     }
 
     private void registerJodaConversions() {
-        if ( !isJodaTimeAvailable() ) {
+        if ( !jodaTimeAvailable ) {
             return;
         }
 
@@ -247,7 +253,7 @@ private void registerJava8TimeConversions() {
     }
 
     private void registerJavaTimeSqlConversions() {
-        if ( isJavaSqlAvailable() ) {
+        if ( javaSqlAvailable ) {
             register( LocalDate.class, java.sql.Date.class, new JavaLocalDateToSqlDateConversion() );
 
             register( Date.class, Time.class, new DateToSqlTimeConversion() );
@@ -256,11 +262,26 @@ private void registerJavaTimeSqlConversions() {
         }
     }
 
-    private boolean isJodaTimeAvailable() {
+    /**
+     * Whether these conversions can be used by a mapper with the given type factory. The registration of some
+     * conversions depends on the availability of types such as Joda-Time or {@code java.sql.Date}, which is determined
+     * relative to the module of the mapper. So these conversions only apply to mappers seeing the same of these types.
+     *
+     * @param typeFactory the type factory of the mapper
+     * @return {@code true} if the same types are available to the mapper as to the mapper these conversions were set up
+     * for, {@code false} otherwise
+     */
+    public boolean isApplicableTo(TypeFactory typeFactory) {
+        return jodaTimeAvailable == isJodaTimeAvailable( typeFactory )
+            && javaSqlAvailable == isJavaSqlAvailable( typeFactory )
+            && javaURLAvailable == isJavaURLAvailable( typeFactory );
+    }
+
+    private static boolean isJodaTimeAvailable(TypeFactory typeFactory) {
         return typeFactory.isTypeAvailable( JodaTimeConstants.DATE_TIME_FQN );
     }
 
-    private boolean isJavaSqlAvailable() {
+    private static boolean isJavaSqlAvailable(TypeFactory typeFactory) {
         return typeFactory.isTypeAvailable( "java.sql.Date" );
     }
 
@@ -307,12 +328,12 @@ private void registerBigDecimalConversion(Class<?> targetType) {
     }
 
     private void registerURLConversion() {
-        if ( isJavaURLAvailable() ) {
+        if ( javaURLAvailable ) {
             register( URL.class, String.class, new URLToStringConversion() );
         }
     }
 
-    private boolean isJavaURLAvailable() {
+    private static boolean isJavaURLAvailable(TypeFactory typeFactory) {
         return typeFactory.isTypeAvailable( "java.net.URL" );
     }
 
@@ -7,20 +7,23 @@
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.TypeConversion;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.locale;
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.simpleDateFormat;
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.defaultFormatLocale;
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
 /**
@@ -48,41 +51,54 @@ public Assignment from(ConversionContext conversionContext) {
 
     @Override
     public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        return Collections.emptyList();
+        return Collections.singletonList( new GetSimpleDateFormat( conversionContext.getTypeFactory() ) );
     }
 
-    private Set<Type> getImportTypes(ConversionContext conversionContext) {
-        if ( conversionContext.getLocale() == null ) {
-            return Collections.singleton( conversionContext.getTypeFactory().getType( SimpleDateFormat.class ) );
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        List<FieldReference> fields = new ArrayList<>();
+        fields.add(
+            new GetSimpleDateFormatField( conversionContext.getTypeFactory(), conversionContext.getDateFormat() )
+        );
+        if ( conversionContext.getDateFormat() != null && conversionContext.getLocale() != null ) {
+            fields.add( new GetLocaleField( conversionContext.getTypeFactory(), conversionContext.getLocale() ) );
         }
+        return fields;
+    }
 
+    private Set<Type> getImportTypes(ConversionContext conversionContext) {
         return asSet(
             conversionContext.getTypeFactory().getType( SimpleDateFormat.class ),
-            conversionContext.getTypeFactory().getType( Locale.class )
+            conversionContext.getTypeFactory().getType( Locale.class ),
+            conversionContext.getTypeFactory().getType( Map.class ),
+            conversionContext.getTypeFactory().getType( HashMap.class )
         );
     }
 
     private String getConversionExpression(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "new " );
-        conversionString.append( simpleDateFormat( conversionContext ) );
-        conversionString.append( '(' );
+        StringBuilder conversionString = new StringBuilder( "getSimpleDateFormat( " );
+        conversionString.append(
+            GetSimpleDateFormatField.getSimpleDateFormatFieldName( conversionContext.getDateFormat() )
+        );
+        conversionString.append( ", " );
 
         if ( conversionContext.getDateFormat() != null ) {
-            conversionString.append( " \"" );
-            conversionString.append( conversionContext.getDateFormat() );
             conversionString.append( "\"" );
+            conversionString.append( conversionContext.getDateFormat() );
+            conversionString.append( "\", " );
 
             if ( conversionContext.getLocale() != null ) {
-                conversionString.append( ", " ).append( locale( conversionContext ) ).append( ".forLanguageTag( \"" );
-                conversionString.append( conversionContext.getLocale() );
-                conversionString.append( "\" ) " );
+                conversionString.append( GetLocaleField.getLocaleFieldName( conversionContext.getLocale() ) );
             }
             else {
-                conversionString.append( " " );
+                conversionString.append( defaultFormatLocale( conversionContext ) );
             }
         }
+        else {
+            conversionString.append( "null, " ).append( defaultFormatLocale( conversionContext ) );
+        }
 
-        conversionString.append( ")." );
+        conversionString.append( " )." );
         conversionString.append( method );
         conversionString.append( "( <SOURCE> )" );
 
@@ -7,9 +7,12 @@
 
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
@@ -26,7 +29,7 @@ protected String getToExpression(ConversionContext conversionContext) {
 
     @Override
     protected String getFromExpression(ConversionContext conversionContext) {
-        return conversionContext.getTargetType().createReferenceName() + ".values()[ <SOURCE> ]";
+        return GetEnumValuesField.getEnumValuesFieldName( conversionContext.getTargetType() ) + "[ <SOURCE> ]";
     }
 
     @Override
@@ -35,4 +38,13 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
                 conversionContext.getTargetType()
         );
     }
+
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        if ( conversionContext.getTargetType().isEnumType() ) {
+            return Collections.singletonList( new GetEnumValuesField( conversionContext.getTargetType() ) );
+        }
+
+        return super.getRequiredHelperFields( conversionContext );
+    }
 }
@@ -30,26 +30,6 @@ public Map<String, Object> getTemplateParameter() {
     }
 
     public static String getDateTimeFormatterFieldName(String dateFormat) {
-        StringBuilder sb = new StringBuilder();
-        sb.append( "dateTimeFormatter_" );
-
-        dateFormat.codePoints().forEach( cp -> {
-            if ( Character.isJavaIdentifierPart( cp ) ) {
-                // safe to character to method name as is
-                sb.append( Character.toChars( cp ) );
-            }
-            else {
-                // could not be used in method name
-                sb.append( "_" );
-            }
-        } );
-
-        sb.append( "_" );
-
-        int hashCode = dateFormat.hashCode();
-        sb.append( hashCode < 0 ? "0" : "1" );
-        sb.append( Math.abs( hashCode ) );
-
-        return sb.toString();
+        return ConversionUtils.helperFieldName( "dateTimeFormatter", dateFormat );
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod that looks up the {@link java.text.DecimalFormat} for a number format and locale in the per thread
+ * cache held by a {@link GetDecimalFormatField}, creating it on first use
+ *
+ * {@code DecimalFormat df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) )}
+ * with setParseBigDecimal set to true when used for {@code BigDecimal} and {@code BigInteger} conversions.
+ *
+ * @author Sjaak Derksen
+ */
+public class GetDecimalFormat extends HelperMethod {
+
+    private final Parameter parameter;
+    private final Parameter numberFormatParameter;
+    private final Parameter localeParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+    private final boolean parseBigDecimal;
+
+    public GetDecimalFormat(TypeFactory typeFactory, boolean parseBigDecimal) {
+        this.parameter = new Parameter( "formats", typeFactory.getType( ThreadLocal.class ) );
+        this.numberFormatParameter = new Parameter( "numberFormat", typeFactory.getType( String.class ) );
+        this.localeParameter = new Parameter( "locale", typeFactory.getType( Locale.class ) );
+        this.returnType = typeFactory.getType( DecimalFormat.class );
+        this.importTypes = asSet(
+            returnType,
+            localeParameter.getType(),
+            typeFactory.getType( DecimalFormatSymbols.class ),
+            typeFactory.getType( Map.class ),
+            typeFactory.getType( HashMap.class )
+        );
+        this.parseBigDecimal = parseBigDecimal;
+    }
+
+    @Override
+    public String getName() {
+        return parseBigDecimal ? "getBigDecimalFormat" : "getDecimalFormat";
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Map<String, Object> getTemplateParameter() {
+        return Collections.singletonMap( "parseBigDecimal", parseBigDecimal );
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Arrays.asList( parameter, numberFormatParameter, localeParameter );
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.helperFieldName;
+
+/**
+ * A mapper field holding the {@link java.text.DecimalFormat} instances for a given number format, per thread and
+ * locale. See {@link GetDecimalFormat} for the way the instances are looked up.
+ */
+public class GetDecimalFormatField extends FinalField implements FieldReference {
+
+    public GetDecimalFormatField(TypeFactory typeFactory, String numberFormat, boolean parseBigDecimal) {
+        super( typeFactory.getType( ThreadLocal.class ), getDecimalFormatFieldName( numberFormat, parseBigDecimal ) );
+    }
+
+    public static String getDecimalFormatFieldName(String numberFormat, boolean parseBigDecimal) {
+        return helperFieldName( parseBigDecimal ? "bigDecimalFormat" : "decimalFormat", numberFormat );
+    }
+}
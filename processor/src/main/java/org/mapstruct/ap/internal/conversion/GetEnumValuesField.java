@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.Type;
+
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.helperFieldName;
+
+/**
+ * A static mapper constant holding the constants of an enum type, as returned by its {@code values()} method. Using
+ * the constant avoids cloning the constants array on each lookup by ordinal.
+ */
+public class GetEnumValuesField extends FinalField implements FieldReference {
+
+    public GetEnumValuesField(Type enumType) {
+        super( enumType, getEnumValuesFieldName( enumType ) );
+    }
+
+    public static String getEnumValuesFieldName(Type enumType) {
+        return helperFieldName( "values", enumType.getFullyQualifiedName() );
+    }
+}
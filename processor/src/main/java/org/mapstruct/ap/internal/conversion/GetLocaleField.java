@@ -0,0 +1,41 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.helperFieldName;
+
+/**
+ * A static mapper constant holding the {@link Locale} for a given language tag, so that the tag is only parsed once
+ * when the mapper class is initialized.
+ */
+public class GetLocaleField extends FinalField implements FieldReference {
+
+    private final String locale;
+
+    public GetLocaleField(TypeFactory typeFactory, String locale) {
+        super( typeFactory.getType( Locale.class ), getLocaleFieldName( locale ) );
+        this.locale = locale;
+    }
+
+    @Override
+    public Map<String, Object> getTemplateParameter() {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put( "locale", locale );
+        return parameter;
+    }
+
+    public static String getLocaleFieldName(String locale) {
+        return helperFieldName( "locale", locale );
+    }
+}
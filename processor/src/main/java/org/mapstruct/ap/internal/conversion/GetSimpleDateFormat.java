@@ -0,0 +1,86 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod that looks up the {@link SimpleDateFormat} for a date format and locale in the per thread cache held by
+ * a {@link GetSimpleDateFormatField}, creating it on first use. {@code SimpleDateFormat} is not thread-safe, hence the
+ * cache is confined to a thread. Without a date format the locale specific short date and time format is used. As a
+ * newly created instance would, the returned instance uses the current default time zone.
+ *
+ * {@code getSimpleDateFormat( simpleDateFormat_dd_MM_yyyy_..., "dd.MM.yyyy", locale ).format( date )}
+ */
+public class GetSimpleDateFormat extends HelperMethod {
+
+    private final Parameter parameter;
+    private final Parameter dateFormatParameter;
+    private final Parameter localeParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public GetSimpleDateFormat(TypeFactory typeFactory) {
+        this.parameter = new Parameter( "formats", typeFactory.getType( ThreadLocal.class ) );
+        this.dateFormatParameter = new Parameter( "dateFormat", typeFactory.getType( String.class ) );
+        this.localeParameter = new Parameter( "locale", typeFactory.getType( Locale.class ) );
+        this.returnType = typeFactory.getType( SimpleDateFormat.class );
+        this.importTypes = asSet(
+            returnType,
+            localeParameter.getType(),
+            typeFactory.getType( Map.class ),
+            typeFactory.getType( HashMap.class ),
+            typeFactory.getType( DateFormat.class ),
+            typeFactory.getType( TimeZone.class )
+        );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Arrays.asList( parameter, dateFormatParameter, localeParameter );
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+import static org.mapstruct.ap.internal.conversion.ConversionUtils.helperFieldName;
+
+/**
+ * A mapper field holding the {@link java.text.SimpleDateFormat} instances for a given date format, per thread and
+ * locale. See {@link GetSimpleDateFormat} for the way the instances are looked up.
+ */
+public class GetSimpleDateFormatField extends FinalField implements FieldReference {
+
+    public GetSimpleDateFormatField(TypeFactory typeFactory, String dateFormat) {
+        super( typeFactory.getType( ThreadLocal.class ), getSimpleDateFormatFieldName( dateFormat ) );
+    }
+
+    public static String getSimpleDateFormatFieldName(String dateFormat) {
+        if ( dateFormat == null ) {
+            return "simpleDateFormat";
+        }
+
+        return helperFieldName( "simpleDateFormat", dateFormat );
+    }
+}
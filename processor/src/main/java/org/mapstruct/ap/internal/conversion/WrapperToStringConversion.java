@@ -5,22 +5,10 @@
  */
 package org.mapstruct.ap.internal.conversion;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Collections;
-import java.util.Locale;
-import java.util.Set;
-
 import org.mapstruct.ap.internal.model.common.ConversionContext;
-import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.Strings;
 
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.decimalFormat;
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.decimalFormatSymbols;
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.locale;
-import static org.mapstruct.ap.internal.util.Collections.asSet;
-
 /**
  * Conversion between wrapper types such as {@link Integer} and {@link String}.
  *
@@ -54,23 +42,6 @@ public String getToExpression(ConversionContext conversionContext) {
         }
     }
 
-    @Override
-    public Set<Type> getToConversionImportTypes(ConversionContext conversionContext) {
-        if ( requiresDecimalFormat( conversionContext ) ) {
-            if ( conversionContext.getLocale() != null ) {
-                return asSet(
-                    conversionContext.getTypeFactory().getType( DecimalFormat.class ),
-                    conversionContext.getTypeFactory().getType( DecimalFormatSymbols.class ),
-                    conversionContext.getTypeFactory().getType( Locale.class )
-                );
-            }
-
-            return Collections.singleton( conversionContext.getTypeFactory().getType( DecimalFormat.class ) );
-        }
-
-        return Collections.emptySet();
-    }
-
     @Override
     public String getFromExpression(ConversionContext conversionContext) {
         if ( requiresDecimalFormat( conversionContext ) ) {
@@ -86,45 +57,4 @@ public String getFromExpression(ConversionContext conversionContext) {
                 + Strings.capitalize( primitiveType.getSimpleName() ) + "( <SOURCE> )";
         }
     }
-
-    @Override
-    protected Set<Type> getFromConversionImportTypes(ConversionContext conversionContext) {
-        if ( requiresDecimalFormat( conversionContext ) ) {
-            if ( conversionContext.getLocale() != null ) {
-                return asSet(
-                    conversionContext.getTypeFactory().getType( DecimalFormat.class ),
-                    conversionContext.getTypeFactory().getType( DecimalFormatSymbols.class ),
-                    conversionContext.getTypeFactory().getType( Locale.class )
-                );
-            }
-
-            return Collections.singleton( conversionContext.getTypeFactory().getType( DecimalFormat.class ) );
-        }
-
-        return Collections.emptySet();
-    }
-
-    private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "new " );
-        sb.append( decimalFormat( conversionContext ) );
-        sb.append( "( " );
-
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-
-            if ( conversionContext.getLocale() != null ) {
-                sb.append( ", " )
-                    .append( decimalFormatSymbols( conversionContext ) )
-                    .append( ".getInstance( " )
-                    .append( locale( conversionContext ) )
-                    .append( ".forLanguageTag( \"" )
-                    .append( conversionContext.getLocale() )
-                    .append( " \" ) )" );
-            }
-        }
-
-        sb.append( " )" );
-    }
 }
@@ -0,0 +1,15 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.gem;
+
+/**
+ * Gem for the enum {@link org.mapstruct.SubclassDispatchStrategy}
+ */
+public enum SubclassDispatchStrategyGem {
+
+    INSTANCEOF,
+    CLASS_VALUE;
+}
@@ -34,6 +34,7 @@
 
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.model.PropertyMapping.ConstantMappingBuilder;
 import org.mapstruct.ap.internal.model.PropertyMapping.JavaExpressionMappingBuilder;
 import org.mapstruct.ap.internal.model.PropertyMapping.PropertyMappingBuilder;
@@ -87,6 +88,8 @@
  */
 public class BeanMappingMethod extends NormalTypeMappingMethod {
 
+    private static final String MAPPED_REFERENCES_FQN = "org.mapstruct.util.MappedReferences";
+
     private final List<PropertyMapping> propertyMappings;
     private final Map<String, List<PropertyMapping>> mappingsByParameter;
     private final Map<String, List<PropertyMapping>> constructorMappingsByParameter;
@@ -101,6 +104,13 @@ public class BeanMappingMethod extends NormalTypeMappingMethod {
     private final List<LifecycleCallbackMethodReference> beforeMappingReferencesWithFinalizedReturnType;
     private final List<LifecycleCallbackMethodReference> afterMappingReferencesWithFinalizedReturnType;
     private final Type subclassExhaustiveException;
+    private final SubclassDispatchTable subclassDispatchTable;
+    private final Type mappedReferencesType;
+    private final MappedReferencesKey mappedReferencesKey;
+    private final String mappedReferencesName;
+    private final String mappedTargetName;
+    private final List<NestedSourcePropertyVariable> nestedSourcePropertyVariables;
+    private final List<PropertyMappingChunk> propertyMappingChunks;
 
     private final MappingReferences mappingReferences;
 
@@ -120,6 +130,7 @@ public static class Builder extends AbstractMappingMethodBuilder<Builder, BeanMa
         private final Set<Parameter> unprocessedSourceParameters = new HashSet<>();
         private final Set<String> existingVariableNames = new HashSet<>();
         private final Map<String, Set<MappingReference>> unprocessedDefinedTargets = new LinkedHashMap<>();
+        private final List<NestedSourcePropertyVariable> nestedSourcePropertyVariables = new ArrayList<>();
 
         private MappingReferences mappingReferences;
         private List<MappingReference> targetThisReferences;
@@ -402,6 +413,18 @@ else if ( !method.isUpdateMethod() ) {
             for ( SubclassMappingOptions subclassMappingOptions : method.getOptions().getSubclassMappings() ) {
                 subclasses.add( createSubclassMapping( subclassMappingOptions ) );
             }
+            SubclassDispatchTable subclassDispatchTable = addSubclassDispatchTable( subclasses );
+
+            Type mappedReferencesType = null;
+            MappedReferencesKey mappedReferencesKey = null;
+            if ( method.getOptions().getBeanMapping().isTrackReferences()
+                && !method.isUpdateMethod()
+                && !method.getReturnType().isVoid()
+                && method.getSourceParameters().size() == 1
+                && !first( method.getSourceParameters() ).getType().isPrimitive() ) {
+                mappedReferencesType = ctx.getTypeFactory().getType( MAPPED_REFERENCES_FQN );
+                mappedReferencesKey = addMappedReferencesKey();
+            }
 
             MethodReference finalizeMethod = null;
 
@@ -472,10 +495,66 @@ else if ( !sourceParameter.getType().isPrimitive() ) {
                 mappingReferences,
                 subclasses,
                 presenceChecksByParameter,
-                subclassExhaustiveExceptionType
+                subclassExhaustiveExceptionType,
+                subclassDispatchTable,
+                mappedReferencesType,
+                mappedReferencesKey,
+                nestedSourcePropertyVariables,
+                new PropertyMappingChunk.Builder().mappingContext( ctx ).method( method )
             );
         }
 
+        /**
+         * Adds a static {@link ClassValue} to the mapper that resolves the runtime class of the source to the index of
+         * the subclass mapping to use, when {@link SubclassDispatchStrategyGem#CLASS_VALUE} is configured.
+         *
+         * @param subclasses the subclass mappings of the method, in declaration order
+         *
+         * @return the dispatch table, or {@code null} if the subclass mappings are dispatched using {@code instanceof}
+         */
+        private SubclassDispatchTable addSubclassDispatchTable(List<SubclassMapping> subclasses) {
+            if ( subclasses.isEmpty()
+                || method.getOptions().getBeanMapping().getSubclassDispatchStrategy()
+                    != SubclassDispatchStrategyGem.CLASS_VALUE ) {
+                return null;
+            }
+            for ( SubclassMapping subclass : subclasses ) {
+                if ( subclass.getSourceArgument() == null ) {
+                    return null;
+                }
+            }
+
+            Set<Field> usedFields = ctx.getUsedSupportedFields();
+            List<String> existingNames = Field.getFieldNames( usedFields );
+            for ( MapperReference mapperReference : ctx.getMapperReferences() ) {
+                existingNames.add( mapperReference.getVariableName() );
+            }
+            String name = Strings.getSafeVariableName( method.getName() + "SubclassIndex", existingNames );
+
+            SubclassDispatchTable dispatchTable = new SubclassDispatchTable( ctx.getTypeFactory(), name, subclasses );
+            usedFields.add( new SupportingField( null, dispatchTable, name ) );
+            return dispatchTable;
+        }
+
+        /**
+         * Adds a static field to the mapper holding the key of this method in the {@code MappedReferences} of a
+         * mapping call, when references are tracked.
+         *
+         * @return the key of this method
+         */
+        private MappedReferencesKey addMappedReferencesKey() {
+            Set<Field> usedFields = ctx.getUsedSupportedFields();
+            List<String> existingNames = Field.getFieldNames( usedFields );
+            for ( MapperReference mapperReference : ctx.getMapperReferences() ) {
+                existingNames.add( mapperReference.getVariableName() );
+            }
+            String name = Strings.getSafeVariableName( method.getName() + "ReferencesKey", existingNames );
+
+            MappedReferencesKey key = new MappedReferencesKey( ctx.getTypeFactory(), name );
+            usedFields.add( new SupportingField( null, key, name ) );
+            return key;
+        }
+
         private void keepMappingReferencesUsingTarget(List<LifecycleCallbackMethodReference> references, Type type) {
             references.removeIf( reference -> {
                 List<ParameterBinding> bindings = reference.getParameterBindings();
@@ -1174,6 +1253,8 @@ private boolean handleDefinedMappings(Type resultTypeToMap) {
                 errorOccurred = handleDefinedNestedTargetMapping( handledTargets, resultTypeToMap );
             }
 
+            initializeNestedSourcePropertyVariables( handledTargets );
+
             for ( MappingReference mapping : mappingReferences.getMappingReferences() ) {
                 if ( mapping.isValid() ) {
                     String target = mapping.getTargetReference().getShallowestPropertyName();
@@ -1237,6 +1318,49 @@ private boolean handleDefinedNestedTargetMapping(Set<String> handledTargets, Typ
             return holder.hasErrorOccurred();
         }
 
+        /**
+         * Determines the intermediate objects of nested source paths that are shared by more than one defined mapping,
+         * see {@link NestedSourcePropertyVariable}.
+         *
+         * @param handledTargets the targets already handled by nested target mappings
+         */
+        private void initializeNestedSourcePropertyVariables(Set<String> handledTargets) {
+            List<SourceReference> sourceReferences = new ArrayList<>();
+            for ( MappingReference mappingRef : mappingReferences.getMappingReferences() ) {
+                if ( isSharableNestedSourceReference( mappingRef, handledTargets ) ) {
+                    sourceReferences.add( mappingRef.getSourceReference() );
+                }
+            }
+
+            nestedSourcePropertyVariables.addAll( new NestedSourcePropertyVariable.Builder()
+                .mappingContext( ctx )
+                .method( method )
+                .sourceReferences( sourceReferences )
+                .existingVariableNames( existingVariableNames )
+                .build() );
+        }
+
+        private boolean isSharableNestedSourceReference(MappingReference mappingRef, Set<String> handledTargets) {
+            SourceReference sourceRef = mappingRef.getSourceReference();
+            if ( !mappingRef.isValid() || sourceRef == null || !sourceRef.isValid()
+                || sourceRef.getPropertyEntries().isEmpty() ) {
+                return false;
+            }
+
+            MappingOptions mapping = mappingRef.getMapping();
+            if ( mapping.isIgnored() || mapping.getConstant() != null || mapping.getJavaExpression() != null ) {
+                return false;
+            }
+
+            TargetReference targetRef = mappingRef.getTargetReference();
+            String target = targetRef.getShallowestPropertyName();
+            return target != null
+                && !targetRef.isNested()
+                && !handledTargets.contains( target )
+                && !unprocessedDefinedTargets.containsKey( target )
+                && unprocessedTargetProperties.containsKey( target );
+        }
+
         private boolean handleDefinedMapping(MappingReference mappingRef, Type resultTypeToMap,
             Set<String> handledTargets) {
             boolean errorOccured = false;
@@ -1509,6 +1633,7 @@ else if ( mapping.getJavaExpression() != null ) {
                             .defaultValue( mapping.getDefaultValue() )
                             .defaultJavaExpression( mapping.getDefaultJavaExpression() )
                             .conditionJavaExpression( mapping.getConditionJavaExpression() )
+                            .nestedSourcePropertyVariables( nestedSourcePropertyVariables )
                             .mirror( mapping.getMirror() )
                             .options( mapping )
                             .build();
@@ -2020,7 +2145,12 @@ private BeanMappingMethod(Method method,
                               MappingReferences mappingReferences,
                               List<SubclassMapping> subclassMappings,
                               Map<String, PresenceCheck> presenceChecksByParameter,
-                              Type subclassExhaustiveException) {
+                              Type subclassExhaustiveException,
+                              SubclassDispatchTable subclassDispatchTable,
+                              Type mappedReferencesType,
+                              MappedReferencesKey mappedReferencesKey,
+                              List<NestedSourcePropertyVariable> nestedSourcePropertyVariables,
+                              PropertyMappingChunk.Builder propertyMappingChunkBuilder) {
         super(
             method,
             annotations,
@@ -2036,6 +2166,20 @@ private BeanMappingMethod(Method method,
         this.returnTypeBuilder = returnTypeBuilder;
         this.finalizerMethod = finalizerMethod;
         this.subclassExhaustiveException = subclassExhaustiveException;
+        this.subclassDispatchTable = subclassDispatchTable;
+        this.mappedReferencesType = mappedReferencesType;
+        this.mappedReferencesKey = mappedReferencesKey;
+        this.nestedSourcePropertyVariables = nestedSourcePropertyVariables;
+        if ( mappedReferencesType != null ) {
+            this.mappedReferencesName = Strings.getSafeVariableName( "mappedReferences", existingVariableNames );
+            existingVariableNames.add( this.mappedReferencesName );
+            this.mappedTargetName = Strings.getSafeVariableName( "mapped", existingVariableNames );
+            existingVariableNames.add( this.mappedTargetName );
+        }
+        else {
+            this.mappedReferencesName = null;
+            this.mappedTargetName = null;
+        }
         if ( this.finalizerMethod != null ) {
             this.finalizedResultName =
                 Strings.getSafeVariableName( getResultName() + "Result", existingVariableNames );
@@ -2082,12 +2226,82 @@ else if ( sourceParameterNames.contains( mapping.getSourceBeanName() ) ) {
         }
         this.returnTypeToConstruct = returnTypeToConstruct;
         this.subclassMappings = subclassMappings;
+
+        // split oversized methods, so that they can still be JIT compiled
+        if ( isAbstractReturnType() ) {
+            this.propertyMappingChunks = Collections.emptyList();
+        }
+        else {
+            this.propertyMappingChunks = propertyMappingChunkBuilder.beanMappingMethod( this ).build();
+        }
     }
 
     public Type getSubclassExhaustiveException() {
         return subclassExhaustiveException;
     }
 
+    /**
+     * @return the name of the static field resolving the index of the subclass mapping to use, or {@code null} if the
+     * subclass mappings are dispatched using {@code instanceof}
+     */
+    public String getSubclassDispatchTableName() {
+        return subclassDispatchTable != null ? subclassDispatchTable.getVariableName() : null;
+    }
+
+    public Type getMappedReferencesType() {
+        return mappedReferencesType;
+    }
+
+    /**
+     * @return the name of the local variable holding the {@code MappedReferences} of the current mapping call, or
+     * {@code null} if the method does not keep track of the targets created for source objects
+     */
+    public String getMappedReferencesName() {
+        return mappedReferencesName;
+    }
+
+    /**
+     * @return the name of the static field holding the key of this method in the {@code MappedReferences}, or
+     * {@code null} if the method does not keep track of the targets created for source objects
+     */
+    public String getMappedReferencesKeyName() {
+        return mappedReferencesKey != null ? mappedReferencesKey.getVariableName() : null;
+    }
+
+    /**
+     * @return the local variables holding intermediate objects shared by the nested source paths of the property
+     * mappings, declared before any of the property mappings
+     */
+    public List<NestedSourcePropertyVariable> getNestedSourcePropertyVariables() {
+        return nestedSourcePropertyVariables;
+    }
+
+    /**
+     * @return the private methods the property mappings of this method have been split into, if its estimated size
+     * exceeds the maximum method size, generated right after this method
+     */
+    public List<PropertyMappingChunk> getPropertyMappingChunks() {
+        return propertyMappingChunks;
+    }
+
+    public List<PropertyMappingChunk> propertyMappingChunksByParameter(Parameter parameter) {
+        List<PropertyMappingChunk> chunks = new ArrayList<>();
+        for ( PropertyMappingChunk chunk : propertyMappingChunks ) {
+            if ( chunk.getSourceParameter().getName().equals( parameter.getName() ) ) {
+                chunks.add( chunk );
+            }
+        }
+        return chunks;
+    }
+
+    public String getMappedTargetName() {
+        return mappedTargetName;
+    }
+
+    public List<PropertyMapping> getPropertyMappings() {
+        return propertyMappings;
+    }
+
     public List<PropertyMapping> getConstantMappings() {
         return constantMappings;
     }
@@ -2157,6 +2371,15 @@ public Set<Type> getImportTypes() {
         for ( SubclassMapping subclassMapping : subclassMappings ) {
             types.addAll( subclassMapping.getImportTypes() );
         }
+        if ( mappedReferencesType != null ) {
+            types.add( mappedReferencesType );
+        }
+        for ( NestedSourcePropertyVariable variable : nestedSourcePropertyVariables ) {
+            types.addAll( variable.getImportTypes() );
+        }
+        for ( PropertyMappingChunk chunk : propertyMappingChunks ) {
+            types.addAll( chunk.getImportTypes() );
+        }
 
         if ( returnTypeToConstruct != null  ) {
             types.addAll( returnTypeToConstruct.getImportTypes() );
@@ -9,6 +9,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 
@@ -26,8 +27,8 @@
  * Can be called from for instance conversions or built-in methods as shared helper method.
  *
  * One example of such method is the creation of a decimal formatter
- * {@link org.mapstruct.ap.internal.conversion.CreateDecimalFormat}, which is used in 2 conversions
- * (BigInteger to String and BigDecimal to String)
+ * {@link org.mapstruct.ap.internal.conversion.GetDecimalFormat}, which is used in several conversions
+ * (e.g. BigInteger to String and BigDecimal to String)
  *
  * @author Sjaak Derksen
  */
@@ -53,6 +54,13 @@ public Set<Type> getImportTypes() {
         return Collections.emptySet();
     }
 
+    /**
+     * @return additional template parameters
+     */
+    public Map<String, Object> getTemplateParameter() {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -7,16 +7,42 @@
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 
+import org.mapstruct.ap.internal.gem.BeanMappingGem;
+import org.mapstruct.ap.internal.gem.MapperGem;
+import org.mapstruct.ap.internal.model.assignment.AssignmentWrapper;
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
+import org.mapstruct.ap.internal.model.assignment.ReturnWrapper;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.BeanMappingOptions;
+import org.mapstruct.ap.internal.model.source.IterableMappingOptions;
+import org.mapstruct.ap.internal.model.source.MapperOptions;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.accessor.ReadAccessor;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable type to another. The collection
@@ -55,6 +81,26 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
             List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            IterableMappingOptions options = method.getOptions().getIterableMapping();
+            if ( options.isParallel() && options.getElementKey() != null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_PARALLEL_ELEMENT_KEY,
+                    options.getElementKey()
+                );
+            }
+            LazyMapping lazyMapping =
+                getLazyMapping( method, assignment, factoryMethod, beforeMappingMethods, afterMappingMethods );
+            if ( options.isParallel() && lazyMapping != null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_PARALLEL_LAZY
+                );
+            }
+            MergeMapping mergeMapping = assignment != null ?
+                getMergeMapping( method, existingVariables, loopVariableName, selectionParameters ) : null;
             return new IterableMappingMethod(
                 method,
                 getMethodAnnotations(),
@@ -65,17 +111,512 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
                 loopVariableName,
                 beforeMappingMethods,
                 afterMappingMethods,
-                selectionParameters
+                selectionParameters,
+                lazyMapping,
+                lazyMapping == null && mergeMapping == null ? getParallelMapping( method, assignment ) : null,
+                mergeMapping,
+                ctx.getTypeFactory().getType( RandomAccess.class ),
+                ctx.getTypeFactory().getType( Iterator.class )
+            );
+        }
+
+        private MergeMapping getMergeMapping(Method method, Collection<String> existingVariables,
+                                             String loopVariableName, SelectionParameters selectionParameters) {
+            IterableMappingOptions options = method.getOptions().getIterableMapping();
+            String elementKey = options.getElementKey();
+            if ( elementKey == null ) {
+                return null;
+            }
+
+            Type resultType = method.getResultType();
+            if ( !method.isUpdateMethod() || !resultType.isCollectionType() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_ELEMENT_KEY_UNSUPPORTED
+                );
+                return null;
+            }
+
+            Type sourceElementType = getElementType( first( method.getSourceParameters() ).getType() );
+            Type targetElementType = getElementType( resultType );
+            Type sourceKeyType = getElementKeyType( method, elementKey, sourceElementType, "source element" );
+            if ( sourceKeyType == null ) {
+                return null;
+            }
+            Type targetKeyType = getElementKeyType( method, elementKey, targetElementType, "target element" );
+            if ( targetKeyType == null ) {
+                return null;
+            }
+            if ( !sourceKeyType.getBoxedEquivalent().equals( targetKeyType.getBoxedEquivalent() ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_ELEMENT_KEY_TYPE_MISMATCH,
+                    elementKey,
+                    sourceKeyType.describe(),
+                    targetKeyType.describe()
+                );
+                return null;
+            }
+
+            // the existing target elements are updated by the update method for the elements
+            SourceRHS sourceRHS = new SourceRHS(
+                loopVariableName,
+                sourceElementType,
+                new HashSet<>(),
+                "collection element"
+            );
+            SelectionCriteria criteria = SelectionCriteria.forMappingMethods(
+                selectionParameters,
+                options.getMappingControl( ctx.getElementUtils() ),
+                null,
+                true
+            );
+            Assignment elementUpdate = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                getDescription(),
+                targetElementType,
+                null,
+                criteria,
+                sourceRHS,
+                options.getMirror(),
+                () -> null
+            );
+            if ( elementUpdate == null || !elementUpdate.isCallingUpdateMethod() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_ELEMENT_KEY_NO_UPDATE_METHOD,
+                    elementKey,
+                    sourceElementType.describe(),
+                    targetElementType.describe()
+                );
+                return null;
+            }
+
+            List<Type> undeclaredThrownTypes = new ArrayList<>();
+            for ( Type thrownType : elementUpdate.getThrownTypes() ) {
+                if ( method.getThrownTypes().stream().noneMatch( thrownType::isAssignableTo ) ) {
+                    undeclaredThrownTypes.add( thrownType );
+                }
+            }
+            if ( !undeclaredThrownTypes.isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_ELEMENT_KEY_CHECKED_EXCEPTIONS,
+                    elementKey,
+                    undeclaredThrownTypes
+                );
+                return null;
+            }
+
+            String sourceElementsByKeyName = Strings.getSafeVariableName(
+                first( method.getSourceParameters() ).getName() + "ByKey",
+                existingVariables
+            );
+            existingVariables.add( sourceElementsByKeyName );
+            String targetElementName = Strings.getSafeVariableName( targetElementType.getName(), existingVariables );
+            existingVariables.add( targetElementName );
+            String targetIteratorName =
+                Strings.getSafeVariableName( targetElementName + "Iterator", existingVariables );
+            existingVariables.add( targetIteratorName );
+            // updating an element may change its hash code or its order, so unless the target is a list the updated
+            // elements are removed while being updated and added again afterwards
+            String updatedTargetElementsName = null;
+            if ( !resultType.isListType() ) {
+                updatedTargetElementsName = Strings.getSafeVariableName(
+                    "updated" + Strings.capitalize( targetElementName ) + "s",
+                    existingVariables
+                );
+                existingVariables.add( updatedTargetElementsName );
+            }
+
+            TypeFactory typeFactory = ctx.getTypeFactory();
+            return new MergeMapping(
+                elementUpdate,
+                elementKey,
+                sourceKeyType.getBoxedEquivalent(),
+                !sourceKeyType.isPrimitive(),
+                targetElementType,
+                sourceElementType.getPropertyReadAccessors().get( elementKey ).getReadValueSource(),
+                targetElementType.getPropertyReadAccessors().get( elementKey ).getReadValueSource(),
+                sourceElementsByKeyName,
+                targetElementName,
+                targetIteratorName,
+                updatedTargetElementsName,
+                typeFactory
+            );
+        }
+
+        private Type getElementKeyType(Method method, String elementKey, Type elementType, String elementDescription) {
+            ReadAccessor keyAccessor = elementType.getPropertyReadAccessors().get( elementKey );
+            if ( keyAccessor == null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    method.getOptions().getIterableMapping().getMirror(),
+                    Message.ITERABLEMAPPING_ELEMENT_KEY_UNKNOWN,
+                    elementKey,
+                    elementDescription,
+                    elementType.describe()
+                );
+                return null;
+            }
+            return ctx.getTypeFactory().getReturnType( (DeclaredType) elementType.getTypeMirror(), keyAccessor );
+        }
+
+        private LazyMapping getLazyMapping(Method method, Assignment assignment, MethodReference factoryMethod,
+                                           List<LifecycleCallbackMethodReference> beforeMappingMethods,
+                                           List<LifecycleCallbackMethodReference> afterMappingMethods) {
+            IterableMappingOptions options = method.getOptions().getIterableMapping();
+            if ( !options.isLazy() || !( assignment instanceof AssignmentWrapper ) ) {
+                return null;
+            }
+            if ( isTrackingReferences( method ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_LAZY_TRACK_REFERENCES
+                );
+                return null;
+            }
+
+            // the view can neither be created by a factory, nor be handed to callbacks expecting the mapped result
+            TypeFactory typeFactory = ctx.getTypeFactory();
+            Type sourceType = first( method.getSourceParameters() ).getType();
+            Type resultType = method.getResultType();
+            if ( !( sourceType.isArrayType() || sourceType.isListType() )
+                || resultType.isArrayType()
+                || !typeFactory.getType( List.class ).isRawAssignableTo( resultType )
+                || method.isUpdateMethod()
+                || factoryMethod != null
+                || !afterMappingMethods.isEmpty()
+                || !filterMappingTarget( beforeMappingMethods, true ).isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_LAZY_UNSUPPORTED
+                );
+                return null;
+            }
+
+            // checked exceptions can't be thrown from the lambda mapping the elements
+            Assignment elementAssignment = ( (AssignmentWrapper) assignment ).getAssignment();
+            if ( !elementAssignment.getThrownTypes().isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_LAZY_CHECKED_EXCEPTIONS,
+                    elementAssignment.getThrownTypes()
+                );
+                return null;
+            }
+
+            LazyList helperMethod = new LazyList( typeFactory );
+            ctx.getUsedSupportedMappings().add( new SupportingMappingMethod( helperMethod ) );
+
+            return new LazyMapping( new ReturnWrapper( elementAssignment ), helperMethod.getName() );
+        }
+
+        /**
+         * The references tracked by a mapping call are bound to the calling thread, so they are neither seen by the
+         * elements mapped on other threads, nor by the elements mapped after the call has returned. A cyclic graph
+         * would then be mapped over and over again. As the elements may be mapped by any method of the mapper, e.g.
+         * by forged ones, or by the methods of the used mappers, the combination is rejected as soon as any of these
+         * methods tracks references.
+         */
+        private boolean isTrackingReferences(Method method) {
+            if ( method.getOptions().getBeanMapping().isTrackReferences() ) {
+                return true;
+            }
+            Map<TypeElement, Boolean> trackingMappers = new HashMap<>();
+            for ( SourceMethod sourceMethod : ctx.getSourceModel() ) {
+                BeanMappingOptions beanMapping = sourceMethod.getOptions().getBeanMapping();
+                if ( beanMapping != null ? beanMapping.isTrackReferences()
+                    : isTrackingReferences( sourceMethod, trackingMappers ) ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Referenced methods, e.g. the ones of used mappers, carry no mapping options, so whether they track
+         * references is determined from their {@code @BeanMapping} and the {@code @Mapper} declaring them, if any.
+         */
+        private boolean isTrackingReferences(SourceMethod referencedMethod, Map<TypeElement, Boolean> trackingMappers) {
+            BeanMappingGem beanMapping = BeanMappingGem.instanceOn( referencedMethod.getExecutable() );
+            if ( beanMapping != null && beanMapping.trackReferences().hasValue() ) {
+                return beanMapping.trackReferences().get();
+            }
+            TypeElement mapper = referencedMethod.getDeclaringMapper() == null ? ctx.getMapperTypeElement()
+                : referencedMethod.getDeclaringMapper().getTypeElement();
+            return trackingMappers.computeIfAbsent(
+                mapper,
+                element -> MapperGem.instanceOn( element ) != null
+                    && MapperOptions.getInstanceOn( element, ctx.getOptions() ).isTrackReferences()
+            );
+        }
+
+        private ParallelMapping getParallelMapping(Method method, Assignment assignment) {
+            IterableMappingOptions options = method.getOptions().getIterableMapping();
+            // a missing element mapping has been reported already
+            if ( !options.isParallel() || assignment == null ) {
+                return null;
+            }
+            if ( isTrackingReferences( method ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_PARALLEL_TRACK_REFERENCES
+                );
+                return null;
+            }
+            TypeFactory typeFactory = ctx.getTypeFactory();
+            Type sourceType = first( method.getSourceParameters() ).getType();
+            boolean randomAccessSource = sourceType.isArrayType()
+                || sourceType.isListType();
+            if ( !randomAccessSource || method.getResultType().isArrayType()
+                || !method.getResultType().isCollectionType() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_PARALLEL_UNSUPPORTED_TYPES
+                );
+                return null;
+            }
+
+            // checked exceptions can't be thrown from the lambda mapping the elements
+            Assignment elementAssignment = ( (AssignmentWrapper) assignment ).getAssignment();
+            if ( !elementAssignment.getThrownTypes().isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    options.getMirror(),
+                    Message.ITERABLEMAPPING_PARALLEL_CHECKED_EXCEPTIONS,
+                    elementAssignment.getThrownTypes()
+                );
+                return null;
+            }
+
+            String executorName = null;
+            Type executorType = typeFactory.getType( Executor.class );
+            for ( Parameter parameter : method.getContextParameters() ) {
+                if ( parameter.getType().isAssignableTo( executorType ) ) {
+                    executorName = parameter.getName();
+                    break;
+                }
+            }
+
+            MapInParallel helperMethod = new MapInParallel( typeFactory );
+            ctx.getUsedSupportedMappings().add( new SupportingMappingMethod( helperMethod ) );
+
+            return new ParallelMapping(
+                new ReturnWrapper( elementAssignment ),
+                options.getParallelThreshold(),
+                helperMethod.getName(),
+                executorName,
+                typeFactory
             );
         }
     }
 
+    /**
+     * The parts needed for mapping the elements of large sources in parallel, see
+     * {@link org.mapstruct.IterableMapping#parallel()}.
+     */
+    public static class ParallelMapping {
+
+        private final Assignment elementAssignment;
+        private final int threshold;
+        private final String helperMethodName;
+        private final String executorName;
+        private final Type forkJoinPoolType;
+
+        private ParallelMapping(Assignment elementAssignment, int threshold, String helperMethodName,
+                                String executorName, TypeFactory typeFactory) {
+            this.elementAssignment = elementAssignment;
+            this.threshold = threshold;
+            this.helperMethodName = helperMethodName;
+            this.executorName = executorName;
+            this.forkJoinPoolType = typeFactory.getType( ForkJoinPool.class );
+        }
+
+        public Assignment getElementAssignment() {
+            return elementAssignment;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public String getHelperMethodName() {
+            return helperMethodName;
+        }
+
+        public String getExecutorName() {
+            return executorName;
+        }
+
+        private void addImportTypes(Set<Type> types) {
+            types.addAll( elementAssignment.getImportTypes() );
+            if ( executorName == null ) {
+                types.add( forkJoinPoolType );
+            }
+        }
+    }
+
+    /**
+     * The parts needed for returning a view mapping the elements on first access, see
+     * {@link org.mapstruct.IterableMapping#lazy()}.
+     */
+    public static class LazyMapping {
+
+        private final Assignment elementAssignment;
+        private final String helperMethodName;
+
+        private LazyMapping(Assignment elementAssignment, String helperMethodName) {
+            this.elementAssignment = elementAssignment;
+            this.helperMethodName = helperMethodName;
+        }
+
+        public Assignment getElementAssignment() {
+            return elementAssignment;
+        }
+
+        public String getHelperMethodName() {
+            return helperMethodName;
+        }
+    }
+
+    /**
+     * The parts needed for merging the source elements into the existing target elements by key, see
+     * {@link org.mapstruct.IterableMapping#elementKey()}.
+     */
+    public static class MergeMapping {
+
+        private final Assignment elementUpdate;
+        private final String elementKey;
+        private final Type keyType;
+        private final boolean sourceKeyNullable;
+        private final Type targetElementType;
+        private final String sourceKeyReadValueSource;
+        private final String targetKeyReadValueSource;
+        private final String sourceElementsByKeyName;
+        private final String targetElementName;
+        private final String targetIteratorName;
+        private final String updatedTargetElementsName;
+        private final Type mapType;
+        private final Type linkedHashMapType;
+        private final Type iteratorType;
+        private final Type listType;
+        private final Type arrayListType;
+
+        //CHECKSTYLE:OFF
+        private MergeMapping(Assignment elementUpdate, String elementKey, Type keyType, boolean sourceKeyNullable,
+                             Type targetElementType, String sourceKeyReadValueSource, String targetKeyReadValueSource,
+                             String sourceElementsByKeyName, String targetElementName, String targetIteratorName,
+                             String updatedTargetElementsName, TypeFactory typeFactory) {
+            this.elementUpdate = elementUpdate;
+            this.elementKey = elementKey;
+            this.keyType = keyType;
+            this.sourceKeyNullable = sourceKeyNullable;
+            this.targetElementType = targetElementType;
+            this.sourceKeyReadValueSource = sourceKeyReadValueSource;
+            this.targetKeyReadValueSource = targetKeyReadValueSource;
+            this.sourceElementsByKeyName = sourceElementsByKeyName;
+            this.targetElementName = targetElementName;
+            this.targetIteratorName = targetIteratorName;
+            this.updatedTargetElementsName = updatedTargetElementsName;
+            this.mapType = typeFactory.getType( Map.class );
+            this.linkedHashMapType = typeFactory.getType( LinkedHashMap.class );
+            this.iteratorType = typeFactory.getType( Iterator.class );
+            this.listType = typeFactory.getType( List.class );
+            this.arrayListType = typeFactory.getType( ArrayList.class );
+        }
+        //CHECKSTYLE:ON
+
+        public Assignment getElementUpdate() {
+            return elementUpdate;
+        }
+
+        public String getElementKey() {
+            return elementKey;
+        }
+
+        public Type getKeyType() {
+            return keyType;
+        }
+
+        /**
+         * @return whether the key of a source element can be {@code null}, in which case the element is added as a new
+         * element
+         */
+        public boolean isSourceKeyNullable() {
+            return sourceKeyNullable;
+        }
+
+        public Type getTargetElementType() {
+            return targetElementType;
+        }
+
+        public String getSourceKeyReadValueSource() {
+            return sourceKeyReadValueSource;
+        }
+
+        public String getTargetKeyReadValueSource() {
+            return targetKeyReadValueSource;
+        }
+
+        public String getSourceElementsByKeyName() {
+            return sourceElementsByKeyName;
+        }
+
+        public String getTargetElementName() {
+            return targetElementName;
+        }
+
+        public String getTargetIteratorName() {
+            return targetIteratorName;
+        }
+
+        /**
+         * @return the name of the list holding the updated target elements until they are added to the target again in
+         * case the target is not a {@link List}, {@code null} otherwise
+         */
+        public String getUpdatedTargetElementsName() {
+            return updatedTargetElementsName;
+        }
+
+        private void addImportTypes(Set<Type> types) {
+            types.addAll( elementUpdate.getImportTypes() );
+            types.add( keyType );
+            types.add( targetElementType );
+            types.add( mapType );
+            types.add( linkedHashMapType );
+            types.add( iteratorType );
+            if ( updatedTargetElementsName != null ) {
+                types.add( listType );
+                types.add( arrayListType );
+            }
+        }
+    }
+
+    private final LazyMapping lazyMapping;
+    private final ParallelMapping parallelMapping;
+    private final MergeMapping mergeMapping;
+    private final Type randomAccessType;
+    private final Type iteratorType;
+    private final String sourceIteratorName;
+
+    //CHECKSTYLE:OFF
     private IterableMappingMethod(Method method, List<Annotation> annotations,
                                   Collection<String> existingVariables, Assignment parameterAssignment,
                                   MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                   List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                   List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, LazyMapping lazyMapping, ParallelMapping parallelMapping,
+        MergeMapping mergeMapping, Type randomAccessType, Type iteratorType) {
         super(
             method,
             annotations,
@@ -88,16 +629,83 @@ private IterableMappingMethod(Method method, List<Annotation> annotations,
             afterMappingReferences,
             selectionParameters
         );
+        this.lazyMapping = lazyMapping;
+        this.parallelMapping = parallelMapping;
+        this.mergeMapping = mergeMapping;
+        this.randomAccessType = randomAccessType;
+        this.iteratorType = iteratorType;
+
+        // lists not known to support fast random access are read by an iterator unless they turn out to support it
+        Type sourceType = getSourceParameter().getType();
+        if ( sourceType.isListType() && !sourceType.isRandomAccessType() ) {
+            this.sourceIteratorName = Strings.getSafeVariableName( loopVariableName + "Iterator", existingVariables );
+            existingVariables.add( sourceIteratorName );
+        }
+        else {
+            this.sourceIteratorName = null;
+        }
     }
+    //CHECKSTYLE:ON
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
 
         types.add( getSourceElementType() );
+        if ( lazyMapping != null ) {
+            types.addAll( lazyMapping.getElementAssignment().getImportTypes() );
+        }
+        if ( parallelMapping != null ) {
+            parallelMapping.addImportTypes( types );
+        }
+        if ( mergeMapping != null ) {
+            mergeMapping.addImportTypes( types );
+        }
+        if ( isRandomAccessCheckRequired() ) {
+            types.add( randomAccessType );
+        }
+        if ( sourceIteratorName != null ) {
+            types.add( iteratorType );
+        }
         return types;
     }
 
+    public LazyMapping getLazyMapping() {
+        return lazyMapping;
+    }
+
+    public ParallelMapping getParallelMapping() {
+        return parallelMapping;
+    }
+
+    public MergeMapping getMergeMapping() {
+        return mergeMapping;
+    }
+
+    private boolean isRandomAccessCheckRequired() {
+        Type sourceType = getSourceParameter().getType();
+        if ( parallelMapping != null && !sourceType.isArrayType() ) {
+            return true;
+        }
+        return sourceType.isListType() && !sourceType.isRandomAccessType();
+    }
+
+    /**
+     * @return the name of the iterator reading the source elements in case the source is a {@link List} which is not
+     * known to implement {@link RandomAccess}, {@code null} otherwise
+     */
+    public String getSourceIteratorName() {
+        return sourceIteratorName;
+    }
+
+    /**
+     * @return the element type of the iterator of the source, which is a wildcard type for a source such as
+     * {@code List<? extends Number>}
+     */
+    public Type getSourceIteratorElementType() {
+        return first( getSourceParameter().getType().determineTypeArguments( Iterable.class ) );
+    }
+
     public Type getSourceElementType() {
         Type sourceParameterType = getSourceParameter().getType();
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+
+import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Assignment.AssignmentType;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SelectionParameters;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * A {@link MappingMethod} implemented by a {@link Mapper} class which maps an {@link Iterator} to an {@link Iterator}
+ * or a {@link Spliterator} to a {@link Spliterator}. The source is wrapped, so that the elements are mapped on demand
+ * while the result is consumed, either by a {@link TypeConversion} or another mapping method.
+ */
+public class IteratorMappingMethod extends ContainerMappingMethod {
+
+    private final String helperMethodName;
+    private final Type emptyResultType;
+
+    public static class Builder extends ContainerMappingMethodBuilder<Builder, IteratorMappingMethod> {
+
+        public Builder() {
+            super( Builder.class, "iterator element" );
+        }
+
+        @Override
+        protected Type getElementType(Type parameterType) {
+            return IteratorMappingMethod.getElementType( parameterType );
+        }
+
+        @Override
+        protected Assignment getWrapper(Assignment assignment, Method method) {
+            return new Java8FunctionWrapper( assignment, ctx.getTypeFactory().getType( Function.class ) );
+        }
+
+        @Override
+        protected IteratorMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
+            Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
+            List<LifecycleCallbackMethodReference> beforeMappingMethods,
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+
+            // the result is always created by wrapping the source, a factory method is never used
+            TypeFactory typeFactory = ctx.getTypeFactory();
+            boolean spliterator = method.getResultType().isSpliteratorType();
+            HelperMethod helperMethod = new MappedIterator( typeFactory, spliterator );
+            Type emptyResultType = typeFactory.getType( spliterator ? Spliterators.class : Collections.class );
+            ctx.getUsedSupportedMappings().add( new SupportingMappingMethod( helperMethod ) );
+
+            return new IteratorMappingMethod(
+                method,
+                getMethodAnnotations(),
+                existingVariables,
+                assignment,
+                mapNullToDefault,
+                loopVariableName,
+                beforeMappingMethods,
+                afterMappingMethods,
+                selectionParameters,
+                helperMethod.getName(),
+                emptyResultType
+            );
+        }
+    }
+
+    //CHECKSTYLE:OFF
+    private IteratorMappingMethod(Method method, List<Annotation> annotations,
+                                  Collection<String> existingVariables, Assignment parameterAssignment,
+                                  boolean mapNullToDefault, String loopVariableName,
+                                  List<LifecycleCallbackMethodReference> beforeMappingReferences,
+                                  List<LifecycleCallbackMethodReference> afterMappingReferences,
+                                  SelectionParameters selectionParameters, String helperMethodName,
+                                  Type emptyResultType) {
+        super(
+            method,
+            annotations,
+            existingVariables,
+            parameterAssignment,
+            null,
+            mapNullToDefault,
+            loopVariableName,
+            beforeMappingReferences,
+            afterMappingReferences,
+            selectionParameters
+        );
+        //CHECKSTYLE:ON
+        this.helperMethodName = helperMethodName;
+        this.emptyResultType = emptyResultType;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+
+        if ( isMapNullToDefault() ) {
+            types.add( emptyResultType );
+        }
+
+        return types;
+    }
+
+    /**
+     * @return the name of the helper method wrapping the source
+     */
+    public String getHelperMethodName() {
+        return helperMethodName;
+    }
+
+    public boolean isSpliteratorMapping() {
+        return getResultType().isSpliteratorType();
+    }
+
+    /**
+     * The {@link Spliterator} characteristics concerning the elements themselves only hold for the mapped elements if
+     * the element mapping keeps them: passing the elements unchanged keeps all of them, a built-in type conversion
+     * maps non-null elements to non-null elements, any other mapping keeps none of them.
+     *
+     * @return the names of the characteristics of the source spliterator which still hold for the mapped elements
+     */
+    public List<String> getKeptCharacteristics() {
+        AssignmentType elementAssignmentType = getElementAssignment().getType();
+        if ( elementAssignmentType == AssignmentType.DIRECT ) {
+            return Arrays.asList( "SORTED", "DISTINCT", "NONNULL" );
+        }
+        if ( elementAssignmentType == AssignmentType.TYPE_CONVERTED ) {
+            return Collections.singletonList( "NONNULL" );
+        }
+        return Collections.emptyList();
+    }
+
+    public Type getSourceElementType() {
+        return getElementType( getSourceParameter().getType() );
+    }
+
+    @Override
+    public Type getResultElementType() {
+        return getElementType( getResultType() );
+    }
+
+    private static Type getElementType(Type parameterType) {
+        if ( parameterType.isIteratorType() ) {
+            return first( parameterType.determineTypeArguments( Iterator.class ) ).getTypeBound();
+        }
+        else if ( parameterType.isSpliteratorType() ) {
+            return first( parameterType.determineTypeArguments( Spliterator.class ) ).getTypeBound();
+        }
+
+        throw new IllegalArgumentException( "Could not get the element type" );
+    }
+}
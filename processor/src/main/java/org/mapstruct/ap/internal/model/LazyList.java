@@ -0,0 +1,76 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod used by {@link IterableMappingMethod}s with lazy element mapping. It returns an unmodifiable
+ * {@link List} of the given size, which maps the element with a given index on first access and caches it.
+ */
+public class LazyList extends HelperMethod {
+
+    private final Parameter sizeParameter;
+    private final Parameter mapperParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public LazyList(TypeFactory typeFactory) {
+        this.sizeParameter = new Parameter( "size", typeFactory.getType( int.class ) );
+        this.mapperParameter = new Parameter( "mapper", typeFactory.getType( IntFunction.class ) );
+        this.returnType = typeFactory.getType( List.class );
+        this.importTypes = asSet(
+            returnType,
+            mapperParameter.getType(),
+            typeFactory.getType( AbstractList.class ),
+            typeFactory.getType( RandomAccess.class ),
+            typeFactory.getType( AtomicReferenceArray.class )
+        );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return sizeParameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Arrays.asList( sizeParameter, mapperParameter );
+    }
+}
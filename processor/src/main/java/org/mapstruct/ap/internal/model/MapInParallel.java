@@ -0,0 +1,80 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod used by {@link IterableMappingMethod}s with parallel element mapping. It maps the elements with the
+ * given indices in chunks on the given {@link Executor}, one chunk per available processor, and returns the mapped
+ * elements in index order.
+ */
+public class MapInParallel extends HelperMethod {
+
+    private final Parameter sizeParameter;
+    private final Parameter executorParameter;
+    private final Parameter mapperParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public MapInParallel(TypeFactory typeFactory) {
+        this.sizeParameter = new Parameter( "size", typeFactory.getType( int.class ) );
+        this.executorParameter = new Parameter( "executor", typeFactory.getType( Executor.class ) );
+        this.mapperParameter = new Parameter( "mapper", typeFactory.getType( IntFunction.class ) );
+        this.returnType = typeFactory.getType( List.class );
+        this.importTypes = asSet(
+            returnType,
+            executorParameter.getType(),
+            mapperParameter.getType(),
+            typeFactory.getType( Arrays.class ),
+            typeFactory.getType( CompletableFuture.class ),
+            typeFactory.getType( CompletionException.class )
+        );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return sizeParameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Arrays.asList( sizeParameter, executorParameter, mapperParameter );
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod used by {@link IteratorMappingMethod}s. It wraps the given source {@link Iterator} or
+ * {@link Spliterator}, mapping each element with a given function when it is handed out by the source. The elements
+ * are mapped one at a time, so only the element currently being mapped is held in memory. A mapped spliterator is
+ * split by splitting the source and wrapping both parts.
+ */
+public class MappedIterator extends HelperMethod {
+
+    private final boolean spliterator;
+    private final Parameter sourceParameter;
+    private final Parameter mapperParameter;
+    private final Parameter characteristicsParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public MappedIterator(TypeFactory typeFactory, boolean spliterator) {
+        this.spliterator = spliterator;
+        this.sourceParameter = new Parameter(
+            "source",
+            typeFactory.getType( spliterator ? Spliterator.class : Iterator.class )
+        );
+        this.mapperParameter = new Parameter( "mapper", typeFactory.getType( Function.class ) );
+        this.characteristicsParameter = new Parameter( "keptCharacteristics", typeFactory.getType( int.class ) );
+        this.returnType = sourceParameter.getType();
+        this.importTypes = spliterator ?
+            asSet( returnType, mapperParameter.getType(), typeFactory.getType( Consumer.class ),
+                typeFactory.getType( Comparator.class ) ) :
+            asSet( returnType, mapperParameter.getType(), typeFactory.getType( Consumer.class ) );
+    }
+
+    @Override
+    public String getName() {
+        return spliterator ? "mappedSpliterator" : "mappedIterator";
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return sourceParameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return spliterator ?
+            Arrays.asList( sourceParameter, mapperParameter, characteristicsParameter ) :
+            Arrays.asList( sourceParameter, mapperParameter );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+import org.mapstruct.ap.internal.util.JavaFlowConstants;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod used by {@link ReactiveMappingMethod}s mapping a {@code java.util.concurrent.Flow.Publisher}. It wraps
+ * the given source publisher, mapping each element with a given function in {@code onNext} of the subscriber. The
+ * subscription of the source is passed on as is, so the demand of the subscriber is signalled to the source.
+ */
+public class MappedPublisher extends HelperMethod {
+
+    private final Parameter sourceParameter;
+    private final Parameter mapperParameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public MappedPublisher(TypeFactory typeFactory) {
+        this.sourceParameter = new Parameter( "source", typeFactory.getType( JavaFlowConstants.PUBLISHER_FQN ) );
+        this.mapperParameter = new Parameter( "mapper", typeFactory.getType( Function.class ) );
+        this.returnType = sourceParameter.getType();
+        this.importTypes = asSet( returnType, mapperParameter.getType() );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return sourceParameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Arrays.asList( sourceParameter, mapperParameter );
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * A static mapper field holding the key under which a {@link BeanMappingMethod} tracking references registers the
+ * targets it created in the {@code org.mapstruct.util.MappedReferences} of the mapping call. Each of these methods has
+ * a key of its own, so the targets of methods mapping the same source to the same type in different ways are kept
+ * apart.
+ */
+public class MappedReferencesKey extends FinalField implements FieldReference {
+
+    public MappedReferencesKey(TypeFactory typeFactory, String variableName) {
+        super( typeFactory.getType( Object.class ), variableName );
+    }
+}
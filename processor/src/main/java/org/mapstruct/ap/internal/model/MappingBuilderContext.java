@@ -120,6 +120,7 @@ Assignment getTargetAssignment(Method mappingMethod, ForgedMethodHistory descrip
     private final List<MappingMethod> mappingsToGenerate = new ArrayList<>();
     private final Map<ForgedMethod, ForgedMethod> forgedMethodsUnderCreation =
         new HashMap<>();
+    private final Set<String> propertyMappingChunkNames = new HashSet<>();
 
     //CHECKSTYLE:OFF
     public MappingBuilderContext(TypeFactory typeFactory,
@@ -219,6 +220,7 @@ public List<String> getReservedNames() {
         for ( MappingMethod method : mappingsToGenerate ) {
             nameSet.add( method.getName() );
         }
+        nameSet.addAll( propertyMappingChunkNames );
         // add existing names
         for ( SourceMethod method : sourceModel) {
             if ( method.isAbstract() ) {
@@ -228,6 +230,16 @@ public List<String> getReservedNames() {
         return new ArrayList<>( nameSet );
     }
 
+    /**
+     * Reserves the name of a {@link PropertyMappingChunk}. Those are generated along with their bean mapping method
+     * instead of being part of the {@link #getMappingsToGenerate() mappings to generate}.
+     *
+     * @param name the name of the chunk method
+     */
+    public void reservePropertyMappingChunkName(String name) {
+        propertyMappingChunkNames.add( name );
+    }
+
     public MappingMethod getExistingMappingMethod(MappingMethod newMappingMethod) {
         MappingMethod existingMappingMethod = null;
         for ( MappingMethod mappingMethod : mappingsToGenerate ) {
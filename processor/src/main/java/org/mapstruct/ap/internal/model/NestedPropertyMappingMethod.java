@@ -30,12 +30,14 @@
 public class NestedPropertyMappingMethod extends MappingMethod {
 
     private final List<SafePropertyEntry> safePropertyEntries;
+    private final boolean sourceParameterNullCheck;
 
     public static class Builder {
 
         private MappingBuilderContext ctx;
         private ForgedMethod method;
         private List<PropertyEntry> propertyEntries;
+        private boolean sourceParameterNullCheck;
 
         public Builder method( ForgedMethod sourceMethod ) {
             this.method = sourceMethod;
@@ -52,6 +54,17 @@ public Builder mappingContext(MappingBuilderContext mappingContext) {
             return this;
         }
 
+        /**
+         * @param sourceParameterNullCheck whether the source parameter itself can be {@code null}, which is the case
+         * when it is a {@link NestedSourcePropertyVariable} rather than a null checked parameter of the mapping method
+         *
+         * @return this builder
+         */
+        public Builder sourceParameterNullCheck(boolean sourceParameterNullCheck) {
+            this.sourceParameterNullCheck = sourceParameterNullCheck;
+            return this;
+        }
+
         public NestedPropertyMappingMethod build() {
             List<String> existingVariableNames = new ArrayList<>();
             Parameter sourceParameter = null;
@@ -77,13 +90,15 @@ public NestedPropertyMappingMethod build() {
                 previousPropertyName = safeName;
             }
             method.addThrownTypes( thrownTypes );
-            return new NestedPropertyMappingMethod( method, safePropertyEntries );
+            return new NestedPropertyMappingMethod( method, safePropertyEntries, sourceParameterNullCheck );
         }
     }
 
-    private NestedPropertyMappingMethod( ForgedMethod method, List<SafePropertyEntry> sourcePropertyEntries ) {
+    private NestedPropertyMappingMethod( ForgedMethod method, List<SafePropertyEntry> sourcePropertyEntries,
+                                         boolean sourceParameterNullCheck ) {
         super( method );
         this.safePropertyEntries = sourcePropertyEntries;
+        this.sourceParameterNullCheck = sourceParameterNullCheck;
     }
 
     public Parameter getSourceParameter() {
@@ -99,6 +114,10 @@ public List<SafePropertyEntry> getPropertyEntries() {
         return safePropertyEntries;
     }
 
+    public boolean isSourceParameterNullCheck() {
+        return sourceParameterNullCheck;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -151,6 +170,10 @@ public boolean equals( Object obj ) {
             return false;
         }
 
+        if ( sourceParameterNullCheck != other.sourceParameterNullCheck ) {
+            return false;
+        }
+
         return true;
     }
 
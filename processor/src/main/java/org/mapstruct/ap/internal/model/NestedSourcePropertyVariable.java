@@ -0,0 +1,279 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.beanmapping.PropertyEntry;
+import org.mapstruct.ap.internal.model.beanmapping.SourceReference;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.Strings;
+
+import static org.mapstruct.ap.internal.util.Collections.last;
+
+/**
+ * A local variable of a {@link BeanMappingMethod} holding an intermediate object of a nested source path, e.g.
+ * {@code label.studio} when both {@code label.studio.name} and {@code label.studio.city} are mapped. The intermediate
+ * object is read once into the variable, after which the remainder of each of the source paths is read from the
+ * variable instead of walking the full path again.
+ * <p>
+ * The variable is {@code null} when any of the intermediate objects on its path is {@code null}.
+ */
+public class NestedSourcePropertyVariable extends ModelElement {
+
+    private final Parameter sourceParameter;
+    private final List<PropertyEntry> propertyEntries;
+    private final String name;
+    private final String expression;
+
+    public static class Builder {
+
+        private MappingBuilderContext ctx;
+        private Method method;
+        private List<SourceReference> sourceReferences;
+        private Set<String> existingVariableNames;
+
+        public Builder mappingContext(MappingBuilderContext mappingContext) {
+            this.ctx = mappingContext;
+            return this;
+        }
+
+        public Builder method(Method method) {
+            this.method = method;
+            return this;
+        }
+
+        /**
+         * @param sourceReferences the source references of the defined mappings which may read from a shared variable
+         *
+         * @return this builder
+         */
+        public Builder sourceReferences(List<SourceReference> sourceReferences) {
+            this.sourceReferences = sourceReferences;
+            return this;
+        }
+
+        public Builder existingVariableNames(Set<String> existingVariableNames) {
+            this.existingVariableNames = existingVariableNames;
+            return this;
+        }
+
+        /**
+         * Creates a variable for the longest prefix each source path shares with any of the other source paths,
+         * including the full path when it is read by more than one property mapping. Longer prefixes are read from
+         * the variables of shorter prefixes, if any.
+         * <p>
+         * This is only done for methods with a single source parameter which is checked upfront, and for paths
+         * without presence checkers or getters throwing exceptions.
+         *
+         * @return the variables, shorter prefixes first
+         */
+        public List<NestedSourcePropertyVariable> build() {
+            if ( method.getSourceParameters().size() != 1 ) {
+                return Collections.emptyList();
+            }
+            Parameter sourceParameter = method.getSourceParameters().get( 0 );
+            // with a default result, the property mappings are guarded by the presence check of the parameter,
+            // while the variables are declared before them
+            if ( sourceParameter.getType().isPrimitive()
+                || method.getOptions().getBeanMapping().getNullValueMappingStrategy().isReturnDefault() ) {
+                return Collections.emptyList();
+            }
+
+            List<List<PropertyEntry>> sourcePaths = new ArrayList<>();
+            for ( SourceReference sourceReference : sourceReferences ) {
+                if ( isSharable( sourceReference.getPropertyEntries() ) ) {
+                    sourcePaths.add( sourceReference.getPropertyEntries() );
+                }
+            }
+
+            Set<List<PropertyEntry>> sharedPrefixes = new LinkedHashSet<>();
+            for ( int i = 0; i < sourcePaths.size(); i++ ) {
+                List<PropertyEntry> path = sourcePaths.get( i );
+                int shared = 0;
+                for ( int j = 0; j < sourcePaths.size(); j++ ) {
+                    if ( i != j ) {
+                        shared = Math.max( shared, getCommonPrefixLength( path, sourcePaths.get( j ) ) );
+                    }
+                }
+                // the last entry is read by the property mapping itself, unless another property mapping reads it
+                // as well
+                if ( shared < path.size() || !isSharableValue( path ) ) {
+                    shared = Math.min( shared, path.size() - 1 );
+                }
+                if ( shared > 0 ) {
+                    sharedPrefixes.add( new ArrayList<>( path.subList( 0, shared ) ) );
+                }
+            }
+
+            List<List<PropertyEntry>> orderedPrefixes = new ArrayList<>( sharedPrefixes );
+            orderedPrefixes.sort( Comparator.comparingInt( List::size ) );
+            List<NestedSourcePropertyVariable> variables = new ArrayList<>( orderedPrefixes.size() );
+            for ( List<PropertyEntry> prefix : orderedPrefixes ) {
+                NestedSourcePropertyVariable parent = null;
+                for ( NestedSourcePropertyVariable variable : variables ) {
+                    if ( variable.isPrefixOf( sourceParameter, prefix ) ) {
+                        parent = variable;
+                    }
+                }
+
+                String expression;
+                if ( parent == null && prefix.size() == 1 ) {
+                    expression = sourceParameter.getName() + "."
+                        + prefix.get( 0 ).getReadAccessor().getReadValueSource();
+                }
+                else if ( parent == null ) {
+                    expression = forgeNestedPropertyMapping(
+                        sourceParameter.getName(),
+                        sourceParameter.getType(),
+                        prefix,
+                        false
+                    );
+                }
+                else {
+                    expression = forgeNestedPropertyMapping(
+                        parent.getName(),
+                        parent.getType(),
+                        prefix.subList( parent.getPropertyEntries().size(), prefix.size() ),
+                        true
+                    );
+                }
+
+                String name = Strings.getSafeVariableName( last( prefix ).getName(), existingVariableNames );
+                existingVariableNames.add( name );
+                variables.add( new NestedSourcePropertyVariable( sourceParameter, prefix, name, expression ) );
+            }
+            return variables;
+        }
+
+        private boolean isSharable(List<PropertyEntry> propertyEntries) {
+            for ( PropertyEntry entry : propertyEntries ) {
+                if ( entry.getPresenceChecker() != null
+                    || !ctx.getTypeFactory().getThrownTypes( entry.getReadAccessor() ).isEmpty() ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * A nested path can only be held in a variable if its value can be {@code null}, as the variable is
+         * {@code null} for {@code null} intermediate objects.
+         */
+        private boolean isSharableValue(List<PropertyEntry> path) {
+            return path.size() == 1 || !last( path ).getType().isPrimitive();
+        }
+
+        private int getCommonPrefixLength(List<PropertyEntry> path, List<PropertyEntry> other) {
+            int length = 0;
+            int maxLength = Math.min( path.size(), other.size() );
+            while ( length < maxLength && path.get( length ).equals( other.get( length ) ) ) {
+                length++;
+            }
+            return length;
+        }
+
+        private String forgeNestedPropertyMapping(String sourceName, Type sourceType, List<PropertyEntry> entries,
+                                                  boolean sourceNullCheck) {
+            List<String> elementNames = new ArrayList<>( entries.size() + 1 );
+            elementNames.add( sourceName );
+            for ( PropertyEntry entry : entries ) {
+                elementNames.add( entry.getName() );
+            }
+            String forgedName = Strings.getSafeVariableName(
+                Strings.joinAndCamelize( elementNames ),
+                ctx.getReservedNames()
+            );
+            ForgedMethod methodRef =
+                ForgedMethod.forParameterMapping( forgedName, sourceType, last( entries ).getType(), method );
+
+            NestedPropertyMappingMethod nestedPropertyMapping = new NestedPropertyMappingMethod.Builder()
+                .method( methodRef )
+                .propertyEntries( entries )
+                .sourceParameterNullCheck( sourceNullCheck )
+                .mappingContext( ctx )
+                .build();
+
+            // add if not yet existing
+            if ( !ctx.getMappingsToGenerate().contains( nestedPropertyMapping ) ) {
+                ctx.getMappingsToGenerate().add( nestedPropertyMapping );
+            }
+            else {
+                forgedName = ctx.getExistingMappingMethod( nestedPropertyMapping ).getName();
+            }
+            return forgedName + "( " + sourceName + " )";
+        }
+    }
+
+    public NestedSourcePropertyVariable(Parameter sourceParameter, List<PropertyEntry> propertyEntries, String name,
+                                        String expression) {
+        this.sourceParameter = sourceParameter;
+        this.propertyEntries = propertyEntries;
+        this.name = name;
+        this.expression = expression;
+    }
+
+    /**
+     * @return the source parameter the path of the variable starts at
+     */
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    /**
+     * @return the property entries leading from the source parameter to the value of the variable
+     */
+    public List<PropertyEntry> getPropertyEntries() {
+        return propertyEntries;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType() {
+        return propertyEntries.get( propertyEntries.size() - 1 ).getType();
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @param sourceParameter the source parameter of a source path
+     * @param entries the property entries of a source path
+     *
+     * @return {@code true} if the path of this variable is a proper prefix of the given path
+     */
+    public boolean isPrefixOf(Parameter sourceParameter, List<PropertyEntry> entries) {
+        return this.sourceParameter.equals( sourceParameter )
+            && entries.size() > propertyEntries.size()
+            && entries.subList( 0, propertyEntries.size() ).equals( propertyEntries );
+    }
+
+    /**
+     * @param sourceParameter the source parameter of a source path
+     * @param entries the property entries of a source path
+     *
+     * @return {@code true} if this variable holds the value of the given path
+     */
+    public boolean isPathOf(Parameter sourceParameter, List<PropertyEntry> entries) {
+        return this.sourceParameter.equals( sourceParameter ) && entries.equals( propertyEntries );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return getType().getImportTypes();
+    }
+}
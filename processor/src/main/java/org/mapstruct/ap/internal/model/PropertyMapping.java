@@ -8,6 +8,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -156,6 +157,8 @@ public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMa
         private boolean forgedNamedBased = true;
         private NullValueCheckStrategyGem nvcs;
         private NullValuePropertyMappingStrategyGem nvpms;
+        private List<NestedSourcePropertyVariable> nestedSourcePropertyVariables = Collections.emptyList();
+        private boolean sourceReferenceLocalVariable;
 
         PropertyMappingBuilder() {
             super( PropertyMappingBuilder.class );
@@ -217,6 +220,18 @@ public PropertyMappingBuilder forgedNamedBased(boolean forgedNamedBased) {
             return this;
         }
 
+        /**
+         * @param nestedSourcePropertyVariables local variables holding intermediate objects of nested source paths,
+         * the deepest one on the path of the source reference is used as starting point instead of the parameter
+         *
+         * @return the builder for chaining
+         */
+        public PropertyMappingBuilder nestedSourcePropertyVariables(
+            List<NestedSourcePropertyVariable> nestedSourcePropertyVariables) {
+            this.nestedSourcePropertyVariables = nestedSourcePropertyVariables;
+            return this;
+        }
+
         public PropertyMappingBuilder options(DelegatingOptions options) {
             this.mappingControl = options.getMappingControl( ctx.getElementUtils() );
             this.nvcs = options.getNullValueCheckStrategy();
@@ -445,6 +460,7 @@ private Assignment assignToPlainViaSetter(Type targetType, Assignment rhs) {
                     }
 
                 }
+                bindSourceToLocalVariable( rhs );
                 return new UpdateWrapper(
                     rhs,
                     method.getThrownTypes(),
@@ -464,6 +480,9 @@ private Assignment assignToPlainViaSetter(Type targetType, Assignment rhs) {
                     // however, a local var is not needed if there's no need to check for null.
                     rhs.setSourceLocalVarName( null );
                 }
+                else {
+                    bindSourceToLocalVariable( rhs );
+                }
                 return new SetterWrapper(
                     rhs,
                     method.getThrownTypes(),
@@ -526,13 +545,38 @@ private boolean hasDefaultValueOrDefaultExpression() {
             return defaultValue != null || defaultJavaExpression != null;
         }
 
+        /**
+         * Reads the source property into a local variable, which is used for the null check as well as for the
+         * assignment, so that the getter is invoked once. This is not needed when the source already is a parameter or
+         * a local variable, and not done when a presence checker is used, as the getter must not be invoked when the
+         * property is not present.
+         *
+         * @param rhs the source right hand side
+         */
+        private void bindSourceToLocalVariable(Assignment rhs) {
+            if ( rhs.getSourceLocalVarName() == null
+                && rhs.getSourcePresenceCheckerReference() == null
+                && !rhs.isSourceReferenceParameter()
+                && !sourceReferenceLocalVariable ) {
+                String desiredName = sourcePropertyName == null ? targetPropertyName : sourcePropertyName;
+                rhs.setSourceLocalVarName( rhs.createUniqueVarName( desiredName ) );
+            }
+        }
+
         private Assignment assignToPlainViaAdder( Assignment rightHandSide) {
 
             Assignment result = rightHandSide;
 
             String adderIteratorName = sourcePropertyName == null ? targetPropertyName : sourcePropertyName;
             if ( result.getSourceType().isIterableType() ) {
-                result = new AdderWrapper( result, method.getThrownTypes(), isFieldAssignment(), adderIteratorName );
+                bindSourceToLocalVariable( result );
+                result = new AdderWrapper(
+                    result,
+                    method.getThrownTypes(),
+                    isFieldAssignment(),
+                    adderIteratorName,
+                    ctx.getTypeFactory()
+                );
             }
             else if ( result.getSourceType().isStreamType() ) {
                 result = new StreamAdderWrapper(
@@ -541,6 +585,7 @@ else if ( result.getSourceType().isStreamType() ) {
             else {
                 // Possibly adding null to a target collection. So should be surrounded by an null check.
                 // TODO: what triggers this else branch? Should nvcs, nvpms be applied?
+                bindSourceToLocalVariable( result );
                 result = new SetterWrapper( result,
                     method.getThrownTypes(),
                     isFieldAssignment(),
@@ -600,6 +645,25 @@ private SourceRHS getSourceRHS( SourceReference sourceReference ) {
                 ) );
                 return sourceRHS;
             }
+
+            // property read into a local variable shared with other property mappings
+            NestedSourcePropertyVariable sharedVariable = getSharedSourcePropertyVariable( sourceReference );
+            if ( sharedVariable != null ) {
+                SourceRHS sourceRHS = new SourceRHS(
+                    sourceParam.getName(),
+                    sharedVariable.getName(),
+                    null,
+                    sharedVariable.getType(),
+                    existingVariableNames,
+                    sourceReference.toString()
+                );
+                sourceRHS.setSourcePresenceCheckerReference( getSourcePresenceCheckerRef(
+                    sourceReference,
+                    sourceRHS
+                ) );
+                sourceReferenceLocalVariable = true;
+                return sourceRHS;
+            }
             // simple property
             else if ( !sourceReference.isNested() ) {
                 String sourceRef = sourceParam.getName() + "." + propertyEntry.getReadAccessor().getReadValueSource();
@@ -627,16 +691,39 @@ else if ( !sourceReference.isNested() ) {
                     sourceType = ctx.getTypeFactory().getWrappedType( sourceType );
                 }
 
-                // forge a method from the parameter type to the last entry type.
-                String forgedName = Strings.joinAndCamelize( sourceReference.getElementNames() );
+                // forge a method from the parameter type (or the type of the deepest variable holding an
+                // intermediate object of the path) to the last entry type.
+                NestedSourcePropertyVariable variable = getNestedSourcePropertyVariable( sourceReference );
+                List<String> elementNames;
+                Type sourceParameterType;
+                List<PropertyEntry> propertyEntries;
+                String sourceParameterName;
+                if ( variable != null ) {
+                    propertyEntries = sourceReference.getPropertyEntries()
+                        .subList( variable.getPropertyEntries().size(), sourceReference.getPropertyEntries().size() );
+                    elementNames = new ArrayList<>( propertyEntries.size() + 1 );
+                    elementNames.add( variable.getName() );
+                    for ( PropertyEntry entry : propertyEntries ) {
+                        elementNames.add( entry.getName() );
+                    }
+                    sourceParameterType = variable.getType();
+                    sourceParameterName = variable.getName();
+                }
+                else {
+                    propertyEntries = sourceReference.getPropertyEntries();
+                    elementNames = sourceReference.getElementNames();
+                    sourceParameterType = sourceReference.getParameter().getType();
+                    sourceParameterName = sourceParam.getName();
+                }
+                String forgedName = Strings.joinAndCamelize( elementNames );
                 forgedName = Strings.getSafeVariableName( forgedName, ctx.getReservedNames() );
-                Type sourceParameterType = sourceReference.getParameter().getType();
                 ForgedMethod methodRef = forParameterMapping( forgedName, sourceParameterType, sourceType, method );
 
                 NestedPropertyMappingMethod.Builder builder = new NestedPropertyMappingMethod.Builder();
                 NestedPropertyMappingMethod nestedPropertyMapping = builder
                     .method( methodRef )
-                    .propertyEntries( sourceReference.getPropertyEntries() )
+                    .propertyEntries( propertyEntries )
+                    .sourceParameterNullCheck( variable != null )
                     .mappingContext( ctx )
                     .build();
 
@@ -647,7 +734,7 @@ else if ( !sourceReference.isNested() ) {
                 else {
                     forgedName = ctx.getExistingMappingMethod( nestedPropertyMapping ).getName();
                 }
-                String sourceRef = forgedName + "( " + sourceParam.getName() + " )";
+                String sourceRef = forgedName + "( " + sourceParameterName + " )";
                 SourceRHS sourceRhs = new SourceRHS( sourceParam.getName(),
                                                      sourceRef,
                                                      null,
@@ -669,6 +756,27 @@ else if ( !sourceReference.isNested() ) {
             }
         }
 
+        private NestedSourcePropertyVariable getSharedSourcePropertyVariable(SourceReference sourceReference) {
+            for ( NestedSourcePropertyVariable variable : nestedSourcePropertyVariables ) {
+                if ( variable.isPathOf( sourceReference.getParameter(), sourceReference.getPropertyEntries() ) ) {
+                    return variable;
+                }
+            }
+            return null;
+        }
+
+        private NestedSourcePropertyVariable getNestedSourcePropertyVariable(SourceReference sourceReference) {
+            NestedSourcePropertyVariable deepest = null;
+            for ( NestedSourcePropertyVariable variable : nestedSourcePropertyVariables ) {
+                if ( variable.isPrefixOf( sourceReference.getParameter(), sourceReference.getPropertyEntries() )
+                    && ( deepest == null
+                    || variable.getPropertyEntries().size() > deepest.getPropertyEntries().size() ) ) {
+                    deepest = variable;
+                }
+            }
+            return deepest;
+        }
+
         private PresenceCheck getSourcePresenceCheckerRef(SourceReference sourceReference,
                                                           SourceRHS sourceRHS) {
 
@@ -1166,14 +1274,14 @@ public boolean isConstructorMapping() {
 
     @Override
     public Set<Type> getImportTypes() {
-        if ( defaultValueAssignment == null ) {
-            return assignment.getImportTypes();
+        Set<Type> importTypes = new HashSet<>( assignment.getImportTypes() );
+        if ( assignment.getSourceLocalVarName() != null ) {
+            importTypes.addAll( assignment.getSourceType().getImportTypes() );
         }
-
-        return org.mapstruct.ap.internal.util.Collections.asSet(
-            assignment.getImportTypes(),
-            defaultValueAssignment.getImportTypes()
-        );
+        if ( defaultValueAssignment != null ) {
+            importTypes.addAll( defaultValueAssignment.getImportTypes() );
+        }
+        return importTypes;
     }
 
     public Set<String> getDependsOn() {
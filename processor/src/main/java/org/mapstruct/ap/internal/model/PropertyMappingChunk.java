@@ -0,0 +1,284 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * A private method holding a part of the property mappings of a {@link BeanMappingMethod}. It is generated right after
+ * the bean mapping method and called from it, in place of the property mappings it holds.
+ * <p>
+ * Bean mapping methods are split into chunks when their estimated bytecode size exceeds the maximum method size, which
+ * defaults to the {@code HugeMethodLimit} of HotSpot. Methods larger than that are never JIT compiled. A maximum method
+ * size of {@code 0} disables splitting.
+ */
+public class PropertyMappingChunk extends ModelElement {
+
+    private final String name;
+    private final Parameter sourceParameter;
+    private final List<Parameter> parameters;
+    private final List<PropertyMapping> propertyMappings;
+    private final List<Type> thrownTypes;
+    private final String targetBeanName;
+    private final boolean existingInstanceMapping;
+
+    public static class Builder {
+
+        private MappingBuilderContext ctx;
+        private Method method;
+        private BeanMappingMethod beanMappingMethod;
+
+        public Builder mappingContext(MappingBuilderContext mappingContext) {
+            this.ctx = mappingContext;
+            return this;
+        }
+
+        public Builder method(Method method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder beanMappingMethod(BeanMappingMethod beanMappingMethod) {
+            this.beanMappingMethod = beanMappingMethod;
+            return this;
+        }
+
+        /**
+         * Splits the property mappings of each source parameter into chunks of at most half the maximum method size,
+         * if the estimated size of the whole bean mapping method exceeds the maximum method size. The constructor
+         * mappings are kept in the bean mapping method, as they are assigned to local variables, and so are the
+         * constant mappings, the presence checks of the source parameters and the lifecycle callbacks.
+         *
+         * @return the chunks, in the order in which they are to be called
+         */
+        public List<PropertyMappingChunk> build() {
+            int maxMethodSize = ctx.getOptions().getMaxMethodSize();
+            if ( maxMethodSize == 0 || !method.getTypeParameters().isEmpty() ) {
+                return Collections.emptyList();
+            }
+
+            int estimatedSize = estimateMethodSize();
+            for ( PropertyMapping propertyMapping : beanMappingMethod.getPropertyMappings() ) {
+                estimatedSize += estimateSize( propertyMapping );
+            }
+            if ( estimatedSize <= maxMethodSize ) {
+                return Collections.emptyList();
+            }
+
+            List<Parameter> parameters = getParameters();
+            List<PropertyMappingChunk> chunks = new ArrayList<>();
+            int maxChunkSize = maxMethodSize / 2;
+            for ( Parameter sourceParameter : beanMappingMethod.getSourceParameters() ) {
+                List<PropertyMapping> chunkMappings = new ArrayList<>();
+                int chunkSize = 0;
+                for ( PropertyMapping propertyMapping : beanMappingMethod.propertyMappingsByParameter(
+                    sourceParameter ) ) {
+                    int size = estimateSize( propertyMapping );
+                    if ( !chunkMappings.isEmpty() && chunkSize + size > maxChunkSize ) {
+                        chunks.add( createChunk( sourceParameter, parameters, chunkMappings ) );
+                        chunkMappings = new ArrayList<>();
+                        chunkSize = 0;
+                    }
+                    chunkMappings.add( propertyMapping );
+                    chunkSize += size;
+                }
+                if ( !chunkMappings.isEmpty() ) {
+                    chunks.add( createChunk( sourceParameter, parameters, chunkMappings ) );
+                }
+            }
+
+            if ( !chunks.isEmpty() ) {
+                ctx.getMessager().note(
+                    2,
+                    Message.BEANMAPPING_SPLIT_NOTE,
+                    method.getName(),
+                    chunks.size(),
+                    estimatedSize,
+                    maxMethodSize
+                );
+            }
+            return chunks;
+        }
+
+        /**
+         * The chunks take all parameters of the bean mapping method, the target bean if it is created by the method
+         * and the variables holding shared nested source properties.
+         */
+        private List<Parameter> getParameters() {
+            List<Parameter> parameters = new ArrayList<>();
+            for ( Parameter parameter : beanMappingMethod.getParameters() ) {
+                // a var-args parameter is not necessarily the last parameter of the chunk
+                parameters.add( new Parameter( parameter.getName(), parameter.getType() ) );
+            }
+            if ( !beanMappingMethod.isExistingInstanceMapping() ) {
+                parameters.add( new Parameter(
+                    beanMappingMethod.getResultName(),
+                    beanMappingMethod.getReturnTypeToConstruct()
+                ) );
+            }
+            for ( NestedSourcePropertyVariable variable : beanMappingMethod.getNestedSourcePropertyVariables() ) {
+                parameters.add( new Parameter( variable.getName(), variable.getType() ) );
+            }
+            return parameters;
+        }
+
+        private PropertyMappingChunk createChunk(Parameter sourceParameter, List<Parameter> parameters,
+                                                 List<PropertyMapping> propertyMappings) {
+            String name = Strings.getSafeVariableName( method.getName() + "Properties", ctx.getReservedNames() );
+            ctx.reservePropertyMappingChunkName( name );
+            return new PropertyMappingChunk(
+                name,
+                sourceParameter,
+                parameters,
+                propertyMappings,
+                beanMappingMethod.getThrownTypes(),
+                beanMappingMethod.getResultName(),
+                beanMappingMethod.isExistingInstanceMapping()
+            );
+        }
+
+        /**
+         * Estimates the bytecode size of the statements of the bean mapping method besides its property mappings:
+         * creating and returning the target, the presence checks of the source parameters, the lifecycle callbacks,
+         * the variables holding shared nested source properties, the reference tracking and the finalizer.
+         */
+        private int estimateMethodSize() {
+            int size = 16;
+            if ( beanMappingMethod.getFactoryMethod() != null ) {
+                size += 8;
+            }
+            if ( beanMappingMethod.hasConstructorMappings() ) {
+                size += 8;
+            }
+            size += 12 * beanMappingMethod.getSourcePresenceChecks().size();
+            size += 12 * beanMappingMethod.getBeforeMappingReferencesWithMappingTarget().size();
+            size += 12 * beanMappingMethod.getBeforeMappingReferencesWithoutMappingTarget().size();
+            size += 12 * beanMappingMethod.getAfterMappingReferences().size();
+            size += 12 * beanMappingMethod.getBeforeMappingReferencesWithFinalizedReturnType().size();
+            size += 12 * beanMappingMethod.getAfterMappingReferencesWithFinalizedReturnType().size();
+            size += 16 * beanMappingMethod.getNestedSourcePropertyVariables().size();
+            if ( beanMappingMethod.getMappedReferencesType() != null ) {
+                size += 40;
+            }
+            if ( beanMappingMethod.getFinalizerMethod() != null ) {
+                size += 12;
+            }
+            return size;
+        }
+
+        /**
+         * Estimates the bytecode size of a property mapping: reading the source and invoking the target write
+         * accessor, or storing the local variable passed to the constructor, plus any conversions, mapping method
+         * invocations, local variables, null checks and defaults.
+         */
+        private int estimateSize(PropertyMapping propertyMapping) {
+            Assignment assignment = propertyMapping.getAssignment();
+            if ( assignment == null ) {
+                return 0;
+            }
+            int size = 10;
+            if ( propertyMapping.isConstructorMapping() ) {
+                // declaring the local variable and passing it to the constructor
+                size += 6;
+            }
+            if ( assignment.getType() != null && !assignment.getType().isDirect() ) {
+                size += 8;
+                if ( assignment.getType() != Assignment.AssignmentType.MAPPED
+                    && assignment.getType() != Assignment.AssignmentType.TYPE_CONVERTED ) {
+                    size += 8;
+                }
+            }
+            if ( assignment.getSourceLocalVarName() != null ) {
+                size += 12;
+            }
+            if ( assignment.getSourcePresenceCheckerReference() != null ) {
+                size += 10;
+            }
+            if ( propertyMapping.getDefaultValueAssignment() != null ) {
+                size += 12;
+            }
+            if ( assignment.isCallingUpdateMethod() ) {
+                size += 24;
+            }
+            if ( propertyMapping.getTargetType().isCollectionOrMapType() ) {
+                size += 24;
+            }
+            return size;
+        }
+    }
+
+    //CHECKSTYLE:OFF
+    private PropertyMappingChunk(String name, Parameter sourceParameter, List<Parameter> parameters,
+                                 List<PropertyMapping> propertyMappings, List<Type> thrownTypes,
+                                 String targetBeanName, boolean existingInstanceMapping) {
+        //CHECKSTYLE:ON
+        this.name = name;
+        this.sourceParameter = sourceParameter;
+        this.parameters = parameters;
+        this.propertyMappings = propertyMappings;
+        this.thrownTypes = thrownTypes;
+        this.targetBeanName = targetBeanName;
+        this.existingInstanceMapping = existingInstanceMapping;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the source parameter the property mappings of this chunk read from
+     */
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    public List<PropertyMapping> getPropertyMappings() {
+        return propertyMappings;
+    }
+
+    public List<Type> getThrownTypes() {
+        return thrownTypes;
+    }
+
+    /**
+     * @return the name of the parameter holding the target bean
+     */
+    public String getTargetBeanName() {
+        return targetBeanName;
+    }
+
+    public boolean isExistingInstanceMapping() {
+        return existingInstanceMapping;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> importTypes = new HashSet<>();
+        for ( Parameter parameter : parameters ) {
+            importTypes.addAll( parameter.getType().getImportTypes() );
+        }
+        for ( Type thrownType : thrownTypes ) {
+            importTypes.addAll( thrownType.getImportTypes() );
+        }
+        return importTypes;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.util.JavaFlowConstants;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * A {@link MappingMethod} implemented by a {@link Mapper} class which maps a
+ * {@code java.util.concurrent.Flow.Publisher} to a {@code java.util.concurrent.Flow.Publisher}, or a reactive type
+ * supported by the {@link org.mapstruct.ap.spi.ReactiveTypeMappingStrategy} to the same reactive type. The elements are
+ * mapped when they are emitted by the source, either by a {@link TypeConversion} or another mapping method.
+ */
+public class ReactiveMappingMethod extends ContainerMappingMethod {
+
+    private final String helperMethodName;
+    private final String elementMappingMethodName;
+
+    public static class Builder extends ContainerMappingMethodBuilder<Builder, ReactiveMappingMethod> {
+
+        public Builder() {
+            super( Builder.class, "reactive element" );
+        }
+
+        @Override
+        protected Type getElementType(Type parameterType) {
+            return ReactiveMappingMethod.getElementType( parameterType );
+        }
+
+        @Override
+        protected Assignment getWrapper(Assignment assignment, Method method) {
+            // the element mapping method of other reactive types doesn't necessarily take a java.util.function.Function
+            Type functionType = method.getResultType().isFlowPublisherType() ?
+                ctx.getTypeFactory().getType( Function.class ) :
+                null;
+            return new Java8FunctionWrapper( assignment, functionType );
+        }
+
+        @Override
+        protected ReactiveMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
+            Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
+            List<LifecycleCallbackMethodReference> beforeMappingMethods,
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+
+            // the result is always created from the source, a factory method is never used
+            String helperMethodName = null;
+            String elementMappingMethodName = null;
+            if ( method.getResultType().isFlowPublisherType() ) {
+                HelperMethod helperMethod = new MappedPublisher( ctx.getTypeFactory() );
+                ctx.getUsedSupportedMappings().add( new SupportingMappingMethod( helperMethod ) );
+                helperMethodName = helperMethod.getName();
+            }
+            else {
+                elementMappingMethodName = method.getResultType().getReactiveElementMappingMethodName();
+            }
+
+            return new ReactiveMappingMethod(
+                method,
+                getMethodAnnotations(),
+                existingVariables,
+                assignment,
+                mapNullToDefault,
+                loopVariableName,
+                beforeMappingMethods,
+                afterMappingMethods,
+                selectionParameters,
+                helperMethodName,
+                elementMappingMethodName
+            );
+        }
+    }
+
+    //CHECKSTYLE:OFF
+    private ReactiveMappingMethod(Method method, List<Annotation> annotations,
+                                  Collection<String> existingVariables, Assignment parameterAssignment,
+                                  boolean mapNullToDefault, String loopVariableName,
+                                  List<LifecycleCallbackMethodReference> beforeMappingReferences,
+                                  List<LifecycleCallbackMethodReference> afterMappingReferences,
+                                  SelectionParameters selectionParameters, String helperMethodName,
+                                  String elementMappingMethodName) {
+        super(
+            method,
+            annotations,
+            existingVariables,
+            parameterAssignment,
+            null,
+            mapNullToDefault,
+            loopVariableName,
+            beforeMappingReferences,
+            afterMappingReferences,
+            selectionParameters
+        );
+        //CHECKSTYLE:ON
+        this.helperMethodName = helperMethodName;
+        this.elementMappingMethodName = elementMappingMethodName;
+    }
+
+    /**
+     * @return the name of the helper method wrapping a {@code java.util.concurrent.Flow.Publisher} source, or
+     * {@code null} for other reactive types
+     */
+    public String getHelperMethodName() {
+        return helperMethodName;
+    }
+
+    /**
+     * @return the name of the element mapping method of the source for reactive types other than
+     * {@code java.util.concurrent.Flow.Publisher}, or {@code null}
+     */
+    public String getElementMappingMethodName() {
+        return elementMappingMethodName;
+    }
+
+    public Type getSourceElementType() {
+        return getElementType( getSourceParameter().getType() );
+    }
+
+    @Override
+    public Type getResultElementType() {
+        return getElementType( getResultType() );
+    }
+
+    private static Type getElementType(Type parameterType) {
+        if ( parameterType.isFlowPublisherType() ) {
+            return first( parameterType.determineTypeArguments( JavaFlowConstants.PUBLISHER_FQN ) ).getTypeBound();
+        }
+        else if ( !parameterType.getTypeParameters().isEmpty() ) {
+            return first( parameterType.getTypeParameters() ).getTypeBound();
+        }
+
+        throw new IllegalArgumentException( "Could not get the element type" );
+    }
+}
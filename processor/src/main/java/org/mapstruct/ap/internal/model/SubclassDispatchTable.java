@@ -0,0 +1,41 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * A static mapper field holding a {@link ClassValue} that resolves the runtime class of the source of a
+ * {@link BeanMappingMethod} to the index of the first matching {@link SubclassMapping}, or {@code -1} if none of them
+ * matches. The index is computed once per runtime class, after which dispatching is a single lookup instead of a
+ * chain of {@code instanceof} checks.
+ */
+public class SubclassDispatchTable extends FinalField implements FieldReference {
+
+    private final Map<String, Object> templateParameter;
+
+    public SubclassDispatchTable(TypeFactory typeFactory, String variableName, List<SubclassMapping> subclassMappings) {
+        super( typeFactory.getType( ClassValue.class ), variableName );
+        List<Type> sourceTypes = new ArrayList<>( subclassMappings.size() );
+        for ( SubclassMapping subclassMapping : subclassMappings ) {
+            sourceTypes.add( subclassMapping.getSourceType() );
+        }
+        this.templateParameter = Collections.singletonMap( "sourceTypes", sourceTypes );
+    }
+
+    @Override
+    public Map<String, Object> getTemplateParameter() {
+        return templateParameter;
+    }
+}
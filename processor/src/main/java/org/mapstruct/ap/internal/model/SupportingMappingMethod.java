@@ -49,7 +49,7 @@ public SupportingMappingMethod(HelperMethod method) {
         super( method );
         this.importTypes = method.getImportTypes();
         this.templateName = getTemplateNameForClass( method.getClass() );
-        this.templateParameter = null;
+        this.templateParameter = method.getTemplateParameter();
         this.supportingField = null;
         this.supportingConstructorFragment = null;
     }
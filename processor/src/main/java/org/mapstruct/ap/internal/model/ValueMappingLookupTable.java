@@ -0,0 +1,55 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.ValueMappingMethod.MappingEntry;
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * A static mapper field holding the target constants of a {@link ValueMappingMethod}. For enum sources the table is
+ * an array indexed by the ordinal of the source constant, filled in a static initializer using the ordinals of the
+ * enum at runtime. For {@link String} sources the table is an unmodifiable {@link HashMap} keyed by the source value.
+ */
+public class ValueMappingLookupTable extends FinalField implements FieldReference {
+
+    private final Map<String, Object> templateParameter;
+    private final Set<Type> importTypes;
+
+    public ValueMappingLookupTable(TypeFactory typeFactory, Type sourceType, Type targetType, String variableName,
+                                   List<MappingEntry> entries) {
+        super( targetType, variableName );
+        this.templateParameter = new HashMap<>();
+        this.templateParameter.put( "sourceType", sourceType );
+        this.templateParameter.put( "entries", entries );
+        this.importTypes = new HashSet<>();
+        if ( sourceType.isString() ) {
+            // capacity for which the map is not resized when putting all entries with the default load factor
+            this.templateParameter.put( "initialCapacity", (int) ( entries.size() / 0.75f ) + 1 );
+            this.importTypes.add( typeFactory.getType( Map.class ) );
+            this.importTypes.add( typeFactory.getType( HashMap.class ) );
+            this.importTypes.add( typeFactory.getType( Collections.class ) );
+        }
+    }
+
+    @Override
+    public Map<String, Object> getTemplateParameter() {
+        return templateParameter;
+    }
+
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+}
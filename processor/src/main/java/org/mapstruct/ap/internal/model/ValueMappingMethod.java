@@ -9,14 +9,16 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 
 import org.mapstruct.ap.internal.gem.BeanMappingGem;
+import org.mapstruct.ap.internal.gem.ValueMappingLookupStrategyGem;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.EnumMappingOptions;
@@ -46,6 +48,9 @@ public class ValueMappingMethod extends MappingMethod {
     private final List<MappingEntry> valueMappings;
     private final MappingEntry defaultTarget;
     private final MappingEntry nullTarget;
+    private final ValueMappingLookupTable lookupTable;
+    private final SourceNormalization sourceNormalization;
+    private final String normalizedSourceName;
 
     private final Type unexpectedValueMappingException;
 
@@ -59,6 +64,7 @@ public static class Builder {
         private EnumMappingOptions enumMapping;
         private EnumTransformationStrategyInvoker enumTransformationInvoker;
         private boolean enumTransformationIllegalReported = false;
+        private boolean normalizeSource = false;
 
         public Builder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -94,6 +100,19 @@ public ValueMappingMethod build() {
             Type sourceType = first( method.getSourceParameters() ).getType();
             Type targetType = method.getResultType();
 
+            if ( enumMapping.isIgnoreCase() || enumMapping.isTrimWhitespace() ) {
+                if ( sourceType.isString() ) {
+                    normalizeSource = true;
+                }
+                else if ( !enumMapping.isInverse() ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        enumMapping.getMirror(),
+                        Message.ENUMMAPPING_SOURCE_NORMALIZATION_WITHOUT_STRING_SOURCE
+                    );
+                }
+            }
+
             if ( targetType.isEnumType() && valueMappings.nullTarget == null ) {
                 // If null target is not set it means that the user has not explicitly defined a mapping for null
                 valueMappings.nullValueTarget = ctx.getEnumMappingStrategy()
@@ -132,6 +151,30 @@ else if ( sourceType.isString() && targetType.isEnumType() ) {
 
                 annotations.addAll( additionalAnnotationsBuilder.getProcessedAnnotations( method.getExecutable() ) );
             }
+
+            ValueMappingLookupTable lookupTable = null;
+            if ( enumMapping.getLookupStrategy() == ValueMappingLookupStrategyGem.LOOKUP_TABLE ) {
+                if ( ( sourceType.isEnumType() || sourceType.isString() ) && targetType.isEnumType() ) {
+                    lookupTable = addLookupTable( sourceType, targetType, mappingEntries );
+                }
+                else if ( !enumMapping.isInverse() ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        enumMapping.getMirror(),
+                        Message.ENUMMAPPING_LOOKUP_TABLE_WITHOUT_ENUM_TARGET
+                    );
+                }
+            }
+
+            SourceNormalization sourceNormalization = null;
+            if ( normalizeSource ) {
+                sourceNormalization = new SourceNormalization(
+                    enumMapping.isIgnoreCase(),
+                    enumMapping.isTrimWhitespace(),
+                    ctx.getTypeFactory().getType( Locale.class )
+                );
+            }
+
             // finally return a mapping
             return new ValueMappingMethod( method,
                 annotations,
@@ -140,10 +183,41 @@ else if ( sourceType.isString() && targetType.isEnumType() ) {
                 valueMappings.defaultTargetValue,
                 determineUnexpectedValueMappingException(),
                 beforeMappingMethods,
-                afterMappingMethods
+                afterMappingMethods,
+                lookupTable,
+                sourceNormalization
             );
         }
 
+        /**
+         * Adds a static field to the mapper holding the target constants of the given entries, indexed by the ordinal
+         * of the source constant or keyed by the source {@link String}. Entries mapping to {@code null} or throwing an
+         * exception are not part of the table.
+         *
+         * @return the lookup table
+         */
+        private ValueMappingLookupTable addLookupTable(Type sourceType, Type targetType,
+                                                       List<MappingEntry> mappingEntries) {
+            List<MappingEntry> tableEntries = new ArrayList<>();
+            for ( MappingEntry mappingEntry : mappingEntries ) {
+                if ( mappingEntry.getTarget() != null && !mappingEntry.isTargetAsException() ) {
+                    tableEntries.add( mappingEntry );
+                }
+            }
+
+            Set<Field> usedFields = ctx.getUsedSupportedFields();
+            List<String> existingNames = Field.getFieldNames( usedFields );
+            for ( MapperReference mapperReference : ctx.getMapperReferences() ) {
+                existingNames.add( mapperReference.getVariableName() );
+            }
+            String name = Strings.getSafeVariableName( method.getName() + "LookupTable", existingNames );
+
+            ValueMappingLookupTable lookupTable =
+                new ValueMappingLookupTable( ctx.getTypeFactory(), sourceType, targetType, name, tableEntries );
+            usedFields.add( new SupportingField( null, lookupTable, name ) );
+            return lookupTable;
+        }
+
         private void initializeEnumTransformationStrategy() {
             if ( !enumMapping.hasNameTransformationStrategy() ) {
                 enumTransformationInvoker = EnumTransformationStrategyInvoker.DEFAULT;
@@ -180,6 +254,32 @@ private String transform(String source) {
             }
         }
 
+        private String normalize(String source) {
+            if ( !normalizeSource ) {
+                return source;
+            }
+            String normalized = source;
+            if ( enumMapping.isTrimWhitespace() ) {
+                normalized = normalized.trim();
+            }
+            if ( enumMapping.isIgnoreCase() ) {
+                normalized = normalized.toUpperCase( Locale.ROOT );
+            }
+            return normalized;
+        }
+
+        private String describeNormalization() {
+            if ( enumMapping.isIgnoreCase() && enumMapping.isTrimWhitespace() ) {
+                return "ignoring case and surrounding whitespace";
+            }
+            else if ( enumMapping.isIgnoreCase() ) {
+                return "ignoring case";
+            }
+            else {
+                return "ignoring surrounding whitespace";
+            }
+        }
+
         private List<MappingEntry> enumToEnumMapping(Method method, Type sourceType, Type targetType ) {
 
             List<MappingEntry> mappings = new ArrayList<>();
@@ -303,26 +403,55 @@ private List<MappingEntry> stringToEnumMapping(Method method, Type targetType )
             if ( sourceErrorOccurred ) {
                 return mappings;
             }
-            Set<String> mappedSources = new LinkedHashSet<>();
+            // the mapped sources by their normalized value, equal to the source if the source isn't normalized
+            Map<String, String> mappedSources = new LinkedHashMap<>();
 
             // Start to fill the mappings with the defined value mappings
             for ( ValueMappingOptions valueMapping : valueMappings.regularValueMappings ) {
-                mappedSources.add( valueMapping.getSource() );
-                mappings.add( new MappingEntry( valueMapping.getSource(), valueMapping.getTarget() ) );
+                String source = normalize( valueMapping.getSource() );
+                String mappedSource = mappedSources.putIfAbsent( source, valueMapping.getSource() );
+                if ( mappedSource != null ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        valueMapping.getMirror(),
+                        valueMapping.getSourceAnnotationValue(),
+                        Message.VALUEMAPPING_DUPLICATE_NORMALIZED_SOURCE,
+                        valueMapping.getSource(),
+                        describeNormalization(),
+                        mappedSource
+                    );
+                    continue;
+                }
+                mappings.add( new MappingEntry( source, valueMapping.getTarget() ) );
                 unmappedSourceConstants.remove( valueMapping.getSource() );
             }
 
             // add mappings based on name
             if ( !valueMappings.hasMapAnyUnmapped ) {
-                mappedSources.add( NULL );
+                mappedSources.put( NULL, NULL );
+                Map<String, String> nameBasedSources = new LinkedHashMap<>();
                 TypeElement targetTypeElement = targetType.getTypeElement();
                 // all remaining constants are mapped
                 for ( String sourceConstant : unmappedSourceConstants ) {
                     String sourceNameConstant = getEnumConstant( targetTypeElement, sourceConstant );
                     String stringConstant = transform( sourceNameConstant );
-                    if ( !mappedSources.contains( stringConstant ) ) {
-                        mappings.add( new MappingEntry( stringConstant, sourceConstant ) );
+                    String source = normalize( stringConstant );
+                    if ( mappedSources.containsKey( source ) ) {
+                        continue;
+                    }
+                    String mappedSource = nameBasedSources.putIfAbsent( source, stringConstant );
+                    if ( normalizeSource && mappedSource != null ) {
+                        ctx.getMessager().printMessage(
+                            method.getExecutable(),
+                            enumMapping.getMirror(),
+                            Message.VALUEMAPPING_DUPLICATE_NORMALIZED_SOURCE,
+                            stringConstant,
+                            describeNormalization(),
+                            mappedSource
+                        );
+                        continue;
                     }
+                    mappings.add( new MappingEntry( source, sourceConstant ) );
                 }
             }
             return mappings;
@@ -554,9 +683,24 @@ private ValueMappingMethod(Method method,
                                String defaultTarget,
                                Type unexpectedValueMappingException,
                                List<LifecycleCallbackMethodReference> beforeMappingMethods,
-                               List<LifecycleCallbackMethodReference> afterMappingMethods) {
+                               List<LifecycleCallbackMethodReference> afterMappingMethods,
+                               ValueMappingLookupTable lookupTable,
+                               SourceNormalization sourceNormalization) {
         super( method, beforeMappingMethods, afterMappingMethods );
         this.valueMappings = enumMappings;
+        this.lookupTable = lookupTable;
+        this.sourceNormalization = sourceNormalization;
+        if ( sourceNormalization != null ) {
+            List<String> existingVariableNames = new ArrayList<>( method.getParameterNames() );
+            existingVariableNames.add( getResultName() );
+            this.normalizedSourceName = Strings.getSafeVariableName(
+                "normalized" + Strings.capitalize( getSourceParameter().getName() ),
+                existingVariableNames
+            );
+        }
+        else {
+            this.normalizedSourceName = null;
+        }
         this.nullTarget = new MappingEntry( null, nullTarget );
         this.defaultTarget = new MappingEntry( null, defaultTarget != null ? defaultTarget : THROW_EXCEPTION);
         this.unexpectedValueMappingException = unexpectedValueMappingException;
@@ -577,6 +721,12 @@ public Set<Type> getImportTypes() {
         for ( Annotation annotation : annotations ) {
             importTypes.addAll( annotation.getImportTypes() );
         }
+        if ( lookupTable != null ) {
+            importTypes.addAll( lookupTable.getImportTypes() );
+        }
+        if ( sourceNormalization != null && sourceNormalization.isIgnoreCase() ) {
+            importTypes.add( sourceNormalization.localeType );
+        }
         return importTypes;
     }
 
@@ -590,6 +740,40 @@ public List<MappingEntry> getValueMappings() {
         return valueMappings;
     }
 
+    /**
+     * @return the name of the static field holding the target constants indexed by the ordinal of the source
+     * constant or keyed by the source {@link String}, or {@code null} if the target is determined by a {@code switch}
+     * over all source values
+     */
+    public String getLookupTableName() {
+        return lookupTable != null ? lookupTable.getVariableName() : null;
+    }
+
+    /**
+     * @return how the source {@link String} is normalized before looking up the target, or {@code null} if the source
+     * is used as is
+     */
+    public SourceNormalization getSourceNormalization() {
+        return sourceNormalization;
+    }
+
+    /**
+     * @return the name of the local variable holding the normalized source, or {@code null} if the source is used as
+     * is
+     */
+    public String getNormalizedSourceName() {
+        return normalizedSourceName;
+    }
+
+    /**
+     * @return the mappings that are not part of the lookup table, i.e. which map to {@code null} or throw an exception
+     */
+    public List<MappingEntry> getLookupTableFallbackMappings() {
+        return valueMappings.stream()
+            .filter( mappingEntry -> mappingEntry.getTarget() == null || mappingEntry.isTargetAsException() )
+            .collect( Collectors.toList() );
+    }
+
     public MappingEntry getDefaultTarget() {
         return defaultTarget;
     }
@@ -614,6 +798,34 @@ public List<Annotation> getAnnotations() {
         return annotations;
     }
 
+    /**
+     * The normalization of a source {@link String}, applied to the source values of the mapping at build time and to
+     * the parameter of the mapping method at runtime.
+     */
+    public static class SourceNormalization {
+        private final boolean ignoreCase;
+        private final boolean trimWhitespace;
+        private final Type localeType;
+
+        SourceNormalization(boolean ignoreCase, boolean trimWhitespace, Type localeType) {
+            this.ignoreCase = ignoreCase;
+            this.trimWhitespace = trimWhitespace;
+            this.localeType = localeType;
+        }
+
+        public boolean isIgnoreCase() {
+            return ignoreCase;
+        }
+
+        public boolean isTrimWhitespace() {
+            return trimWhitespace;
+        }
+
+        public Type getLocaleType() {
+            return localeType;
+        }
+    }
+
     public static class MappingEntry {
         private final String source;
         private final String target;
@@ -8,11 +8,14 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.util.Nouns;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
@@ -26,11 +29,17 @@ public class AdderWrapper extends AssignmentWrapper {
 
     private final List<Type> thrownTypesToExclude;
     private final Type adderType;
+    private final String indexName;
+    private final String iteratorName;
+    private final String sourceListName;
+    private final Type randomAccessType;
+    private final Type iteratorType;
 
     public AdderWrapper( Assignment rhs,
                          List<Type> thrownTypesToExclude,
                          boolean fieldAssignment,
-                         String adderIteratorName ) {
+                         String adderIteratorName,
+                         TypeFactory typeFactory ) {
         super( rhs, fieldAssignment );
         this.thrownTypesToExclude = thrownTypesToExclude;
         // a method local var has been added earlier.
@@ -48,6 +57,27 @@ else if ( getSourceType().isArrayType() ) {
         else { // iterable
             adderType = first( getSourceType().determineTypeArguments( Iterable.class ) );
         }
+
+        // lists are read by index, which needs the list in a variable to not evaluate the source on each access.
+        // Lists not known to support fast random access are read by an iterator unless they turn out to support it
+        if ( getSourceType().isListType() ) {
+            indexName = rhs.createUniqueVarName( "i" );
+            iteratorName = getSourceType().isRandomAccessType() ? null :
+                rhs.createUniqueVarName( desiredName + "Iterator" );
+            if ( rhs.getSourceLocalVarName() == null && !rhs.isSourceReferenceParameter() ) {
+                sourceListName = rhs.createUniqueVarName( adderIteratorName );
+            }
+            else {
+                sourceListName = null;
+            }
+        }
+        else {
+            indexName = null;
+            iteratorName = null;
+            sourceListName = null;
+        }
+        this.randomAccessType = typeFactory.getType( RandomAccess.class );
+        this.iteratorType = typeFactory.getType( Iterator.class );
     }
 
     @Override
@@ -68,6 +98,30 @@ public Type getAdderType() {
         return adderType;
     }
 
+    /**
+     * @return the name of the index variable in case the source is a {@link List} that is read by index,
+     * {@code null} otherwise
+     */
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * @return the name of the iterator reading the source elements in case the source is a {@link List} which is not
+     * known to implement {@link RandomAccess}, {@code null} otherwise
+     */
+    public String getIteratorName() {
+        return iteratorName;
+    }
+
+    /**
+     * @return the name of the local variable to hold the source {@link List} in case it isn't a variable already,
+     * {@code null} otherwise
+     */
+    public String getSourceListName() {
+        return sourceListName;
+    }
+
     public boolean isIncludeSourceNullCheck() {
         return true;
     }
@@ -84,6 +138,13 @@ public boolean isSetExplicitlyToDefault() {
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>( super.getImportTypes() );
         imported.add( adderType.getTypeBound() );
+        if ( sourceListName != null ) {
+            imported.add( getSourceType() );
+        }
+        if ( iteratorName != null ) {
+            imported.add( randomAccessType );
+            imported.add( iteratorType );
+        }
         return imported;
     }
 
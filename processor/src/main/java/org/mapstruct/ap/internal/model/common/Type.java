@@ -13,6 +13,7 @@
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,7 +22,9 @@
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,6 +51,7 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.Filters;
+import org.mapstruct.ap.internal.util.JavaFlowConstants;
 import org.mapstruct.ap.internal.util.JavaStreamConstants;
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.Nouns;
@@ -140,6 +144,12 @@ public class Type extends ModelElement implements Comparable<Type> {
 
     private Boolean hasAccessibleConstructor;
 
+    private Boolean isListType;
+    private Boolean isRandomAccessType;
+    private Boolean isIteratorType;
+    private Boolean isSpliteratorType;
+    private Boolean isFlowPublisherType;
+
     private final Filters filters;
 
     //CHECKSTYLE:OFF
@@ -352,6 +362,80 @@ public boolean isMapType() {
         return isMapType;
     }
 
+    /**
+     * Whether this type is a sub-type of {@link List}, i.e. whether its elements can be read by index.
+     *
+     * @return {@code true} if this type is a sub-type of {@link List}, {@code false} otherwise
+     */
+    public boolean isListType() {
+        if ( isListType == null ) {
+            isListType = !isArrayType() && !isPrimitive() && isSubType( typeMirror, List.class );
+        }
+        return isListType;
+    }
+
+    /**
+     * Whether this type implements {@link RandomAccess}, i.e. whether reading its elements by index is fast.
+     *
+     * @return {@code true} if this type implements {@link RandomAccess}, {@code false} otherwise
+     */
+    public boolean isRandomAccessType() {
+        if ( isRandomAccessType == null ) {
+            isRandomAccessType = !isArrayType() && !isPrimitive() && isSubType( typeMirror, RandomAccess.class );
+        }
+        return isRandomAccessType;
+    }
+
+    /**
+     * Whether this type is a sub-type of {@link Iterator}.
+     *
+     * @return {@code true} if this type is a sub-type of {@link Iterator}, {@code false} otherwise
+     */
+    public boolean isIteratorType() {
+        if ( isIteratorType == null ) {
+            isIteratorType = !isArrayType() && !isPrimitive() && isSubType( typeMirror, Iterator.class );
+        }
+        return isIteratorType;
+    }
+
+    /**
+     * Whether this type is a sub-type of {@link Spliterator}.
+     *
+     * @return {@code true} if this type is a sub-type of {@link Spliterator}, {@code false} otherwise
+     */
+    public boolean isSpliteratorType() {
+        if ( isSpliteratorType == null ) {
+            isSpliteratorType = !isArrayType() && !isPrimitive() && isSubType( typeMirror, Spliterator.class );
+        }
+        return isSpliteratorType;
+    }
+
+    /**
+     * Whether this type is a sub-type of {@code java.util.concurrent.Flow.Publisher}.
+     *
+     * @return {@code true} if this type is a sub-type of {@code java.util.concurrent.Flow.Publisher}, {@code false}
+     * otherwise
+     */
+    public boolean isFlowPublisherType() {
+        if ( isFlowPublisherType == null ) {
+            TypeElement publisherElement = elementUtils.getTypeElement( JavaFlowConstants.PUBLISHER_FQN );
+            isFlowPublisherType = publisherElement != null && !isArrayType() && !isPrimitive()
+                && typeUtils.isSubtypeErased( typeMirror, typeUtils.erasure( publisherElement.asType() ) );
+        }
+        return isFlowPublisherType;
+    }
+
+    /**
+     * @return the name of the element mapping method of this type if it is a reactive type supported by the
+     * {@link org.mapstruct.ap.spi.ReactiveTypeMappingStrategy}, {@code null} otherwise
+     */
+    public String getReactiveElementMappingMethodName() {
+        if ( typeElement == null || isArrayType() || isPrimitive() || typeParameters.isEmpty() ) {
+            return null;
+        }
+        return typeFactory.getReactiveElementMappingMethodName( typeElement );
+    }
+
     private boolean hasStringMapSignature() {
         if ( isMapType() ) {
             List<Type> typeParameters = getTypeParameters();
@@ -1390,7 +1474,18 @@ public List<Type> getDirectSuperTypes() {
      * @return a list of type arguments or null, if superclass was not found
      */
     public List<Type> determineTypeArguments(Class<?> superclass) {
-        if ( qualifiedName.equals( superclass.getName() ) ) {
+        return determineTypeArguments( superclass.getName() );
+    }
+
+    /**
+     * Searches for the given superclass and collects all type arguments for the given class
+     *
+     * @param superclass the full qualified name of the superclass or interface the generic type arguments are
+     * searched for
+     * @return a list of type arguments or null, if superclass was not found
+     */
+    public List<Type> determineTypeArguments(String superclass) {
+        if ( qualifiedName.equals( superclass ) ) {
             return getTypeParameters();
         }
 
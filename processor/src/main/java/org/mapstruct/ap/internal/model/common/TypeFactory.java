@@ -16,6 +16,7 @@
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -98,14 +99,16 @@ public class TypeFactory {
     private final TypeMirror mapType;
     private final TypeMirror streamType;
 
-    private final Map<String, ImplementationType> implementationTypes = new HashMap<>();
+    private final Map<String, ImplementationType> implementationTypes;
+    private final Map<TypeKey, Type> types = new HashMap<>();
     private final Map<String, String> toBeImportedTypes = new HashMap<>();
     private final Map<String, String> notToBeImportedTypes;
 
     private final boolean loggingVerbose;
 
     public TypeFactory(ElementUtils elementUtils, TypeUtils typeUtils, FormattingMessager messager,
-                       RoundContext roundContext, Map<String, String> notToBeImportedTypes, boolean loggingVerbose,
+                       RoundContext roundContext, Map<String, ImplementationType> implementationTypes,
+                       Map<String, String> notToBeImportedTypes, boolean loggingVerbose,
                        VersionInformation versionInformation) {
         this.elementUtils = elementUtils;
         this.typeUtils = typeUtils;
@@ -120,6 +123,15 @@ public TypeFactory(ElementUtils elementUtils, TypeUtils typeUtils, FormattingMes
         TypeElement streamTypeElement = elementUtils.getTypeElement( JavaStreamConstants.STREAM_FQN );
         streamType = streamTypeElement == null ? null : typeUtils.erasure( streamTypeElement.asType() );
 
+        this.loggingVerbose = loggingVerbose;
+
+        this.implementationTypes = implementationTypes;
+        if ( implementationTypes.isEmpty() ) {
+            registerImplementationTypes( versionInformation );
+        }
+    }
+
+    private void registerImplementationTypes(VersionInformation versionInformation) {
         implementationTypes.put( Iterable.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
         implementationTypes.put( Collection.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
         implementationTypes.put( List.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
@@ -162,8 +174,6 @@ public TypeFactory(ElementUtils elementUtils, TypeUtils typeUtils, FormattingMes
                 withFactoryMethod( getType( LinkedHashMap.class ), LINKED_HASH_MAP_FACTORY_METHOD_NAME ) :
                 withLoadFactorAdjustment( getType( LinkedHashMap.class ) )
         );
-
-        this.loggingVerbose = loggingVerbose;
     }
 
     public Type getTypeForLiteral(Class<?> type) {
@@ -240,6 +250,23 @@ private Type getType(TypeMirror mirror, boolean isLiteral) {
     }
 
     private Type getType(TypeMirror mirror, boolean isLiteral, Boolean alwaysImport) {
+        // types are immutable apart from their lazily determined members, so the same instance is handed out for the
+        // same mirror, determining e.g. the accessors of a bean once instead of once per property. Wildcards are never
+        // the same type as another mirror, so they would only hit an entry for the very same mirror instance
+        if ( mirror.getKind() == TypeKind.ERROR || mirror.getKind() == TypeKind.WILDCARD ) {
+            return createType( mirror, isLiteral, alwaysImport );
+        }
+
+        TypeKey key = new TypeKey( mirror, isLiteral, alwaysImport );
+        Type type = types.get( key );
+        if ( type == null ) {
+            type = createType( mirror, isLiteral, alwaysImport );
+            types.put( key, type );
+        }
+        return type;
+    }
+
+    private Type createType(TypeMirror mirror, boolean isLiteral, Boolean alwaysImport) {
         if ( !canBeProcessed( mirror ) ) {
             throw new TypeHierarchyErroneousException( mirror );
         }
@@ -601,6 +628,18 @@ private ImplementationType getImplementationType(TypeMirror mirror) {
         return null;
     }
 
+    /**
+     * @param typeElement the type to check
+     *
+     * @return the name of the element mapping method of the given reactive type, or {@code null} if it isn't a
+     * reactive type, see {@link org.mapstruct.ap.spi.ReactiveTypeMappingStrategy}
+     */
+    public String getReactiveElementMappingMethodName(TypeElement typeElement) {
+        return roundContext.getAnnotationProcessorContext()
+            .getReactiveTypeMappingStrategy()
+            .getElementMappingMethodName( typeElement );
+    }
+
     private BuilderInfo findBuilder(TypeMirror type, BuilderGem builderGem, boolean report) {
         if ( builderGem != null && builderGem.disableBuilder().get() ) {
             return null;
@@ -734,4 +773,45 @@ public Type effectiveResultTypeFor( Type type, BuilderGem builder ) {
         }
         return type;
     }
+
+    /**
+     * The key of a created {@link Type}. Type mirrors don't implement a value based equality, and different mirror
+     * instances are created for the same type, e.g. for each declaration referring to it. So the key is bucketed by the
+     * textual representation of the mirror and two keys are only considered equal if their mirrors denote the same
+     * type.
+     */
+    private final class TypeKey {
+
+        private final TypeMirror mirror;
+        private final String name;
+        private final boolean isLiteral;
+        private final Boolean alwaysImport;
+
+        private TypeKey(TypeMirror mirror, boolean isLiteral, Boolean alwaysImport) {
+            this.mirror = mirror;
+            this.name = mirror.toString();
+            this.isLiteral = isLiteral;
+            this.alwaysImport = alwaysImport;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() ) {
+                return false;
+            }
+            TypeKey typeKey = (TypeKey) o;
+            return isLiteral == typeKey.isLiteral
+                && name.equals( typeKey.name )
+                && Objects.equals( alwaysImport, typeKey.alwaysImport )
+                && ( mirror == typeKey.mirror || typeUtils.isSameType( mirror, typeKey.mirror ) );
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
 }
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.gem.SubclassExhaustiveStrategyGem;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.util.ElementUtils;
@@ -124,6 +125,8 @@ private static boolean isConsistent(BeanMappingGem gem, ExecutableElement method
             && !gem.nullValuePropertyMappingStrategy().hasValue()
             && !gem.nullValueMappingStrategy().hasValue()
             && !gem.subclassExhaustiveStrategy().hasValue()
+            && !gem.subclassDispatchStrategy().hasValue()
+            && !gem.trackReferences().hasValue()
             && !gem.unmappedTargetPolicy().hasValue()
             && !gem.unmappedSourcePolicy().hasValue()
             && !gem.ignoreByDefault().hasValue()
@@ -191,6 +194,23 @@ public TypeMirror getSubclassExhaustiveException() {
                 .orElse( next().getSubclassExhaustiveException() );
     }
 
+    @Override
+    public SubclassDispatchStrategyGem getSubclassDispatchStrategy() {
+        return Optional.ofNullable( beanMapping ).map( BeanMappingGem::subclassDispatchStrategy )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .map( SubclassDispatchStrategyGem::valueOf )
+            .orElse( next().getSubclassDispatchStrategy() );
+    }
+
+    @Override
+    public Boolean isTrackReferences() {
+        return Optional.ofNullable( beanMapping ).map( BeanMappingGem::trackReferences )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .orElse( next().isTrackReferences() );
+    }
+
     @Override
     public ReportingPolicyGem unmappedTargetPolicy() {
         return Optional.ofNullable( beanMapping ).map( BeanMappingGem::unmappedTargetPolicy )
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.gem.SubclassExhaustiveStrategyGem;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.ElementUtils;
@@ -139,6 +140,14 @@ public TypeMirror getSubclassExhaustiveException() {
         return mapper.subclassExhaustiveException().getDefaultValue();
     }
 
+    public SubclassDispatchStrategyGem getSubclassDispatchStrategy() {
+        return SubclassDispatchStrategyGem.valueOf( mapper.subclassDispatchStrategy().getDefaultValue() );
+    }
+
+    public Boolean isTrackReferences() {
+        return mapper.trackReferences().getDefaultValue();
+    }
+
     public NullValueMappingStrategyGem getNullValueIterableMappingStrategy() {
         NullValueMappingStrategyGem nullValueIterableMappingStrategy = options.getNullValueIterableMappingStrategy();
         if ( nullValueIterableMappingStrategy != null ) {
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.gem.SubclassExhaustiveStrategyGem;
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
@@ -110,6 +111,14 @@ public TypeMirror getSubclassExhaustiveException() {
         return next.getSubclassExhaustiveException();
     }
 
+    public SubclassDispatchStrategyGem getSubclassDispatchStrategy() {
+        return next.getSubclassDispatchStrategy();
+    }
+
+    public Boolean isTrackReferences() {
+        return next.isTrackReferences();
+    }
+
     public NullValueMappingStrategyGem getNullValueIterableMappingStrategy() {
         return next.getNullValueIterableMappingStrategy();
     }
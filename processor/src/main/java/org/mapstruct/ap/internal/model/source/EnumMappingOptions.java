@@ -12,6 +12,7 @@
 import javax.lang.model.type.TypeMirror;
 
 import org.mapstruct.ap.internal.gem.EnumMappingGem;
+import org.mapstruct.ap.internal.gem.ValueMappingLookupStrategyGem;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
@@ -66,6 +67,21 @@ public TypeMirror getUnexpectedValueMappingException() {
         return next().getUnexpectedValueMappingException();
     }
 
+    public ValueMappingLookupStrategyGem getLookupStrategy() {
+        if ( enumMapping == null ) {
+            return ValueMappingLookupStrategyGem.SWITCH;
+        }
+        return ValueMappingLookupStrategyGem.valueOf( enumMapping.lookupStrategy().get() );
+    }
+
+    public boolean isIgnoreCase() {
+        return enumMapping != null && enumMapping.ignoreCase().get();
+    }
+
+    public boolean isTrimWhitespace() {
+        return enumMapping != null && enumMapping.trimWhitespace().get();
+    }
+
     public AnnotationMirror getMirror() {
         return Optional.ofNullable( enumMapping ).map( EnumMappingGem::mirror ).orElse( null );
     }
@@ -132,7 +148,8 @@ else if ( Strings.isEmpty( configuration ) ) {
             isConsistent = true;
         }
 
-        isConsistent = isConsistent || gem.unexpectedValueMappingException().hasValue();
+        isConsistent = isConsistent || gem.unexpectedValueMappingException().hasValue()
+            || gem.lookupStrategy().hasValue() || gem.ignoreCase().hasValue() || gem.trimWhitespace().hasValue();
 
         if ( !isConsistent ) {
             messager.printMessage(
@@ -71,10 +71,34 @@ private static boolean isConsistent(IterableMappingGem gem, ExecutableElement me
             && !gem.qualifiedBy().hasValue()
             && !gem.qualifiedByName().hasValue()
             && !gem.elementTargetType().hasValue()
-            && !gem.nullValueMappingStrategy().hasValue() ) {
+            && !gem.nullValueMappingStrategy().hasValue()
+            && !gem.parallel().hasValue()
+            && !gem.parallelThreshold().hasValue()
+            && !gem.lazy().hasValue()
+            && !gem.elementKey().hasValue() ) {
             messager.printMessage( method, Message.ITERABLEMAPPING_NO_ELEMENTS );
             return false;
         }
+        if ( gem.parallelThreshold().hasValue() ) {
+            if ( gem.parallelThreshold().get() < 1 ) {
+                messager.printMessage(
+                    method,
+                    gem.mirror(),
+                    gem.parallelThreshold().getAnnotationValue(),
+                    Message.ITERABLEMAPPING_PARALLEL_THRESHOLD_NOT_POSITIVE,
+                    gem.parallelThreshold().get()
+                );
+                return false;
+            }
+            if ( !gem.parallel().get() ) {
+                messager.printMessage(
+                    method,
+                    gem.mirror(),
+                    gem.parallelThreshold().getAnnotationValue(),
+                    Message.ITERABLEMAPPING_PARALLEL_THRESHOLD_WITHOUT_PARALLEL
+                );
+            }
+        }
         return true;
     }
 
@@ -116,6 +140,31 @@ public MappingControl getElementMappingControl(ElementUtils elementUtils) {
             .orElse( next().getMappingControl( elementUtils ) );
     }
 
+    public boolean isLazy() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::lazy )
+            .map( GemValue::get )
+            .orElse( false );
+    }
+
+    public String getElementKey() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::elementKey )
+            .filter( GemValue::hasValue )
+            .map( GemValue::get )
+            .orElse( null );
+    }
+
+    public boolean isParallel() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::parallel )
+            .map( GemValue::get )
+            .orElse( false );
+    }
+
+    public int getParallelThreshold() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::parallelThreshold )
+            .map( GemValue::get )
+            .orElse( 0 );
+    }
+
     @Override
     public boolean hasAnnotation() {
         return iterableMapping != null;
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.gem.SubclassExhaustiveStrategyGem;
 
 public class MapperConfigOptions extends DelegatingOptions {
@@ -147,6 +148,20 @@ public TypeMirror getSubclassExhaustiveException() {
             next().getSubclassExhaustiveException();
     }
 
+    @Override
+    public SubclassDispatchStrategyGem getSubclassDispatchStrategy() {
+        return mapperConfig.subclassDispatchStrategy().hasValue() ?
+            SubclassDispatchStrategyGem.valueOf( mapperConfig.subclassDispatchStrategy().get() ) :
+            next().getSubclassDispatchStrategy();
+    }
+
+    @Override
+    public Boolean isTrackReferences() {
+        return mapperConfig.trackReferences().hasValue() ?
+            mapperConfig.trackReferences().get() :
+            next().isTrackReferences();
+    }
+
     @Override
     public NullValueMappingStrategyGem getNullValueIterableMappingStrategy() {
         if ( mapperConfig.nullValueIterableMappingStrategy().hasValue() ) {
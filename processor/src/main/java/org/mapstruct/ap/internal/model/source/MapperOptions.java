@@ -25,6 +25,7 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
 import org.mapstruct.ap.internal.gem.SubclassExhaustiveStrategyGem;
 
 public class MapperOptions extends DelegatingOptions {
@@ -177,6 +178,20 @@ public TypeMirror getSubclassExhaustiveException() {
                 next().getSubclassExhaustiveException();
     }
 
+    @Override
+    public SubclassDispatchStrategyGem getSubclassDispatchStrategy() {
+        return mapper.subclassDispatchStrategy().hasValue() ?
+            SubclassDispatchStrategyGem.valueOf( mapper.subclassDispatchStrategy().get() ) :
+            next().getSubclassDispatchStrategy();
+    }
+
+    @Override
+    public Boolean isTrackReferences() {
+        return mapper.trackReferences().hasValue() ?
+            mapper.trackReferences().get() :
+            next().isTrackReferences();
+    }
+
     @Override
     public NullValueMappingStrategyGem getNullValueIterableMappingStrategy() {
         if ( mapper.nullValueIterableMappingStrategy().hasValue() ) {
@@ -71,6 +71,8 @@ public class SourceMethod implements Method {
     private Boolean isIterableMapping;
     private Boolean isMapMapping;
     private Boolean isStreamMapping;
+    private Boolean isIteratorMapping;
+    private Boolean isReactiveMapping;
     private final boolean hasObjectFactoryAnnotation;
 
     private final boolean verboseLogging;
@@ -409,6 +411,35 @@ public boolean isStreamMapping() {
         return isStreamMapping;
     }
 
+    /**
+     * @return {@code true} if this method maps an {@link java.util.Iterator} to an {@link java.util.Iterator} or a
+     * {@link java.util.Spliterator} to a {@link java.util.Spliterator}, mapping the elements on demand
+     */
+    public boolean isIteratorMapping() {
+        if ( isIteratorMapping == null ) {
+            isIteratorMapping = getSourceParameters().size() == 1
+                && ( getMappingSourceType().isIteratorType() && getResultType().isIteratorType()
+                    || getMappingSourceType().isSpliteratorType() && getResultType().isSpliteratorType() );
+        }
+        return isIteratorMapping;
+    }
+
+    /**
+     * @return {@code true} if this method maps a {@code java.util.concurrent.Flow.Publisher} to a
+     * {@code java.util.concurrent.Flow.Publisher} or a reactive type supported by the
+     * {@link org.mapstruct.ap.spi.ReactiveTypeMappingStrategy} to the same reactive type
+     */
+    public boolean isReactiveMapping() {
+        if ( isReactiveMapping == null ) {
+            isReactiveMapping = getSourceParameters().size() == 1
+                && ( getMappingSourceType().isFlowPublisherType() && getResultType().isFlowPublisherType()
+                    || getResultType().getReactiveElementMappingMethodName() != null
+                        && getMappingSourceType().getFullyQualifiedName()
+                            .equals( getResultType().getFullyQualifiedName() ) );
+        }
+        return isReactiveMapping;
+    }
+
     public boolean isMapMapping() {
         if ( isMapMapping == null ) {
             isMapMapping = getSourceParameters().size() == 1
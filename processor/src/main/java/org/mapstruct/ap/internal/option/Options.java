@@ -20,6 +20,12 @@
  */
 public class Options {
 
+    /**
+     * The default maximum estimated bytecode size of a mapping method, matching the {@code HugeMethodLimit} of HotSpot
+     * above which methods are not JIT compiled.
+     */
+    public static final int DEFAULT_MAX_METHOD_SIZE = 8000;
+
     private final Map<String, String> options;
 
     public Options(Map<String, String> options) {
@@ -74,6 +80,24 @@ public boolean isDisableLifecycleOverloadDeduplicateSelector() {
         return parseBoolean( MappingOption.DISABLE_LIFECYCLE_OVERLOAD_DEDUPLICATE_SELECTOR );
     }
 
+    /**
+     * @return the maximum estimated bytecode size of a bean mapping method, above which its property mappings are split
+     * into separate methods. {@code 0} disables splitting. {@link #DEFAULT_MAX_METHOD_SIZE} if the option is not given
+     * or not valid
+     */
+    public int getMaxMethodSize() {
+        Integer maxMethodSize = parseNonNegativeInt( MappingOption.MAX_METHOD_SIZE );
+        return maxMethodSize != null ? maxMethodSize : DEFAULT_MAX_METHOD_SIZE;
+    }
+
+    /**
+     * @return {@code true} if the maximum method size is not given or is zero or a positive number
+     */
+    public boolean isMaxMethodSizeValid() {
+        return options.get( MappingOption.MAX_METHOD_SIZE.getOptionName() ) == null
+            || parseNonNegativeInt( MappingOption.MAX_METHOD_SIZE ) != null;
+    }
+
     private boolean parseBoolean(MappingOption option) {
         if ( options.isEmpty() ) {
             return false;
@@ -91,4 +115,18 @@ private <E extends Enum<E>> E parseEnum(MappingOption option, Class<E> enumType)
         }
         return Enum.valueOf( enumType, value.toUpperCase( Locale.ROOT ) );
     }
+
+    private Integer parseNonNegativeInt(MappingOption option) {
+        String value = options.get( option.getOptionName() );
+        if ( value == null ) {
+            return null;
+        }
+        try {
+            int number = Integer.parseInt( value.trim() );
+            return number >= 0 ? number : null;
+        }
+        catch ( NumberFormatException e ) {
+            return null;
+        }
+    }
 }
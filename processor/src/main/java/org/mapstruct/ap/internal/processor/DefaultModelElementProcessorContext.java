@@ -5,6 +5,7 @@
  */
 package org.mapstruct.ap.internal.processor;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 import javax.annotation.processing.Filer;
@@ -13,9 +14,11 @@
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.conversion.Conversions;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
@@ -45,22 +48,26 @@ public class DefaultModelElementProcessorContext implements ProcessorContext {
     private final ElementUtils delegatingElements;
     private final AccessorNamingUtils accessorNaming;
     private final RoundContext roundContext;
+    private final RoundModelCache roundModelCache;
 
     public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
-            RoundContext roundContext, Map<String, String> notToBeImported, TypeElement mapperElement) {
+            RoundContext roundContext, RoundModelCache roundModelCache, Map<String, String> notToBeImported,
+            TypeElement mapperElement) {
 
         this.processingEnvironment = processingEnvironment;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager(), options.isVerbose() );
         this.accessorNaming = roundContext.getAnnotationProcessorContext().getAccessorNaming();
-        this.versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
-        this.delegatingTypes = TypeUtils.create( processingEnvironment, versionInformation );
+        this.versionInformation = roundContext.getVersionInformation();
+        this.delegatingTypes = roundContext.getTypeUtils();
         this.delegatingElements = ElementUtils.create( processingEnvironment, versionInformation, mapperElement );
         this.roundContext = roundContext;
+        this.roundModelCache = roundModelCache;
         this.typeFactory = new TypeFactory(
             delegatingElements,
             delegatingTypes,
             messager,
             roundContext,
+            roundModelCache.getImplementationTypes(),
             notToBeImported,
             options.isVerbose(),
             versionInformation
@@ -108,6 +115,16 @@ public EnumMappingStrategy getEnumMappingStrategy() {
         return roundContext.getAnnotationProcessorContext().getEnumMappingStrategy();
     }
 
+    @Override
+    public Conversions getConversions() {
+        return roundModelCache.getConversions( typeFactory );
+    }
+
+    @Override
+    public Map<TypeElement, List<ExecutableElement>> getReferenceableUsedMapperMethods() {
+        return roundContext.getReferenceableUsedMapperMethods();
+    }
+
     @Override
     public Options getOptions() {
         return options;
@@ -97,7 +97,7 @@ public boolean isJavacCompiler() {
         return javac;
     }
 
-    static DefaultVersionInformation fromProcessingEnvironment(ProcessingEnvironment processingEnv) {
+    public static DefaultVersionInformation fromProcessingEnvironment(ProcessingEnvironment processingEnv) {
         String runtimeVersion = System.getProperty( "java.version" );
         String runtimeVendor = System.getProperty( "java.vendor" );
 
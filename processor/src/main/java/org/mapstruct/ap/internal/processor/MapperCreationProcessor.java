@@ -42,12 +42,14 @@
 import org.mapstruct.ap.internal.model.DelegatingMethod;
 import org.mapstruct.ap.internal.model.Field;
 import org.mapstruct.ap.internal.model.IterableMappingMethod;
+import org.mapstruct.ap.internal.model.IteratorMappingMethod;
 import org.mapstruct.ap.internal.model.Javadoc;
 import org.mapstruct.ap.internal.model.MapMappingMethod;
 import org.mapstruct.ap.internal.model.Mapper;
 import org.mapstruct.ap.internal.model.MapperReference;
 import org.mapstruct.ap.internal.model.MappingBuilderContext;
 import org.mapstruct.ap.internal.model.MappingMethod;
+import org.mapstruct.ap.internal.model.ReactiveMappingMethod;
 import org.mapstruct.ap.internal.model.StreamMappingMethod;
 import org.mapstruct.ap.internal.model.SupportingConstructorFragment;
 import org.mapstruct.ap.internal.model.ValueMappingMethod;
@@ -129,6 +131,7 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
                 elementUtils,
                 typeUtils,
                 typeFactory,
+                context.getConversions(),
                 new ArrayList<>( sourceModel ),
                 mapperReferences,
                 options.isVerbose()
@@ -405,6 +408,28 @@ else if ( method.isRemovedEnumMapping() ) {
                     Message.ENUMMAPPING_REMOVED
                 );
             }
+            else if ( method.isIteratorMapping() ) {
+                this.messager.note( 1, Message.ITERATORMAPPING_CREATE_NOTE, method );
+                mappingMethods.add( createWithElementMappingMethod(
+                    method,
+                    mappingOptions,
+                    new IteratorMappingMethod.Builder()
+                ) );
+
+                // the result is always created by wrapping the source
+                hasFactoryMethod = true;
+            }
+            else if ( method.isReactiveMapping() ) {
+                this.messager.note( 1, Message.REACTIVEMAPPING_CREATE_NOTE, method );
+                mappingMethods.add( createWithElementMappingMethod(
+                    method,
+                    mappingOptions,
+                    new ReactiveMappingMethod.Builder()
+                ) );
+
+                // the result is always created from the source
+                hasFactoryMethod = true;
+            }
             else if ( method.isStreamMapping() ) {
                 this.messager.note( 1, Message.STREAMMAPPING_CREATE_NOTE, method );
                 StreamMappingMethod streamMappingMethod = createWithElementMappingMethod(
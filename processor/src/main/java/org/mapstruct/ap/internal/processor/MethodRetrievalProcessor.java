@@ -8,9 +8,11 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
@@ -55,6 +57,7 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.JavaFlowConstants;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.MetaAnnotations;
 import org.mapstruct.ap.internal.util.RepeatableAnnotations;
@@ -87,6 +90,7 @@ public class MethodRetrievalProcessor implements ModelElementProcessor<Void, Lis
     private TypeUtils typeUtils;
     private ElementUtils elementUtils;
     private Options options;
+    private Map<TypeElement, List<ExecutableElement>> referenceableUsedMapperMethods;
 
     @Override
     public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTypeElement, Void sourceModel) {
@@ -97,6 +101,7 @@ public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTy
         this.elementUtils = context.getElementUtils();
         this.enumTransformationStrategies = context.getEnumTransformationStrategies();
         this.options = context.getOptions();
+        this.referenceableUsedMapperMethods = context.getReferenceableUsedMapperMethods();
 
         this.messager.note( 0, Message.PROCESSING_NOTE, mapperTypeElement );
 
@@ -183,7 +188,7 @@ private List<SourceMethod> retrieveMethods(Type usedMapperType, TypeElement mapp
         List<SourceMethod> methods = new ArrayList<>();
 
         TypeElement usedMapper = usedMapperType.getTypeElement();
-        for ( ExecutableElement executable : elementUtils.getAllEnclosedExecutableElements( usedMapper ) ) {
+        for ( ExecutableElement executable : getExecutables( usedMapperType, mapperToImplement ) ) {
             SourceMethod method = getMethod(
                 usedMapperType,
                 executable,
@@ -221,6 +226,34 @@ private List<SourceMethod> retrieveMethods(Type usedMapperType, TypeElement mapp
         return methods;
     }
 
+    private List<ExecutableElement> getExecutables(Type usedMapperType, TypeElement mapperToImplement) {
+        TypeElement usedMapper = usedMapperType.getTypeElement();
+        if ( usedMapper.equals( mapperToImplement ) || !usedMapperType.getTypeParameters().isEmpty() ) {
+            return elementUtils.getAllEnclosedExecutableElements( usedMapper );
+        }
+
+        // which methods of a used mapper can be referenced doesn't depend on the mapper referencing them, so they are
+        // determined once per round instead of once for every mapper using it
+
+        List<ExecutableElement> executables = referenceableUsedMapperMethods.get( usedMapper );
+        if ( executables == null ) {
+            executables = new ArrayList<>();
+            DeclaredType usedMapperMirror = (DeclaredType) usedMapperType.getTypeMirror();
+            for ( ExecutableElement executable : elementUtils.getAllEnclosedExecutableElements( usedMapper ) ) {
+                ExecutableType methodType = typeFactory.getMethodType( usedMapperMirror, executable );
+                if ( isReferenceableMethod(
+                    executable,
+                    typeFactory.getParameters( methodType, executable ),
+                    typeFactory.getReturnType( methodType )
+                ) ) {
+                    executables.add( executable );
+                }
+            }
+            referenceableUsedMapperMethods.put( usedMapper, executables );
+        }
+        return executables;
+    }
+
     private TypeElement asTypeElement(DeclaredType type) {
         return (TypeElement) type.asElement();
     }
@@ -249,9 +282,7 @@ private SourceMethod getMethod(Type usedMapperType,
                 mapperToImplement );
         }
         // otherwise add reference to existing mapper method
-        else if ( isValidReferencedMethod( parameters ) || isValidFactoryMethod( method, parameters, returnType )
-            || isValidLifecycleCallbackMethod( method )
-            || isValidPresenceCheckMethod( method, parameters, returnType ) ) {
+        else if ( isReferenceableMethod( method, parameters, returnType ) ) {
             return getReferencedMethod( usedMapper, methodType, method, mapperToImplement, parameters );
         }
         else {
@@ -259,6 +290,12 @@ else if ( isValidReferencedMethod( parameters ) || isValidFactoryMethod( method,
         }
     }
 
+    private boolean isReferenceableMethod(ExecutableElement method, List<Parameter> parameters, Type returnType) {
+        return isValidReferencedMethod( parameters ) || isValidFactoryMethod( method, parameters, returnType )
+            || isValidLifecycleCallbackMethod( method )
+            || isValidPresenceCheckMethod( method, parameters, returnType );
+    }
+
     private SourceMethod getMethodRequiringImplementation(ExecutableType methodType, ExecutableElement method,
             List<Parameter> parameters,
             boolean containsTargetTypeParameter,
@@ -556,6 +593,26 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
         if ( sourceParameters.size() == 1 ) {
             Type parameterType = sourceParameters.get( 0 ).getType();
 
+            if ( !isValidIteratorMapping( parameterType, resultType, targetParameter ) ) {
+                messager.printMessage(
+                    method,
+                    Message.RETRIEVAL_ITERATOR_MAPPING,
+                    parameterType.describe(),
+                    resultType.describe()
+                );
+                return false;
+            }
+
+            if ( !isValidPublisherMapping( parameterType, resultType, targetParameter ) ) {
+                messager.printMessage(
+                    method,
+                    Message.RETRIEVAL_PUBLISHER_MAPPING,
+                    parameterType.describe(),
+                    resultType.describe()
+                );
+                return false;
+            }
+
             if ( isStreamTypeOrIterableFromJavaStdLib( parameterType ) && !resultType.isIterableOrStreamType() ) {
                 messager.printMessage( method, Message.RETRIEVAL_ITERABLE_TO_NON_ITERABLE );
                 return false;
@@ -627,6 +684,45 @@ private boolean isStreamTypeOrIterableFromJavaStdLib(Type type) {
         return type.isStreamType() || ( type.isIterableType() && type.isJavaLangType() );
     }
 
+    /**
+     * Iterators and spliterators are mapped by wrapping the source, so the result has to be the plain interface and
+     * can't be an existing instance.
+     */
+    private boolean isValidIteratorMapping(Type parameterType, Type resultType, Parameter targetParameter) {
+        if ( !isIteratorTypeFromJavaStdLib( parameterType ) && !isIteratorTypeFromJavaStdLib( resultType ) ) {
+            return true;
+        }
+
+        if ( targetParameter != null ) {
+            return false;
+        }
+        if ( parameterType.isIteratorType() ) {
+            return resultType.getFullyQualifiedName().equals( Iterator.class.getName() );
+        }
+        if ( parameterType.isSpliteratorType() ) {
+            return resultType.getFullyQualifiedName().equals( Spliterator.class.getName() );
+        }
+        return false;
+    }
+
+    /**
+     * Publishers are mapped by wrapping the source, so the result has to be the plain interface and can't be an
+     * existing instance.
+     */
+    private boolean isValidPublisherMapping(Type parameterType, Type resultType, Parameter targetParameter) {
+        if ( !parameterType.isFlowPublisherType() && !resultType.isFlowPublisherType() ) {
+            return true;
+        }
+
+        return targetParameter == null
+            && parameterType.isFlowPublisherType()
+            && resultType.getFullyQualifiedName().equals( JavaFlowConstants.PUBLISHER_FQN );
+    }
+
+    private boolean isIteratorTypeFromJavaStdLib(Type type) {
+        return ( type.isIteratorType() || type.isSpliteratorType() ) && type.isJavaLangType();
+    }
+
     /**
      * Retrieves the mappings configured via {@code @Mapping} from the given method.
      *
@@ -5,13 +5,16 @@
  */
 package org.mapstruct.ap.internal.processor;
 
+import java.util.List;
 import java.util.Map;
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.TypeUtils;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.conversion.Conversions;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
@@ -58,6 +61,10 @@ public interface ProcessorContext {
 
         EnumMappingStrategy getEnumMappingStrategy();
 
+        Conversions getConversions();
+
+        Map<TypeElement, List<ExecutableElement>> getReferenceableUsedMapperMethods();
+
         Options getOptions();
 
         VersionInformation getVersionInformation();
@@ -0,0 +1,59 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.ap.internal.conversion.Conversions;
+import org.mapstruct.ap.internal.model.common.ImplementationType;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * Keeps the parts of the processor model which don't depend on the mapper being processed and can therefore be
+ * shared by all mappers of one annotation processing round. They refer to type mirrors of the round, so a new cache
+ * has to be used for each round.
+ * <p>
+ * Kept apart from the {@link org.mapstruct.ap.internal.util.RoundContext} to avoid cyclic dependencies between the
+ * util package and the model and conversion packages.
+ */
+public class RoundModelCache {
+
+    private final Map<String, ImplementationType> implementationTypes = new HashMap<>();
+    private final List<Conversions> conversions = new ArrayList<>();
+
+    /**
+     * The implementation types to use for collection and map types which can't be instantiated, keyed by the fully
+     * qualified name of the type. They are registered by the type factory of the first mapper of the round and only
+     * serve as template for the implementation types created by the type factory of each mapper.
+     *
+     * @return the implementation types of this round, empty if not registered yet
+     */
+    public Map<String, ImplementationType> getImplementationTypes() {
+        return implementationTypes;
+    }
+
+    /**
+     * The built-in conversions are looked up by type equality only, so they are shared by all mappers of the round.
+     * Which of them are registered depends on the types available to a mapper though, which may differ between the
+     * modules of the mappers. So they are set up once per distinct set of available types.
+     *
+     * @param typeFactory the type factory of the mapper, used if no applicable conversions are set up yet
+     * @return the built-in conversions applicable to the mapper
+     */
+    public Conversions getConversions(TypeFactory typeFactory) {
+        for ( Conversions candidate : conversions ) {
+            if ( candidate.isApplicableTo( typeFactory ) ) {
+                return candidate;
+            }
+        }
+        Conversions newConversions = new Conversions( typeFactory );
+        conversions.add( newConversions );
+        return newConversions;
+    }
+}
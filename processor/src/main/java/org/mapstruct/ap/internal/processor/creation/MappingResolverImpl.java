@@ -10,6 +10,7 @@
 import static org.mapstruct.ap.internal.util.Collections.firstValue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -35,6 +36,7 @@
 import org.mapstruct.ap.internal.conversion.ConversionProvider;
 import org.mapstruct.ap.internal.conversion.Conversions;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.XmlElementDeclGem;
 import org.mapstruct.ap.internal.model.Field;
 import org.mapstruct.ap.internal.model.ForgedMethodHistory;
 import org.mapstruct.ap.internal.model.HelperMethod;
@@ -48,10 +50,12 @@
 import org.mapstruct.ap.internal.model.common.DefaultConversionContext;
 import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMappingMethods;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMethod;
 import org.mapstruct.ap.internal.model.source.selector.MethodSelectors;
@@ -82,13 +86,24 @@ public class MappingResolverImpl implements MappingResolver {
     private final TypeUtils typeUtils;
     private final TypeFactory typeFactory;
 
-    private final List<Method> sourceModel;
     private final List<MapperReference> mapperReferences;
 
     private final Conversions conversions;
-    private final BuiltInMappingMethods builtInMethods;
     private final MethodSelectors methodSelectors;
 
+    /**
+     * The methods of the source model and the built-in methods that can be used to map a property, indexed by the type
+     * of their source parameter.
+     */
+    private final CandidateMethodIndex<Method> methodIndex;
+    private final CandidateMethodIndex<BuiltInMethod> builtInIndex;
+
+    /**
+     * Whether any of the candidate methods is a JAXB {@code @XmlElementDecl} method, which is selected depending on
+     * the result type of the mapping method.
+     */
+    private final boolean xmlElementDeclCandidates;
+
     private final boolean verboseLogging;
 
     private static final String JL_OBJECT_NAME = Object.class.getName();
@@ -104,20 +119,38 @@ public class MappingResolverImpl implements MappingResolver {
      */
     private final Set<Field> usedSupportedFields = new HashSet<>();
 
+    /**
+     * The steps by which earlier resolutions of the mapper succeeded. A resolution with the same key takes the same
+     * step right away, instead of trying all the steps before it again.
+     */
+    private final Map<ResolutionKey, ResolutionStep> resolutionSteps = new HashMap<>();
+
     public MappingResolverImpl(FormattingMessager messager, ElementUtils elementUtils, TypeUtils typeUtils,
-                               TypeFactory typeFactory, List<Method> sourceModel,
+                               TypeFactory typeFactory, Conversions conversions, List<Method> sourceModel,
                                List<MapperReference> mapperReferences, boolean verboseLogging) {
         this.messager = messager;
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
 
-        this.sourceModel = sourceModel;
         this.mapperReferences = mapperReferences;
 
-        this.conversions = new Conversions( typeFactory );
-        this.builtInMethods = new BuiltInMappingMethods( typeFactory );
+        this.conversions = conversions;
         this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, messager, null );
 
+        this.methodIndex = new CandidateMethodIndex<>(
+            typeUtils,
+            sourceModel.stream()
+                .filter( MappingResolverImpl::isCandidateForMapping )
+                .collect( Collectors.toList() )
+        );
+        this.builtInIndex = new CandidateMethodIndex<>(
+            typeUtils,
+            new BuiltInMappingMethods( typeFactory ).getBuiltInMethods()
+        );
+        this.xmlElementDeclCandidates = methodIndex.getMethods()
+            .stream()
+            .anyMatch( MappingResolverImpl::isXmlElementDeclMethod );
+
         this.verboseLogging = verboseLogging;
     }
 
@@ -128,8 +161,18 @@ public Assignment getTargetAssignment(Method mappingMethod, ForgedMethodHistory
                                           AnnotationMirror positionHint,
                                           Supplier<Assignment> forger) {
 
+        Type sourceType = sourceRHS.getSourceTypeForMatching();
+        ResolutionKey key = ResolutionKey.forResolution(
+            mappingMethod,
+            sourceType,
+            targetType,
+            criteria,
+            formattingParameters,
+            xmlElementDeclCandidates
+        );
+
         ResolvingAttempt attempt = new ResolvingAttempt(
-            sourceModel,
+            key != null ? resolutionSteps.get( key ) : null,
             mappingMethod,
             description,
             formattingParameters,
@@ -137,12 +180,18 @@ public Assignment getTargetAssignment(Method mappingMethod, ForgedMethodHistory
             criteria,
             positionHint,
             forger,
-            builtInMethods.getBuiltInMethods(),
             messager,
             verboseLogging
         );
 
-        return attempt.getTargetAssignment( sourceRHS.getSourceTypeForMatching(), targetType );
+        Assignment assignment = attempt.getTargetAssignment( sourceType, targetType );
+
+        // resolutions reporting errors are not remembered, as taking the same step again would skip the errors
+        if ( key != null && attempt.resolvedBy != null && !messager.isErroneous() ) {
+            resolutionSteps.putIfAbsent( key, attempt.resolvedBy );
+        }
+
+        return assignment;
     }
 
     @Override
@@ -155,6 +204,37 @@ public Set<Field> getUsedSupportedFields() {
         return usedSupportedFields;
     }
 
+    private static boolean isCandidateForMapping(Method methodCandidate) {
+        if ( methodCandidate.getConditionOptions().isAnyStrategyApplicable() ) {
+            return false;
+        }
+        return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
+    }
+
+    private static boolean isCreateMethodForMapping(Method methodCandidate) {
+        // a create method may not return void and has no target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && !methodCandidate.getReturnType().isVoid()
+            && methodCandidate.getMappingTargetParameter() == null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
+    private static boolean isUpdateMethodForMapping(Method methodCandidate) {
+        // an update method may, or may not return void and has a target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && methodCandidate.getMappingTargetParameter() != null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
+    private static boolean isXmlElementDeclMethod(Method method) {
+        if ( !( method instanceof SourceMethod ) ) {
+            return false;
+        }
+        ExecutableElement executable = method.getExecutable();
+        return XmlElementDeclGem.instanceOn( executable ) != null
+            || org.mapstruct.ap.internal.gem.jakarta.XmlElementDeclGem.instanceOn( executable ) != null;
+    }
+
     private MapperReference findMapperReference(Method method) {
         for ( MapperReference ref : mapperReferences ) {
             if ( ref.getType().equals( method.getDeclaringMapper() ) ) {
@@ -168,6 +248,7 @@ private MapperReference findMapperReference(Method method) {
 
     private class ResolvingAttempt {
 
+        private final ResolutionStep cachedStep;
         private final Method mappingMethod;
         private final ForgedMethodHistory description;
         private final List<Method> methods;
@@ -176,7 +257,6 @@ private class ResolvingAttempt {
         private final FormattingParameters formattingParameters;
         private final AnnotationMirror positionHint;
         private final Supplier<Assignment> forger;
-        private final List<BuiltInMethod> builtIns;
         private final FormattingMessager messager;
         private final int reportingLimitAmbiguous;
 
@@ -185,15 +265,18 @@ private class ResolvingAttempt {
         // so this set must be cleared.
         private final Set<SupportingMappingMethod> supportingMethodCandidates;
 
+        // the step by which the resolution succeeded
+        private ResolutionStep resolvedBy;
+
         // CHECKSTYLE:OFF
-        private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod, ForgedMethodHistory description,
+        private ResolvingAttempt(ResolutionStep cachedStep, Method mappingMethod, ForgedMethodHistory description,
                                  FormattingParameters formattingParameters, SourceRHS sourceRHS,
                                  SelectionCriteria criteria,
                                  AnnotationMirror positionHint,
                                  Supplier<Assignment> forger,
-                                 List<BuiltInMethod> builtIns,
                                  FormattingMessager messager, boolean verboseLogging) {
 
+            this.cachedStep = cachedStep;
             this.mappingMethod = mappingMethod;
             this.description = description;
             this.formattingParameters =
@@ -203,17 +286,16 @@ private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod, ForgedM
             this.selectionCriteria = criteria;
             this.positionHint = positionHint;
             this.forger = forger;
-            this.builtIns = builtIns;
             this.messager = messager;
             this.reportingLimitAmbiguous = verboseLogging ? Integer.MAX_VALUE : LIMIT_REPORTING_AMBIGUOUS;
-            this.methods = filterPossibleCandidateMethods( sourceModel, mappingMethod );
+            this.methods = filterPossibleCandidateMethods( methodIndex.getMethods() );
         }
         // CHECKSTYLE:ON
 
-        private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods, T mappingMethod) {
-            List<T> result = new ArrayList<>( candidateMethods.size() );
-            for ( T candidate : candidateMethods ) {
-                if ( isCandidateForMapping( candidate ) && isNotSelfOrSelfAllowed( mappingMethod, candidate )) {
+        private List<Method> filterPossibleCandidateMethods(List<Method> candidateMethods) {
+            List<Method> result = new ArrayList<>( candidateMethods.size() );
+            for ( Method candidate : candidateMethods ) {
+                if ( isNotSelfOrSelfAllowed( mappingMethod, candidate ) ) {
                     result.add( candidate );
                 }
             }
@@ -221,6 +303,38 @@ private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candid
             return result;
         }
 
+        /**
+         * @param sourceType the type to be mapped
+         *
+         * @return the methods of the source model that can possibly map the given source type
+         */
+        private List<Method> getCandidateMethods(Type sourceType) {
+            return filterPossibleCandidateMethods( methodIndex.getCandidates( sourceType ) );
+        }
+
+        /**
+         * @param sourceType the type to be mapped
+         *
+         * @return the built-in methods that can possibly map the given source type
+         */
+        private List<BuiltInMethod> getCandidateBuiltIns(Type sourceType) {
+            return builtInIndex.getCandidates( sourceType );
+        }
+
+        private List<BuiltInMethod> getBuiltIns() {
+            return builtInIndex.getMethods();
+        }
+
+        /**
+         * @param step the resolution step
+         *
+         * @return {@code true} if the step is to be tried, i.e. no step is known yet for this resolution or it is the
+         * known step
+         */
+        private boolean isToBeTried(ResolutionStep step) {
+            return cachedStep == null || cachedStep == step;
+        }
+
         private <T extends Method> boolean isNotSelfOrSelfAllowed(T mappingMethod, T candidate) {
             return selectionCriteria == null || selectionCriteria.isSelfAllowed() || !candidate.equals( mappingMethod );
         }
@@ -230,22 +344,25 @@ private Assignment getTargetAssignment(Type sourceType, Type targetType) {
             Assignment assignment;
 
             // first simple mapping method
-            if ( allowMappingMethod() ) {
-                List<SelectedMethod<Method>> matches = getBestMatch( methods, sourceType, targetType );
+            if ( allowMappingMethod() && isToBeTried( ResolutionStep.MAPPING_METHOD ) ) {
+                List<SelectedMethod<Method>> matches =
+                    getBestMatch( getCandidateMethods( sourceType ), sourceType, targetType );
                 reportErrorWhenAmbiguous( matches, targetType );
                 if ( !matches.isEmpty() ) {
                     assignment = toMethodRef( first( matches ) );
                     assignment.setAssignment( sourceRHS );
+                    resolvedBy = ResolutionStep.MAPPING_METHOD;
                     return assignment;
                 }
             }
 
             // then direct assignable
-            if ( !hasQualfiers() ) {
+            if ( !hasQualfiers() && isToBeTried( ResolutionStep.DIRECT ) ) {
                 if ( ( sourceType.isAssignableTo( targetType ) ||
                     isAssignableThroughCollectionCopyConstructor( sourceType, targetType ) )
                     && allowDirect( sourceType, targetType ) ) {
                     Assignment simpleAssignment = sourceRHS;
+                    resolvedBy = ResolutionStep.DIRECT;
                     return simpleAssignment;
                 }
             }
@@ -264,23 +381,26 @@ && allowDirect( sourceType, targetType ) ) {
 
             // then type conversion
             if ( allowConversion() ) {
-                if ( !hasQualfiers() ) {
+                if ( !hasQualfiers() && isToBeTried( ResolutionStep.CONVERSION ) ) {
                     ConversionAssignment conversion = resolveViaConversion( sourceType, targetType );
                     if ( conversion != null ) {
                         conversion.reportMessageWhenNarrowing( messager, this );
                         conversion.getAssignment().setAssignment( sourceRHS );
+                        resolvedBy = ResolutionStep.CONVERSION;
                         return conversion.getAssignment();
                     }
                 }
 
                 // check for a built-in method
-                if ( !hasQualfiers() ) {
-                    List<SelectedMethod<BuiltInMethod>> matches = getBestMatch( builtIns, sourceType, targetType );
+                if ( !hasQualfiers() && isToBeTried( ResolutionStep.BUILT_IN_METHOD ) ) {
+                    List<SelectedMethod<BuiltInMethod>> matches =
+                        getBestMatch( getCandidateBuiltIns( sourceType ), sourceType, targetType );
                     reportErrorWhenAmbiguous( matches, targetType );
                     if ( !matches.isEmpty() ) {
                         assignment = toBuildInRef( first( matches ) );
                         assignment.setAssignment( sourceRHS );
                         usedSupportedMappings.addAll( supportingMethodCandidates );
+                        resolvedBy = ResolutionStep.BUILT_IN_METHOD;
                         return assignment;
                     }
                 }
@@ -288,17 +408,25 @@ && allowDirect( sourceType, targetType ) ) {
 
             if ( allow2Steps() ) {
                 // 2 step method, first: method(method(source))
-                assignment = MethodMethod.getBestMatch( this, sourceType, targetType );
-                if ( assignment != null ) {
-                    usedSupportedMappings.addAll( supportingMethodCandidates );
-                    return assignment;
+                if ( isToBeTried( ResolutionStep.METHOD_METHOD ) ) {
+                    assignment = MethodMethod.getBestMatch( this, sourceType, targetType );
+                    if ( assignment != null ) {
+                        usedSupportedMappings.addAll( supportingMethodCandidates );
+                        resolvedBy = ResolutionStep.METHOD_METHOD;
+                        return assignment;
+                    }
+                }
+                else {
+                    // trying method(method(source)) leaves the update methods preferred
+                    selectionCriteria.setPreferUpdateMapping( true );
                 }
 
                 // 2 step method, then: method(conversion(source))
-                if ( allowConversion() ) {
+                if ( allowConversion() && isToBeTried( ResolutionStep.CONVERSION_METHOD ) ) {
                     assignment = ConversionMethod.getBestMatch( this, sourceType, targetType );
                     if ( assignment != null ) {
                         usedSupportedMappings.addAll( supportingMethodCandidates );
+                        resolvedBy = ResolutionStep.CONVERSION_METHOD;
                         return assignment;
                     }
                 }
@@ -307,15 +435,17 @@ && allowDirect( sourceType, targetType ) ) {
                 selectionCriteria.setPreferUpdateMapping( false );
 
                 // 2 step method, finally: conversion(method(source))
-                if ( allowConversion() ) {
+                if ( allowConversion() && isToBeTried( ResolutionStep.METHOD_CONVERSION ) ) {
                     assignment = MethodConversion.getBestMatch( this, sourceType, targetType );
                     if ( assignment != null ) {
                         usedSupportedMappings.addAll( supportingMethodCandidates );
+                        resolvedBy = ResolutionStep.METHOD_CONVERSION;
                         return assignment;
                     }
                 }
             }
 
+            resolvedBy = ResolutionStep.FORGED_OR_NONE;
             if ( hasQualfiers() ) {
                 if ((sourceType.isCollectionType() || sourceType.isArrayType()) && targetType.isIterableType()) {
                     // Allow forging iterable mapping when no iterable mapping already found
@@ -469,28 +599,6 @@ private ConversionAssignment resolveViaConversion(Type sourceType, Type targetTy
             return null;
         }
 
-        private boolean isCandidateForMapping(Method methodCandidate) {
-            if ( methodCandidate.getConditionOptions().isAnyStrategyApplicable() ) {
-                return false;
-            }
-            return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
-        }
-
-        private boolean isCreateMethodForMapping(Method methodCandidate) {
-            // a create method may not return void and has no target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && !methodCandidate.getReturnType().isVoid()
-                && methodCandidate.getMappingTargetParameter() == null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
-
-        private boolean isUpdateMethodForMapping(Method methodCandidate) {
-            // an update method may, or may not return void and has a target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && methodCandidate.getMappingTargetParameter() != null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
-
         private <T extends Method> List<SelectedMethod<T>> getBestMatch(List<T> methods, Type source, Type target) {
             return methodSelectors.getMatchingMethods(
                 methods,
@@ -718,6 +826,136 @@ public int hashCode() {
         }
     }
 
+    /**
+     * The steps by which {@link ResolvingAttempt} tries to resolve an assignment, in the order in which they are tried.
+     */
+    private enum ResolutionStep {
+        MAPPING_METHOD,
+        DIRECT,
+        CONVERSION,
+        BUILT_IN_METHOD,
+        METHOD_METHOD,
+        CONVERSION_METHOD,
+        METHOD_CONVERSION,
+        FORGED_OR_NONE
+    }
+
+    /**
+     * Identifies the resolutions of a mapper which take the same {@link ResolutionStep}: besides the source and the
+     * target type, the outcome of the selection depends on the selection criteria, the formatting parameters and those
+     * parts of the mapping method which are used for the selection, being its context parameters and, if there are
+     * {@code @XmlElementDecl} candidates, its result type. The name of the target property is only used for the
+     * selection amongst {@code @XmlElementDecl} candidates as well, so other resolutions between the same types are
+     * shared by all properties.
+     */
+    private static class ResolutionKey {
+
+        private final Type sourceType;
+        private final boolean literalSource;
+        private final Type targetType;
+        private final Type resultType;
+        private final List<Parameter> contextParameters;
+        private final Method excludedMethod;
+        private final String targetPropertyName;
+        private final boolean preferUpdateMapping;
+        private final boolean allowDirect;
+        private final boolean allowConversion;
+        private final boolean allowMappingMethod;
+        private final boolean allow2Steps;
+        private final String date;
+        private final String number;
+        private final String locale;
+
+        private ResolutionKey(Method mappingMethod, Type sourceType, Type targetType, SelectionCriteria criteria,
+                              FormattingParameters formattingParameters, boolean xmlElementDeclCandidates) {
+            this.sourceType = sourceType;
+            this.literalSource = sourceType.isLiteral();
+            this.targetType = targetType;
+            this.resultType = xmlElementDeclCandidates ? mappingMethod.getResultType() : null;
+            this.contextParameters = mappingMethod.getContextParameters();
+            this.excludedMethod = criteria.isSelfAllowed() ? null : mappingMethod;
+            this.targetPropertyName = xmlElementDeclCandidates ? criteria.getTargetPropertyName() : null;
+            this.preferUpdateMapping = criteria.isPreferUpdateMapping();
+            this.allowDirect = criteria.isAllowDirect();
+            this.allowConversion = criteria.isAllowConversion();
+            this.allowMappingMethod = criteria.isAllowMappingMethod();
+            this.allow2Steps = criteria.isAllow2Steps();
+            this.date = formattingParameters.getDate();
+            this.number = formattingParameters.getNumber();
+            this.locale = formattingParameters.getLocale();
+        }
+
+        /**
+         * @return the key of the given resolution, or {@code null} if the resolution is not to be remembered
+         */
+        static ResolutionKey forResolution(Method mappingMethod, Type sourceType, Type targetType,
+                                           SelectionCriteria criteria, FormattingParameters formattingParameters,
+                                           boolean xmlElementDeclCandidates) {
+            // qualifiers and source parameters of the selection are not compared, resolutions using them are rare
+            if ( criteria == null
+                || criteria.hasQualfiers()
+                || criteria.getQualifyingResultType() != null
+                || criteria.getSourceRHS() != null
+                || hasContextParametersOfSameType( mappingMethod ) ) {
+                return null;
+            }
+            return new ResolutionKey(
+                mappingMethod,
+                sourceType,
+                targetType,
+                criteria,
+                formattingParameters == null ? FormattingParameters.EMPTY : formattingParameters,
+                xmlElementDeclCandidates
+            );
+        }
+
+        /**
+         * Candidates may be bound to one of several context parameters of the same type by the parameter name only,
+         * warning about the candidates which can't be bound. Those warnings would be skipped when taking a known step.
+         */
+        private static boolean hasContextParametersOfSameType(Method mappingMethod) {
+            List<Parameter> contextParameters = mappingMethod.getContextParameters();
+            Set<Type> contextParameterTypes = new HashSet<>();
+            for ( Parameter contextParameter : contextParameters ) {
+                if ( !contextParameterTypes.add( contextParameter.getType() ) ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() ) {
+                return false;
+            }
+            ResolutionKey that = (ResolutionKey) o;
+            return literalSource == that.literalSource
+                && preferUpdateMapping == that.preferUpdateMapping
+                && allowDirect == that.allowDirect
+                && allowConversion == that.allowConversion
+                && allowMappingMethod == that.allowMappingMethod
+                && allow2Steps == that.allow2Steps
+                && sourceType.equals( that.sourceType )
+                && targetType.equals( that.targetType )
+                && Objects.equals( resultType, that.resultType )
+                && contextParameters.equals( that.contextParameters )
+                && Objects.equals( excludedMethod, that.excludedMethod )
+                && Objects.equals( targetPropertyName, that.targetPropertyName )
+                && Objects.equals( date, that.date )
+                && Objects.equals( number, that.number )
+                && Objects.equals( locale, that.locale );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash( sourceType, targetType, targetPropertyName );
+        }
+    }
+
     private enum BestMatchType {
         IGNORE_QUALIFIERS_BEFORE_Y_CANDIDATES,
         IGNORE_QUALIFIERS_AFTER_Y_CANDIDATES,
@@ -749,7 +987,13 @@ private enum BestMatchType {
 
         static Assignment getBestMatch(ResolvingAttempt att, Type sourceType, Type targetType) {
             MethodMethod<Method, Method> mmAttempt =
-                new MethodMethod<>( att, att.methods, att.methods, att::toMethodRef, att::toMethodRef )
+                new MethodMethod<>(
+                    att,
+                    att.getCandidateMethods( sourceType ),
+                    att.methods,
+                    att::toMethodRef,
+                    att::toMethodRef
+                )
                     .getBestMatch( sourceType, targetType );
             if ( mmAttempt.hasResult ) {
                 return mmAttempt.result;
@@ -767,19 +1011,37 @@ static Assignment getBestMatch(ResolvingAttempt att, Type sourceType, Type targe
             }
             if ( att.allowConversion() ) {
                 MethodMethod<Method, BuiltInMethod> mbAttempt =
-                    new MethodMethod<>( att, att.methods, att.builtIns, att::toMethodRef, att::toBuildInRef )
+                    new MethodMethod<>(
+                        att,
+                        att.getCandidateMethods( sourceType ),
+                        att.getBuiltIns(),
+                        att::toMethodRef,
+                        att::toBuildInRef
+                    )
                         .getBestMatch( sourceType, targetType );
                 if ( mbAttempt.hasResult ) {
                     return mbAttempt.result;
                 }
                 MethodMethod<BuiltInMethod, Method> bmAttempt =
-                    new MethodMethod<>( att, att.builtIns, att.methods, att::toBuildInRef, att::toMethodRef )
+                    new MethodMethod<>(
+                        att,
+                        att.getCandidateBuiltIns( sourceType ),
+                        att.methods,
+                        att::toBuildInRef,
+                        att::toMethodRef
+                    )
                         .getBestMatch( sourceType, targetType );
                 if ( bmAttempt.hasResult ) {
                     return bmAttempt.result;
                 }
                 MethodMethod<BuiltInMethod, BuiltInMethod> bbAttempt =
-                    new MethodMethod<>( att, att.builtIns, att.builtIns, att::toBuildInRef, att::toBuildInRef )
+                    new MethodMethod<>(
+                        att,
+                        att.getCandidateBuiltIns( sourceType ),
+                        att.getBuiltIns(),
+                        att::toBuildInRef,
+                        att::toBuildInRef
+                    )
                         .getBestMatch( sourceType, targetType );
                 return bbAttempt.result;
             }
@@ -931,7 +1193,7 @@ static Assignment getBestMatch(ResolvingAttempt att, Type sourceType, Type targe
                 return mAttempt.result;
             }
             ConversionMethod<BuiltInMethod> bAttempt =
-                new ConversionMethod<>( att, att.builtIns, att::toBuildInRef )
+                new ConversionMethod<>( att, att.getBuiltIns(), att::toBuildInRef )
                     .getBestMatch( sourceType, targetType );
             return bAttempt.result;
         }
@@ -1041,12 +1303,14 @@ void reportAmbiguousError(Map<ConversionAssignment, List<SelectedMethod<T>>> xRe
         private Assignment result = null;
 
         static Assignment getBestMatch(ResolvingAttempt att, Type sourceType, Type targetType) {
-            MethodConversion<Method> mAttempt = new MethodConversion<>( att, att.methods, att::toMethodRef )
+            MethodConversion<Method> mAttempt =
+                new MethodConversion<>( att, att.getCandidateMethods( sourceType ), att::toMethodRef )
                     .getBestMatch( sourceType, targetType );
             if ( mAttempt.hasResult ) {
                 return mAttempt.result;
             }
-            MethodConversion<BuiltInMethod> bAttempt = new MethodConversion<>( att, att.builtIns, att::toBuildInRef )
+            MethodConversion<BuiltInMethod> bAttempt =
+                new MethodConversion<>( att, att.getCandidateBuiltIns( sourceType ), att::toBuildInRef )
                     .getBestMatch( sourceType, targetType );
             return bAttempt.result;
         }
@@ -1133,4 +1397,66 @@ void reportAmbiguousError(Map<ConversionAssignment, List<SelectedMethod<T>>> yRe
         }
     }
 
+    /**
+     * The candidate methods for mapping a property, indexed by the type of their source parameter.
+     * <p>
+     * A declared source type can only be assigned to a parameter of the same type, of one of its supertypes, of a
+     * primitive type (unboxing) or of a type variable. Hence only the methods with such a source parameter are passed
+     * on to the {@link MethodSelectors}, which spares running the full selection for methods that can't match anyway.
+     * The candidates are determined once per erased source type and keep the order of the indexed methods, so the
+     * outcome of the selection is the same as when selecting from all methods.
+     *
+     * @param <T> the type of the indexed methods
+     */
+    private static class CandidateMethodIndex<T extends Method> {
+
+        private final TypeUtils typeUtils;
+        private final List<T> methods;
+        private final Map<TypeElement, List<T>> candidatesBySourceType = new HashMap<>();
+
+        CandidateMethodIndex(TypeUtils typeUtils, List<T> methods) {
+            this.typeUtils = typeUtils;
+            this.methods = methods;
+        }
+
+        List<T> getMethods() {
+            return methods;
+        }
+
+        List<T> getCandidates(Type sourceType) {
+            TypeElement sourceTypeElement = sourceType.getTypeElement();
+            if ( sourceTypeElement == null ) {
+                // primitive types, arrays, type variables and wildcards are not narrowed down
+                return methods;
+            }
+            return candidatesBySourceType.computeIfAbsent( sourceTypeElement, this::collectCandidates );
+        }
+
+        private List<T> collectCandidates(TypeElement sourceTypeElement) {
+            Set<TypeElement> supertypes = new HashSet<>();
+            collectSupertypes( sourceTypeElement.asType(), supertypes );
+
+            List<T> candidates = new ArrayList<>();
+            for ( T method : methods ) {
+                TypeElement parameterTypeElement = method.getMappingSourceType().getTypeElement();
+                if ( parameterTypeElement == null || supertypes.contains( parameterTypeElement ) ) {
+                    candidates.add( method );
+                }
+            }
+            return candidates;
+        }
+
+        private void collectSupertypes(TypeMirror type, Set<TypeElement> supertypes) {
+            if ( type.getKind() != TypeKind.DECLARED ) {
+                return;
+            }
+            TypeElement typeElement = (TypeElement) ( (DeclaredType) type ).asElement();
+            if ( supertypes.add( typeElement ) ) {
+                for ( TypeMirror supertype : typeUtils.directSupertypes( type ) ) {
+                    collectSupertypes( supertype, supertypes );
+                }
+            }
+        }
+    }
+
 }
@@ -25,6 +25,7 @@
 import org.mapstruct.ap.spi.DefaultAccessorNamingStrategy;
 import org.mapstruct.ap.spi.DefaultBuilderProvider;
 import org.mapstruct.ap.spi.DefaultEnumMappingStrategy;
+import org.mapstruct.ap.spi.DefaultReactiveTypeMappingStrategy;
 import org.mapstruct.ap.spi.EnumMappingStrategy;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
 import org.mapstruct.ap.spi.FreeBuilderAccessorNamingStrategy;
@@ -32,6 +33,7 @@
 import org.mapstruct.ap.spi.ImmutablesBuilderProvider;
 import org.mapstruct.ap.spi.MapStructProcessingEnvironment;
 import org.mapstruct.ap.spi.NoOpBuilderProvider;
+import org.mapstruct.ap.spi.ReactiveTypeMappingStrategy;
 
 /**
  * Keeps contextual data in the scope of the entire annotation processor ("application scope").
@@ -45,6 +47,7 @@ public class AnnotationProcessorContext implements MapStructProcessingEnvironmen
     private BuilderProvider builderProvider;
     private AccessorNamingStrategy accessorNamingStrategy;
     private EnumMappingStrategy enumMappingStrategy;
+    private ReactiveTypeMappingStrategy reactiveTypeMappingStrategy;
     private boolean initialized;
     private Map<String, EnumTransformationStrategy> enumTransformationStrategies;
 
@@ -132,6 +135,19 @@ else if ( elementUtils.getTypeElement( FreeBuilderConstants.FREE_BUILDER_FQN ) !
             );
         }
 
+        this.reactiveTypeMappingStrategy = Services.get(
+            ReactiveTypeMappingStrategy.class,
+            new DefaultReactiveTypeMappingStrategy()
+        );
+        this.reactiveTypeMappingStrategy.init( this );
+        if ( verbose ) {
+            messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "MapStruct: Using reactive type mapping strategy: "
+                    + this.reactiveTypeMappingStrategy.getClass().getCanonicalName()
+            );
+        }
+
         this.enumTransformationStrategies = new LinkedHashMap<>();
         ServiceLoader<EnumTransformationStrategy> transformationStrategiesLoader = ServiceLoader.load(
             EnumTransformationStrategy.class,
@@ -264,6 +280,11 @@ public EnumMappingStrategy getEnumMappingStrategy() {
         return enumMappingStrategy;
     }
 
+    public ReactiveTypeMappingStrategy getReactiveTypeMappingStrategy() {
+        initialize();
+        return reactiveTypeMappingStrategy;
+    }
+
     public BuilderProvider getBuilderProvider() {
         initialize();
         return builderProvider;
@@ -0,0 +1,18 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+/**
+ * Helper holding the full qualified class names of {@code java.util.concurrent.Flow}, which is not available before
+ * Java 9.
+ */
+public final class JavaFlowConstants {
+
+    public static final String PUBLISHER_FQN = "java.util.concurrent.Flow.Publisher";
+
+    private JavaFlowConstants() {
+    }
+}
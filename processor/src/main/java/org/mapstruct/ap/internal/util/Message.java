@@ -24,6 +24,7 @@ public enum Message {
     MESSAGE_MOVED_TO_MAPPER_WARNING( "%s Occured at '%s' in '%s'.", Diagnostic.Kind.WARNING ),
 
     BEANMAPPING_CREATE_NOTE( "creating bean mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    BEANMAPPING_SPLIT_NOTE( "The property mappings of %s have been split into %s methods, as its estimated size of %s bytes exceeds the maximum method size of %s bytes.", Diagnostic.Kind.NOTE ),
     BEANMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'nullValuePropertyMappingStrategy', 'resultType' and 'qualifiedBy' are undefined in @BeanMapping, define at least one of them." ),
     BEANMAPPING_NOT_ASSIGNABLE( "%s not assignable to: %s." ),
     BEANMAPPING_ABSTRACT( "The result type %s may not be an abstract class nor interface." ),
@@ -115,11 +116,28 @@ public enum Message {
     MAPMAPPING_CREATE_VALUE_NOTE( "creating value mapping: %s.", Diagnostic.Kind.NOTE ),
 
     STREAMMAPPING_CREATE_NOTE( "creating stream mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    ITERATORMAPPING_CREATE_NOTE( "creating iterator mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    REACTIVEMAPPING_CREATE_NOTE( "creating reactive mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_CREATE_NOTE( "creating iterable mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_SELECT_ELEMENT_NOTE( "selecting element mapping: %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_CREATE_ELEMENT_NOTE( "creating element mapping: %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source element type into target element type." ),
-    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are undefined in @IterableMapping, define at least one of them." ),
+    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'dateFormat', 'numberFormat', 'qualifiedBy', 'qualifiedByName', 'elementTargetType', 'parallel', 'lazy' and 'elementKey' are undefined in @IterableMapping, define at least one of them." ),
+    ITERABLEMAPPING_PARALLEL_UNSUPPORTED_TYPES( "Parallel element mapping requires a java.util.List or array source and a collection result. The elements are mapped sequentially.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_THRESHOLD_NOT_POSITIVE( "The parallel threshold must be a positive number, but was %s." ),
+    ITERABLEMAPPING_PARALLEL_THRESHOLD_WITHOUT_PARALLEL( "The parallel threshold is only taken into account if parallel element mapping is enabled.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_CHECKED_EXCEPTIONS( "Parallel element mapping is not possible as the element mapping throws %s. The elements are mapped sequentially.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_LAZY_UNSUPPORTED( "Lazy element mapping requires a java.util.List or array source and a result type a java.util.List can be assigned to. It is not possible for update methods, methods with a result factory, @AfterMapping methods or @BeforeMapping methods with a @MappingTarget. The elements are mapped eagerly.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_LAZY_CHECKED_EXCEPTIONS( "Lazy element mapping is not possible as the element mapping throws %s. The elements are mapped eagerly.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_ELEMENT_KEY( "Parallel element mapping can't be combined with merging the elements by key \"%s\"." ),
+    ITERABLEMAPPING_PARALLEL_LAZY( "Parallel element mapping can't be combined with lazy element mapping. The elements are mapped lazily.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_TRACK_REFERENCES( "Parallel element mapping can't be combined with reference tracking, as the elements mapped on other threads don't see the references tracked by the mapping call." ),
+    ITERABLEMAPPING_LAZY_TRACK_REFERENCES( "Lazy element mapping can't be combined with reference tracking, as the elements mapped after the mapping call don't see the references tracked by it." ),
+    ITERABLEMAPPING_ELEMENT_KEY_UNSUPPORTED( "Merging the elements by key requires an update method with a collection result. The elements are replaced.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_ELEMENT_KEY_UNKNOWN( "Unknown element key \"%s\" in %s \"%s\"." ),
+    ITERABLEMAPPING_ELEMENT_KEY_TYPE_MISMATCH( "The element key \"%s\" is of type \"%s\" in the source element and of type \"%s\" in the target element." ),
+    ITERABLEMAPPING_ELEMENT_KEY_NO_UPDATE_METHOD( "Can't merge the elements by key \"%s\" as there is no update method mapping \"%s\" into an existing \"%s\"." ),
+    ITERABLEMAPPING_ELEMENT_KEY_CHECKED_EXCEPTIONS( "Can't merge the elements by key \"%s\" as the element update method throws %s, which is not declared by this method." ),
 
     ENUMMAPPING_MULTIPLE_SOURCES( "One enum constant must not be mapped to more than one target constant, but constant %s is mapped to %s." ),
     ENUMMAPPING_UNDEFINED_SOURCE( "A source constant must be specified for mappings of an enum mapping method." ),
@@ -129,7 +147,9 @@ public enum Message {
     ENUMMAPPING_REMOVED( "Mapping of Enums via @Mapping is removed. Please use @ValueMapping instead!" ),
     ENUMMAPPING_INCORRECT_TRANSFORMATION_STRATEGY( "There is no registered EnumTransformationStrategy for '%s'. Registered strategies are: %s." ),
     ENUMMAPPING_MISSING_CONFIGURATION( "Configuration has to be defined when strategy is defined." ),
-    ENUMMAPPING_NO_ELEMENTS( "'nameTransformationStrategy', 'configuration' and 'unexpectedValueMappingException' are undefined in @EnumMapping, define at least one of them." ),
+    ENUMMAPPING_NO_ELEMENTS( "'nameTransformationStrategy', 'configuration', 'unexpectedValueMappingException', 'lookupStrategy', 'ignoreCase' and 'trimWhitespace' are undefined in @EnumMapping, define at least one of them." ),
+    ENUMMAPPING_SOURCE_NORMALIZATION_WITHOUT_STRING_SOURCE( "'ignoreCase' and 'trimWhitespace' in @EnumMapping can only be used when mapping from String to enum." ),
+    ENUMMAPPING_LOOKUP_TABLE_WITHOUT_ENUM_TARGET( "'lookupStrategy = LOOKUP_TABLE' in @EnumMapping can only be used when mapping to an enum. The values are mapped with a switch.", Diagnostic.Kind.WARNING ),
     ENUMMAPPING_ILLEGAL_TRANSFORMATION( "Illegal transformation for '%s' EnumTransformationStrategy. Error: '%s'." ),
 
     SUBCLASSMAPPING_DOUBLE_SOURCE_SUBCLASS( "Subclass '%s' is already defined as a source." ),
@@ -180,6 +200,8 @@ public enum Message {
     RETRIEVAL_MAPPING_HAS_TARGET_TYPE_PARAMETER( "Can't generate mapping method that has a parameter annotated with @TargetType." ),
     RETRIEVAL_NON_ITERABLE_TO_ITERABLE( "Can't generate mapping method from non-iterable type to iterable type from java stdlib." ),
     RETRIEVAL_NON_ITERABLE_TO_ARRAY( "Can't generate mapping method from non-iterable type to array." ),
+    RETRIEVAL_PUBLISHER_MAPPING( "Can't generate mapping method from %s to %s. A Flow.Publisher can only be mapped to java.util.concurrent.Flow.Publisher, returned by the method." ),
+    RETRIEVAL_ITERATOR_MAPPING( "Can't generate mapping method from %s to %s. An Iterator can only be mapped to java.util.Iterator and a Spliterator to java.util.Spliterator, returned by the method." ),
     RETRIEVAL_PRIMITIVE_PARAMETER( "Can't generate mapping method with primitive parameter type." ),
     RETRIEVAL_PRIMITIVE_RETURN( "Can't generate mapping method with primitive return type." ),
     RETRIEVAL_TYPE_VAR_SOURCE( "Can't generate mapping method for a generic type variable source." ),
@@ -207,6 +229,7 @@ public enum Message {
 
     VALUEMAPPING_CREATE_NOTE( "creating value mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
     VALUEMAPPING_DUPLICATE_SOURCE( "Source value mapping: \"%s\" cannot be mapped more than once." ),
+    VALUEMAPPING_DUPLICATE_NORMALIZED_SOURCE( "Source value mapping: \"%s\" cannot be mapped more than once, %s it is the same as \"%s\"." ),
     VALUEMAPPING_ANY_AREADY_DEFINED( "Source = \"<ANY_REMAINING>\" or \"<ANY_UNMAPPED>\" can only be used once." ),
     VALUEMAPPING_UNMAPPED_SOURCES( "The following constants from the %s enum have no corresponding constant in the %s enum and must be be mapped via adding additional mappings: %s." ),
     VALUEMAPPING_ANY_REMAINING_FOR_NON_ENUM( "Source = \"<ANY_REMAINING>\" can only be used on targets of type enum and not for %s." ),
@@ -5,32 +5,65 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 
+import org.mapstruct.ap.internal.version.VersionInformation;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 
 /**
- * Keeps contextual data in the scope of one annotation processing round.
+ * Keeps contextual data in the scope of one annotation processing round. This includes the infrastructure which
+ * doesn't depend on the mapper being processed and is therefore shared by all mappers of the round, in contrast to
+ * the import bookkeeping of each mapper.
  *
  * @author Gunnar Morling
  */
 public class RoundContext {
 
     private final AnnotationProcessorContext annotationProcessorContext;
+    private final VersionInformation versionInformation;
+    private final TypeUtils typeUtils;
     private final Set<TypeMirror> clearedTypes;
+    private final Map<TypeElement, List<ExecutableElement>> referenceableUsedMapperMethods;
 
-    public RoundContext(AnnotationProcessorContext annotationProcessorContext) {
+    public RoundContext(AnnotationProcessorContext annotationProcessorContext, VersionInformation versionInformation,
+                        TypeUtils typeUtils) {
         this.annotationProcessorContext = annotationProcessorContext;
+        this.versionInformation = versionInformation;
+        this.typeUtils = typeUtils;
         this.clearedTypes = new HashSet<>();
+        this.referenceableUsedMapperMethods = new HashMap<>();
     }
 
     public AnnotationProcessorContext getAnnotationProcessorContext() {
         return annotationProcessorContext;
     }
 
+    public VersionInformation getVersionInformation() {
+        return versionInformation;
+    }
+
+    public TypeUtils getTypeUtils() {
+        return typeUtils;
+    }
+
+    /**
+     * The methods of used mappers which can be referenced by a mapper, keyed by the used mapper. They are determined
+     * by the first mapper of the round using a mapper and shared by all other mappers using it.
+     *
+     * @return the referenceable methods of the used mappers of this round determined so far
+     */
+    public Map<TypeElement, List<ExecutableElement>> getReferenceableUsedMapperMethods() {
+        return referenceableUsedMapperMethods;
+    }
+
     /**
      * Marks the given type as being ready for further processing.
      * @param type the type that is ready for further processing by MapStruct
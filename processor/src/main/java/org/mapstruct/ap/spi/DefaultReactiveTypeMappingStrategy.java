@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * The default {@link ReactiveTypeMappingStrategy}, supporting the publishers of Project Reactor and RxJava 3, which
+ * map their elements with {@code map}.
+ *
+ * @since 1.7
+ */
+public class DefaultReactiveTypeMappingStrategy implements ReactiveTypeMappingStrategy {
+
+    private static final Set<String> MAPPABLE_TYPES = new HashSet<>( Arrays.asList(
+        "reactor.core.publisher.Flux",
+        "reactor.core.publisher.Mono",
+        "io.reactivex.rxjava3.core.Flowable",
+        "io.reactivex.rxjava3.core.Observable",
+        "io.reactivex.rxjava3.core.Single",
+        "io.reactivex.rxjava3.core.Maybe"
+    ) );
+
+    @Override
+    public String getElementMappingMethodName(TypeElement reactiveType) {
+        return MAPPABLE_TYPES.contains( reactiveType.getQualifiedName().toString() ) ? "map" : null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.util.Experimental;
+
+/**
+ * A service provider interface for mapping the elements of reactive types, such as the publishers of reactive
+ * libraries.
+ * <p>
+ * A mapping method taking and returning the same reactive type, e.g. {@code Flux<Car> map(Flux<Car> cars)}, is
+ * implemented by invoking the element mapping method of the source with a lambda mapping a single element, e.g.
+ * {@code cars.map( car -> carToCarDto( car ) )}. The element type of a reactive type is its first type argument. The
+ * elements are mapped by the reactive type itself, so its backpressure and threading are retained.
+ * <p>
+ * {@code java.util.concurrent.Flow.Publisher} is supported by MapStruct without this SPI.
+ *
+ * @since 1.7
+ */
+@Experimental("This SPI can have its signature changed in subsequent releases")
+public interface ReactiveTypeMappingStrategy {
+
+    /**
+     * Initializes the reactive type mapping strategy
+     *
+     * @param processingEnvironment environment for facilities
+     */
+    default void init(MapStructProcessingEnvironment processingEnvironment) {
+
+    }
+
+    /**
+     * Returns the name of the element mapping method of the given reactive type. The method must be an instance
+     * method taking a single functional interface argument, which maps an element, and return an instance of the
+     * given type with the mapped elements.
+     *
+     * @param reactiveType the type of the source and the result of a mapping method
+     *
+     * @return the name of the element mapping method or {@code null} if the type is not a reactive type
+     */
+    String getElementMappingMethodName(TypeElement reactiveType);
+}
@@ -0,0 +1,21 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private DecimalFormat ${name}(ThreadLocal<Map<Locale, DecimalFormat>> formats, String numberFormat, Locale locale) {
+
+    Map<Locale, DecimalFormat> formatsByLocale = formats.get();
+    DecimalFormat df = formatsByLocale.get( locale );
+    if ( df == null ) {
+        df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) );
+        <#if templateParameter['parseBigDecimal']>
+        df.setParseBigDecimal( true );
+        </#if>
+        formatsByLocale.put( locale, df );
+    }
+    return df;
+}
@@ -0,0 +1,27 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private SimpleDateFormat ${name}(ThreadLocal<Map<Locale, SimpleDateFormat>> formats, String dateFormat, Locale locale) {
+
+    Map<Locale, SimpleDateFormat> formatsByLocale = formats.get();
+    SimpleDateFormat sdf = formatsByLocale.get( locale );
+    if ( sdf == null ) {
+        sdf = dateFormat != null
+            ? new SimpleDateFormat( dateFormat, locale )
+            : (SimpleDateFormat) DateFormat.getDateTimeInstance( DateFormat.SHORT, DateFormat.SHORT, locale );
+        formatsByLocale.put( locale, sdf );
+    }
+    <#-- the default time zone may have changed since the formatter was created; setting the zone of a formatter
+         replaces its calendar's zone and makes it recompute its fields, so only do so if the zone ID differs.
+         Comparing the IDs is cheap, whereas comparing the zones compares their transition rules -->
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    if ( !defaultTimeZone.getID().equals( sdf.getTimeZone().getID() ) ) {
+        sdf.setTimeZone( defaultTimeZone );
+    }
+    return sdf;
+}
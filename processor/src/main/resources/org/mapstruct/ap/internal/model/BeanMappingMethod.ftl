@@ -33,7 +33,25 @@
     }
     </#if>
 
-    <#if hasSubclassMappings()>
+    <#if mappedReferencesName??>
+    <@includeModel object=mappedReferencesType/> ${mappedReferencesName} = <@includeModel object=mappedReferencesType/>.enter();
+    try {
+        <@includeModel object=returnType/> ${mappedTargetName} = ${mappedReferencesName}.get( ${sourceParameters[0].name}, ${mappedReferencesKeyName} );
+        if ( ${mappedTargetName} != null ) {
+            return ${mappedTargetName};
+        }
+
+    </#if>
+    <#if subclassDispatchTableName??>
+    switch ( <#if mapNullToDefault || sourcePresenceChecks.empty>${subclassMappings[0].sourceArgument} == null ? -1 : </#if>${subclassDispatchTableName}.get( ${subclassMappings[0].sourceArgument}.getClass() ) ) {
+        <#list subclassMappings as subclass>
+        <@compress single_line=true>case ${subclass_index?c}: <@includeModel object=subclass.assignment existingInstanceMapping=existingInstanceMapping/></@compress>
+        </#list>
+        <#-- none of the subclass mappings applies, the source is handled below -->
+        default: break;
+    }
+
+    <#elseif hasSubclassMappings()>
         <#list subclassMappings as subclass>
             <#if subclass_index &gt; 0>else</#if> if (${subclass.sourceArgument} instanceof <@includeModel object=subclass.sourceType/>) {
                 <@includeModel object=subclass.assignment existingInstanceMapping=existingInstanceMapping/>
@@ -46,6 +64,7 @@
     <#else>
     <#if !existingInstanceMapping>
         <#if hasConstructorMappings()>
+            <@declareNestedSourcePropertyVariables/>
             <#if (sourceParameters?size > 1)>
                 <#list sourceParametersNeedingPresenceCheck as sourceParam>
                     <#if (constructorPropertyMappingsByParameter(sourceParam)?size > 0)>
@@ -91,6 +110,9 @@
         <#else >
             <@includeModel object=returnTypeToConstruct/> ${resultName} = <#if factoryMethod??><@includeModel object=factoryMethod targetType=returnTypeToConstruct/><#else>new <@includeModel object=returnTypeToConstruct/>()</#if>;
         </#if>
+        <#if mappedReferencesName?? && !finalizerMethod??>
+        ${mappedReferencesName}.put( ${sourceParameters[0].name}, ${mappedReferencesKeyName}, ${resultName} );
+        </#if>
 
     </#if>
     <#list beforeMappingReferencesWithMappingTarget as callback>
@@ -99,28 +121,25 @@
 
     	</#if>
     </#list>
+    <#if existingInstanceMapping || !hasConstructorMappings()>
+        <@declareNestedSourcePropertyVariables/>
+    </#if>
     <#if (sourceParameters?size > 1)>
         <#list sourceParametersNeedingPresenceCheck as sourceParam>
             <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
                 if ( <@includeModel object=getPresenceCheckByParameter(sourceParam) /> ) {
-                    <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                        <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                    </#list>
+                    <@propertyMappings sourceParam=sourceParam/>
                 }
             </#if>
         </#list>
         <#list sourceParametersNotNeedingPresenceCheck as sourceParam>
             <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
-                <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                    <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                </#list>
+                <@propertyMappings sourceParam=sourceParam/>
             </#if>
         </#list>
     <#elseif !propertyMappingsByParameter(sourceParameters[0]).empty>
         <#if mapNullToDefault>if ( <@includeModel object=getPresenceCheckByParameter(sourceParameters[0]) /> ) {</#if>
-        <#list propertyMappingsByParameter(sourceParameters[0]) as propertyMapping>
-            <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-        </#list>
+        <@propertyMappings sourceParam=sourceParameters[0]/>
         <#if mapNullToDefault>}</#if>
     </#if>
     <#list constantMappings as constantMapping>
@@ -137,6 +156,9 @@
     <#if finalizerMethod??>
         <#if (afterMappingReferencesWithFinalizedReturnType?size > 0)>
             <@includeModel object=returnType /> ${finalizedResultName} = ${resultName}.<@includeModel object=finalizerMethod />;
+            <#if mappedReferencesName??>
+            ${mappedReferencesName}.put( ${sourceParameters[0].name}, ${mappedReferencesKeyName}, ${finalizedResultName} );
+            </#if>
 
             <#list afterMappingReferencesWithFinalizedReturnType as callback>
                 <#if callback_index = 0>
@@ -147,17 +169,46 @@
 
             return ${finalizedResultName};
         <#else>
-            return ${resultName}.<@includeModel object=finalizerMethod />;
+            return <#if mappedReferencesName??>${mappedReferencesName}.put( ${sourceParameters[0].name}, ${mappedReferencesKeyName}, ${resultName}.<@includeModel object=finalizerMethod /> )<#else>${resultName}.<@includeModel object=finalizerMethod /></#if>;
         </#if>
     <#else>
         return ${resultName};
     </#if>
     </#if>
     </#if>
-    <#if hasSubclassMappings()>
+    <#if hasSubclassMappings() && !subclassDispatchTableName??>
         }
     </#if>
+    <#if mappedReferencesName??>
+    }
+    finally {
+        ${mappedReferencesName}.exit();
+    }
+    </#if>
 }
+<#list propertyMappingChunks as chunk>
+
+<@includeModel object=chunk/>
+</#list>
+<#macro propertyMappings sourceParam>
+    <#if propertyMappingChunksByParameter(sourceParam)?has_content>
+        <#list propertyMappingChunksByParameter(sourceParam) as chunk>
+            ${chunk.name}( <#list chunk.parameters as param>${param.name}<#if param_has_next>, </#if></#list> );
+        </#list>
+    <#else>
+        <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
+            <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
+        </#list>
+    </#if>
+</#macro>
+<#macro declareNestedSourcePropertyVariables>
+    <#list nestedSourcePropertyVariables as variable>
+        <@includeModel object=variable/>
+        <#if !variable_has_next>
+
+        </#if>
+    </#list>
+</#macro>
 <#macro throws>
     <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
         <#list thrownTypes as exceptionType>
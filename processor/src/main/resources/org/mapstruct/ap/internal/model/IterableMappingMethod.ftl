@@ -42,13 +42,31 @@
         </#if>
     }
 
+    <#if lazyMapping?? && ( sourceParameter.type.arrayType || sourceParameter.type.randomAccessType )>
+    return <@lazyMappingCall/>;
+    <#else>
+    <#if lazyMapping??>
+    if ( ${sourceParameter.name} instanceof RandomAccess ) {
+        return <@lazyMappingCall/>;
+    }
+
+    </#if>
     <#if resultType.arrayType>
         <#if !existingInstanceMapping>
             <#assign elementTypeString><@includeModel object=resultElementType/></#assign>
             ${elementTypeString}[] ${resultName} = new ${elementTypeString?keep_before('[]')}[<@iterableSize/>]${elementTypeString?replace('[^\\[\\]]+', '', 'r')};
         </#if>
     <#else>
-        <#if existingInstanceMapping>
+        <#if mergeMapping??>
+            <@mergeSourceElementsByKeyDef/>
+            <#-- null elements and elements without a key can't match a target element, they are added as new elements -->
+            <@sourceLoop indexName=index1Name>
+                if ( ${loopVariableName} != null<#if mergeMapping.sourceKeyNullable> && ${loopVariableName}.${mergeMapping.sourceKeyReadValueSource} != null</#if>
+                    && ${mergeMapping.sourceElementsByKeyName}.put( ${loopVariableName}.${mergeMapping.sourceKeyReadValueSource}, ${loopVariableName} ) != null ) {
+                    throw new IllegalArgumentException( "The source elements contain more than one element with the ${mergeMapping.elementKey} " + ${loopVariableName}.${mergeMapping.sourceKeyReadValueSource} + "." );
+                }
+            </@sourceLoop>
+        <#elseif existingInstanceMapping>
             ${resultName}.clear();
         <#else>
             <#-- Use the interface type on the left side, except it is java.lang.Iterable; use the implementation type - if present - on the right side -->
@@ -63,7 +81,7 @@
     </#list>
     <#if resultType.arrayType>
         int ${index1Name} = 0;
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@sourceLoop indexName=index2Name>
             <#if existingInstanceMapping>
             if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
                 break;
@@ -71,11 +89,58 @@
             </#if>
             <@includeModel object=elementAssignment targetWriteAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
             ${index1Name}++;
+        </@sourceLoop>
+    <#elseif mergeMapping??>
+        <#-- update the target elements with a source element of the same key in place, remove all others -->
+        <#if mergeMapping.updatedTargetElementsName??>
+        <#-- the target isn't a list, e.g. a set, whose updated elements are only found again after adding them anew -->
+        List<<@includeModel object=mergeMapping.targetElementType/>> ${mergeMapping.updatedTargetElementsName} = new ArrayList<<@includeModel object=mergeMapping.targetElementType/>>( ${resultName}.size() );
+        </#if>
+        Iterator<<@includeModel object=mergeMapping.targetElementType/>> ${mergeMapping.targetIteratorName} = ${resultName}.iterator();
+        while ( ${mergeMapping.targetIteratorName}.hasNext() ) {
+            <@includeModel object=mergeMapping.targetElementType/> ${mergeMapping.targetElementName} = ${mergeMapping.targetIteratorName}.next();
+            <@includeModel object=sourceElementType/> ${loopVariableName} = ${mergeMapping.targetElementName} != null ? ${mergeMapping.sourceElementsByKeyName}.remove( ${mergeMapping.targetElementName}.${mergeMapping.targetKeyReadValueSource} ) : null;
+            <#if mergeMapping.updatedTargetElementsName??>
+            ${mergeMapping.targetIteratorName}.remove();
+            if ( ${loopVariableName} != null ) {
+                <@includeModel object=mergeMapping.elementUpdate targetBeanName=mergeMapping.targetElementName targetType=mergeMapping.targetElementType/>;
+                ${mergeMapping.updatedTargetElementsName}.add( ${mergeMapping.targetElementName} );
+            }
+            <#else>
+            if ( ${loopVariableName} == null ) {
+                ${mergeMapping.targetIteratorName}.remove();
+            }
+            else {
+                <@includeModel object=mergeMapping.elementUpdate targetBeanName=mergeMapping.targetElementName targetType=mergeMapping.targetElementType/>;
+            }
+            </#if>
+        }
+        <#if mergeMapping.updatedTargetElementsName??>
+        ${resultName}.addAll( ${mergeMapping.updatedTargetElementsName} );
+        </#if>
+        <#-- the source elements which didn't update a target element are new, they are added in the order of the source -->
+        <@sourceLoop indexName=index1Name iteratorDeclared=true>
+            if ( ${loopVariableName} == null<#if mergeMapping.sourceKeyNullable> || ${loopVariableName}.${mergeMapping.sourceKeyReadValueSource} == null</#if>
+                || ${mergeMapping.sourceElementsByKeyName}.containsKey( ${loopVariableName}.${mergeMapping.sourceKeyReadValueSource} ) ) {
+                <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+            }
+        </@sourceLoop>
+    <#elseif parallelMapping??>
+        if ( <@parallelCondition/> ) {
+            ${resultName}.addAll( ${parallelMapping.helperMethodName}( <@iterableSize/>, <#if parallelMapping.executorName??>${parallelMapping.executorName}<#else>ForkJoinPool.commonPool()</#if>, ${index1Name} -> {
+                <@includeModel object=sourceElementType/> ${loopVariableName} = ${sourceParameter.name}<#if sourceParameter.type.arrayType>[${index1Name}]<#else>.get( ${index1Name} )</#if>;
+                <@includeModel object=parallelMapping.elementAssignment targetType=resultElementType/>
+            } ) );
+        }
+        else {
+            <@sourceLoop indexName=index1Name>
+                <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+            </@sourceLoop>
         }
     <#else>
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@sourceLoop indexName=index1Name>
             <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
-        }
+        </@sourceLoop>
     </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
@@ -87,6 +152,7 @@
     <#if returnType.name != "void">
         return ${resultName};
     </#if>
+    </#if>
 }
 <#macro throws>
     <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
@@ -105,6 +171,45 @@
         </#if>
     </@compress>
 </#macro>
+<#--
+    Loops over the source elements. Lists are read by index if they support fast random access, avoiding the
+    allocation of an iterator, other lists are read by an iterator within the same loop. Arrays are looped over by the
+    enhanced for loop, which is index based already. The iterator is declared by the first loop of a method only.
+-->
+<#macro sourceLoop indexName iteratorDeclared=false>
+    <#if sourceParameter.type.listType>
+        <#if sourceIteratorName??>
+        <#if !iteratorDeclared>Iterator<<@includeModel object=sourceIteratorElementType/>> </#if>${sourceIteratorName} = ${sourceParameter.name} instanceof RandomAccess ? null : ${sourceParameter.name}.iterator();
+        </#if>
+        for ( int ${indexName} = 0; ${indexName} < ${sourceParameter.name}.size(); ${indexName}++ ) {
+            <@includeModel object=sourceElementType/> ${loopVariableName} = <#if sourceIteratorName??>${sourceIteratorName} != null ? ${sourceIteratorName}.next() : </#if>${sourceParameter.name}.get( ${indexName} );
+            <#nested>
+        }
+    <#else>
+        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+            <#nested>
+        }
+    </#if>
+</#macro>
+<#macro lazyMappingCall>
+    <#lt>${lazyMapping.helperMethodName}( <@iterableSize/>, ${index1Name} -> {
+        <@includeModel object=sourceElementType/> ${loopVariableName} = ${sourceParameter.name}<#if sourceParameter.type.arrayType>[${index1Name}]<#else>.get( ${index1Name} )</#if>;
+        <@includeModel object=lazyMapping.elementAssignment targetType=resultElementType/>
+    } )<#rt>
+</#macro>
+<#macro parallelCondition>
+    <@compress single_line=true>
+        <#if sourceParameter.type.arrayType>
+           ${sourceParameter.name}.length >= ${parallelMapping.threshold?c}
+        <#else>
+           ${sourceParameter.name} instanceof RandomAccess && ${sourceParameter.name}.size() >= ${parallelMapping.threshold?c}
+        </#if>
+    </@compress>
+</#macro>
+<#macro mergeSourceElementsByKeyDef>
+    <#assign mergeMapTypeArguments><@includeModel object=mergeMapping.keyType/>, <@includeModel object=sourceElementType/></#assign>
+    Map<${mergeMapTypeArguments}> ${mergeMapping.sourceElementsByKeyName} = new LinkedHashMap<${mergeMapTypeArguments}>(<#if sourceParameter.type.arrayType || sourceParameter.type.collectionType> Math.max( (int) ( <@iterableSize/> / .75f ) + 1, 16 ) </#if>);
+</#macro>
 <#macro iterableLocalVarDef>
     <@compress single_line=true>
         <#if resultType.fullyQualifiedName == "java.lang.Iterable">
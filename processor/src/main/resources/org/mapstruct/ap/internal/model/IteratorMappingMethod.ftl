@@ -0,0 +1,54 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.IteratorMappingMethod" -->
+<#list annotations as annotation>
+    <#nt><@includeModel object=annotation/>
+</#list>
+<#if overridden>@Override</#if>
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    <#list beforeMappingReferencesWithoutMappingTarget as callback>
+    	<@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+    	<#if !callback_has_next>
+
+    	</#if>
+    </#list>
+    if ( <@includeModel object=sourceParameterPresenceCheck.negate() /> ) {
+        <#if !mapNullToDefault>
+        return null;
+        <#elseif spliteratorMapping>
+        return Spliterators.emptySpliterator();
+        <#else>
+        return Collections.emptyIterator();
+        </#if>
+    }
+
+    <#-- The elements are only mapped when the result is consumed, so the callbacks receive the wrapping result -->
+    <#if beforeMappingReferencesWithMappingTarget?has_content || afterMappingReferences?has_content>
+    <@includeModel object=returnType/> ${resultName} = <@mappedSource/>;
+    <#list beforeMappingReferencesWithMappingTarget as callback>
+        <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+    </#list>
+    <#list afterMappingReferences as callback>
+        <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+    </#list>
+
+    return ${resultName};
+    <#else>
+    return <@mappedSource/>;
+    </#if>
+}
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
+<#macro mappedSource>${helperMethodName}( ${sourceParameter.name}, <@includeModel object=elementAssignment targetBeanName=resultName targetType=resultElementType/><#if spliteratorMapping>, <@mappedCharacteristics/></#if> )</#macro>
+<#macro mappedCharacteristics><#if keptCharacteristics?has_content><#list keptCharacteristics as characteristic>Spliterator.${characteristic}<#if characteristic_has_next> | </#if></#list><#else>0</#if></#macro>
@@ -0,0 +1,36 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private static <T> List<T> ${name}(int size, IntFunction<T> mapper) {
+    class LazilyMappedList extends AbstractList<T> implements RandomAccess {
+
+        private final AtomicReferenceArray<Object> elements = new AtomicReferenceArray<Object>( size );
+        private final Object nullElement = new Object();
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public T get(int index) {
+            Object element = elements.get( index );
+            if ( element == null ) {
+                T mapped = mapper.apply( index );
+                element = mapped != null ? mapped : nullElement;
+                if ( !elements.compareAndSet( index, null, element ) ) {
+                    element = elements.get( index );
+                }
+            }
+            return element != nullElement ? (T) element : null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    return new LazilyMappedList();
+}
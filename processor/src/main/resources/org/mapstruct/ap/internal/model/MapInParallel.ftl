@@ -0,0 +1,36 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+@SuppressWarnings( "unchecked" )
+private static <T> List<T> ${name}(int size, Executor executor, IntFunction<T> mapper) {
+    Object[] elements = new Object[size];
+    int chunks = Math.min( size, Runtime.getRuntime().availableProcessors() );
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    for ( int chunk = 0; chunk < chunks; chunk++ ) {
+        final int from = (int) ( (long) size * chunk / chunks );
+        final int to = (int) ( (long) size * ( chunk + 1 ) / chunks );
+        futures[chunk] = CompletableFuture.runAsync( () -> {
+            for ( int i = from; i < to; i++ ) {
+                elements[i] = mapper.apply( i );
+            }
+        }, executor );
+    }
+    try {
+        CompletableFuture.allOf( futures ).join();
+    }
+    catch ( CompletionException e ) {
+        if ( e.getCause() instanceof RuntimeException ) {
+            throw (RuntimeException) e.getCause();
+        }
+        if ( e.getCause() instanceof Error ) {
+            throw (Error) e.getCause();
+        }
+        throw e;
+    }
+    return (List<T>) Arrays.asList( elements );
+}
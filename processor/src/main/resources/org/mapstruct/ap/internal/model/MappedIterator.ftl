@@ -0,0 +1,76 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+<#if returnType.spliteratorType>
+private static <S, T> Spliterator<T> ${name}(Spliterator<S> source, Function<? super S, ? extends T> mapper, int keptCharacteristics) {
+    return new Spliterator<T>() {
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return source.tryAdvance( element -> action.accept( mapper.apply( element ) ) );
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining( element -> action.accept( mapper.apply( element ) ) );
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<S> split = source.trySplit();
+            return split != null ? ${name}( split, mapper, keptCharacteristics ) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // the mapped elements are only sorted, distinct or non null if the element mapping keeps them so
+            int dropped = ( Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL ) & ~keptCharacteristics;
+            return source.characteristics() & ~dropped;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public Comparator<? super T> getComparator() {
+            if ( hasCharacteristics( Spliterator.SORTED ) ) {
+                return (Comparator<? super T>) source.getComparator();
+            }
+            throw new IllegalStateException();
+        }
+    };
+}
+<#else>
+private static <S, T> Iterator<T> ${name}(Iterator<S> source, Function<? super S, ? extends T> mapper) {
+    return new Iterator<T>() {
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return mapper.apply( source.next() );
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining( element -> action.accept( mapper.apply( element ) ) );
+        }
+    };
+}
+</#if>
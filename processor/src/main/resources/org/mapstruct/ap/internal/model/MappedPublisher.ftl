@@ -0,0 +1,65 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private static <S, T> Flow.Publisher<T> ${name}(Flow.Publisher<S> source, Function<? super S, ? extends T> mapper) {
+    return subscriber -> source.subscribe( new Flow.Subscriber<S>() {
+
+        private Flow.Subscription subscription;
+        private boolean done;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe( subscription );
+        }
+
+        @Override
+        public void onNext(S item) {
+            if ( done ) {
+                return;
+            }
+            T mapped;
+            try {
+                mapped = mapper.apply( item );
+            }
+            catch ( RuntimeException e ) {
+                // onNext must not throw, the failed mapping terminates the subscription instead
+                fail( e );
+                return;
+            }
+            if ( mapped == null ) {
+                // publishers must not signal null elements
+                fail( new NullPointerException( "An element was mapped to null" ) );
+                return;
+            }
+            subscriber.onNext( mapped );
+        }
+
+        private void fail(RuntimeException e) {
+            done = true;
+            subscription.cancel();
+            subscriber.onError( e );
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if ( !done ) {
+                done = true;
+                subscriber.onError( throwable );
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if ( !done ) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+    } );
+}
@@ -7,6 +7,11 @@
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.NestedPropertyMappingMethod" -->
 <#lt>private <@includeModel object=returnType.typeBound/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+<#if sourceParameterNullCheck>
+    if ( ${sourceParameter.name} == null ) {
+        return ${returnType.null};
+    }
+</#if>
 <#list propertyEntries as entry>
     <#if entry.presenceChecker?? >
     if ( <#if entry_index != 0>${entry.previousPropertyName} == null || </#if>!<@includeModel object=entry.presenceChecker /> ) {
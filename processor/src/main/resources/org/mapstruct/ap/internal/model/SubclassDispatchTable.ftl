@@ -0,0 +1,20 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+private static final ClassValue<Integer> ${variableName} = new ClassValue<Integer>() {
+
+    @Override
+    protected Integer computeValue(Class<?> type) {
+        <#list templateParameter['sourceTypes'] as sourceType>
+        if ( <@includeModel object=sourceType raw=true/>.class.isAssignableFrom( type ) ) {
+            return ${sourceType_index?c};
+        }
+        </#list>
+        return -1;
+    }
+};
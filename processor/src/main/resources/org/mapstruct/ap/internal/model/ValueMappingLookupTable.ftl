@@ -0,0 +1,30 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+<#assign sourceType = templateParameter['sourceType']/>
+<#if sourceType.enumType>
+private static final <@includeModel object=type/>[] ${variableName} = new <@includeModel object=type/>[<@includeModel object=sourceType/>.values().length];
+<#if templateParameter['entries']?has_content>
+
+static {
+<#list templateParameter['entries'] as entry>
+    ${variableName}[<@includeModel object=sourceType/>.${entry.source}.ordinal()] = <@includeModel object=type/>.${entry.target};
+</#list>
+}
+</#if>
+<#else>
+private static final Map<String, <@includeModel object=type/>> ${variableName};
+
+static {
+    Map<String, <@includeModel object=type/>> map = new HashMap<String, <@includeModel object=type/>>( ${templateParameter['initialCapacity']?c} );
+<#list templateParameter['entries'] as entry>
+    map.put( "${entry.source}", <@includeModel object=type/>.${entry.target} );
+</#list>
+    ${variableName} = Collections.unmodifiableMap( map );
+}
+</#if>
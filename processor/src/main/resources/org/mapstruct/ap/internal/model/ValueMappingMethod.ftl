@@ -21,15 +21,27 @@
         <#if nullTarget.targetAsException>throw new <@includeModel object=unexpectedValueMappingException />( "Unexpected enum constant: " + ${sourceParameter.name} );<#else>return <@writeTarget target=nullTarget.target/>;</#if>
     }
 
-    <@includeModel object=resultType/> ${resultName};
+    <#assign sourceKey = normalizedSourceName!sourceParameter.name/>
+    <#if normalizedSourceName??>
+    String ${normalizedSourceName} = ${sourceParameter.name}<#if sourceNormalization.trimWhitespace>.trim()</#if><#if sourceNormalization.ignoreCase>.toUpperCase( <@includeModel object=sourceNormalization.localeType/>.ROOT )</#if>;
 
-    switch ( ${sourceParameter.name} ) {
-    <#list valueMappings as valueMapping>
-        case <@writeSource source=valueMapping.source/>: <#if valueMapping.targetAsException >throw new <@includeModel object=unexpectedValueMappingException />( "Unexpected enum constant: " + ${sourceParameter.name} );<#else>${resultName} = <@writeTarget target=valueMapping.target/>;
-        break;</#if>
-    </#list>
-    default: <#if defaultTarget.targetAsException >throw new <@includeModel object=unexpectedValueMappingException />( "Unexpected enum constant: " + ${sourceParameter.name} )<#else>${resultName} = <@writeTarget target=defaultTarget.target/></#if>;
+    </#if>
+    <#if lookupTableName??>
+    <@includeModel object=resultType/> ${resultName} = <#if sourceParameter.type.enumType>${lookupTableName}[${sourceKey}.ordinal()]<#else>${lookupTableName}.get( ${sourceKey} )</#if>;
+    <#if lookupTableFallbackMappings?has_content || defaultTarget.targetAsException || defaultTarget.target??>
+    if ( ${resultName} == null ) {
+        <#if lookupTableFallbackMappings?has_content>
+        <@switchOverSource mappings=lookupTableFallbackMappings/>
+        <#else>
+        <@writeDefault/>;
+        </#if>
     }
+    </#if>
+    <#else>
+    <@includeModel object=resultType/> ${resultName};
+
+    <@switchOverSource mappings=valueMappings/>
+    </#if>
     <#list beforeMappingReferencesWithMappingTarget as callback>
         <#if callback_index = 0>
 
@@ -43,10 +55,20 @@
         <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
     </#list>
 
-    <#if !(valueMappings.empty && defaultTarget.targetAsException)>
+    <#if lookupTableName?? || !(valueMappings.empty && defaultTarget.targetAsException)>
     return ${resultName};
     </#if>
 }
+<#macro switchOverSource mappings>
+    switch ( ${sourceKey} ) {
+    <#list mappings as valueMapping>
+        case <@writeSource source=valueMapping.source/>: <#if valueMapping.targetAsException >throw new <@includeModel object=unexpectedValueMappingException />( "Unexpected enum constant: " + ${sourceParameter.name} );<#else>${resultName} = <@writeTarget target=valueMapping.target/>;
+        break;</#if>
+    </#list>
+    default: <@writeDefault/>;
+    }
+</#macro>
+<#macro writeDefault><#if defaultTarget.targetAsException >throw new <@includeModel object=unexpectedValueMappingException />( "Unexpected enum constant: " + ${sourceParameter.name} )<#else>${resultName} = <@writeTarget target=defaultTarget.target/></#if></#macro>
 <#macro writeSource source="">
     <#if sourceParameter.type.enumType>
         ${source}<#t>
@@ -10,8 +10,25 @@
 <@lib.handleExceptions>
     <@lib.sourceLocalVarAssignment/>
     <@lib.handleSourceReferenceNullCheck>
-        for ( <@includeModel object=adderType.typeBound/> ${sourceLoopVarName} : <#if sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if> ) {
-          <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
-      }
+        <#if indexName??>
+            <#if sourceListName??>
+            <@includeModel object=sourceType/> ${sourceListName} = ${sourceReference};
+            </#if>
+            <#if iteratorName??>
+            Iterator<<@includeModel object=adderType/>> ${iteratorName} = <@sourceList/> instanceof RandomAccess ? null : <@sourceList/>.iterator();
+            </#if>
+            for ( int ${indexName} = 0; ${indexName} < <@sourceList/>.size(); ${indexName}++ ) {
+                <@includeModel object=adderType.typeBound/> ${sourceLoopVarName} = <#if iteratorName??>${iteratorName} != null ? ${iteratorName}.next() : </#if><@sourceList/>.get( ${indexName} );
+                <@addElement/>
+            }
+        <#else>
+            for ( <@includeModel object=adderType.typeBound/> ${sourceLoopVarName} : <@sourceList/> ) {
+                <@addElement/>
+            }
+        </#if>
     </@lib.handleSourceReferenceNullCheck>
-</@lib.handleExceptions>
\ No newline at end of file
+</@lib.handleExceptions>
+<#macro sourceList><#if sourceListName??>${sourceListName}<#elseif sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if></#macro>
+<#macro addElement>
+    <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
+</#macro>
\ No newline at end of file
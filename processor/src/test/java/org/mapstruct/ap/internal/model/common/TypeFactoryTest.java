@@ -0,0 +1,212 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.DefaultVersionInformation;
+import org.mapstruct.ap.internal.processor.RoundModelCache;
+import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
+import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.util.TypeUtils;
+import org.mapstruct.ap.internal.util.accessor.ReadAccessor;
+import org.mapstruct.ap.internal.version.VersionInformation;
+
+/**
+ * Tests the reuse of {@link Type} instances created by the {@link TypeFactory}.
+ */
+public class TypeFactoryTest {
+
+    private static final int PROPERTY_COUNT = 200;
+
+    @Test
+    public void shouldReuseTypeOfLargeBeanForDifferentMirrorsOfSameType() {
+        TypeLookupProcessor processor = new TypeLookupProcessor( "Holder" );
+        compile( processor, beanSource(), holderSource() );
+
+        assertThat( processor.mirrors ).hasSize( 3 );
+        assertThat( processor.mirrors.get( 0 ) ).isNotSameAs( processor.mirrors.get( 1 ) );
+        assertThat( processor.types.get( 0 ) ).isSameAs( processor.types.get( 1 ) );
+        assertThat( processor.types.get( 0 ) ).isNotSameAs( processor.types.get( 2 ) );
+
+        // the read accessors of the bean are determined once and reused for every lookup of the type
+        assertThat( processor.readAccessors.get( 0 ) ).hasSize( PROPERTY_COUNT );
+        assertThat( processor.readAccessors.get( 1 ) ).isSameAs( processor.readAccessors.get( 0 ) );
+        assertThat( processor.readAccessors.get( 2 ) ).isNotSameAs( processor.readAccessors.get( 0 ) );
+    }
+
+    @Test
+    public void shouldNotReuseTypeOfWildcard() {
+        TypeLookupProcessor processor = new TypeLookupProcessor( "WildcardHolder" );
+        compile( processor, beanSource(), wildcardHolderSource() );
+
+        // each wildcard is looked up twice. A wildcard is never the same type as another mirror, not even as itself,
+        // so its type is created for every lookup, whereas the type of its bound is reused
+        Type bound = processor.wildcardTypes.get( 0 ).getTypeBound();
+        assertThat( bound.getTypeParameters() ).extracting( Type::getName ).containsExactly( "String" );
+        assertThat( processor.wildcardTypes ).hasSize( 4 );
+        assertThat( processor.wildcardTypes ).doesNotHaveDuplicates();
+        assertThat( processor.wildcardTypes ).allSatisfy( type -> {
+            assertThat( type.getTypeMirror().getKind() ).isEqualTo( TypeKind.WILDCARD );
+            assertThat( type.getTypeBound() ).isSameAs( bound );
+        } );
+    }
+
+    private static void compile(TypeLookupProcessor processor, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+            null,
+            null,
+            null,
+            Collections.singletonList( "-proc:only" ),
+            null,
+            Arrays.asList( sources )
+        );
+        task.setProcessors( Collections.singletonList( processor ) );
+
+        assertThat( task.call() ).isTrue();
+    }
+
+    private static JavaFileObject beanSource() {
+        StringBuilder source = new StringBuilder( "public class Bean<T> {\n" );
+        for ( int i = 0; i < PROPERTY_COUNT; i++ ) {
+            source.append( "    private String property" ).append( i ).append( ";\n" )
+                .append( "    public String getProperty" ).append( i ).append( "() { return property" )
+                .append( i ).append( "; }\n" );
+        }
+        source.append( "}\n" );
+        return new StringSource( "Bean", source.toString() );
+    }
+
+    private static JavaFileObject holderSource() {
+        return new StringSource(
+            "Holder",
+            "public class Holder {\n"
+                + "    Bean<String> first;\n"
+                + "    Bean<String> second;\n"
+                + "    Bean<Integer> other;\n"
+                + "}\n"
+        );
+    }
+
+    private static JavaFileObject wildcardHolderSource() {
+        return new StringSource(
+            "WildcardHolder",
+            "public class WildcardHolder {\n"
+                + "    java.util.List<? extends Bean<String>> first;\n"
+                + "    java.util.List<? extends Bean<String>> second;\n"
+                + "}\n"
+        );
+    }
+
+    @SupportedAnnotationTypes("*")
+    private static class TypeLookupProcessor extends AbstractProcessor {
+
+        private final List<TypeMirror> mirrors = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+        private final List<Map<String, ReadAccessor>> readAccessors = new ArrayList<>();
+        private final List<Type> wildcardTypes = new ArrayList<>();
+        private final String holderName;
+
+        TypeLookupProcessor(String holderName) {
+            this.holderName = holderName;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if ( roundEnv.processingOver() ) {
+                return false;
+            }
+
+            VersionInformation versionInformation =
+                DefaultVersionInformation.fromProcessingEnvironment( processingEnv );
+            AnnotationProcessorContext annotationProcessorContext = new AnnotationProcessorContext(
+                processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils(),
+                processingEnv.getMessager(),
+                false,
+                false,
+                Collections.emptyMap()
+            );
+            RoundContext roundContext = new RoundContext(
+                annotationProcessorContext,
+                versionInformation,
+                TypeUtils.create( processingEnv, versionInformation )
+            );
+
+            TypeElement holder = processingEnv.getElementUtils().getTypeElement( holderName );
+            TypeFactory typeFactory = new DefaultModelElementProcessorContext(
+                processingEnv,
+                new Options( Collections.emptyMap() ),
+                roundContext,
+                new RoundModelCache(),
+                Collections.emptyMap(),
+                holder
+            ).getTypeFactory();
+
+            for ( VariableElement field : ElementFilter.fieldsIn( holder.getEnclosedElements() ) ) {
+                Type type = typeFactory.getType( field.asType() );
+                mirrors.add( field.asType() );
+                types.add( type );
+                readAccessors.add( type.getPropertyReadAccessors() );
+
+                for ( TypeMirror typeArgument : ( (DeclaredType) field.asType() ).getTypeArguments() ) {
+                    if ( typeArgument.getKind() == TypeKind.WILDCARD ) {
+                        wildcardTypes.add( typeFactory.getType( typeArgument ) );
+                        wildcardTypes.add( typeFactory.getType( typeArgument ) );
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class StringSource extends SimpleJavaFileObject {
+
+        private final String source;
+
+        StringSource(String name, String source) {
+            super( URI.create( "string:///" + name + Kind.SOURCE.extension ), Kind.SOURCE );
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -71,7 +71,8 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyItererableMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 22,
-                message = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
+                message = "'nullValueMappingStrategy', 'dateFormat', 'numberFormat', 'qualifiedBy', "
+                    + "'qualifiedByName', 'elementTargetType', 'parallel', 'lazy' and 'elementKey' are "
                     + "undefined in @IterableMapping, define at least one of them.")
         }
     )
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.iterator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousIteratorToListMapper {
+
+    List<FruitDto> fruitsToDtos(Iterator<Fruit> fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
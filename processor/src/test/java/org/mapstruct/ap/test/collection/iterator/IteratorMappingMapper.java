@@ -0,0 +1,38 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.iterator;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface IteratorMappingMapper {
+
+    IteratorMappingMapper INSTANCE = Mappers.getMapper( IteratorMappingMapper.class );
+
+    Iterator<FruitDto> fruitsToDtos(Iterator<Fruit> fruits);
+
+    Spliterator<FruitDto> fruitsToDtos(Spliterator<Fruit> fruits);
+
+    @IterableMapping(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+    Iterator<FruitDto> fruitsToDtosOrEmpty(Iterator<Fruit> fruits);
+
+    @IterableMapping(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+    Spliterator<FruitDto> fruitsToDtosOrEmpty(Spliterator<Fruit> fruits);
+
+    Iterator<String> copyTypes(Iterator<String> types);
+
+    Spliterator<String> copyTypes(Spliterator<String> types);
+
+    Spliterator<String> numbersToStrings(Spliterator<Integer> numbers);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
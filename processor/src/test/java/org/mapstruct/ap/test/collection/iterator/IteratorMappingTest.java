@@ -0,0 +1,178 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.iterator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for mapping {@link Iterator}s and {@link Spliterator}s, mapping the elements on demand.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class
+})
+public class IteratorMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldMapIteratorElementsOnDemand() {
+        Fruit apple = new Fruit( "apple" );
+        Fruit banana = new Fruit( "banana" );
+        List<Fruit> fruits = new ArrayList<>( Arrays.asList( apple, banana ) );
+
+        Iterator<FruitDto> dtos = IteratorMappingMapper.INSTANCE.fruitsToDtos( fruits.iterator() );
+
+        assertThat( apple.getTypeReads() ).isZero();
+        assertThat( dtos.hasNext() ).isTrue();
+        assertThat( dtos.next().getType() ).isEqualTo( "apple" );
+        assertThat( apple.getTypeReads() ).isEqualTo( 1 );
+        assertThat( banana.getTypeReads() ).isZero();
+
+        dtos.remove();
+        assertThat( fruits ).containsExactly( banana );
+
+        assertThat( dtos.next().getType() ).isEqualTo( "banana" );
+        assertThat( dtos.hasNext() ).isFalse();
+
+        generatedSource.forMapper( IteratorMappingMapper.class )
+            .content()
+            .contains( "return mappedIterator( fruits, fruit -> fruitToDto( fruit ) );" )
+            .contains( "private static <S, T> Iterator<T> mappedIterator(Iterator<S> source, "
+                + "Function<? super S, ? extends T> mapper)" );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldMapSpliteratorElementsOnDemand() {
+        Fruit apple = new Fruit( "apple" );
+        Fruit banana = new Fruit( "banana" );
+        Fruit cherry = new Fruit( "cherry" );
+
+        Spliterator<FruitDto> dtos = IteratorMappingMapper.INSTANCE.fruitsToDtos(
+            Arrays.asList( apple, banana, cherry ).spliterator()
+        );
+
+        assertThat( dtos.estimateSize() ).isEqualTo( 3 );
+        assertThat( dtos.hasCharacteristics( Spliterator.SIZED ) ).isTrue();
+        assertThat( dtos.hasCharacteristics( Spliterator.ORDERED ) ).isTrue();
+        assertThat( apple.getTypeReads() ).isZero();
+
+        assertThat( dtos.tryAdvance( dto -> assertThat( dto.getType() ).isEqualTo( "apple" ) ) ).isTrue();
+        assertThat( apple.getTypeReads() ).isEqualTo( 1 );
+        assertThat( banana.getTypeReads() ).isZero();
+
+        List<String> types = StreamSupport.stream( dtos, false )
+            .map( FruitDto::getType )
+            .collect( Collectors.toList() );
+        assertThat( types ).containsExactly( "banana", "cherry" );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldSplitMappedSpliterator() {
+        Spliterator<FruitDto> dtos = IteratorMappingMapper.INSTANCE.fruitsToDtos( Arrays.asList(
+            new Fruit( "apple" ),
+            new Fruit( "banana" ),
+            new Fruit( "cherry" ),
+            new Fruit( "date" )
+        ).spliterator() );
+
+        List<String> types = StreamSupport.stream( dtos, true )
+            .map( FruitDto::getType )
+            .collect( Collectors.toList() );
+
+        assertThat( types ).containsExactly( "apple", "banana", "cherry", "date" );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldMapNullSource() {
+        assertThat( IteratorMappingMapper.INSTANCE.fruitsToDtos( (Iterator<Fruit>) null ) ).isNull();
+        assertThat( IteratorMappingMapper.INSTANCE.fruitsToDtos( (Spliterator<Fruit>) null ) ).isNull();
+        assertThat( IteratorMappingMapper.INSTANCE.fruitsToDtosOrEmpty( (Iterator<Fruit>) null ).hasNext() ).isFalse();
+        assertThat( IteratorMappingMapper.INSTANCE.fruitsToDtosOrEmpty( (Spliterator<Fruit>) null ).estimateSize() )
+            .isZero();
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldMapIteratorOfSameElementType() {
+        Iterator<String> types = IteratorMappingMapper.INSTANCE.copyTypes( Arrays.asList( "apple", "banana" )
+            .iterator() );
+
+        assertThat( types.next() ).isEqualTo( "apple" );
+        assertThat( types.next() ).isEqualTo( "banana" );
+        assertThat( types.hasNext() ).isFalse();
+
+        generatedSource.forMapper( IteratorMappingMapper.class )
+            .content()
+            .contains( "return mappedIterator( types, Function.identity() );" );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMappingMapper.class)
+    public void shouldKeepSpliteratorCharacteristicsHoldingForMappedElements() {
+        int characteristics = Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED;
+
+        Spliterator<String> types = IteratorMappingMapper.INSTANCE.copyTypes(
+            Spliterators.spliterator( new Object[] { "apple", "banana" }, characteristics )
+        );
+        assertThat( types.characteristics() ).isEqualTo( characteristics | Spliterator.SUBSIZED );
+        assertThat( types.getComparator() ).isNull();
+
+        Spliterator<String> numbers = IteratorMappingMapper.INSTANCE.numbersToStrings(
+            Spliterators.spliterator( new Object[] { 1, 2 }, characteristics )
+        );
+        assertThat( numbers.characteristics() )
+            .isEqualTo( Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED );
+        assertThatThrownBy( numbers::getComparator ).isInstanceOf( IllegalStateException.class );
+
+        Spliterator<FruitDto> dtos = IteratorMappingMapper.INSTANCE.fruitsToDtos(
+            Spliterators.spliterator( new Object[] { new Fruit( "apple" ) }, characteristics )
+        );
+        assertThat( dtos.characteristics() ).isEqualTo( Spliterator.SIZED | Spliterator.SUBSIZED );
+
+        generatedSource.forMapper( IteratorMappingMapper.class )
+            .content()
+            .contains( "return mappedSpliterator( types, Function.identity(), "
+                + "Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL );" )
+            .contains( "return mappedSpliterator( numbers, integer -> String.valueOf( integer ), "
+                + "Spliterator.NONNULL );" )
+            .contains( "return mappedSpliterator( fruits, fruit -> fruitToDto( fruit ), 0 );" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousIteratorToListMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousIteratorToListMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 16,
+            message = "Can't generate mapping method from Iterator<Fruit> to List<FruitDto>. An Iterator can only be "
+                + "mapped to java.util.Iterator and a Spliterator to java.util.Spliterator, returned by the method."))
+    public void shouldFailToMapIteratorToList() {
+    }
+}
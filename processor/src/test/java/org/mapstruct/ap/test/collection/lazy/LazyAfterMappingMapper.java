@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.List;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface LazyAfterMappingMapper {
+
+    @IterableMapping(lazy = true)
+    List<FruitDto> fruitsToDtos(List<Fruit> fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+
+    @AfterMapping
+    default void afterFruitsMapping(List<Fruit> fruits) {
+    }
+}
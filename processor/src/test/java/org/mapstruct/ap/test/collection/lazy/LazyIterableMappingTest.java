@@ -0,0 +1,149 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the lazy element mapping of {@link org.mapstruct.IterableMapping#lazy()}.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class
+})
+public class LazyIterableMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(LazyMappingMapper.class)
+    public void shouldMapElementsOnFirstAccess() {
+        Fruit apple = new Fruit( "apple" );
+        Fruit banana = new Fruit( "banana" );
+        Fruit cherry = new Fruit( "cherry" );
+
+        List<FruitDto> dtos = LazyMappingMapper.INSTANCE.fruitsToDtos( new ArrayList<>( Arrays.asList(
+            apple,
+            banana,
+            cherry
+        ) ) );
+
+        assertThat( dtos ).hasSize( 3 ).isInstanceOf( RandomAccess.class );
+        assertThat( apple.getTypeReads() ).isZero();
+        assertThat( banana.getTypeReads() ).isZero();
+        assertThat( cherry.getTypeReads() ).isZero();
+
+        FruitDto dto = dtos.get( 1 );
+        assertThat( dto.getType() ).isEqualTo( "banana" );
+        assertThat( dtos.get( 1 ) ).isSameAs( dto );
+        assertThat( apple.getTypeReads() ).isZero();
+        assertThat( banana.getTypeReads() ).isEqualTo( 1 );
+        assertThat( cherry.getTypeReads() ).isZero();
+
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "apple", "banana", "cherry" );
+        assertThat( banana.getTypeReads() ).isEqualTo( 1 );
+
+        generatedSource.forMapper( LazyMappingMapper.class )
+            .content()
+            .contains( "if ( fruits instanceof RandomAccess ) {" )
+            .contains( "return lazyList( fruits.size(), i -> {" )
+            .contains( "private static <T> List<T> lazyList(int size, IntFunction<T> mapper)" )
+            .contains( "new AtomicReferenceArray<Object>( size )" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyMappingMapper.class)
+    public void shouldMapNullElementsAndRejectModifications() {
+        List<FruitDto> dtos = LazyMappingMapper.INSTANCE.fruitsToDtos( Arrays.asList( null, new Fruit( "apple" ) ) );
+
+        assertThat( dtos.get( 0 ) ).isNull();
+        assertThat( dtos.get( 0 ) ).isNull();
+        assertThat( dtos.get( 1 ).getType() ).isEqualTo( "apple" );
+        assertThatThrownBy( () -> dtos.add( new FruitDto() ) ).isInstanceOf( UnsupportedOperationException.class );
+        assertThatThrownBy( () -> dtos.get( 2 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyMappingMapper.class)
+    public void shouldMapArrayLazily() {
+        Fruit apple = new Fruit( "apple" );
+        Fruit banana = new Fruit( "banana" );
+
+        Collection<FruitDto> dtos = LazyMappingMapper.INSTANCE.fruitsToDtos( new Fruit[] { apple, banana } );
+
+        assertThat( dtos ).hasSize( 2 );
+        assertThat( apple.getTypeReads() ).isZero();
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "apple", "banana" );
+        assertThat( LazyMappingMapper.INSTANCE.fruitsToDtos( (Fruit[]) null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyMappingMapper.class)
+    public void shouldMapSequentialListsEagerly() {
+        Fruit apple = new Fruit( "apple" );
+
+        List<FruitDto> dtos = LazyMappingMapper.INSTANCE.fruitsToDtos( new LinkedList<>( Arrays.asList( apple ) ) );
+
+        assertThat( apple.getTypeReads() ).isEqualTo( 1 );
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "apple" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyUpdateMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = LazyUpdateMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 17,
+            messageRegExp = "Lazy element mapping requires a java.util.List or array source .* "
+                + "The elements are mapped eagerly\\."))
+    public void shouldWarnAboutUpdateMethods() {
+        generatedSource.forMapper( LazyUpdateMapper.class )
+            .content()
+            .doesNotContain( "lazyList" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyAfterMappingMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = LazyAfterMappingMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 17,
+            messageRegExp = "Lazy element mapping requires a java.util.List or array source .* "
+                + "The elements are mapped eagerly\\."))
+    public void shouldWarnAboutAfterMappingMethodsWithoutMappingTarget() {
+        generatedSource.forMapper( LazyAfterMappingMapper.class )
+            .content()
+            .doesNotContain( "lazyList" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyTrackReferencesMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = LazyTrackReferencesMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 17,
+            message = "Lazy element mapping can't be combined with reference tracking, as the elements mapped after "
+                + "the mapping call don't see the references tracked by it."))
+    public void shouldRejectReferenceTracking() {
+    }
+}
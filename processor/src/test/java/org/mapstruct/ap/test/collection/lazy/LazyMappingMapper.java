@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LazyMappingMapper {
+
+    LazyMappingMapper INSTANCE = Mappers.getMapper( LazyMappingMapper.class );
+
+    @IterableMapping(lazy = true)
+    List<FruitDto> fruitsToDtos(List<Fruit> fruits);
+
+    @IterableMapping(lazy = true)
+    Collection<FruitDto> fruitsToDtos(Fruit[] fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
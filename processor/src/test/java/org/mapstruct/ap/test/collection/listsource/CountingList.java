@@ -0,0 +1,53 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.listsource;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A list which doesn't implement {@link java.util.RandomAccess} and counts how its elements are read.
+ *
+ * @param <E> the element type
+ */
+public class CountingList<E> extends AbstractList<E> {
+
+    private final List<E> elements;
+    private int getCalls;
+    private int iteratorCalls;
+
+    public CountingList(Collection<E> elements) {
+        this.elements = new ArrayList<>( elements );
+    }
+
+    @Override
+    public E get(int index) {
+        getCalls++;
+        return elements.get( index );
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        iteratorCalls++;
+        return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    public int getGetCalls() {
+        return getCalls;
+    }
+
+    public int getIteratorCalls() {
+        return iteratorCalls;
+    }
+}
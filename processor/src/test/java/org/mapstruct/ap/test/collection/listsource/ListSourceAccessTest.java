@@ -0,0 +1,85 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.listsource;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests how the elements of {@link List} sources are read by iterable mapping methods and adders: by index if the
+ * list implements {@link java.util.RandomAccess}, by an iterator otherwise.
+ */
+@WithClasses({
+    CountingList.class,
+    RandomAccessCountingList.class,
+    Source.class,
+    Target.class,
+    ListSourceMapper.class
+})
+public class ListSourceAccessTest {
+
+    private static final List<Integer> NUMBERS = Arrays.asList( 3, 1, 4, 1, 5 );
+
+    @ProcessorTest
+    public void shouldMapLinkedListInOrder() {
+        assertThat( ListSourceMapper.INSTANCE.numbersToStrings( new LinkedList<>( NUMBERS ) ) )
+            .containsExactly( "3", "1", "4", "1", "5" );
+
+        Source source = new Source();
+        source.setNumbers( new LinkedList<>( NUMBERS ) );
+
+        assertThat( ListSourceMapper.INSTANCE.sourceToTarget( source ).getNumbers() )
+            .containsExactly( "3", "1", "4", "1", "5" );
+    }
+
+    @ProcessorTest
+    public void shouldReadSequentialListByIteratorInIterableMappingMethod() {
+        CountingList<Integer> numbers = new CountingList<>( NUMBERS );
+
+        assertThat( ListSourceMapper.INSTANCE.numbersToStrings( numbers ) ).containsExactly( "3", "1", "4", "1", "5" );
+        assertThat( numbers.getIteratorCalls() ).isEqualTo( 1 );
+        assertThat( numbers.getGetCalls() ).isZero();
+    }
+
+    @ProcessorTest
+    public void shouldReadRandomAccessListByIndexInIterableMappingMethod() {
+        CountingList<Integer> numbers = new RandomAccessCountingList<>( NUMBERS );
+
+        assertThat( ListSourceMapper.INSTANCE.numbersToStrings( numbers ) ).containsExactly( "3", "1", "4", "1", "5" );
+        assertThat( numbers.getIteratorCalls() ).isZero();
+        assertThat( numbers.getGetCalls() ).isEqualTo( NUMBERS.size() );
+    }
+
+    @ProcessorTest
+    public void shouldReadSequentialListByIteratorForAdder() {
+        CountingList<Integer> numbers = new CountingList<>( NUMBERS );
+        Source source = new Source();
+        source.setNumbers( numbers );
+
+        assertThat( ListSourceMapper.INSTANCE.sourceToTarget( source ).getNumbers() )
+            .containsExactly( "3", "1", "4", "1", "5" );
+        assertThat( numbers.getIteratorCalls() ).isEqualTo( 1 );
+        assertThat( numbers.getGetCalls() ).isZero();
+    }
+
+    @ProcessorTest
+    public void shouldReadRandomAccessListByIndexForAdder() {
+        CountingList<Integer> numbers = new RandomAccessCountingList<>( NUMBERS );
+        Source source = new Source();
+        source.setNumbers( numbers );
+
+        assertThat( ListSourceMapper.INSTANCE.sourceToTarget( source ).getNumbers() )
+            .containsExactly( "3", "1", "4", "1", "5" );
+        assertThat( numbers.getIteratorCalls() ).isZero();
+        assertThat( numbers.getGetCalls() ).isEqualTo( NUMBERS.size() );
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.listsource;
+
+import java.util.List;
+
+import org.mapstruct.CollectionMappingStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionMappingStrategy = CollectionMappingStrategy.ADDER_PREFERRED)
+public interface ListSourceMapper {
+
+    ListSourceMapper INSTANCE = Mappers.getMapper( ListSourceMapper.class );
+
+    List<String> numbersToStrings(List<Integer> numbers);
+
+    Target sourceToTarget(Source source);
+}
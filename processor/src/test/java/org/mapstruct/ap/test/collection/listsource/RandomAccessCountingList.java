@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.listsource;
+
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A {@link CountingList} which implements {@link RandomAccess}.
+ *
+ * @param <E> the element type
+ */
+public class RandomAccessCountingList<E> extends CountingList<E> implements RandomAccess {
+
+    public RandomAccessCountingList(Collection<E> elements) {
+        super( elements );
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.listsource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Target {
+
+    private final List<String> numbers = new ArrayList<>();
+
+    public List<String> getNumbers() {
+        return numbers;
+    }
+
+    public void addNumber(String number) {
+        numbers.add( number );
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.List;
+
+public class BasketDto {
+
+    private List<FruitDto> fruits;
+
+    public List<FruitDto> getFruits() {
+        return fruits;
+    }
+
+    public void setFruits(List<FruitDto> fruits) {
+        this.fruits = fruits;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for merging the elements of collections by key, see {@link org.mapstruct.IterableMapping#elementKey()}.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class
+})
+public class ElementKeyMergeTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses({ Basket.class, BasketDto.class, FruitMergeMapper.class })
+    public void shouldUpdateMatchingElementsInPlace() {
+        FruitDto apple = dto( 1L, "apple" );
+        FruitDto banana = dto( 2L, "banana" );
+        FruitDto cherry = dto( 3L, "cherry" );
+        List<FruitDto> dtos = new ArrayList<>( Arrays.asList( apple, banana, cherry ) );
+
+        FruitMergeMapper.INSTANCE.updateDtos(
+            Arrays.asList( new Fruit( 4L, "date" ), new Fruit( 3L, "red cherry" ), new Fruit( 1L, "green apple" ) ),
+            dtos
+        );
+
+        assertThat( dtos ).hasSize( 3 );
+        assertThat( dtos.get( 0 ) ).isSameAs( apple );
+        assertThat( dtos.get( 1 ) ).isSameAs( cherry );
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "green apple", "red cherry", "date" );
+        assertThat( dtos ).extracting( FruitDto::getId ).containsExactly( 1L, 3L, 4L );
+        assertThat( banana.getType() ).isEqualTo( "banana" );
+
+        generatedSource.forMapper( FruitMergeMapper.class )
+            .content()
+            .contains( "Map<Long, Fruit> fruitsByKey = new LinkedHashMap<Long, Fruit>( "
+                + "Math.max( (int) ( fruits.size() / .75f ) + 1, 16 ) );" )
+            .contains( "Iterator<FruitDto> fruitDtoIterator = dtos.iterator();" )
+            .contains( "Fruit fruit = fruitDto != null ? fruitsByKey.remove( fruitDto.getId() ) : null;" )
+            .contains( "updateDto( fruit, fruitDto );" )
+            .contains( "fruitsByKey.containsKey( fruit.getId() )" );
+    }
+
+    @ProcessorTest
+    @WithClasses({ Basket.class, BasketDto.class, FruitMergeMapper.class })
+    public void shouldAddNullSourceElementsAndRemoveNullTargetElements() {
+        FruitDto apple = dto( 1L, "apple" );
+        List<FruitDto> dtos = new ArrayList<>( Arrays.asList( null, apple ) );
+
+        FruitMergeMapper.INSTANCE.updateDtos( Arrays.asList( null, new Fruit( 1L, "green apple" ) ), dtos );
+
+        assertThat( dtos ).containsExactly( apple, null );
+        assertThat( apple.getType() ).isEqualTo( "green apple" );
+    }
+
+    @ProcessorTest
+    @WithClasses(FruitDtoMergeMapper.class)
+    public void shouldAddSourceElementsWithoutKey() {
+        FruitDto apple = dto( 1L, "apple" );
+        FruitDto fig = new FruitDto();
+        fig.setType( "fig" );
+        FruitDto grape = new FruitDto();
+        grape.setType( "grape" );
+        List<FruitDto> dtos = new ArrayList<>( Arrays.asList( apple ) );
+
+        FruitDtoMergeMapper.INSTANCE.updateDtos( Arrays.asList( fig, dto( 1L, "green apple" ), grape ), dtos );
+
+        assertThat( dtos.get( 0 ) ).isSameAs( apple );
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "green apple", "fig", "grape" );
+    }
+
+    @ProcessorTest
+    @WithClasses({ Basket.class, BasketDto.class, FruitMergeMapper.class })
+    public void shouldFailForDuplicateSourceKeys() {
+        FruitDto apple = dto( 1L, "apple" );
+        List<FruitDto> dtos = new ArrayList<>( Arrays.asList( apple ) );
+
+        assertThatThrownBy( () -> FruitMergeMapper.INSTANCE.updateDtos(
+            Arrays.asList( new Fruit( 1L, "green apple" ), new Fruit( 1L, "red apple" ) ),
+            dtos
+        ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "The source elements contain more than one element with the id 1." );
+
+        assertThat( dtos ).containsExactly( apple );
+        assertThat( apple.getType() ).isEqualTo( "apple" );
+    }
+
+    @ProcessorTest
+    @WithClasses({ Basket.class, BasketDto.class, FruitMergeMapper.class })
+    public void shouldMergeArrayIntoCollection() {
+        FruitDto apple = dto( 1L, "apple" );
+        Collection<FruitDto> dtos = new HashSet<>( Arrays.asList( apple, dto( 2L, "banana" ) ) );
+
+        Collection<FruitDto> result = FruitMergeMapper.INSTANCE.updateDtos(
+            new Fruit[] { new Fruit( 1L, "green apple" ) },
+            dtos
+        );
+
+        assertThat( result ).isSameAs( dtos );
+        assertThat( dtos ).containsExactly( apple );
+        assertThat( apple.getType() ).isEqualTo( "green apple" );
+    }
+
+    @ProcessorTest
+    @WithClasses({ FruitValue.class, FruitValueMergeMapper.class })
+    public void shouldAddUpdatedElementsToSetAgain() {
+        FruitValue apple = value( 1L, "apple" );
+        FruitValue banana = value( 2L, "banana" );
+        Set<FruitValue> values = new HashSet<>( Arrays.asList( apple, banana ) );
+
+        FruitValueMergeMapper.INSTANCE.updateValues(
+            Arrays.asList( new Fruit( 1L, "green apple" ), new Fruit( 3L, "cherry" ) ),
+            values
+        );
+
+        // the hash code of the updated element has changed, it is only found if it was added to the set again
+        assertThat( values ).hasSize( 2 );
+        assertThat( values.contains( apple ) ).isTrue();
+        assertThat( values.contains( banana ) ).isFalse();
+        assertThat( values.contains( value( 3L, "cherry" ) ) ).isTrue();
+        assertThat( apple.getType() ).isEqualTo( "green apple" );
+
+        generatedSource.forMapper( FruitValueMergeMapper.class )
+            .content()
+            .contains( "List<FruitValue> updatedFruitValues = new ArrayList<FruitValue>( values.size() );" )
+            .contains( "values.addAll( updatedFruitValues );" );
+    }
+
+    @ProcessorTest
+    @WithClasses({ Basket.class, BasketDto.class, FruitMergeMapper.class })
+    public void shouldMergeCollectionProperty() {
+        FruitDto apple = dto( 1L, "apple" );
+        List<FruitDto> dtos = new ArrayList<>( Arrays.asList( apple, dto( 2L, "banana" ) ) );
+        BasketDto basketDto = new BasketDto();
+        basketDto.setFruits( dtos );
+
+        FruitMergeMapper.INSTANCE.updateBasket(
+            new Basket( Arrays.asList( new Fruit( 1L, "green apple" ), new Fruit( 5L, "elderberry" ) ) ),
+            basketDto
+        );
+
+        assertThat( basketDto.getFruits() ).isSameAs( dtos );
+        assertThat( dtos.get( 0 ) ).isSameAs( apple );
+        assertThat( dtos ).extracting( FruitDto::getType ).containsExactly( "green apple", "elderberry" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousUnknownElementKeyMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousUnknownElementKeyMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 17,
+            message = "Unknown element key \"weight\" in source element \"Fruit\"."))
+    public void shouldReportUnknownElementKey() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousMissingUpdateMethodMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousMissingUpdateMethodMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 17,
+            message = "Can't merge the elements by key \"id\" as there is no update method mapping "
+                + "\"Fruit\" into an existing \"FruitDto\"."))
+    public void shouldReportMissingElementUpdateMethod() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelElementKeyMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousParallelElementKeyMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 17,
+            message = "Parallel element mapping can't be combined with merging the elements by key \"id\"."))
+    public void shouldReportParallelMappingWithElementKey() {
+    }
+
+    private static FruitValue value(long id, String type) {
+        FruitValue value = new FruitValue();
+        value.setId( id );
+        value.setType( type );
+        return value;
+    }
+
+    private static FruitDto dto(long id, String type) {
+        FruitDto dto = new FruitDto();
+        dto.setId( id );
+        dto.setType( type );
+        return dto;
+    }
+}
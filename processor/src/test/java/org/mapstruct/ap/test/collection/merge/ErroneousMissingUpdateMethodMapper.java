@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousMissingUpdateMethodMapper {
+
+    @IterableMapping(elementKey = "id")
+    void updateDtos(List<Fruit> fruits, @MappingTarget List<FruitDto> dtos);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
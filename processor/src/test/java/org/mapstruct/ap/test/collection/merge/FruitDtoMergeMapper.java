@@ -0,0 +1,26 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface FruitDtoMergeMapper {
+
+    FruitDtoMergeMapper INSTANCE = Mappers.getMapper( FruitDtoMergeMapper.class );
+
+    @IterableMapping(elementKey = "id")
+    void updateDtos(List<FruitDto> sources, @MappingTarget List<FruitDto> dtos);
+
+    FruitDto copy(FruitDto source);
+
+    void update(FruitDto source, @MappingTarget FruitDto dto);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface FruitMergeMapper {
+
+    FruitMergeMapper INSTANCE = Mappers.getMapper( FruitMergeMapper.class );
+
+    void updateBasket(Basket basket, @MappingTarget BasketDto basketDto);
+
+    @IterableMapping(elementKey = "id")
+    void updateDtos(List<Fruit> fruits, @MappingTarget List<FruitDto> dtos);
+
+    @IterableMapping(elementKey = "id")
+    Collection<FruitDto> updateDtos(Fruit[] fruits, @MappingTarget Collection<FruitDto> dtos);
+
+    FruitDto fruitToDto(Fruit fruit);
+
+    void updateDto(Fruit fruit, @MappingTarget FruitDto dto);
+}
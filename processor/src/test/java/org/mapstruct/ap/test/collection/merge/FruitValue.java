@@ -0,0 +1,50 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.Objects;
+
+/**
+ * A fruit whose hash code depends on all of its properties, like many entities and value objects kept in sets.
+ */
+public class FruitValue {
+
+    private Long id;
+    private String type;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        FruitValue that = (FruitValue) o;
+        return Objects.equals( id, that.id ) && Objects.equals( type, that.type );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( id, type );
+    }
+}
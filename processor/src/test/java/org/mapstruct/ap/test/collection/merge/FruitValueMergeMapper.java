@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface FruitValueMergeMapper {
+
+    FruitValueMergeMapper INSTANCE = Mappers.getMapper( FruitValueMergeMapper.class );
+
+    @IterableMapping(elementKey = "id")
+    void updateValues(List<Fruit> fruits, @MappingTarget Set<FruitValue> values);
+
+    FruitValue fruitToValue(Fruit fruit);
+
+    void updateValue(Fruit fruit, @MappingTarget FruitValue value);
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the parallel element mapping of {@link org.mapstruct.IterableMapping#parallel()}.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class,
+    FruitException.class
+})
+public class ParallelIterableMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldMapLargeListInParallelPreservingOrder() {
+        List<Integer> numbers = numbers( 1000 );
+
+        List<String> strings = ParallelMappingMapper.INSTANCE.numbersToStrings( numbers );
+
+        assertThat( strings ).isEqualTo( asStrings( numbers ) );
+        generatedSource.forMapper( ParallelMappingMapper.class )
+            .content()
+            .contains( "if ( numbers instanceof RandomAccess && numbers.size() >= 4 ) {" )
+            .contains( "list.addAll( mapInParallel( numbers.size(), ForkJoinPool.commonPool(), i -> {" )
+            .contains( "private static <T> List<T> mapInParallel(int size, Executor executor, IntFunction<T> mapper)" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldMapSmallAndSequentialListsSequentially() {
+        assertThat( ParallelMappingMapper.INSTANCE.numbersToStrings( Arrays.asList( 1, 2, 3 ) ) )
+            .containsExactly( "1", "2", "3" );
+
+        List<Integer> numbers = new LinkedList<>( numbers( 100 ) );
+        assertThat( ParallelMappingMapper.INSTANCE.numbersToStrings( numbers ) ).isEqualTo( asStrings( numbers ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldMapLargeArrayInParallel() {
+        List<Integer> numbers = numbers( 100 );
+
+        Set<String> strings = ParallelMappingMapper.INSTANCE.numbersToStrings( numbers.toArray( new Integer[0] ) );
+
+        assertThat( strings ).containsExactlyElementsOf( asStrings( numbers ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldUseExecutorFromContext() {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = command -> {
+            tasks.incrementAndGet();
+            command.run();
+        };
+        List<Integer> numbers = numbers( 100 );
+
+        List<String> strings = ParallelMappingMapper.INSTANCE.numbersToStrings( numbers, executor );
+
+        assertThat( strings ).isEqualTo( asStrings( numbers ) );
+        assertThat( tasks.get() ).isPositive();
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldUpdateExistingCollectionInParallel() {
+        List<String> strings = new ArrayList<>( Arrays.asList( "a", "b" ) );
+        List<Integer> numbers = numbers( 100 );
+
+        ParallelMappingMapper.INSTANCE.updateStrings( numbers, strings );
+
+        assertThat( strings ).isEqualTo( asStrings( numbers ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMappingMapper.class)
+    public void shouldMapBeansInParallel() {
+        List<Fruit> fruits = numbers( 100 ).stream()
+            .map( number -> {
+                Fruit fruit = new Fruit();
+                fruit.setType( "fruit" + number );
+                return fruit;
+            } )
+            .collect( Collectors.toList() );
+
+        List<FruitDto> dtos = ParallelMappingMapper.INSTANCE.fruitsToDtos( fruits );
+
+        assertThat( dtos ).extracting( FruitDto::getType )
+            .isEqualTo( fruits.stream().map( Fruit::getType ).collect( Collectors.toList() ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelSetSourceMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = ParallelSetSourceMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 17,
+            message = "Parallel element mapping requires a java.util.List or array source and a collection result. "
+                + "The elements are mapped sequentially."))
+    public void shouldWarnAboutUnsupportedSourceType() {
+        generatedSource.forMapper( ParallelSetSourceMapper.class )
+            .content()
+            .doesNotContain( "mapInParallel" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelCheckedExceptionMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = ParallelCheckedExceptionMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 16,
+            messageRegExp = "Parallel element mapping is not possible as the element mapping throws "
+                + ".*FruitException.*"))
+    public void shouldWarnAboutCheckedExceptions() {
+        generatedSource.forMapper( ParallelCheckedExceptionMapper.class )
+            .content()
+            .doesNotContain( "mapInParallel" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelTrackReferencesMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ParallelTrackReferencesMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 16,
+            message = "Parallel element mapping can't be combined with reference tracking, as the elements mapped on "
+                + "other threads don't see the references tracked by the mapping call."))
+    public void shouldRejectReferenceTracking() {
+    }
+
+    @ProcessorTest
+    @WithClasses({ ParallelUsedTrackReferencesMapper.class, TrackReferencesFruitMapper.class })
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ParallelUsedTrackReferencesMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 16,
+            message = "Parallel element mapping can't be combined with reference tracking, as the elements mapped on "
+                + "other threads don't see the references tracked by the mapping call."))
+    public void shouldRejectReferenceTrackingOfUsedMapper() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelLazyMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = ParallelLazyMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 16,
+            message = "Parallel element mapping can't be combined with lazy element mapping. "
+                + "The elements are mapped lazily."))
+    public void shouldWarnAboutParallelAndLazyMapping() {
+        generatedSource.forMapper( ParallelLazyMapper.class )
+            .content()
+            .contains( "lazyList" )
+            .doesNotContain( "mapInParallel" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelThresholdMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousParallelThresholdMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 16,
+            message = "The parallel threshold must be a positive number, but was 0."))
+    public void shouldRejectParallelThresholdWhichIsNotPositive() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelThresholdWithoutParallelMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = ParallelThresholdWithoutParallelMapper.class,
+            kind = javax.tools.Diagnostic.Kind.WARNING,
+            line = 16,
+            message = "The parallel threshold is only taken into account if parallel element mapping is enabled."))
+    public void shouldWarnAboutParallelThresholdWithoutParallelMapping() {
+        generatedSource.forMapper( ParallelThresholdWithoutParallelMapper.class )
+            .content()
+            .doesNotContain( "mapInParallel" );
+    }
+
+    private static List<Integer> numbers(int count) {
+        return IntStream.range( 0, count ).boxed().collect( Collectors.toList() );
+    }
+
+    private static List<String> asStrings(List<Integer> numbers) {
+        return numbers.stream().map( String::valueOf ).collect( Collectors.toList() );
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ParallelLazyMapper {
+
+    @IterableMapping(parallel = true, lazy = true)
+    List<FruitDto> fruitsToDtos(List<Fruit> fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
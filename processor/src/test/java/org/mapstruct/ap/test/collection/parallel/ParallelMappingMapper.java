@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.mapstruct.Context;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ParallelMappingMapper {
+
+    ParallelMappingMapper INSTANCE = Mappers.getMapper( ParallelMappingMapper.class );
+
+    @IterableMapping(parallel = true, parallelThreshold = 4)
+    List<String> numbersToStrings(List<Integer> numbers);
+
+    @IterableMapping(parallel = true, parallelThreshold = 4)
+    Set<String> numbersToStrings(Integer[] numbers);
+
+    @IterableMapping(parallel = true, parallelThreshold = 4)
+    List<String> numbersToStrings(List<Integer> numbers, @Context Executor executor);
+
+    @IterableMapping(parallel = true, parallelThreshold = 4)
+    void updateStrings(List<Integer> numbers, @MappingTarget List<String> strings);
+
+    @IterableMapping(parallel = true, parallelThreshold = 4)
+    List<FruitDto> fruitsToDtos(List<Fruit> fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
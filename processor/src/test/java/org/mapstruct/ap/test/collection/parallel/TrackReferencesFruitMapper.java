@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import org.mapstruct.Mapper;
+
+@Mapper(trackReferences = true)
+public interface TrackReferencesFruitMapper {
+
+    FruitDto fruitToDto(Fruit fruit);
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+/**
+ * A minimal reactive type, holding a single element.
+ */
+public class Box<T> {
+
+    private final T element;
+
+    public Box(T element) {
+        this.element = element;
+    }
+
+    public T getElement() {
+        return element;
+    }
+
+    public <R> Box<R> transform(BoxFunction<? super T, ? extends R> function) {
+        return new Box<>( function.apply( element ) );
+    }
+}
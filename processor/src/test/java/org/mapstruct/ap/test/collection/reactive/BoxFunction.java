@@ -0,0 +1,12 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+@FunctionalInterface
+public interface BoxFunction<T, R> {
+
+    R apply(T element);
+}
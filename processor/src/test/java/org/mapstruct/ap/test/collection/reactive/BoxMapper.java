@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface BoxMapper {
+
+    BoxMapper INSTANCE = Mappers.getMapper( BoxMapper.class );
+
+    Box<FruitDto> boxToDto(Box<Fruit> box);
+
+    Box<String> copy(Box<String> box);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
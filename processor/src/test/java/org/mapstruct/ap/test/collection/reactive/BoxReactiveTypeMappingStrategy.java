@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.spi.DefaultReactiveTypeMappingStrategy;
+
+public class BoxReactiveTypeMappingStrategy extends DefaultReactiveTypeMappingStrategy {
+
+    @Override
+    public String getElementMappingMethodName(TypeElement reactiveType) {
+        if ( reactiveType.getQualifiedName().contentEquals( Box.class.getCanonicalName() ) ) {
+            return "transform";
+        }
+        return super.getElementMappingMethodName( reactiveType );
+    }
+}
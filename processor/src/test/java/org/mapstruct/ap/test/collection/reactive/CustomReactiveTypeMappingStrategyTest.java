@@ -0,0 +1,55 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.spi.ReactiveTypeMappingStrategy;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for mapping the elements of reactive types supported by a custom {@link ReactiveTypeMappingStrategy}.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class,
+    Box.class,
+    BoxFunction.class,
+    BoxMapper.class
+})
+@WithServiceImplementation(provides = ReactiveTypeMappingStrategy.class, value = BoxReactiveTypeMappingStrategy.class)
+public class CustomReactiveTypeMappingStrategyTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldMapElementsWithElementMappingMethod() {
+        Box<FruitDto> dto = BoxMapper.INSTANCE.boxToDto( new Box<>( new Fruit( "apple" ) ) );
+
+        assertThat( dto.getElement().getType() ).isEqualTo( "apple" );
+        assertThat( BoxMapper.INSTANCE.boxToDto( null ) ).isNull();
+
+        generatedSource.forMapper( BoxMapper.class )
+            .content()
+            .contains( "return box.transform( fruit -> fruitToDto( fruit ) );" );
+    }
+
+    @ProcessorTest
+    public void shouldMapElementsOfSameType() {
+        Box<String> copy = BoxMapper.INSTANCE.copy( new Box<>( "apple" ) );
+
+        assertThat( copy.getElement() ).isEqualTo( "apple" );
+
+        generatedSource.forMapper( BoxMapper.class )
+            .content()
+            .contains( "return box.transform( string -> string );" );
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousPublisherToListMapper {
+
+    List<FruitDto> fruitsToDtos(Flow.Publisher<Fruit> fruits);
+
+    FruitDto fruitToDto(Fruit fruit);
+}
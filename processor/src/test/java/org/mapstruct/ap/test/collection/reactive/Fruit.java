@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+public class Fruit {
+
+    private final String type;
+    private int typeReads;
+
+    public Fruit(String type) {
+        this.type = type;
+    }
+
+    public String getType() {
+        typeReads++;
+        return type;
+    }
+
+    public int getTypeReads() {
+        return typeReads;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import java.util.concurrent.Flow;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface PublisherMapper {
+
+    PublisherMapper INSTANCE = Mappers.getMapper( PublisherMapper.class );
+
+    Flow.Publisher<FruitDto> fruitsToDtos(Flow.Publisher<Fruit> fruits);
+
+    default FruitDto fruitToDto(Fruit fruit) {
+        if ( "rotten".equals( fruit.getType() ) ) {
+            throw new IllegalArgumentException( "Rotten fruit" );
+        }
+        if ( "unknown".equals( fruit.getType() ) ) {
+            return null;
+        }
+        FruitDto dto = new FruitDto();
+        dto.setType( fruit.getType() );
+        return dto;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for mapping {@link Flow.Publisher}s, mapping the elements when they are emitted.
+ */
+@WithClasses({
+    Fruit.class,
+    FruitDto.class
+})
+public class PublisherMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(PublisherMapper.class)
+    public void shouldMapElementsOnDemand() {
+        Fruit apple = new Fruit( "apple" );
+        Fruit banana = new Fruit( "banana" );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        try ( SubmissionPublisher<Fruit> publisher = new SubmissionPublisher<>( Runnable::run, 16 ) ) {
+            PublisherMapper.INSTANCE.fruitsToDtos( publisher ).subscribe( subscriber );
+            publisher.submit( apple );
+            publisher.submit( banana );
+
+            assertThat( subscriber.types ).isEmpty();
+            assertThat( apple.getTypeReads() ).isZero();
+
+            subscriber.subscription.request( 1 );
+            assertThat( subscriber.types ).containsExactly( "apple" );
+            assertThat( banana.getTypeReads() ).isZero();
+
+            subscriber.subscription.request( 1 );
+            assertThat( subscriber.types ).containsExactly( "apple", "banana" );
+        }
+
+        assertThat( subscriber.completed ).isTrue();
+        assertThat( subscriber.error ).isNull();
+
+        generatedSource.forMapper( PublisherMapper.class )
+            .content()
+            .contains( "return mappedPublisher( fruits, fruit -> fruitToDto( fruit ) );" )
+            .contains( "private static <S, T> Flow.Publisher<T> mappedPublisher(Flow.Publisher<S> source, "
+                + "Function<? super S, ? extends T> mapper)" );
+    }
+
+    @ProcessorTest
+    @WithClasses(PublisherMapper.class)
+    public void shouldSignalFailedElementMapping() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        try ( SubmissionPublisher<Fruit> publisher = new SubmissionPublisher<>( Runnable::run, 16 ) ) {
+            PublisherMapper.INSTANCE.fruitsToDtos( publisher ).subscribe( subscriber );
+            subscriber.subscription.request( Long.MAX_VALUE );
+            publisher.submit( new Fruit( "rotten" ) );
+            publisher.submit( new Fruit( "apple" ) );
+        }
+
+        assertThat( subscriber.types ).isEmpty();
+        assertThat( subscriber.error ).isInstanceOf( IllegalArgumentException.class );
+        assertThat( subscriber.completed ).isFalse();
+    }
+
+    @ProcessorTest
+    @WithClasses(PublisherMapper.class)
+    public void shouldSignalElementMappedToNull() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        try ( SubmissionPublisher<Fruit> publisher = new SubmissionPublisher<>( Runnable::run, 16 ) ) {
+            PublisherMapper.INSTANCE.fruitsToDtos( publisher ).subscribe( subscriber );
+            subscriber.subscription.request( Long.MAX_VALUE );
+            publisher.submit( new Fruit( "apple" ) );
+            publisher.submit( new Fruit( "unknown" ) );
+            publisher.submit( new Fruit( "banana" ) );
+        }
+
+        assertThat( subscriber.types ).containsExactly( "apple" );
+        assertThat( subscriber.error ).isInstanceOf( NullPointerException.class );
+        assertThat( subscriber.completed ).isFalse();
+    }
+
+    @ProcessorTest
+    @WithClasses(PublisherMapper.class)
+    public void shouldMapNullSource() {
+        assertThat( PublisherMapper.INSTANCE.fruitsToDtos( null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousPublisherToListMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousPublisherToListMapper.class,
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            line = 16,
+            message = "Can't generate mapping method from Flow.Publisher<Fruit> to List<FruitDto>. A Flow.Publisher "
+                + "can only be mapped to java.util.concurrent.Flow.Publisher, returned by the method."))
+    public void shouldFailToMapPublisherToList() {
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<FruitDto> {
+
+        private final List<String> types = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(FruitDto item) {
+            types.add( item.getType() );
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -5,9 +5,11 @@
  */
 package org.mapstruct.ap.test.conversion._enum;
 
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.ProcessorTest;
 import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,6 +28,9 @@
 })
 public class EnumToIntegerConversionTest {
 
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
     @ProcessorTest
     public void shouldApplyEnumToIntegerConversion() {
         EnumToIntegerSource source = new EnumToIntegerSource();
@@ -74,4 +79,12 @@ public void shouldHandleNullIntegerValue() {
         assertThat( source.getEnumValue() ).isNull();
         assertThat( source.getInvalidEnumValue() ).isNull();
     }
+
+    @ProcessorTest
+    public void shouldNotCloneEnumValuesOnEachConversion() {
+        generatedSource.forMapper( EnumToIntegerMapper.class )
+            .content()
+            .contains( "private static final EnumToIntegerEnum[] values_org_mapstruct_ap_test_conversion__enum_" )
+            .doesNotContain( "EnumToIntegerEnum.values()[" );
+    }
 }
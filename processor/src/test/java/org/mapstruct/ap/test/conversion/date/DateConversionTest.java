@@ -12,15 +12,19 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.TimeZone;
 
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.EnabledOnJre;
 import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junitpioneer.jupiter.DefaultLocale;
+import org.junitpioneer.jupiter.DefaultTimeZone;
 import org.junitpioneer.jupiter.ReadsDefaultTimeZone;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.ProcessorTest;
 import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,6 +43,39 @@
 @ReadsDefaultTimeZone
 public class DateConversionTest {
 
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldReuseSimpleDateFormatPerThread() {
+        generatedSource.forMapper( SourceTargetMapper.class )
+            .content()
+            .contains( "private final ThreadLocal<Map<Locale, SimpleDateFormat>> simpleDateFormat_dd_MM_yyyy_" )
+            .contains( "private final ThreadLocal<Map<Locale, SimpleDateFormat>> simpleDateFormat_MMMM_dd__yyyy_" )
+            .doesNotContain( "new SimpleDateFormat( \"dd.MM.yyyy\" ).format(" );
+    }
+
+    @ProcessorTest
+    @DefaultTimeZone("UTC")
+    public void shouldApplyChangedDefaultTimeZoneToReusedSimpleDateFormat() {
+        Source source = new Source();
+        source.setDate( new Date( 1373153400000L ) );
+
+        assertThat( SourceTargetMapper.INSTANCE.sourceToTarget( source ).getDate() ).isEqualTo( "06.07.2013" );
+
+        TimeZone.setDefault( TimeZone.getTimeZone( "Europe/Berlin" ) );
+
+        assertThat( SourceTargetMapper.INSTANCE.sourceToTarget( source ).getDate() ).isEqualTo( "07.07.2013" );
+    }
+
+    @ProcessorTest
+    public void shouldHoistLocaleIntoConstant() {
+        generatedSource.forMapper( SourceTargetMapper.class )
+            .content()
+            .contains( "private static final Locale locale_fr_" )
+            .doesNotContain( "\"MMMM dd, yyyy\", Locale.forLanguageTag( \"fr\" )" );
+    }
+
     @ProcessorTest
     @EnabledOnJre( JRE.JAVA_8 )
     // See https://bugs.openjdk.java.net/browse/JDK-8211262, there is a difference in the default formats on Java 9+
@@ -96,19 +96,19 @@ public void shouldApplyStringConversionsWithCustomLocale() {
         Target target = SourceTargetMapper.INSTANCE.sourceToTargetWithCustomLocale( source );
 
         assertThat( target ).isNotNull();
-        assertThat( target.getI() ).isEqualTo( "1.00" );
-        assertThat( target.getIi() ).isEqualTo( "2.00" );
-        assertThat( target.getD() ).isEqualTo( "3.00" );
-        assertThat( target.getDd() ).isEqualTo( "4.00" );
-        assertThat( target.getF() ).isEqualTo( "3.00" );
-        assertThat( target.getFf() ).isEqualTo( "4.00" );
-        assertThat( target.getL() ).isEqualTo( "5.00" );
-        assertThat( target.getLl() ).isEqualTo( "6.00" );
-        assertThat( target.getB() ).isEqualTo( "7.00" );
-        assertThat( target.getBb() ).isEqualTo( "8.00" );
-
-        assertThat( target.getComplex1() ).isEqualTo( "345.35E3" );
-        assertThat( target.getComplex2() ).isEqualTo( "$5007034.30" );
+        assertThat( target.getI() ).isEqualTo( "1,00" );
+        assertThat( target.getIi() ).isEqualTo( "2,00" );
+        assertThat( target.getD() ).isEqualTo( "3,00" );
+        assertThat( target.getDd() ).isEqualTo( "4,00" );
+        assertThat( target.getF() ).isEqualTo( "3,00" );
+        assertThat( target.getFf() ).isEqualTo( "4,00" );
+        assertThat( target.getL() ).isEqualTo( "5,00" );
+        assertThat( target.getLl() ).isEqualTo( "6,00" );
+        assertThat( target.getB() ).isEqualTo( "7,00" );
+        assertThat( target.getBb() ).isEqualTo( "8,00" );
+
+        assertThat( target.getComplex1() ).isEqualTo( "345,35E3" );
+        assertThat( target.getComplex2() ).isEqualTo( "$5007034,30" );
 
         assertThat( target.getBigDecimal1() ).isEqualTo( "9,87E-18" );
         assertThat( target.getBigInteger1() ).isEqualTo( "1,23456789E12" );
@@ -158,19 +158,19 @@ public void shouldApplyReverseStringConversions() {
     @ProcessorTest
     public void shouldApplyReverseStringConversionsWithCustomLocale() {
         Target target = new Target();
-        target.setI( "1.00" );
-        target.setIi( "2.00" );
-        target.setD( "3.00" );
-        target.setDd( "4.00" );
-        target.setF( "3.00" );
-        target.setFf( "4.00" );
-        target.setL( "5.00" );
-        target.setLl( "6.00" );
-        target.setB( "7.00" );
-        target.setBb( "8.00" );
-
-        target.setComplex1( "345.35E3" );
-        target.setComplex2( "$5007034.30" );
+        target.setI( "1,00" );
+        target.setIi( "2,00" );
+        target.setD( "3,00" );
+        target.setDd( "4,00" );
+        target.setF( "3,00" );
+        target.setFf( "4,00" );
+        target.setL( "5,00" );
+        target.setLl( "6,00" );
+        target.setB( "7,00" );
+        target.setBb( "8,00" );
+
+        target.setComplex1( "345,35E3" );
+        target.setComplex2( "$5007034,30" );
 
         target.setBigDecimal1( "9,87E-18" );
         target.setBigInteger1( "1,23456789E12" );
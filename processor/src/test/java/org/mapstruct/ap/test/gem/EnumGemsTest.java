@@ -17,6 +17,8 @@
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.NullValueMappingStrategy;
 import org.mapstruct.ReportingPolicy;
+import org.mapstruct.SubclassDispatchStrategy;
+import org.mapstruct.ValueMappingLookupStrategy;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ConditionStrategyGem;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
@@ -24,6 +26,8 @@
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.gem.SubclassDispatchStrategyGem;
+import org.mapstruct.ap.internal.gem.ValueMappingLookupStrategyGem;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -75,6 +79,18 @@ public void conditionStrategyGemIsCorrect() {
             namesOf( ConditionStrategyGem.values() ) );
     }
 
+    @Test
+    public void valueMappingLookupStrategyGemIsCorrect() {
+        assertThat( namesOf( ValueMappingLookupStrategy.values() ) ).isEqualTo(
+            namesOf( ValueMappingLookupStrategyGem.values() ) );
+    }
+
+    @Test
+    public void subclassDispatchStrategyGemIsCorrect() {
+        assertThat( namesOf( SubclassDispatchStrategy.values() ) ).isEqualTo(
+            namesOf( SubclassDispatchStrategyGem.values() ) );
+    }
+
     private static List<String> namesOf(Enum<?>[] values) {
         return Stream.of( values )
             .map( Enum::name )
@@ -72,17 +72,20 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 23,
-                message = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
+                message = "'nullValueMappingStrategy', 'dateFormat', 'numberFormat', 'qualifiedBy', "
+                    + "'qualifiedByName', 'elementTargetType', 'parallel', 'lazy' and 'elementKey' are "
                     + "undefined in @IterableMapping, define at least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 26,
-                message = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
+                message = "'nullValueMappingStrategy', 'dateFormat', 'numberFormat', 'qualifiedBy', "
+                    + "'qualifiedByName', 'elementTargetType', 'parallel', 'lazy' and 'elementKey' are "
                     + "undefined in @IterableMapping, define at least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 29,
-                message = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
+                message = "'nullValueMappingStrategy', 'dateFormat', 'numberFormat', 'qualifiedBy', "
+                    + "'qualifiedByName', 'elementTargetType', 'parallel', 'lazy' and 'elementKey' are "
                     + "undefined in @IterableMapping, define at least one of them.")
         }
     )
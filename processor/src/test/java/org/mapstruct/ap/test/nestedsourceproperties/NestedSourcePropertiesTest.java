@@ -68,6 +68,35 @@ public void shouldGenerateImplementationForPropertyNamesOnly() {
         assertThat( chartEntry.getSongTitle() ).isEqualTo( "A Hard Day's Night" );
     }
 
+    @ProcessorTest
+    @WithClasses({ ArtistToChartEntry.class })
+    public void shouldMapNullIntermediatesOfSharedSourcePaths() {
+        Artist artist = new Artist();
+        artist.setName( "The Beatles" );
+
+        Song song = new Song();
+        song.setArtist( artist );
+        song.setTitle( "A Hard Day's Night" );
+
+        ChartEntry chartEntry = ArtistToChartEntry.MAPPER.map( song );
+
+        assertThat( chartEntry ).isNotNull();
+        assertThat( chartEntry.getArtistName() ).isEqualTo( "The Beatles" );
+        assertThat( chartEntry.getCity() ).isNull();
+        assertThat( chartEntry.getRecordedAt() ).isNull();
+        assertThat( chartEntry.getSongTitle() ).isEqualTo( "A Hard Day's Night" );
+
+        song.setArtist( null );
+
+        chartEntry = ArtistToChartEntry.MAPPER.map( song );
+
+        assertThat( chartEntry ).isNotNull();
+        assertThat( chartEntry.getArtistName() ).isNull();
+        assertThat( chartEntry.getCity() ).isNull();
+        assertThat( chartEntry.getRecordedAt() ).isNull();
+        assertThat( chartEntry.getSongTitle() ).isEqualTo( "A Hard Day's Night" );
+    }
+
     @ProcessorTest
     @WithClasses({ ArtistToChartEntry.class })
     public void shouldGenerateImplementationForMultipleParam() {
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.getter;
+
+public class Address {
+
+    private final String city;
+    private int cityReads;
+
+    public Address(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        cityReads++;
+        return city;
+    }
+
+    public int getCityReads() {
+        return cityReads;
+    }
+}
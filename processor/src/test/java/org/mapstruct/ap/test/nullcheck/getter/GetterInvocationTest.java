@@ -0,0 +1,58 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.getter;
+
+import java.util.Arrays;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the getters of the source properties are invoked once, for the null check as well as for the assignment.
+ */
+@WithClasses({
+    Address.class,
+    Person.class,
+    PersonDto.class,
+    PersonMapper.class
+})
+public class GetterInvocationTest {
+
+    @ProcessorTest
+    public void shouldInvokeEachGetterOnce() {
+        Address address = new Address( "Rome" );
+        Person person = new Person();
+        person.setAge( "42" );
+        person.setAddress( address );
+        person.setNicknames( Arrays.asList( "Bob", "Bobby" ) );
+
+        PersonDto dto = PersonMapper.INSTANCE.map( person );
+
+        assertThat( dto.getAge() ).isEqualTo( 42 );
+        assertThat( dto.getCity() ).isEqualTo( "Rome" );
+        assertThat( dto.getTown() ).isEqualTo( "Rome" );
+        assertThat( dto.getNicknames() ).containsExactly( "Bob", "Bobby" );
+
+        assertThat( person.getAgeReads() ).isEqualTo( 1 );
+        assertThat( person.getAddressReads() ).isEqualTo( 1 );
+        assertThat( address.getCityReads() ).isEqualTo( 1 );
+        assertThat( person.getNicknamesReads() ).isEqualTo( 1 );
+    }
+
+    @ProcessorTest
+    public void shouldMapNullSourceProperties() {
+        Person person = new Person();
+
+        PersonDto dto = PersonMapper.INSTANCE.map( person );
+
+        assertThat( dto.getAge() ).isNull();
+        assertThat( dto.getCity() ).isNull();
+        assertThat( dto.getTown() ).isNull();
+        assertThat( dto.getNicknames() ).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.getter;
+
+import java.util.List;
+
+public class Person {
+
+    private String age;
+    private Address address;
+    private List<String> nicknames;
+    private int ageReads;
+    private int addressReads;
+    private int nicknamesReads;
+
+    public String getAge() {
+        ageReads++;
+        return age;
+    }
+
+    public void setAge(String age) {
+        this.age = age;
+    }
+
+    public Address getAddress() {
+        addressReads++;
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public List<String> getNicknames() {
+        nicknamesReads++;
+        return nicknames;
+    }
+
+    public void setNicknames(List<String> nicknames) {
+        this.nicknames = nicknames;
+    }
+
+    public int getAgeReads() {
+        return ageReads;
+    }
+
+    public int getAddressReads() {
+        return addressReads;
+    }
+
+    public int getNicknamesReads() {
+        return nicknamesReads;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PersonDto {
+
+    private Integer age;
+    private String city;
+    private String town;
+    private List<String> nicknames = new ArrayList<>();
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getTown() {
+        return town;
+    }
+
+    public void setTown(String town) {
+        this.town = town;
+    }
+
+    public List<String> getNicknames() {
+        return nicknames;
+    }
+
+    public void addNickname(String nickname) {
+        nicknames.add( nickname );
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references;
+
+public class AddressDto {
+
+    private final String city;
+
+    public AddressDto(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        return city;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Address.class,
+    AddressDto.class,
+    Person.class,
+    PersonDto.class,
+    PersonMapper.class,
+    SubmissionMapper.class
+})
+public class ReferenceTrackingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldReproduceCycles() {
+        Person john = new Person( "John", new Address( "Amsterdam" ) );
+        Person jane = new Person( "Jane", new Address( "Berlin" ) );
+        john.setPartner( jane );
+        jane.setPartner( john );
+
+        PersonDto johnDto = PersonMapper.INSTANCE.map( john );
+
+        assertThat( johnDto.getName() ).isEqualTo( "John" );
+        assertThat( johnDto.getPartner().getName() ).isEqualTo( "Jane" );
+        assertThat( johnDto.getPartner().getPartner() ).isSameAs( johnDto );
+    }
+
+    @ProcessorTest
+    public void shouldMapSharedReferencesOnce() {
+        Address address = new Address( "Amsterdam" );
+        Person john = new Person( "John", address );
+        Person jane = new Person( "Jane", address );
+        john.setPartner( jane );
+
+        PersonDto johnDto = PersonMapper.INSTANCE.map( john );
+
+        assertThat( johnDto.getAddress().getCity() ).isEqualTo( "Amsterdam" );
+        assertThat( johnDto.getPartner().getAddress() ).isSameAs( johnDto.getAddress() );
+    }
+
+    @ProcessorTest
+    public void shouldNotShareTargetsBetweenMappingCalls() {
+        Person john = new Person( "John", new Address( "Amsterdam" ) );
+
+        PersonDto first = PersonMapper.INSTANCE.map( john );
+        PersonDto second = PersonMapper.INSTANCE.map( john );
+
+        assertThat( second ).isNotSameAs( first );
+        assertThat( second.getAddress() ).isNotSameAs( first.getAddress() );
+        assertThat( PersonMapper.INSTANCE.map( null ) ).isNull();
+
+        generatedSource.forMapper( PersonMapper.class )
+            .content()
+            .contains( "MappedReferences mappedReferences = MappedReferences.enter();" )
+            .contains( "private static final Object mapReferencesKey = new Object();" )
+            .contains( "mappedReferences.put( person, mapReferencesKey, personDto );" )
+            .contains( "mappedReferences.exit();" );
+    }
+
+    @ProcessorTest
+    public void shouldKeepTargetsOfDifferentMethodsForSameTypesApart() {
+        Person john = new Person( "John", new Address( "Amsterdam" ) );
+
+        SubmissionMapper.SubmissionDto dto = SubmissionMapper.INSTANCE.map( new SubmissionMapper.Submission( john ) );
+
+        assertThat( dto.getAuthor().getName() ).isEqualTo( "John" );
+        assertThat( dto.getAnonymousAuthor().getName() ).isEqualTo( "anonymous" );
+        assertThat( dto.getAnonymousAuthor() ).isNotSameAs( dto.getAuthor() );
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+@Mapper( trackReferences = true )
+public interface SubmissionMapper {
+
+    SubmissionMapper INSTANCE = Mappers.getMapper( SubmissionMapper.class );
+
+    @Mapping( target = "anonymousAuthor", source = "author", qualifiedByName = "anonymize" )
+    SubmissionDto map(Submission submission);
+
+    PersonDto map(Person person);
+
+    @Named( "anonymize" )
+    @Mapping( target = "name", constant = "anonymous" )
+    @Mapping( target = "partner", ignore = true )
+    PersonDto anonymize(Person person);
+
+    class Submission {
+
+        private final Person author;
+
+        public Submission(Person author) {
+            this.author = author;
+        }
+
+        public Person getAuthor() {
+            return author;
+        }
+    }
+
+    class SubmissionDto {
+
+        private PersonDto author;
+        private PersonDto anonymousAuthor;
+
+        public PersonDto getAuthor() {
+            return author;
+        }
+
+        public void setAuthor(PersonDto author) {
+            this.author = author;
+        }
+
+        public PersonDto getAnonymousAuthor() {
+            return anonymousAuthor;
+        }
+
+        public void setAnonymousAuthor(PersonDto anonymousAuthor) {
+            this.anonymousAuthor = anonymousAuthor;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import java.util.Locale;
+
+public class CommonMapper {
+
+    public String toUpperCase(String value) {
+        return value == null ? null : value.toUpperCase( Locale.ROOT );
+    }
+
+    Integer countCharacters(String value) {
+        return value == null ? null : value.length();
+    }
+}
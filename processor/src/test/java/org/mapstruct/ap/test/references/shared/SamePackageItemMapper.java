@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = CommonMapper.class)
+public interface SamePackageItemMapper {
+
+    SamePackageItemMapper INSTANCE = Mappers.getMapper( SamePackageItemMapper.class );
+
+    ItemDto itemToDto(Item item);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import org.mapstruct.ap.test.references.shared.other.OtherPackageItemMapper;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for mappers using the same mapper within one round, which determine the methods of the used mapper they can
+ * reference only once.
+ */
+@WithClasses({
+    Item.class,
+    ItemDto.class,
+    CommonMapper.class,
+    SamePackageItemMapper.class,
+    OtherPackageItemMapper.class
+})
+public class SharedUsedMapperTest {
+
+    @ProcessorTest
+    public void shouldReferenceAccessibleMethodsOfSharedMapperOnly() {
+        ItemDto samePackageDto = SamePackageItemMapper.INSTANCE.itemToDto( new Item( "apple", "12" ) );
+
+        assertThat( samePackageDto.getName() ).isEqualTo( "APPLE" );
+        assertThat( samePackageDto.getCount() ).isEqualTo( 2 );
+
+        ItemDto otherPackageDto = OtherPackageItemMapper.INSTANCE.itemToDto( new Item( "apple", "12" ) );
+
+        assertThat( otherPackageDto.getName() ).isEqualTo( "APPLE" );
+        assertThat( otherPackageDto.getCount() ).isEqualTo( 12 );
+    }
+}
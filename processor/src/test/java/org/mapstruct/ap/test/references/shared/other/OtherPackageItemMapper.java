@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared.other;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ap.test.references.shared.CommonMapper;
+import org.mapstruct.ap.test.references.shared.Item;
+import org.mapstruct.ap.test.references.shared.ItemDto;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = CommonMapper.class)
+public interface OtherPackageItemMapper {
+
+    OtherPackageItemMapper INSTANCE = Mappers.getMapper( OtherPackageItemMapper.class );
+
+    ItemDto itemToDto(Item item);
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.candidates;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CandidateSelectionMapper {
+
+    CandidateSelectionMapper INSTANCE = Mappers.getMapper( CandidateSelectionMapper.class );
+
+    FleetDto map(Fleet fleet);
+
+    default String describe(Vehicle vehicle) {
+        return "vehicle " + vehicle.getName();
+    }
+
+    default Long toId(Entity entity) {
+        return entity.getId();
+    }
+
+    default <T extends Identifiable> Key toKey(T identifiable) {
+        return new Key( "key-" + identifiable.getId() );
+    }
+
+    default String seatsToString(int seats) {
+        return seats + " seats";
+    }
+
+    default Badge toBadge(Vehicle vehicle) {
+        return new Badge( vehicle.getName() );
+    }
+
+    default Label toLabel(Badge badge) {
+        return new Label( "label " + badge.getText() );
+    }
+
+    interface Identifiable {
+
+        Long getId();
+    }
+
+    interface Vehicle {
+
+        String getName();
+    }
+
+    abstract class Entity implements Identifiable {
+
+        private final Long id;
+
+        protected Entity(Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    class Car extends Entity implements Vehicle {
+
+        private final String name;
+
+        public Car(Long id, String name) {
+            super( id );
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    class Key {
+
+        private final String value;
+
+        public Key(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    class Badge {
+
+        private final String text;
+
+        public Badge(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    class Label {
+
+        private final String text;
+
+        public Label(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    class Fleet {
+
+        private Car flagship;
+        private Car reserve;
+        private Car registration;
+        private int seats;
+        private Integer crew;
+        private Car spare;
+
+        public Car getFlagship() {
+            return flagship;
+        }
+
+        public void setFlagship(Car flagship) {
+            this.flagship = flagship;
+        }
+
+        public Car getReserve() {
+            return reserve;
+        }
+
+        public void setReserve(Car reserve) {
+            this.reserve = reserve;
+        }
+
+        public Car getRegistration() {
+            return registration;
+        }
+
+        public void setRegistration(Car registration) {
+            this.registration = registration;
+        }
+
+        public int getSeats() {
+            return seats;
+        }
+
+        public void setSeats(int seats) {
+            this.seats = seats;
+        }
+
+        public Integer getCrew() {
+            return crew;
+        }
+
+        public void setCrew(Integer crew) {
+            this.crew = crew;
+        }
+
+        public Car getSpare() {
+            return spare;
+        }
+
+        public void setSpare(Car spare) {
+            this.spare = spare;
+        }
+    }
+
+    class FleetDto {
+
+        private String flagship;
+        private Long reserve;
+        private Key registration;
+        private String seats;
+        private String crew;
+        private Label spare;
+
+        public String getFlagship() {
+            return flagship;
+        }
+
+        public void setFlagship(String flagship) {
+            this.flagship = flagship;
+        }
+
+        public Long getReserve() {
+            return reserve;
+        }
+
+        public void setReserve(Long reserve) {
+            this.reserve = reserve;
+        }
+
+        public Key getRegistration() {
+            return registration;
+        }
+
+        public void setRegistration(Key registration) {
+            this.registration = registration;
+        }
+
+        public String getSeats() {
+            return seats;
+        }
+
+        public void setSeats(String seats) {
+            this.seats = seats;
+        }
+
+        public String getCrew() {
+            return crew;
+        }
+
+        public void setCrew(String crew) {
+            this.crew = crew;
+        }
+
+        public Label getSpare() {
+            return spare;
+        }
+
+        public void setSpare(Label spare) {
+            this.spare = spare;
+        }
+    }
+}
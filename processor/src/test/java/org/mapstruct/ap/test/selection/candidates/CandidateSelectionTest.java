@@ -0,0 +1,62 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.candidates;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.test.selection.candidates.CandidateSelectionMapper.Car;
+import org.mapstruct.ap.test.selection.candidates.CandidateSelectionMapper.Fleet;
+import org.mapstruct.ap.test.selection.candidates.CandidateSelectionMapper.FleetDto;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the selection of mapping methods whose source parameter is not of the exact source type, which must still
+ * be found after the candidate methods have been narrowed down by the source type.
+ */
+@WithClasses(CandidateSelectionMapper.class)
+public class CandidateSelectionTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldSelectMethodsTakingSupertypesTypeVariablesAndPrimitives() {
+        generatedSource.forMapper( CandidateSelectionMapper.class )
+            .content()
+            // parameter of an interface implemented by the source type
+            .contains( "describe( fleet.getFlagship() )" )
+            // parameter of a superclass of the source type
+            .contains( "toId( fleet.getReserve() )" )
+            // type variable parameter bound by an interface of a superclass of the source type
+            .contains( "toKey( fleet.getRegistration() )" )
+            // primitive parameter for a primitive source type, which isn't narrowed down by the source type
+            .contains( "seatsToString( fleet.getSeats() )" )
+            // primitive parameter for a boxed source type isn't selected, the built-in conversion is used instead
+            .contains( "fleetDto.setCrew( String.valueOf( crew ) );" )
+            // 2-step mapping whose first method takes an interface implemented by the source type
+            .contains( "toLabel( toBadge( fleet.getSpare() ) )" );
+
+        Fleet fleet = new Fleet();
+        fleet.setFlagship( new Car( 1L, "Flagship" ) );
+        fleet.setReserve( new Car( 2L, "Reserve" ) );
+        fleet.setRegistration( new Car( 3L, "Registered" ) );
+        fleet.setSeats( 5 );
+        fleet.setCrew( 12 );
+        fleet.setSpare( new Car( 4L, "Spare" ) );
+
+        FleetDto dto = CandidateSelectionMapper.INSTANCE.map( fleet );
+
+        assertThat( dto.getFlagship() ).isEqualTo( "vehicle Flagship" );
+        assertThat( dto.getReserve() ).isEqualTo( 2L );
+        assertThat( dto.getRegistration().getValue() ).isEqualTo( "key-3" );
+        assertThat( dto.getSeats() ).isEqualTo( "5 seats" );
+        assertThat( dto.getCrew() ).isEqualTo( "12" );
+        assertThat( dto.getSpare().getText() ).isEqualTo( "label Spare" );
+    }
+}
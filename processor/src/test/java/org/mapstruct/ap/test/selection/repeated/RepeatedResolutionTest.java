@@ -0,0 +1,91 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for mappers resolving property mappings between the same types several times, in one mapping method for
+ * differently named properties as well as in several mapping methods. Those resolutions take the step by which the
+ * first one succeeded, e.g. a 2-step mapping or a forged method, and must result in the same mapping as the first one.
+ */
+@WithClasses({
+    Address.class,
+    AddressDto.class,
+    Shipment.class,
+    ShipmentDto.class,
+    ShipmentMapper.class,
+    ShipmentSummary.class,
+    Weight.class
+})
+public class RepeatedResolutionTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldGenerateSameMappingForRepeatedResolutions() {
+        generatedSource.forMapper( ShipmentMapper.class )
+            .content()
+            // 2-step mapping via toGrams() and a conversion, taken again for a differently named property
+            .contains( "String.valueOf( toGrams( weight ) )" )
+            .contains( "String.valueOf( toGrams( tare ) )" )
+            // forged method, taken again for a differently named property and in the other mapping methods
+            .contains( "addressToAddressDto( shipment.getAddress() )" )
+            .contains( "addressToAddressDto( shipment.getReturnAddress() )" )
+            .containsOnlyOnce( "protected AddressDto addressToAddressDto(Address address)" )
+            // the same types with another date format are not resolved by the same conversion
+            .contains( "LocalDate.parse( shippedOn, dateTimeFormatter_yyyy_MM_dd_" )
+            .contains( "LocalDate.parse( deliveredOn )" );
+    }
+
+    @ProcessorTest
+    public void shouldResolveRepeatedPropertyMappingsInEachMethod() {
+        Shipment shipment = new Shipment();
+        shipment.setShippedOn( "2024-05-01" );
+        shipment.setDeliveredOn( "2024-05-03" );
+        shipment.setCreated( new Date( 1000L ) );
+        shipment.setWeight( new Weight( 1500L ) );
+        shipment.setTare( new Weight( 200L ) );
+        shipment.setAddress( new Address( "Zurich" ) );
+        shipment.setReturnAddress( new Address( "Basel" ) );
+
+        ShipmentDto dto = ShipmentMapper.INSTANCE.toDto( shipment );
+
+        assertThat( dto.getShippedOn() ).isEqualTo( LocalDate.of( 2024, 5, 1 ) );
+        assertThat( dto.getDeliveredOn() ).isEqualTo( LocalDate.of( 2024, 5, 3 ) );
+        assertThat( dto.getCreated().getTimeInMillis() ).isEqualTo( 1000L );
+        assertThat( dto.getWeight() ).isEqualTo( "1500" );
+        assertThat( dto.getTare() ).isEqualTo( "200" );
+        assertThat( dto.getAddress().getCity() ).isEqualTo( "Zurich" );
+        assertThat( dto.getReturnAddress().getCity() ).isEqualTo( "Basel" );
+
+        ShipmentDto updated = new ShipmentDto();
+        ShipmentMapper.INSTANCE.updateDto( shipment, updated );
+
+        assertThat( updated.getShippedOn() ).isEqualTo( LocalDate.of( 2024, 5, 1 ) );
+        assertThat( updated.getDeliveredOn() ).isEqualTo( LocalDate.of( 2024, 5, 3 ) );
+        assertThat( updated.getCreated().getTimeInMillis() ).isEqualTo( 1000L );
+        assertThat( updated.getWeight() ).isEqualTo( "1500" );
+        assertThat( updated.getTare() ).isEqualTo( "200" );
+        assertThat( updated.getAddress().getCity() ).isEqualTo( "Zurich" );
+        assertThat( updated.getReturnAddress().getCity() ).isEqualTo( "Basel" );
+
+        ShipmentSummary summary = ShipmentMapper.INSTANCE.toSummary( shipment );
+
+        assertThat( summary.getShippedOn() ).isEqualTo( LocalDate.of( 2024, 5, 1 ) );
+        assertThat( summary.getWeight() ).isEqualTo( "1500" );
+        assertThat( summary.getAddress().getCity() ).isEqualTo( "Zurich" );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+import java.util.Date;
+
+public class Shipment {
+
+    private String shippedOn;
+    private Date created;
+    private Weight weight;
+    private Address address;
+    private String deliveredOn;
+    private Weight tare;
+    private Address returnAddress;
+
+    public String getShippedOn() {
+        return shippedOn;
+    }
+
+    public void setShippedOn(String shippedOn) {
+        this.shippedOn = shippedOn;
+    }
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public Weight getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Weight weight) {
+        this.weight = weight;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public String getDeliveredOn() {
+        return deliveredOn;
+    }
+
+    public void setDeliveredOn(String deliveredOn) {
+        this.deliveredOn = deliveredOn;
+    }
+
+    public Weight getTare() {
+        return tare;
+    }
+
+    public void setTare(Weight tare) {
+        this.tare = tare;
+    }
+
+    public Address getReturnAddress() {
+        return returnAddress;
+    }
+
+    public void setReturnAddress(Address returnAddress) {
+        this.returnAddress = returnAddress;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+public class ShipmentDto {
+
+    private LocalDate shippedOn;
+    private Calendar created;
+    private String weight;
+    private AddressDto address;
+    private LocalDate deliveredOn;
+    private String tare;
+    private AddressDto returnAddress;
+
+    public LocalDate getShippedOn() {
+        return shippedOn;
+    }
+
+    public void setShippedOn(LocalDate shippedOn) {
+        this.shippedOn = shippedOn;
+    }
+
+    public Calendar getCreated() {
+        return created;
+    }
+
+    public void setCreated(Calendar created) {
+        this.created = created;
+    }
+
+    public String getWeight() {
+        return weight;
+    }
+
+    public void setWeight(String weight) {
+        this.weight = weight;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+
+    public LocalDate getDeliveredOn() {
+        return deliveredOn;
+    }
+
+    public void setDeliveredOn(LocalDate deliveredOn) {
+        this.deliveredOn = deliveredOn;
+    }
+
+    public String getTare() {
+        return tare;
+    }
+
+    public void setTare(String tare) {
+        this.tare = tare;
+    }
+
+    public AddressDto getReturnAddress() {
+        return returnAddress;
+    }
+
+    public void setReturnAddress(AddressDto returnAddress) {
+        this.returnAddress = returnAddress;
+    }
+}
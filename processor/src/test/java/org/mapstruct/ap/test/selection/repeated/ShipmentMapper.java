@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ShipmentMapper {
+
+    ShipmentMapper INSTANCE = Mappers.getMapper( ShipmentMapper.class );
+
+    @Mapping(target = "shippedOn", dateFormat = "yyyy-MM-dd")
+    ShipmentDto toDto(Shipment shipment);
+
+    @Mapping(target = "shippedOn", dateFormat = "yyyy-MM-dd")
+    void updateDto(Shipment shipment, @MappingTarget ShipmentDto dto);
+
+    @Mapping(target = "shippedOn", dateFormat = "yyyy-MM-dd")
+    ShipmentSummary toSummary(Shipment shipment);
+
+    default long toGrams(Weight weight) {
+        return weight.getGrams();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+import java.time.LocalDate;
+
+public class ShipmentSummary {
+
+    private LocalDate shippedOn;
+    private String weight;
+    private AddressDto address;
+
+    public LocalDate getShippedOn() {
+        return shippedOn;
+    }
+
+    public void setShippedOn(LocalDate shippedOn) {
+        this.shippedOn = shippedOn;
+    }
+
+    public String getWeight() {
+        return weight;
+    }
+
+    public void setWeight(String weight) {
+        this.weight = weight;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.selection.repeated;
+
+public class Weight {
+
+    private final long grams;
+
+    public Weight(long grams) {
+        this.grams = grams;
+    }
+
+    public long getGrams() {
+        return grams;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.splitting;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedNote;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.Compiler;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Person.class,
+    PersonDto.class,
+    PersonMapper.class
+})
+public class MethodSplittingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "60")
+    public void shouldSplitPropertyMappingsOfOversizedMethods() {
+        PersonDto dto = PersonMapper.INSTANCE.map( createPerson() );
+
+        assertPersonDto( dto );
+
+        generatedSource.forMapper( PersonMapper.class ).content()
+            .contains( "mapProperties( person, personDto );" )
+            .contains( "private void mapProperties(Person person, PersonDto personDto) {" )
+            .contains( "mapProperties1( person, personDto );" )
+            .contains( "updateProperties( person, personDto );" )
+            .contains( "private void updateProperties(Person person, PersonDto personDto) {" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "60")
+    public void shouldUpdateExistingInstanceInSplitMethods() {
+        PersonDto dto = new PersonDto();
+
+        PersonMapper.INSTANCE.update( createPerson(), dto );
+
+        assertPersonDto( dto );
+    }
+
+    @ProcessorTest(Compiler.JDK)
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "60")
+    @ProcessorOption(name = "mapstruct.verbose", value = "true")
+    @ExpectedNote("^-- MapStruct: The property mappings of map have been split into \\d+ methods, .*$")
+    @ExpectedNote("^-- MapStruct: The property mappings of update have been split into \\d+ methods, .*$")
+    public void shouldReportSplitMethods() {
+    }
+
+    @ProcessorTest
+    public void shouldNotSplitMethodsBelowMaxMethodSize() {
+        assertPersonDto( PersonMapper.INSTANCE.map( createPerson() ) );
+
+        generatedSource.forMapper( PersonMapper.class ).content()
+            .doesNotContain( "mapProperties" )
+            .doesNotContain( "updateProperties" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "0")
+    public void shouldNotSplitMethodsIfDisabled() {
+        assertPersonDto( PersonMapper.INSTANCE.map( createPerson() ) );
+
+        generatedSource.forMapper( PersonMapper.class ).content()
+            .doesNotContain( "mapProperties" )
+            .doesNotContain( "updateProperties" );
+    }
+
+    // the error isn't reported for an element, which the Eclipse compiler doesn't pass on to the diagnostics
+    @ProcessorTest(Compiler.JDK)
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "8k")
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            message = "The processor option mapstruct.maxMethodSize must be zero or a positive number, but was \"8k\"."
+        )
+    )
+    public void shouldReportMaxMethodSizeWhichIsNotANumber() {
+    }
+
+    // the error isn't reported for an element, which the Eclipse compiler doesn't pass on to the diagnostics
+    @ProcessorTest(Compiler.JDK)
+    @ProcessorOption(name = "mapstruct.maxMethodSize", value = "-1")
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(
+            kind = javax.tools.Diagnostic.Kind.ERROR,
+            message = "The processor option mapstruct.maxMethodSize must be zero or a positive number, but was \"-1\"."
+        )
+    )
+    public void shouldReportNegativeMaxMethodSize() {
+    }
+
+    private static Person createPerson() {
+        Person person = new Person();
+        person.setFirstName( "Bob" );
+        person.setLastName( "Smith" );
+        person.setStreet( "Main Street" );
+        person.setCity( "Springfield" );
+        person.setZipCode( "12345" );
+        person.setCountry( "US" );
+        person.setEmail( "bob@example.com" );
+        person.setPhone( "555-1234" );
+        person.setAge( 42 );
+        return person;
+    }
+
+    private static void assertPersonDto(PersonDto dto) {
+        assertThat( dto.getFirstName() ).isEqualTo( "Bob" );
+        assertThat( dto.getLastName() ).isEqualTo( "Smith" );
+        assertThat( dto.getStreet() ).isEqualTo( "Main Street" );
+        assertThat( dto.getCity() ).isEqualTo( "Springfield" );
+        assertThat( dto.getZipCode() ).isEqualTo( "12345" );
+        assertThat( dto.getCountry() ).isEqualTo( "US" );
+        assertThat( dto.getEmail() ).isEqualTo( "bob@example.com" );
+        assertThat( dto.getPhone() ).isEqualTo( "555-1234" );
+        assertThat( dto.getAge() ).isEqualTo( "42" );
+    }
+}
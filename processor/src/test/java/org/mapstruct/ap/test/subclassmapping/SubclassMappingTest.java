@@ -5,6 +5,7 @@
  */
 package org.mapstruct.ap.test.subclassmapping;
 
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mapstruct.ap.test.subclassmapping.mappables.Bike;
 import org.mapstruct.ap.test.subclassmapping.mappables.BikeDto;
 import org.mapstruct.ap.test.subclassmapping.mappables.Car;
@@ -21,6 +22,7 @@
 import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
 import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
 import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,6 +39,9 @@
 })
 public class SubclassMappingTest {
 
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
     @ProcessorTest
     @WithClasses( SimpleSubclassMapper.class )
     void mappingIsDoneUsingSubclassMapping() {
@@ -52,6 +57,34 @@ void mappingIsDoneUsingSubclassMapping() {
             .containsExactly( CarDto.class, BikeDto.class );
     }
 
+    @ProcessorTest
+    @WithClasses( {
+        HatchBack.class,
+        ClassValueSubclassMapper.class
+    } )
+    void mappingIsDoneUsingClassValueDispatch() {
+        HatchBack hatchBack = new HatchBack();
+        hatchBack.setVehicleManufacturingCompany( "veMac" );
+
+        assertThat( ClassValueSubclassMapper.INSTANCE.map( new Car() ) ).isExactlyInstanceOf( CarDto.class );
+        assertThat( ClassValueSubclassMapper.INSTANCE.map( new Bike() ) ).isExactlyInstanceOf( BikeDto.class );
+        assertThat( ClassValueSubclassMapper.INSTANCE.map( hatchBack ) )
+            .isExactlyInstanceOf( CarDto.class )
+            .extracting( VehicleDto::getMaker )
+            .isEqualTo( "veMac" );
+        assertThat( ClassValueSubclassMapper.INSTANCE.map( new Vehicle() ) ).isExactlyInstanceOf( VehicleDto.class );
+        assertThat( ClassValueSubclassMapper.INSTANCE.map( null ) ).isNull();
+
+        assertThat( ClassValueSubclassMapper.INSTANCE.mapInverse( new BikeDto() ) )
+            .isExactlyInstanceOf( Bike.class );
+
+        generatedSource.forMapper( ClassValueSubclassMapper.class )
+            .content()
+            .contains( "private static final ClassValue<Integer> mapSubclassIndex" )
+            .contains( "switch ( mapSubclassIndex.get( vehicle.getClass() ) )" )
+            .doesNotContain( "mapInverseSubclassIndex" );
+    }
+
     @ProcessorTest
     @WithClasses( DeepCloneMapper.class )
     void deepCloneMappingClonesObjects() {
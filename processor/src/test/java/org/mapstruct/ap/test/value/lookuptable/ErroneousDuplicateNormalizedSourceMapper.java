@@ -0,0 +1,41 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.mapstruct.EnumMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ValueMapping;
+import org.mapstruct.ValueMappings;
+import org.mapstruct.ap.test.value.OrderType;
+
+@Mapper
+public interface ErroneousDuplicateNormalizedSourceMapper {
+
+    @EnumMapping(ignoreCase = true, trimWhitespace = true)
+    @ValueMappings({
+        @ValueMapping(source = "special", target = "EXTRA"),
+        @ValueMapping(source = " SPECIAL", target = "STANDARD"),
+        @ValueMapping(source = MappingConstants.ANY_REMAINING, target = "RETAIL")
+    })
+    OrderType stringToOrderType(String orderType);
+
+    @EnumMapping(ignoreCase = true)
+    @ValueMappings({
+        @ValueMapping(source = "special", target = "EXTRA"),
+        @ValueMapping(source = "SPECIAL", target = "STANDARD"),
+        @ValueMapping(source = MappingConstants.ANY_REMAINING, target = "RETAIL")
+    })
+    OrderType caseInsensitiveStringToOrderType(String orderType);
+
+    @EnumMapping(trimWhitespace = true)
+    @ValueMappings({
+        @ValueMapping(source = "special", target = "EXTRA"),
+        @ValueMapping(source = " special ", target = "STANDARD"),
+        @ValueMapping(source = MappingConstants.ANY_REMAINING, target = "RETAIL")
+    })
+    OrderType trimmedStringToOrderType(String orderType);
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.mapstruct.EnumMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ap.test.value.OrderType;
+
+@Mapper
+public interface ErroneousNormalizedEnumToEnumMapper {
+
+    @EnumMapping(ignoreCase = true)
+    OrderType copyOrderType(OrderType orderType);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.mapstruct.EnumMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ValueMapping;
+import org.mapstruct.ValueMappingLookupStrategy;
+import org.mapstruct.ap.test.value.ExternalOrderType;
+import org.mapstruct.ap.test.value.OrderType;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LookupTableOrderMapper {
+
+    LookupTableOrderMapper INSTANCE = Mappers.getMapper( LookupTableOrderMapper.class );
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE)
+    @ValueMapping(source = "EXTRA", target = "SPECIAL")
+    @ValueMapping(source = "STANDARD", target = "DEFAULT")
+    @ValueMapping(source = "NORMAL", target = "DEFAULT")
+    ExternalOrderType orderTypeToExternalOrderType(OrderType orderType);
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE)
+    @ValueMapping(source = MappingConstants.NULL, target = "DEFAULT")
+    @ValueMapping(source = "STANDARD", target = MappingConstants.NULL)
+    @ValueMapping(source = "EXTRA", target = MappingConstants.THROW_EXCEPTION)
+    @ValueMapping(source = MappingConstants.ANY_REMAINING, target = "SPECIAL")
+    ExternalOrderType orderTypeToExternalOrderTypeWithDefault(OrderType orderType);
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE)
+    @ValueMapping(source = MappingConstants.ANY_UNMAPPED, target = MappingConstants.THROW_EXCEPTION)
+    ExternalOrderType orderTypeToExternalOrderTypeThrowingException(OrderType orderType);
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.mapstruct.EnumMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ValueMappingLookupStrategy;
+import org.mapstruct.ap.test.value.OrderType;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LookupTableOrderTypeToStringMapper {
+
+    LookupTableOrderTypeToStringMapper INSTANCE = Mappers.getMapper( LookupTableOrderTypeToStringMapper.class );
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE)
+    String orderTypeToString(OrderType orderType);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.mapstruct.EnumMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ValueMapping;
+import org.mapstruct.ValueMappingLookupStrategy;
+import org.mapstruct.ap.test.value.OrderType;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LookupTableStringToOrderTypeMapper {
+
+    LookupTableStringToOrderTypeMapper INSTANCE = Mappers.getMapper( LookupTableStringToOrderTypeMapper.class );
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE)
+    @ValueMapping(source = "SPECIAL", target = "EXTRA")
+    @ValueMapping(source = "DEFAULT", target = MappingConstants.NULL)
+    @ValueMapping(source = "LEGACY", target = MappingConstants.THROW_EXCEPTION)
+    @ValueMapping(source = MappingConstants.ANY_REMAINING, target = "STANDARD")
+    OrderType stringToOrderType(String orderType);
+
+    @EnumMapping(lookupStrategy = ValueMappingLookupStrategy.LOOKUP_TABLE,
+        nameTransformationStrategy = MappingConstants.PREFIX_TRANSFORMATION,
+        configuration = "ord_",
+        ignoreCase = true,
+        trimWhitespace = true)
+    @ValueMapping(source = "special", target = "EXTRA")
+    @ValueMapping(source = MappingConstants.ANY_REMAINING, target = MappingConstants.NULL)
+    OrderType normalizedStringToOrderType(String orderType);
+
+    @EnumMapping(ignoreCase = true)
+    @ValueMapping(source = "Special", target = "EXTRA")
+    @ValueMapping(source = MappingConstants.ANY_UNMAPPED, target = "STANDARD")
+    OrderType caseInsensitiveStringToOrderType(String orderType);
+}
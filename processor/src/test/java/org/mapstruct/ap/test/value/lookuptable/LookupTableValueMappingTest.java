@@ -0,0 +1,74 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.test.value.ExternalOrderType;
+import org.mapstruct.ap.test.value.OrderType;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for enum to enum mappings using {@link org.mapstruct.ValueMappingLookupStrategy#LOOKUP_TABLE}.
+ */
+@WithClasses({
+    LookupTableOrderMapper.class,
+    OrderType.class,
+    ExternalOrderType.class
+})
+public class LookupTableValueMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldMapByNameAndConstantMappings() {
+        LookupTableOrderMapper mapper = LookupTableOrderMapper.INSTANCE;
+
+        assertThat( mapper.orderTypeToExternalOrderType( OrderType.RETAIL ) ).isEqualTo( ExternalOrderType.RETAIL );
+        assertThat( mapper.orderTypeToExternalOrderType( OrderType.B2B ) ).isEqualTo( ExternalOrderType.B2B );
+        assertThat( mapper.orderTypeToExternalOrderType( OrderType.EXTRA ) ).isEqualTo( ExternalOrderType.SPECIAL );
+        assertThat( mapper.orderTypeToExternalOrderType( OrderType.STANDARD ) ).isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( mapper.orderTypeToExternalOrderType( OrderType.NORMAL ) ).isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( mapper.orderTypeToExternalOrderType( null ) ).isNull();
+
+        generatedSource.forMapper( LookupTableOrderMapper.class )
+            .content()
+            .contains( "private static final ExternalOrderType[] orderTypeToExternalOrderTypeLookupTable = " +
+                "new ExternalOrderType[OrderType.values().length];" )
+            .contains( "orderTypeToExternalOrderTypeLookupTable[OrderType.EXTRA.ordinal()] = " +
+                "ExternalOrderType.SPECIAL;" )
+            .contains( "ExternalOrderType externalOrderType = " +
+                "orderTypeToExternalOrderTypeLookupTable[orderType.ordinal()];" );
+    }
+
+    @ProcessorTest
+    public void shouldFallBackForNullAndExceptionMappingsAndRemainingConstants() {
+        LookupTableOrderMapper mapper = LookupTableOrderMapper.INSTANCE;
+
+        assertThat( mapper.orderTypeToExternalOrderTypeWithDefault( null ) ).isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( mapper.orderTypeToExternalOrderTypeWithDefault( OrderType.STANDARD ) ).isNull();
+        assertThat( mapper.orderTypeToExternalOrderTypeWithDefault( OrderType.RETAIL ) )
+            .isEqualTo( ExternalOrderType.RETAIL );
+        assertThat( mapper.orderTypeToExternalOrderTypeWithDefault( OrderType.NORMAL ) )
+            .isEqualTo( ExternalOrderType.SPECIAL );
+        assertThatThrownBy( () -> mapper.orderTypeToExternalOrderTypeWithDefault( OrderType.EXTRA ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Unexpected enum constant: EXTRA" );
+    }
+
+    @ProcessorTest
+    public void shouldThrowExceptionForConstantsWithoutTarget() {
+        assertThatThrownBy( () -> LookupTableOrderMapper.INSTANCE
+            .orderTypeToExternalOrderTypeThrowingException( OrderType.RETAIL ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Unexpected enum constant: RETAIL" );
+    }
+}
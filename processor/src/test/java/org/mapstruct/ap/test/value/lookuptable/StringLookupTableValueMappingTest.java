@@ -0,0 +1,141 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value.lookuptable;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.test.value.OrderType;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for String to enum mappings using {@link org.mapstruct.ValueMappingLookupStrategy#LOOKUP_TABLE} and the
+ * normalization of the source via {@link org.mapstruct.EnumMapping#ignoreCase()} and
+ * {@link org.mapstruct.EnumMapping#trimWhitespace()}.
+ */
+@WithClasses(OrderType.class)
+public class StringLookupTableValueMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(LookupTableStringToOrderTypeMapper.class)
+    public void shouldLookUpTargetInMap() {
+        LookupTableStringToOrderTypeMapper mapper = LookupTableStringToOrderTypeMapper.INSTANCE;
+
+        assertThat( mapper.stringToOrderType( "RETAIL" ) ).isEqualTo( OrderType.RETAIL );
+        assertThat( mapper.stringToOrderType( "SPECIAL" ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( mapper.stringToOrderType( "DEFAULT" ) ).isNull();
+        assertThat( mapper.stringToOrderType( "retail" ) ).isEqualTo( OrderType.STANDARD );
+        assertThat( mapper.stringToOrderType( "unknown" ) ).isEqualTo( OrderType.STANDARD );
+        assertThat( mapper.stringToOrderType( null ) ).isNull();
+        assertThatThrownBy( () -> mapper.stringToOrderType( "LEGACY" ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Unexpected enum constant: LEGACY" );
+
+        generatedSource.forMapper( LookupTableStringToOrderTypeMapper.class )
+            .content()
+            .contains( "private static final Map<String, OrderType> stringToOrderTypeLookupTable;" )
+            .contains( "Map<String, OrderType> map = new HashMap<String, OrderType>( " )
+            .contains( "map.put( \"SPECIAL\", OrderType.EXTRA );" )
+            .contains( "stringToOrderTypeLookupTable = Collections.unmodifiableMap( map );" )
+            .contains( "OrderType orderType1 = stringToOrderTypeLookupTable.get( orderType );" )
+            .doesNotContain( "map.put( \"DEFAULT\"" )
+            .doesNotContain( "map.put( \"LEGACY\"" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LookupTableStringToOrderTypeMapper.class)
+    public void shouldIgnoreCaseAndTrimWhitespace() {
+        LookupTableStringToOrderTypeMapper mapper = LookupTableStringToOrderTypeMapper.INSTANCE;
+
+        assertThat( mapper.normalizedStringToOrderType( "ORD_RETAIL" ) ).isEqualTo( OrderType.RETAIL );
+        assertThat( mapper.normalizedStringToOrderType( " Ord_B2b\t" ) ).isEqualTo( OrderType.B2B );
+        assertThat( mapper.normalizedStringToOrderType( "Special " ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( mapper.normalizedStringToOrderType( "RETAIL" ) ).isNull();
+
+        assertThat( mapper.caseInsensitiveStringToOrderType( "special" ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( mapper.caseInsensitiveStringToOrderType( "SPECIAL" ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( mapper.caseInsensitiveStringToOrderType( " special" ) ).isEqualTo( OrderType.STANDARD );
+
+        generatedSource.forMapper( LookupTableStringToOrderTypeMapper.class )
+            .content()
+            .contains( "map.put( \"ORD_RETAIL\", OrderType.RETAIL );" )
+            .contains( "String normalizedOrderType = orderType.trim().toUpperCase( Locale.ROOT );" )
+            .contains( "String normalizedOrderType = orderType.toUpperCase( Locale.ROOT );" )
+            .contains( "case \"SPECIAL\": orderType1 = OrderType.EXTRA;" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousNormalizedEnumToEnumMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousNormalizedEnumToEnumMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 15,
+                message = "'ignoreCase' and 'trimWhitespace' in @EnumMapping can only be used when mapping from " +
+                    "String to enum."
+            )
+        }
+    )
+    public void shouldRaiseErrorForNormalizationOfNonStringSource() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousDuplicateNormalizedSourceMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousDuplicateNormalizedSourceMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 21,
+                message = "Source value mapping: \" SPECIAL\" cannot be mapped more than once, ignoring case and " +
+                    "surrounding whitespace it is the same as \"special\"."
+            ),
+            @Diagnostic(type = ErroneousDuplicateNormalizedSourceMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 29,
+                message = "Source value mapping: \"SPECIAL\" cannot be mapped more than once, ignoring case it is " +
+                    "the same as \"special\"."
+            ),
+            @Diagnostic(type = ErroneousDuplicateNormalizedSourceMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 37,
+                message = "Source value mapping: \" special \" cannot be mapped more than once, ignoring surrounding " +
+                    "whitespace it is the same as \"special\"."
+            )
+        }
+    )
+    public void shouldRaiseErrorForSourcesWhichAreEqualAfterNormalization() {
+    }
+
+    @ProcessorTest
+    @WithClasses(LookupTableOrderTypeToStringMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = LookupTableOrderTypeToStringMapper.class,
+                kind = javax.tools.Diagnostic.Kind.WARNING,
+                line = 19,
+                message = "'lookupStrategy = LOOKUP_TABLE' in @EnumMapping can only be used when mapping to an enum. " +
+                    "The values are mapped with a switch."
+            )
+        }
+    )
+    public void shouldWarnAboutLookupTableWithoutEnumTarget() {
+        assertThat( LookupTableOrderTypeToStringMapper.INSTANCE.orderTypeToString( OrderType.EXTRA ) )
+            .isEqualTo( "EXTRA" );
+
+        generatedSource.forMapper( LookupTableOrderTypeToStringMapper.class )
+            .content()
+            .doesNotContain( "LookupTable =" );
+    }
+}
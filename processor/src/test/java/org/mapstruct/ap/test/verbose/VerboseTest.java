@@ -46,6 +46,15 @@ public void testGeneralMessages() {
     public void testGeneralWithOtherSPI() {
     }
 
+    @ProcessorTest(Compiler.JDK)
+    @ProcessorOption(name = "mapstruct.verbose", value = "true")
+    @WithClasses({ CreateBeanMapping.class, CreateBeanMappingConfig.class })
+    @ExpectedNote("^MapStruct: MethodRetrievalProcessor took [0-9.]+ ms for .*CreateBeanMapping$")
+    @ExpectedNote("^MapStruct: MapperCreationProcessor took [0-9.]+ ms for .*CreateBeanMapping$")
+    @ExpectedNote("^MapStruct: MapperRenderingProcessor took [0-9.]+ ms for .*CreateBeanMapping$")
+    public void testPhaseDurations() {
+    }
+
     @ProcessorTest(Compiler.JDK)
     @WithServiceImplementation(provides = AstModifyingAnnotationProcessor.class,
         value = AstModifyingAnnotationProcessorSaysNo.class)
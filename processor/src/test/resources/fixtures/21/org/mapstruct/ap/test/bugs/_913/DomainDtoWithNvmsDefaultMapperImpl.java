@@ -6,8 +6,10 @@
 package org.mapstruct.ap.test.bugs._913;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 import javax.annotation.processing.Generated;
 
@@ -260,7 +262,9 @@ protected Set<Long> stringListToLongSet(List<String> list) {
         }
 
         Set<Long> set = LinkedHashSet.newLinkedHashSet( list.size() );
-        for ( String string : list ) {
+        Iterator<String> stringIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            String string = stringIterator != null ? stringIterator.next() : list.get( i );
             set.add( Long.parseLong( string ) );
         }
 
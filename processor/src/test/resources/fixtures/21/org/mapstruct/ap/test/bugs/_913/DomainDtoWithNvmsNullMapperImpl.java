@@ -6,8 +6,10 @@
 package org.mapstruct.ap.test.bugs._913;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 import javax.annotation.processing.Generated;
 
@@ -28,16 +30,19 @@ public Domain create(Dto source) {
 
         Domain domain = createNullDomain();
 
-        List<String> list = source.getStrings();
+        List<String> strings = source.getStrings();
+        List<String> stringsInitialized = source.getStringsInitialized();
+
+        List<String> list = strings;
         if ( list != null ) {
             domain.setStrings( new LinkedHashSet<String>( list ) );
         }
-        domain.setLongs( stringListToLongSet( source.getStrings() ) );
-        List<String> list1 = source.getStringsInitialized();
+        domain.setLongs( stringListToLongSet( strings ) );
+        List<String> list1 = stringsInitialized;
         if ( list1 != null ) {
             domain.setStringsInitialized( new LinkedHashSet<String>( list1 ) );
         }
-        domain.setLongsInitialized( stringListToLongSet( source.getStringsInitialized() ) );
+        domain.setLongsInitialized( stringListToLongSet( stringsInitialized ) );
         List<String> list2 = source.getStringsWithDefault();
         if ( list2 != null ) {
             domain.setStringsWithDefault( new ArrayList<String>( list2 ) );
@@ -55,8 +60,11 @@ public void update(Dto source, Domain target) {
             return;
         }
 
+        List<String> strings = source.getStrings();
+        List<String> stringsInitialized = source.getStringsInitialized();
+
         if ( target.getStrings() != null ) {
-            List<String> list = source.getStrings();
+            List<String> list = strings;
             if ( list != null ) {
                 target.getStrings().clear();
                 target.getStrings().addAll( list );
@@ -66,13 +74,13 @@ public void update(Dto source, Domain target) {
             }
         }
         else {
-            List<String> list = source.getStrings();
+            List<String> list = strings;
             if ( list != null ) {
                 target.setStrings( new LinkedHashSet<String>( list ) );
             }
         }
         if ( target.getLongs() != null ) {
-            Set<Long> set = stringListToLongSet( source.getStrings() );
+            Set<Long> set = stringListToLongSet( strings );
             if ( set != null ) {
                 target.getLongs().clear();
                 target.getLongs().addAll( set );
@@ -82,13 +90,13 @@ public void update(Dto source, Domain target) {
             }
         }
         else {
-            Set<Long> set = stringListToLongSet( source.getStrings() );
+            Set<Long> set = stringListToLongSet( strings );
             if ( set != null ) {
                 target.setLongs( set );
             }
         }
         if ( target.getStringsInitialized() != null ) {
-            List<String> list1 = source.getStringsInitialized();
+            List<String> list1 = stringsInitialized;
             if ( list1 != null ) {
                 target.getStringsInitialized().clear();
                 target.getStringsInitialized().addAll( list1 );
@@ -98,13 +106,13 @@ public void update(Dto source, Domain target) {
             }
         }
         else {
-            List<String> list1 = source.getStringsInitialized();
+            List<String> list1 = stringsInitialized;
             if ( list1 != null ) {
                 target.setStringsInitialized( new LinkedHashSet<String>( list1 ) );
             }
         }
         if ( target.getLongsInitialized() != null ) {
-            Set<Long> set1 = stringListToLongSet( source.getStringsInitialized() );
+            Set<Long> set1 = stringListToLongSet( stringsInitialized );
             if ( set1 != null ) {
                 target.getLongsInitialized().clear();
                 target.getLongsInitialized().addAll( set1 );
@@ -114,7 +122,7 @@ public void update(Dto source, Domain target) {
             }
         }
         else {
-            Set<Long> set1 = stringListToLongSet( source.getStringsInitialized() );
+            Set<Long> set1 = stringListToLongSet( stringsInitialized );
             if ( set1 != null ) {
                 target.setLongsInitialized( set1 );
             }
@@ -146,8 +154,11 @@ public Domain updateWithReturn(Dto source, Domain target) {
             return target;
         }
 
+        List<String> strings = source.getStrings();
+        List<String> stringsInitialized = source.getStringsInitialized();
+
         if ( target.getStrings() != null ) {
-            List<String> list = source.getStrings();
+            List<String> list = strings;
             if ( list != null ) {
                 target.getStrings().clear();
                 target.getStrings().addAll( list );
@@ -157,13 +168,13 @@ public Domain updateWithReturn(Dto source, Domain target) {
             }
         }
         else {
-            List<String> list = source.getStrings();
+            List<String> list = strings;
             if ( list != null ) {
                 target.setStrings( new LinkedHashSet<String>( list ) );
             }
         }
         if ( target.getLongs() != null ) {
-            Set<Long> set = stringListToLongSet( source.getStrings() );
+            Set<Long> set = stringListToLongSet( strings );
             if ( set != null ) {
                 target.getLongs().clear();
                 target.getLongs().addAll( set );
@@ -173,13 +184,13 @@ public Domain updateWithReturn(Dto source, Domain target) {
             }
         }
         else {
-            Set<Long> set = stringListToLongSet( source.getStrings() );
+            Set<Long> set = stringListToLongSet( strings );
             if ( set != null ) {
                 target.setLongs( set );
             }
         }
         if ( target.getStringsInitialized() != null ) {
-            List<String> list1 = source.getStringsInitialized();
+            List<String> list1 = stringsInitialized;
             if ( list1 != null ) {
                 target.getStringsInitialized().clear();
                 target.getStringsInitialized().addAll( list1 );
@@ -189,13 +200,13 @@ public Domain updateWithReturn(Dto source, Domain target) {
             }
         }
         else {
-            List<String> list1 = source.getStringsInitialized();
+            List<String> list1 = stringsInitialized;
             if ( list1 != null ) {
                 target.setStringsInitialized( new LinkedHashSet<String>( list1 ) );
             }
         }
         if ( target.getLongsInitialized() != null ) {
-            Set<Long> set1 = stringListToLongSet( source.getStringsInitialized() );
+            Set<Long> set1 = stringListToLongSet( stringsInitialized );
             if ( set1 != null ) {
                 target.getLongsInitialized().clear();
                 target.getLongsInitialized().addAll( set1 );
@@ -205,7 +216,7 @@ public Domain updateWithReturn(Dto source, Domain target) {
             }
         }
         else {
-            Set<Long> set1 = stringListToLongSet( source.getStringsInitialized() );
+            Set<Long> set1 = stringListToLongSet( stringsInitialized );
             if ( set1 != null ) {
                 target.setLongsInitialized( set1 );
             }
@@ -239,7 +250,9 @@ protected Set<Long> stringListToLongSet(List<String> list) {
         }
 
         Set<Long> set = LinkedHashSet.newLinkedHashSet( list.size() );
-        for ( String string : list ) {
+        Iterator<String> stringIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            String string = stringIterator != null ? stringIterator.next() : list.get( i );
             set.add( Long.parseLong( string ) );
         }
 
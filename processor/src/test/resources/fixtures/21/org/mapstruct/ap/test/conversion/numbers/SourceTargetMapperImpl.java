@@ -6,14 +6,18 @@
 package org.mapstruct.ap.test.conversion.numbers;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.RandomAccess;
 import javax.annotation.processing.Generated;
 
 @Generated(
@@ -23,6 +27,22 @@
 )
 public class SourceTargetMapperImpl implements SourceTargetMapper {
 
+    private final ThreadLocal<Map<Locale, DecimalFormat>> bigDecimalFormat__0__E0_11047755501 = ThreadLocal.withInitial( HashMap::new );
+
+    private final ThreadLocal<Map<Locale, DecimalFormat>> bigDecimalFormat_0______________E0_1792309744 = ThreadLocal.withInitial( HashMap::new );
+
+    private static final Locale locale_ru_13651 = Locale.forLanguageTag( "ru" );
+
+    private final ThreadLocal<Map<Locale, DecimalFormat>> decimalFormat____00_133411662 = ThreadLocal.withInitial( HashMap::new );
+
+    private final ThreadLocal<Map<Locale, DecimalFormat>> decimalFormat___0___E0_01010530231 = ThreadLocal.withInitial( HashMap::new );
+
+    private static final Locale locale_fr_13276 = Locale.forLanguageTag( "fr" );
+
+    private final ThreadLocal<Map<Locale, DecimalFormat>> decimalFormat_$__00_134335183 = ThreadLocal.withInitial( HashMap::new );
+
+    private final ThreadLocal<Map<Locale, DecimalFormat>> decimalFormat____11120 = ThreadLocal.withInitial( HashMap::new );
+
     @Override
     public Target sourceToTarget(Source source) {
         if ( source == null ) {
@@ -31,33 +51,40 @@ public Target sourceToTarget(Source source) {
 
         Target target = new Target();
 
-        target.setI( new DecimalFormat( "##.00" ).format( source.getI() ) );
-        if ( source.getIi() != null ) {
-            target.setIi( new DecimalFormat( "##.00" ).format( source.getIi() ) );
+        target.setI( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getI() ) );
+        Integer ii = source.getIi();
+        if ( ii != null ) {
+            target.setIi( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( ii ) );
         }
-        target.setD( new DecimalFormat( "##.00" ).format( source.getD() ) );
-        if ( source.getDd() != null ) {
-            target.setDd( new DecimalFormat( "##.00" ).format( source.getDd() ) );
+        target.setD( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getD() ) );
+        Double dd = source.getDd();
+        if ( dd != null ) {
+            target.setDd( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( dd ) );
         }
-        target.setF( new DecimalFormat( "##.00" ).format( source.getF() ) );
-        if ( source.getFf() != null ) {
-            target.setFf( new DecimalFormat( "##.00" ).format( source.getFf() ) );
+        target.setF( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getF() ) );
+        Float ff = source.getFf();
+        if ( ff != null ) {
+            target.setFf( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( ff ) );
         }
-        target.setL( new DecimalFormat( "##.00" ).format( source.getL() ) );
-        if ( source.getLl() != null ) {
-            target.setLl( new DecimalFormat( "##.00" ).format( source.getLl() ) );
+        target.setL( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getL() ) );
+        Long ll = source.getLl();
+        if ( ll != null ) {
+            target.setLl( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( ll ) );
         }
-        target.setB( new DecimalFormat( "##.00" ).format( source.getB() ) );
-        if ( source.getBb() != null ) {
-            target.setBb( new DecimalFormat( "##.00" ).format( source.getBb() ) );
+        target.setB( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getB() ) );
+        Byte bb = source.getBb();
+        if ( bb != null ) {
+            target.setBb( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( bb ) );
         }
-        target.setComplex1( new DecimalFormat( "##0.##E0" ).format( source.getComplex1() ) );
-        target.setComplex2( new DecimalFormat( "$#.00" ).format( source.getComplex2() ) );
-        if ( source.getBigDecimal1() != null ) {
-            target.setBigDecimal1( createDecimalFormat( "#0.#E0" ).format( source.getBigDecimal1() ) );
+        target.setComplex1( getDecimalFormat( decimalFormat___0___E0_01010530231, "##0.##E0", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getComplex1() ) );
+        target.setComplex2( getDecimalFormat( decimalFormat_$__00_134335183, "$#.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( source.getComplex2() ) );
+        BigDecimal bigDecimal1 = source.getBigDecimal1();
+        if ( bigDecimal1 != null ) {
+            target.setBigDecimal1( getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", Locale.getDefault( Locale.Category.FORMAT ) ).format( bigDecimal1 ) );
         }
-        if ( source.getBigInteger1() != null ) {
-            target.setBigInteger1( createDecimalFormat( "0.#############E0" ).format( source.getBigInteger1() ) );
+        BigInteger bigInteger1 = source.getBigInteger1();
+        if ( bigInteger1 != null ) {
+            target.setBigInteger1( getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", Locale.getDefault( Locale.Category.FORMAT ) ).format( bigInteger1 ) );
         }
 
         return target;
@@ -71,33 +98,40 @@ public Target sourceToTargetWithCustomLocale(Source source) {
 
         Target target = new Target();
 
-        target.setI( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getI() ) );
-        if ( source.getIi() != null ) {
-            target.setIi( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getIi() ) );
+        target.setI( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( source.getI() ) );
+        Integer ii = source.getIi();
+        if ( ii != null ) {
+            target.setIi( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( ii ) );
         }
-        target.setD( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getD() ) );
-        if ( source.getDd() != null ) {
-            target.setDd( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getDd() ) );
+        target.setD( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( source.getD() ) );
+        Double dd = source.getDd();
+        if ( dd != null ) {
+            target.setDd( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( dd ) );
         }
-        target.setF( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getF() ) );
-        if ( source.getFf() != null ) {
-            target.setFf( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getFf() ) );
+        target.setF( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( source.getF() ) );
+        Float ff = source.getFf();
+        if ( ff != null ) {
+            target.setFf( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( ff ) );
         }
-        target.setL( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getL() ) );
-        if ( source.getLl() != null ) {
-            target.setLl( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getLl() ) );
+        target.setL( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( source.getL() ) );
+        Long ll = source.getLl();
+        if ( ll != null ) {
+            target.setLl( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( ll ) );
         }
-        target.setB( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getB() ) );
-        if ( source.getBb() != null ) {
-            target.setBb( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getBb() ) );
+        target.setB( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( source.getB() ) );
+        Byte bb = source.getBb();
+        if ( bb != null ) {
+            target.setBb( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).format( bb ) );
         }
-        target.setComplex1( new DecimalFormat( "##0.##E0", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getComplex1() ) );
-        target.setComplex2( new DecimalFormat( "$#.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).format( source.getComplex2() ) );
-        if ( source.getBigDecimal1() != null ) {
-            target.setBigDecimal1( createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "ru" ) ).format( source.getBigDecimal1() ) );
+        target.setComplex1( getDecimalFormat( decimalFormat___0___E0_01010530231, "##0.##E0", locale_ru_13651 ).format( source.getComplex1() ) );
+        target.setComplex2( getDecimalFormat( decimalFormat_$__00_134335183, "$#.00", locale_ru_13651 ).format( source.getComplex2() ) );
+        BigDecimal bigDecimal1 = source.getBigDecimal1();
+        if ( bigDecimal1 != null ) {
+            target.setBigDecimal1( getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_ru_13651 ).format( bigDecimal1 ) );
         }
-        if ( source.getBigInteger1() != null ) {
-            target.setBigInteger1( createDecimalFormatWithLocale( "0.#############E0", Locale.forLanguageTag( "ru" ) ).format( source.getBigInteger1() ) );
+        BigInteger bigInteger1 = source.getBigInteger1();
+        if ( bigInteger1 != null ) {
+            target.setBigInteger1( getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", locale_ru_13651 ).format( bigInteger1 ) );
         }
 
         return target;
@@ -112,112 +146,126 @@ public Source targetToSource(Target target) {
         Source source = new Source();
 
         try {
-            if ( target.getI() != null ) {
-                source.setI( new DecimalFormat( "##.00" ).parse( target.getI() ).intValue() );
+            String i = target.getI();
+            if ( i != null ) {
+                source.setI( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( i ).intValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getIi() != null ) {
-                source.setIi( new DecimalFormat( "##.00" ).parse( target.getIi() ).intValue() );
+            String ii = target.getIi();
+            if ( ii != null ) {
+                source.setIi( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( ii ).intValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getD() != null ) {
-                source.setD( new DecimalFormat( "##.00" ).parse( target.getD() ).doubleValue() );
+            String d = target.getD();
+            if ( d != null ) {
+                source.setD( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( d ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getDd() != null ) {
-                source.setDd( new DecimalFormat( "##.00" ).parse( target.getDd() ).doubleValue() );
+            String dd = target.getDd();
+            if ( dd != null ) {
+                source.setDd( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( dd ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getF() != null ) {
-                source.setF( new DecimalFormat( "##.00" ).parse( target.getF() ).floatValue() );
+            String f = target.getF();
+            if ( f != null ) {
+                source.setF( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( f ).floatValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getFf() != null ) {
-                source.setFf( new DecimalFormat( "##.00" ).parse( target.getFf() ).floatValue() );
+            String ff = target.getFf();
+            if ( ff != null ) {
+                source.setFf( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( ff ).floatValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getL() != null ) {
-                source.setL( new DecimalFormat( "##.00" ).parse( target.getL() ).longValue() );
+            String l = target.getL();
+            if ( l != null ) {
+                source.setL( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( l ).longValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getLl() != null ) {
-                source.setLl( new DecimalFormat( "##.00" ).parse( target.getLl() ).longValue() );
+            String ll = target.getLl();
+            if ( ll != null ) {
+                source.setLl( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( ll ).longValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getB() != null ) {
-                source.setB( new DecimalFormat( "##.00" ).parse( target.getB() ).byteValue() );
+            String b = target.getB();
+            if ( b != null ) {
+                source.setB( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( b ).byteValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBb() != null ) {
-                source.setBb( new DecimalFormat( "##.00" ).parse( target.getBb() ).byteValue() );
+            String bb = target.getBb();
+            if ( bb != null ) {
+                source.setBb( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( bb ).byteValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getComplex1() != null ) {
-                source.setComplex1( new DecimalFormat( "##0.##E0" ).parse( target.getComplex1() ).doubleValue() );
+            String complex1 = target.getComplex1();
+            if ( complex1 != null ) {
+                source.setComplex1( getDecimalFormat( decimalFormat___0___E0_01010530231, "##0.##E0", Locale.getDefault( Locale.Category.FORMAT ) ).parse( complex1 ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getComplex2() != null ) {
-                source.setComplex2( new DecimalFormat( "$#.00" ).parse( target.getComplex2() ).doubleValue() );
+            String complex2 = target.getComplex2();
+            if ( complex2 != null ) {
+                source.setComplex2( getDecimalFormat( decimalFormat_$__00_134335183, "$#.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( complex2 ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBigDecimal1() != null ) {
-                source.setBigDecimal1( (BigDecimal) createDecimalFormat( "#0.#E0" ).parse( target.getBigDecimal1() ) );
+            String bigDecimal1 = target.getBigDecimal1();
+            if ( bigDecimal1 != null ) {
+                source.setBigDecimal1( (BigDecimal) getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", Locale.getDefault( Locale.Category.FORMAT ) ).parse( bigDecimal1 ) );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBigInteger1() != null ) {
-                source.setBigInteger1( ( (BigDecimal) createDecimalFormat( "0.#############E0" ).parse( target.getBigInteger1() ) ).toBigInteger() );
+            String bigInteger1 = target.getBigInteger1();
+            if ( bigInteger1 != null ) {
+                source.setBigInteger1( ( (BigDecimal) getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", Locale.getDefault( Locale.Category.FORMAT ) ).parse( bigInteger1 ) ).toBigInteger() );
             }
         }
         catch ( ParseException e ) {
@@ -236,112 +284,126 @@ public Source targetToSourceWithCustomLocale(Target target) {
         Source source = new Source();
 
         try {
-            if ( target.getI() != null ) {
-                source.setI( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getI() ).intValue() );
+            String i = target.getI();
+            if ( i != null ) {
+                source.setI( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( i ).intValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getIi() != null ) {
-                source.setIi( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getIi() ).intValue() );
+            String ii = target.getIi();
+            if ( ii != null ) {
+                source.setIi( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( ii ).intValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getD() != null ) {
-                source.setD( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getD() ).doubleValue() );
+            String d = target.getD();
+            if ( d != null ) {
+                source.setD( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( d ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getDd() != null ) {
-                source.setDd( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getDd() ).doubleValue() );
+            String dd = target.getDd();
+            if ( dd != null ) {
+                source.setDd( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( dd ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getF() != null ) {
-                source.setF( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getF() ).floatValue() );
+            String f = target.getF();
+            if ( f != null ) {
+                source.setF( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( f ).floatValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getFf() != null ) {
-                source.setFf( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getFf() ).floatValue() );
+            String ff = target.getFf();
+            if ( ff != null ) {
+                source.setFf( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( ff ).floatValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getL() != null ) {
-                source.setL( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getL() ).longValue() );
+            String l = target.getL();
+            if ( l != null ) {
+                source.setL( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( l ).longValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getLl() != null ) {
-                source.setLl( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getLl() ).longValue() );
+            String ll = target.getLl();
+            if ( ll != null ) {
+                source.setLl( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( ll ).longValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getB() != null ) {
-                source.setB( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getB() ).byteValue() );
+            String b = target.getB();
+            if ( b != null ) {
+                source.setB( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( b ).byteValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBb() != null ) {
-                source.setBb( new DecimalFormat( "##.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getBb() ).byteValue() );
+            String bb = target.getBb();
+            if ( bb != null ) {
+                source.setBb( getDecimalFormat( decimalFormat____00_133411662, "##.00", locale_ru_13651 ).parse( bb ).byteValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getComplex1() != null ) {
-                source.setComplex1( new DecimalFormat( "##0.##E0", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getComplex1() ).doubleValue() );
+            String complex1 = target.getComplex1();
+            if ( complex1 != null ) {
+                source.setComplex1( getDecimalFormat( decimalFormat___0___E0_01010530231, "##0.##E0", locale_ru_13651 ).parse( complex1 ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getComplex2() != null ) {
-                source.setComplex2( new DecimalFormat( "$#.00", DecimalFormatSymbols.getInstance( Locale.forLanguageTag( "ru " ) ) ).parse( target.getComplex2() ).doubleValue() );
+            String complex2 = target.getComplex2();
+            if ( complex2 != null ) {
+                source.setComplex2( getDecimalFormat( decimalFormat_$__00_134335183, "$#.00", locale_ru_13651 ).parse( complex2 ).doubleValue() );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBigDecimal1() != null ) {
-                source.setBigDecimal1( (BigDecimal) createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "ru" ) ).parse( target.getBigDecimal1() ) );
+            String bigDecimal1 = target.getBigDecimal1();
+            if ( bigDecimal1 != null ) {
+                source.setBigDecimal1( (BigDecimal) getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_ru_13651 ).parse( bigDecimal1 ) );
             }
         }
         catch ( ParseException e ) {
             throw new RuntimeException( e );
         }
         try {
-            if ( target.getBigInteger1() != null ) {
-                source.setBigInteger1( ( (BigDecimal) createDecimalFormatWithLocale( "0.#############E0", Locale.forLanguageTag( "ru" ) ).parse( target.getBigInteger1() ) ).toBigInteger() );
+            String bigInteger1 = target.getBigInteger1();
+            if ( bigInteger1 != null ) {
+                source.setBigInteger1( ( (BigDecimal) getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", locale_ru_13651 ).parse( bigInteger1 ) ).toBigInteger() );
             }
         }
         catch ( ParseException e ) {
@@ -358,8 +420,10 @@ public List<String> sourceToTarget(List<Float> source) {
         }
 
         List<String> list = new ArrayList<String>( source.size() );
-        for ( Float float1 : source ) {
-            list.add( new DecimalFormat( "##.00" ).format( float1 ) );
+        Iterator<Float> float1Iterator = source instanceof RandomAccess ? null : source.iterator();
+        for ( int i = 0; i < source.size(); i++ ) {
+            Float float1 = float1Iterator != null ? float1Iterator.next() : source.get( i );
+            list.add( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( float1 ) );
         }
 
         return list;
@@ -372,9 +436,11 @@ public List<Float> targetToSource(List<String> source) {
         }
 
         List<Float> list = new ArrayList<Float>( source.size() );
-        for ( String string : source ) {
+        Iterator<String> stringIterator = source instanceof RandomAccess ? null : source.iterator();
+        for ( int i = 0; i < source.size(); i++ ) {
+            String string = stringIterator != null ? stringIterator.next() : source.get( i );
             try {
-                list.add( new DecimalFormat( "##.00" ).parse( string ).floatValue() );
+                list.add( getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( string ).floatValue() );
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
@@ -391,8 +457,10 @@ public List<String> sourceToTargetWithCustomLocale(List<BigDecimal> source) {
         }
 
         List<String> list = new ArrayList<String>( source.size() );
-        for ( BigDecimal bigDecimal : source ) {
-            list.add( createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "fr" ) ).format( bigDecimal ) );
+        Iterator<BigDecimal> bigDecimalIterator = source instanceof RandomAccess ? null : source.iterator();
+        for ( int i = 0; i < source.size(); i++ ) {
+            BigDecimal bigDecimal = bigDecimalIterator != null ? bigDecimalIterator.next() : source.get( i );
+            list.add( getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_fr_13276 ).format( bigDecimal ) );
         }
 
         return list;
@@ -405,9 +473,11 @@ public List<BigDecimal> targetToSourceWithCustomLocale(List<String> source) {
         }
 
         List<BigDecimal> list = new ArrayList<BigDecimal>( source.size() );
-        for ( String string : source ) {
+        Iterator<String> stringIterator = source instanceof RandomAccess ? null : source.iterator();
+        for ( int i = 0; i < source.size(); i++ ) {
+            String string = stringIterator != null ? stringIterator.next() : source.get( i );
             try {
-                list.add( (BigDecimal) createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "fr" ) ).parse( string ) );
+                list.add( (BigDecimal) getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_fr_13276 ).parse( string ) );
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
@@ -426,8 +496,8 @@ public Map<String, String> sourceToTarget(Map<Float, Float> source) {
         Map<String, String> map = LinkedHashMap.newLinkedHashMap( source.size() );
 
         for ( java.util.Map.Entry<Float, Float> entry : source.entrySet() ) {
-            String key = new DecimalFormat( "##.00" ).format( entry.getKey() );
-            String value = new DecimalFormat( "##" ).format( entry.getValue() );
+            String key = getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).format( entry.getKey() );
+            String value = getDecimalFormat( decimalFormat____11120, "##", Locale.getDefault( Locale.Category.FORMAT ) ).format( entry.getValue() );
             map.put( key, value );
         }
 
@@ -443,8 +513,8 @@ public Map<String, String> sourceToTargetWithCustomLocale(Map<BigDecimal, BigDec
         Map<String, String> map = LinkedHashMap.newLinkedHashMap( source.size() );
 
         for ( java.util.Map.Entry<BigDecimal, BigDecimal> entry : source.entrySet() ) {
-            String key = createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "fr" ) ).format( entry.getKey() );
-            String value = createDecimalFormatWithLocale( "0.#############E0", Locale.forLanguageTag( "fr" ) ).format( entry.getValue() );
+            String key = getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_fr_13276 ).format( entry.getKey() );
+            String value = getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", locale_fr_13276 ).format( entry.getValue() );
             map.put( key, value );
         }
 
@@ -462,14 +532,14 @@ public Map<Float, Float> targetToSource(Map<String, String> source) {
         for ( java.util.Map.Entry<String, String> entry : source.entrySet() ) {
             Float key;
             try {
-                key = new DecimalFormat( "##.00" ).parse( entry.getKey() ).floatValue();
+                key = getDecimalFormat( decimalFormat____00_133411662, "##.00", Locale.getDefault( Locale.Category.FORMAT ) ).parse( entry.getKey() ).floatValue();
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
             }
             Float value;
             try {
-                value = new DecimalFormat( "##" ).parse( entry.getValue() ).floatValue();
+                value = getDecimalFormat( decimalFormat____11120, "##", Locale.getDefault( Locale.Category.FORMAT ) ).parse( entry.getValue() ).floatValue();
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
@@ -491,14 +561,14 @@ public Map<BigDecimal, BigDecimal> targetToSourceWithCustomLocale(Map<String, St
         for ( java.util.Map.Entry<String, String> entry : source.entrySet() ) {
             BigDecimal key;
             try {
-                key = (BigDecimal) createDecimalFormatWithLocale( "#0.#E0", Locale.forLanguageTag( "fr" ) ).parse( entry.getKey() );
+                key = (BigDecimal) getBigDecimalFormat( bigDecimalFormat__0__E0_11047755501, "#0.#E0", locale_fr_13276 ).parse( entry.getKey() );
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
             }
             BigDecimal value;
             try {
-                value = (BigDecimal) createDecimalFormatWithLocale( "0.#############E0", Locale.forLanguageTag( "fr" ) ).parse( entry.getValue() );
+                value = (BigDecimal) getBigDecimalFormat( bigDecimalFormat_0______________E0_1792309744, "0.#############E0", locale_fr_13276 ).parse( entry.getValue() );
             }
             catch ( ParseException e ) {
                 throw new RuntimeException( e );
@@ -509,17 +579,26 @@ public Map<BigDecimal, BigDecimal> targetToSourceWithCustomLocale(Map<String, St
         return map;
     }
 
-    private DecimalFormat createDecimalFormatWithLocale( String numberFormat, Locale locale ) {
+    private DecimalFormat getDecimalFormat(ThreadLocal<Map<Locale, DecimalFormat>> formats, String numberFormat, Locale locale) {
 
-        DecimalFormat df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) );
-        df.setParseBigDecimal( true );
+        Map<Locale, DecimalFormat> formatsByLocale = formats.get();
+        DecimalFormat df = formatsByLocale.get( locale );
+        if ( df == null ) {
+            df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) );
+            formatsByLocale.put( locale, df );
+        }
         return df;
     }
 
-    private DecimalFormat createDecimalFormat( String numberFormat ) {
+    private DecimalFormat getBigDecimalFormat(ThreadLocal<Map<Locale, DecimalFormat>> formats, String numberFormat, Locale locale) {
 
-        DecimalFormat df = new DecimalFormat( numberFormat );
-        df.setParseBigDecimal( true );
+        Map<Locale, DecimalFormat> formatsByLocale = formats.get();
+        DecimalFormat df = formatsByLocale.get( locale );
+        if ( df == null ) {
+            df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) );
+            df.setParseBigDecimal( true );
+            formatsByLocale.put( locale, df );
+        }
         return df;
     }
 }
@@ -25,11 +25,12 @@ public void toCompanyEntity(UnmappableCompanyDto dto, CompanyEntity entity) {
         }
 
         entity.setName( dto.getName() );
-        if ( dto.getDepartment() != null ) {
+        UnmappableDepartmentDto department = dto.getDepartment();
+        if ( department != null ) {
             if ( entity.getDepartment() == null ) {
                 entity.setDepartment( departmentEntityFactory.createDepartmentEntity() );
             }
-            unmappableDepartmentDtoToDepartmentEntity( dto.getDepartment(), entity.getDepartment() );
+            unmappableDepartmentDtoToDepartmentEntity( department, entity.getDepartment() );
         }
         else {
             entity.setDepartment( null );
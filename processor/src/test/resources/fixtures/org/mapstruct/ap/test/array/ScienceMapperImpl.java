@@ -6,9 +6,15 @@
 package org.mapstruct.ap.test.array;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 import org.mapstruct.ap.test.array._target.ScientistDto;
 import org.mapstruct.ap.test.array.source.Scientist;
@@ -20,6 +26,8 @@
 )
 public class ScienceMapperImpl implements ScienceMapper {
 
+    private final ThreadLocal<Map<Locale, DecimalFormat>> decimalFormat__10 = ThreadLocal.withInitial( HashMap::new );
+
     @Override
     public ScientistDto scientistToDto(Scientist scientist) {
         if ( scientist == null ) {
@@ -67,7 +75,9 @@ public ScientistDto[] scientistsToDtos(List<Scientist> scientists) {
 
         ScientistDto[] scientistDtoTmp = new ScientistDto[scientists.size()];
         int i = 0;
-        for ( Scientist scientist : scientists ) {
+        Iterator<Scientist> scientistIterator = scientists instanceof RandomAccess ? null : scientists.iterator();
+        for ( int j = 0; j < scientists.size(); j++ ) {
+            Scientist scientist = scientistIterator != null ? scientistIterator.next() : scientists.get( j );
             scientistDtoTmp[i] = scientistToDto( scientist );
             i++;
         }
@@ -284,7 +294,7 @@ public String[] nvmMapping(int[] source, String[] target) {
             if ( ( i >= target.length ) || ( i >= source.length ) ) {
                 break;
             }
-            target[i] = new DecimalFormat( "" ).format( int1 );
+            target[i] = getDecimalFormat( decimalFormat__10, "", Locale.getDefault( Locale.Category.FORMAT ) ).format( int1 );
             i++;
         }
 
@@ -326,6 +336,17 @@ public void nvmMappingVoidReturnDefault(int[] source, long[] target) {
         }
     }
 
+    private DecimalFormat getDecimalFormat(ThreadLocal<Map<Locale, DecimalFormat>> formats, String numberFormat, Locale locale) {
+
+        Map<Locale, DecimalFormat> formatsByLocale = formats.get();
+        DecimalFormat df = formatsByLocale.get( locale );
+        if ( df == null ) {
+            df = new DecimalFormat( numberFormat, DecimalFormatSymbols.getInstance( locale ) );
+            formatsByLocale.put( locale, df );
+        }
+        return df;
+    }
+
     protected int[] stringArrayTointArray(String[] stringArray) {
         if ( stringArray == null ) {
             return null;
@@ -6,9 +6,11 @@
 package org.mapstruct.ap.test.bugs._1453;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 
 @Generated(
@@ -41,7 +43,9 @@ public List<AuctionDto> mapExtend(List<? extends Auction> auctions) {
         }
 
         List<AuctionDto> list = new ArrayList<AuctionDto>( auctions.size() );
-        for ( Auction auction : auctions ) {
+        Iterator<? extends Auction> auctionIterator = auctions instanceof RandomAccess ? null : auctions.iterator();
+        for ( int i = 0; i < auctions.size(); i++ ) {
+            Auction auction = auctionIterator != null ? auctionIterator.next() : auctions.get( i );
             list.add( map( auction ) );
         }
 
@@ -55,7 +59,9 @@ public List<? super AuctionDto> mapSuper(List<Auction> auctions) {
         }
 
         List<? super AuctionDto> list = new ArrayList<AuctionDto>( auctions.size() );
-        for ( Auction auction : auctions ) {
+        Iterator<Auction> auctionIterator = auctions instanceof RandomAccess ? null : auctions.iterator();
+        for ( int i = 0; i < auctions.size(); i++ ) {
+            Auction auction = auctionIterator != null ? auctionIterator.next() : auctions.get( i );
             list.add( map( auction ) );
         }
 
@@ -114,7 +120,9 @@ protected List<PaymentDto> paymentListToPaymentDtoList(List<Payment> list) {
         }
 
         List<PaymentDto> list1 = new ArrayList<PaymentDto>( list.size() );
-        for ( Payment payment : list ) {
+        Iterator<Payment> paymentIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            Payment payment = paymentIterator != null ? paymentIterator.next() : list.get( i );
             list1.add( paymentToPaymentDto( payment ) );
         }
 
@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.test.bugs._1561;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 import javax.annotation.Generated;
 
@@ -51,8 +54,11 @@ protected NestedTarget sourceToNestedTarget(Source source) {
 
         NestedTarget nestedTarget = new NestedTarget();
 
-        if ( source.getProperties() != null ) {
-            for ( String property : source.getProperties() ) {
+        List<String> properties = source.getProperties();
+        if ( properties != null ) {
+            Iterator<String> propertyIterator = properties instanceof RandomAccess ? null : properties.iterator();
+            for ( int i = 0; i < properties.size(); i++ ) {
+                String property = propertyIterator != null ? propertyIterator.next() : properties.get( i );
                 nestedTarget.addProperty( property );
             }
         }
@@ -10,6 +10,7 @@
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Date;
 import javax.annotation.Generated;
 
 @Generated(
@@ -27,20 +28,25 @@ public Target map(Source source) {
 
         Target target = new Target();
 
-        if ( source.getLocalDateTime() != null ) {
-            target.setLocalDateTime( LocalDateTime.ofInstant( source.getLocalDateTime().toInstant(), ZoneId.of( "UTC" ) ) );
+        Date localDateTime = source.getLocalDateTime();
+        if ( localDateTime != null ) {
+            target.setLocalDateTime( LocalDateTime.ofInstant( localDateTime.toInstant(), ZoneId.of( "UTC" ) ) );
         }
-        if ( source.getLocalDate() != null ) {
-            target.setLocalDate( LocalDateTime.ofInstant( source.getLocalDate().toInstant(), ZoneOffset.UTC ).toLocalDate() );
+        Date localDate = source.getLocalDate();
+        if ( localDate != null ) {
+            target.setLocalDate( LocalDateTime.ofInstant( localDate.toInstant(), ZoneOffset.UTC ).toLocalDate() );
         }
-        if ( source.getLocalTime() != null ) {
-            target.setLocalTime( LocalTime.parse( source.getLocalTime() ) );
+        String localTime = source.getLocalTime();
+        if ( localTime != null ) {
+            target.setLocalTime( LocalTime.parse( localTime ) );
         }
-        if ( source.getZonedDateTime() != null ) {
-            target.setZonedDateTime( ZonedDateTime.ofInstant( source.getZonedDateTime().toInstant(), ZoneId.systemDefault() ) );
+        Date zonedDateTime = source.getZonedDateTime();
+        if ( zonedDateTime != null ) {
+            target.setZonedDateTime( ZonedDateTime.ofInstant( zonedDateTime.toInstant(), ZoneId.systemDefault() ) );
         }
-        if ( source.getInstant() != null ) {
-            target.setInstant( source.getInstant().toInstant() );
+        Date instant = source.getInstant();
+        if ( instant != null ) {
+            target.setInstant( instant.toInstant() );
         }
 
         return target;
@@ -7,7 +7,9 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 
 @Generated(
@@ -37,22 +39,26 @@ public void updateUserFromUserDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        user.setEmail( userDTOContactDataDTOEmail( userDTO ) );
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+
+        user.setEmail( contactDataDTOEmail( contactDataDTO ) );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
         else {
             user.setPhone( null );
         }
-        user.setAddress( userDTOContactDataDTOAddress( userDTO ) );
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        user.setAddress( contactDataDTOAddress( contactDataDTO ) );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
-            for ( String contactDataDTOPreference : preferences ) {
+            Iterator<String> contactDataDTOPreferenceIterator = preferences instanceof RandomAccess ? null : preferences.iterator();
+            for ( int i = 0; i < preferences.size(); i++ ) {
+                String contactDataDTOPreference = contactDataDTOPreferenceIterator != null ? contactDataDTOPreferenceIterator.next() : preferences.get( i );
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
@@ -68,30 +74,35 @@ public void updateUserFromUserAndIgnoreDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        String email = userDTOContactDataDTOEmail( userDTO );
+        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+
+        String email = contactDataDTOEmail( contactDataDTO );
         if ( email != null ) {
             user.setEmail( email );
         }
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
-        String address = userDTOContactDataDTOAddress( userDTO );
+        String address = contactDataDTOAddress( contactDataDTO );
         if ( address != null ) {
             user.setAddress( address );
         }
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
-            for ( String contactDataDTOPreference : preferences ) {
+            Iterator<String> contactDataDTOPreferenceIterator = preferences instanceof RandomAccess ? null : preferences.iterator();
+            for ( int i = 0; i < preferences.size(); i++ ) {
+                String contactDataDTOPreference = contactDataDTOPreferenceIterator != null ? contactDataDTOPreferenceIterator.next() : preferences.get( i );
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
-        if ( userDTO.getName() != null ) {
-            user.setName( userDTO.getName() );
+        String name = userDTO.getName();
+        if ( name != null ) {
+            user.setName( name );
         }
     }
 
@@ -101,42 +112,47 @@ public void updateUserFromUserAndDefaultDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        String email = userDTOContactDataDTOEmail( userDTO );
+        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+
+        String email = contactDataDTOEmail( contactDataDTO );
         if ( email != null ) {
             user.setEmail( email );
         }
         else {
             user.setEmail( "" );
         }
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
         else {
             user.setPhone( 0 );
         }
-        String address = userDTOContactDataDTOAddress( userDTO );
+        String address = contactDataDTOAddress( contactDataDTO );
         if ( address != null ) {
             user.setAddress( address );
         }
         else {
             user.setAddress( "" );
         }
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
-            for ( String contactDataDTOPreference : preferences ) {
+            Iterator<String> contactDataDTOPreferenceIterator = preferences instanceof RandomAccess ? null : preferences.iterator();
+            for ( int i = 0; i < preferences.size(); i++ ) {
+                String contactDataDTOPreference = contactDataDTOPreferenceIterator != null ? contactDataDTOPreferenceIterator.next() : preferences.get( i );
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
         else {
             user.setSettings( new String[0] );
         }
-        if ( userDTO.getName() != null ) {
-            user.setName( userDTO.getName() );
+        String name = userDTO.getName();
+        if ( name != null ) {
+            user.setName( name );
         }
         else {
             user.setName( "" );
@@ -151,8 +167,9 @@ protected ContactDataDTO userToContactDataDTO(User user) {
         ContactDataDTO contactDataDTO = new ContactDataDTO();
 
         contactDataDTO.setEmail( user.getEmail() );
-        if ( user.getPhone() != null ) {
-            contactDataDTO.setPhone( String.valueOf( user.getPhone() ) );
+        Integer phone = user.getPhone();
+        if ( phone != null ) {
+            contactDataDTO.setPhone( String.valueOf( phone ) );
         }
         contactDataDTO.setAddress( user.getAddress() );
         List<String> list = user.getPreferences();
@@ -167,40 +184,35 @@ protected ContactDataDTO userToContactDataDTO(User user) {
         return contactDataDTO;
     }
 
-    private String userDTOContactDataDTOEmail(UserDTO userDTO) {
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String contactDataDTOEmail(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
         return contactDataDTO.getEmail();
     }
 
-    private String userDTOContactDataDTOPhone(UserDTO userDTO) {
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String contactDataDTOPhone(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
         return contactDataDTO.getPhone();
     }
 
-    private String userDTOContactDataDTOAddress(UserDTO userDTO) {
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String contactDataDTOAddress(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
         return contactDataDTO.getAddress();
     }
 
-    private List<String> userDTOContactDataDTOPreferences(UserDTO userDTO) {
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private List<String> contactDataDTOPreferences(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
         return contactDataDTO.getPreferences();
     }
 
-    private String[] userDTOContactDataDTOSettings(UserDTO userDTO) {
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String[] contactDataDTOSettings(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
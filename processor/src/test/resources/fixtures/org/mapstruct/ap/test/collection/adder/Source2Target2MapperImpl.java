@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.test.collection.adder;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 import org.mapstruct.ap.test.collection.adder._target.Target2;
 import org.mapstruct.ap.test.collection.adder.source.Foo;
@@ -25,8 +28,11 @@ public Target2 toTarget(Source2 source) {
 
         Target2 target2 = new Target2();
 
-        if ( source.getAttributes() != null ) {
-            for ( Foo attribute : source.getAttributes() ) {
+        List<Foo> attributes = source.getAttributes();
+        if ( attributes != null ) {
+            Iterator<Foo> attributeIterator = attributes instanceof RandomAccess ? null : attributes.iterator();
+            for ( int i = 0; i < attributes.size(); i++ ) {
+                Foo attribute = attributeIterator != null ? attributeIterator.next() : attributes.get( i );
                 target2.addAttribute( attribute );
             }
         }
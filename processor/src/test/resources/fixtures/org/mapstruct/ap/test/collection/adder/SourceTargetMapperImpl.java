@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.test.collection.adder;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 import org.mapstruct.ap.test.collection.adder._target.IndoorPet;
 import org.mapstruct.ap.test.collection.adder._target.Target;
@@ -35,8 +38,11 @@ public Target toTarget(Source source) throws DogException {
         Target target = new Target();
 
         try {
-            if ( source.getPets() != null ) {
-                for ( String pet : source.getPets() ) {
+            List<String> pets = source.getPets();
+            if ( pets != null ) {
+                Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+                for ( int i = 0; i < pets.size(); i++ ) {
+                    String pet = petIterator != null ? petIterator.next() : pets.get( i );
                     target.addPet( petMapper.toPet( pet ) );
                 }
             }
@@ -76,8 +82,11 @@ public void toExistingTarget(Source source, Target target) {
         }
 
         try {
-            if ( source.getPets() != null ) {
-                for ( String pet : source.getPets() ) {
+            List<String> pets = source.getPets();
+            if ( pets != null ) {
+                Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+                for ( int i = 0; i < pets.size(); i++ ) {
+                    String pet = petIterator != null ? petIterator.next() : pets.get( i );
                     target.addPet( petMapper.toPet( pet ) );
                 }
             }
@@ -98,8 +107,11 @@ public TargetDali toTargetDali(SourceTeeth source) {
 
         TargetDali targetDali = new TargetDali();
 
-        if ( source.getTeeth() != null ) {
-            for ( String tooth : source.getTeeth() ) {
+        List<String> teeth = source.getTeeth();
+        if ( teeth != null ) {
+            Iterator<String> toothIterator = teeth instanceof RandomAccess ? null : teeth.iterator();
+            for ( int i = 0; i < teeth.size(); i++ ) {
+                String tooth = toothIterator != null ? toothIterator.next() : teeth.get( i );
                 targetDali.addTeeth( teethMapper.toTooth( tooth ) );
             }
         }
@@ -115,8 +127,11 @@ public TargetHuman toTargetHuman(SourceTeeth source) {
 
         TargetHuman targetHuman = new TargetHuman();
 
-        if ( source.getTeeth() != null ) {
-            for ( String tooth : source.getTeeth() ) {
+        List<String> teeth = source.getTeeth();
+        if ( teeth != null ) {
+            Iterator<String> toothIterator = teeth instanceof RandomAccess ? null : teeth.iterator();
+            for ( int i = 0; i < teeth.size(); i++ ) {
+                String tooth = toothIterator != null ? toothIterator.next() : teeth.get( i );
                 targetHuman.addTooth( teethMapper.toTooth( tooth ) );
             }
         }
@@ -133,8 +148,11 @@ public TargetOnlyGetter toTargetOnlyGetter(Source source) throws DogException {
         TargetOnlyGetter targetOnlyGetter = new TargetOnlyGetter();
 
         try {
-            if ( source.getPets() != null ) {
-                for ( String pet : source.getPets() ) {
+            List<String> pets = source.getPets();
+            if ( pets != null ) {
+                Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+                for ( int i = 0; i < pets.size(); i++ ) {
+                    String pet = petIterator != null ? petIterator.next() : pets.get( i );
                     targetOnlyGetter.addPet( petMapper.toPet( pet ) );
                 }
             }
@@ -155,8 +173,11 @@ public TargetViaTargetType toTargetViaTargetType(Source source) {
         TargetViaTargetType targetViaTargetType = new TargetViaTargetType();
 
         try {
-            if ( source.getPets() != null ) {
-                for ( String pet : source.getPets() ) {
+            List<String> pets = source.getPets();
+            if ( pets != null ) {
+                Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+                for ( int i = 0; i < pets.size(); i++ ) {
+                    String pet = petIterator != null ? petIterator.next() : pets.get( i );
                     targetViaTargetType.addPet( petMapper.toPet( pet, IndoorPet.class ) );
                 }
             }
@@ -180,8 +201,9 @@ public Target fromSingleElementSource(SingleElementSource source) {
         Target target = new Target();
 
         try {
-            if ( source.getPet() != null ) {
-                target.addPet( petMapper.toPet( source.getPet() ) );
+            String pet = source.getPet();
+            if ( pet != null ) {
+                target.addPet( petMapper.toPet( pet ) );
             }
         }
         catch ( CatException e ) {
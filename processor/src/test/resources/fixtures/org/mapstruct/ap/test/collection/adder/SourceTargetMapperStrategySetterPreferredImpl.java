@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.test.collection.adder;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 import org.mapstruct.ap.test.collection.adder._target.TargetWithoutSetter;
 import org.mapstruct.ap.test.collection.adder.source.Source;
@@ -27,8 +30,11 @@ public TargetWithoutSetter toTargetDontUseAdder(Source source) throws DogExcepti
         TargetWithoutSetter targetWithoutSetter = new TargetWithoutSetter();
 
         try {
-            if ( source.getPets() != null ) {
-                for ( String pet : source.getPets() ) {
+            List<String> pets = source.getPets();
+            if ( pets != null ) {
+                Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+                for ( int i = 0; i < pets.size(); i++ ) {
+                    String pet = petIterator != null ? petIterator.next() : pets.get( i );
                     targetWithoutSetter.addPet( petMapper.toPet( pet ) );
                 }
             }
@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.test.collection.adder;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 import org.mapstruct.ap.test.collection.adder._target.TargetWithAnimals;
 import org.mapstruct.ap.test.collection.adder.source.SourceWithPets;
@@ -24,8 +27,11 @@ public TargetWithAnimals map(SourceWithPets source) {
 
         TargetWithAnimals targetWithAnimals = new TargetWithAnimals();
 
-        if ( source.getPets() != null ) {
-            for ( String pet : source.getPets() ) {
+        List<String> pets = source.getPets();
+        if ( pets != null ) {
+            Iterator<String> petIterator = pets instanceof RandomAccess ? null : pets.iterator();
+            for ( int i = 0; i < pets.size(); i++ ) {
+                String pet = petIterator != null ? petIterator.next() : pets.get( i );
                 targetWithAnimals.addAnimal( pet );
             }
         }
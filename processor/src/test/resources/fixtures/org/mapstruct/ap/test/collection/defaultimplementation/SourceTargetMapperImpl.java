@@ -7,12 +7,14 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -69,7 +71,9 @@ public List<TargetFoo> sourceFoosToTargetFoos(List<SourceFoo> foos) {
         }
 
         List<TargetFoo> list = new ArrayList<TargetFoo>( foos.size() );
-        for ( SourceFoo sourceFoo : foos ) {
+        Iterator<SourceFoo> sourceFooIterator = foos instanceof RandomAccess ? null : foos.iterator();
+        for ( int i = 0; i < foos.size(); i++ ) {
+            SourceFoo sourceFoo = sourceFooIterator != null ? sourceFooIterator.next() : foos.get( i );
             list.add( sourceFooToTargetFoo( sourceFoo ) );
         }
 
@@ -56,15 +56,18 @@ public ChartEntry map(Song song) {
             return null;
         }
 
+        Artist artist = song.getArtist();
+        Studio studio = artistLabelStudio( artist );
+
         String songTitle = null;
         String artistName = null;
         String recordedAt = null;
         String city = null;
 
         songTitle = song.getTitle();
-        artistName = songArtistName( song );
-        recordedAt = songArtistLabelStudioName( song );
-        city = songArtistLabelStudioCity( song );
+        artistName = artistName( artist );
+        recordedAt = studioName( studio );
+        city = studioCity( studio );
 
         String chartName = null;
         int position = 0;
@@ -134,4 +137,36 @@ private String songArtistLabelStudioCity(Song song) {
         }
         return studio.getCity();
     }
+
+    private Studio artistLabelStudio(Artist artist) {
+        if ( artist == null ) {
+            return null;
+        }
+        Label label = artist.getLabel();
+        if ( label == null ) {
+            return null;
+        }
+        return label.getStudio();
+    }
+
+    private String artistName(Artist artist) {
+        if ( artist == null ) {
+            return null;
+        }
+        return artist.getName();
+    }
+
+    private String studioName(Studio studio) {
+        if ( studio == null ) {
+            return null;
+        }
+        return studio.getName();
+    }
+
+    private String studioCity(Studio studio) {
+        if ( studio == null ) {
+            return null;
+        }
+        return studio.getCity();
+    }
 }
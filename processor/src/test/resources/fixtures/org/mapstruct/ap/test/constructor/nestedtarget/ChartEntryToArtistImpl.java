@@ -46,6 +46,10 @@ public ChartEntry map(Chart chart) {
             return null;
         }
 
+        Song song = chart.getSong();
+        Artist artist = songArtist( song );
+        Studio studio = artistLabelStudio( artist );
+
         String chartName = null;
         String songTitle = null;
         String artistName = null;
@@ -54,11 +58,11 @@ public ChartEntry map(Chart chart) {
         int position = 0;
 
         chartName = chart.getName();
-        songTitle = chartSongTitle( chart );
-        artistName = chartSongArtistName( chart );
-        recordedAt = chartSongArtistLabelStudioName( chart );
-        city = chartSongArtistLabelStudioCity( chart );
-        position = mapPosition( chartSongPositions( chart ) );
+        songTitle = songTitle( song );
+        artistName = artistName( artist );
+        recordedAt = studioName( studio );
+        city = studioCity( studio );
+        position = mapPosition( songPositions( song ) );
 
         ChartEntry chartEntry = new ChartEntry( chartName, songTitle, artistName, recordedAt, city, position );
 
@@ -131,68 +135,53 @@ protected Song chartEntryToSong(ChartEntry chartEntry) {
         return song;
     }
 
-    private String chartSongTitle(Chart chart) {
-        Song song = chart.getSong();
+    private Artist songArtist(Song song) {
         if ( song == null ) {
             return null;
         }
-        return song.getTitle();
+        return song.getArtist();
     }
 
-    private String chartSongArtistName(Chart chart) {
-        Song song = chart.getSong();
-        if ( song == null ) {
+    private Studio artistLabelStudio(Artist artist) {
+        if ( artist == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
+        Label label = artist.getLabel();
+        if ( label == null ) {
             return null;
         }
-        return artist.getName();
+        return label.getStudio();
     }
 
-    private String chartSongArtistLabelStudioName(Chart chart) {
-        Song song = chart.getSong();
+    private String songTitle(Song song) {
         if ( song == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
+        return song.getTitle();
+    }
+
+    private String artistName(Artist artist) {
         if ( artist == null ) {
             return null;
         }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
+        return artist.getName();
+    }
+
+    private String studioName(Studio studio) {
         if ( studio == null ) {
             return null;
         }
         return studio.getName();
     }
 
-    private String chartSongArtistLabelStudioCity(Chart chart) {
-        Song song = chart.getSong();
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
-            return null;
-        }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
+    private String studioCity(Studio studio) {
         if ( studio == null ) {
             return null;
         }
         return studio.getCity();
     }
 
-    private List<Integer> chartSongPositions(Chart chart) {
-        Song song = chart.getSong();
+    private List<Integer> songPositions(Song song) {
         if ( song == null ) {
             return null;
         }
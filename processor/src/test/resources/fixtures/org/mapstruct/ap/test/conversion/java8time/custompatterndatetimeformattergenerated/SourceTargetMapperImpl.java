@@ -27,14 +27,17 @@ public Target map(Source source) {
 
         Target target = new Target();
 
-        if ( source.getLocalDateTime1() != null ) {
-            target.setLocalDateTime1( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242.format( source.getLocalDateTime1() ) );
+        LocalDateTime localDateTime1 = source.getLocalDateTime1();
+        if ( localDateTime1 != null ) {
+            target.setLocalDateTime1( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242.format( localDateTime1 ) );
         }
-        if ( source.getLocalDateTime2() != null ) {
-            target.setLocalDateTime2( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242.format( source.getLocalDateTime2() ) );
+        LocalDateTime localDateTime2 = source.getLocalDateTime2();
+        if ( localDateTime2 != null ) {
+            target.setLocalDateTime2( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242.format( localDateTime2 ) );
         }
-        if ( source.getLocalDateTime3() != null ) {
-            target.setLocalDateTime3( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071757710.format( source.getLocalDateTime3() ) );
+        LocalDateTime localDateTime3 = source.getLocalDateTime3();
+        if ( localDateTime3 != null ) {
+            target.setLocalDateTime3( dateTimeFormatter_dd_MM_yyyy_HH_mm_12071757710.format( localDateTime3 ) );
         }
 
         return target;
@@ -48,14 +51,17 @@ public Source map(Target target) {
 
         Source source = new Source();
 
-        if ( target.getLocalDateTime1() != null ) {
-            source.setLocalDateTime1( LocalDateTime.parse( target.getLocalDateTime1(), dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242 ) );
+        String localDateTime1 = target.getLocalDateTime1();
+        if ( localDateTime1 != null ) {
+            source.setLocalDateTime1( LocalDateTime.parse( localDateTime1, dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242 ) );
         }
-        if ( target.getLocalDateTime2() != null ) {
-            source.setLocalDateTime2( LocalDateTime.parse( target.getLocalDateTime2(), dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242 ) );
+        String localDateTime2 = target.getLocalDateTime2();
+        if ( localDateTime2 != null ) {
+            source.setLocalDateTime2( LocalDateTime.parse( localDateTime2, dateTimeFormatter_dd_MM_yyyy_HH_mm_12071769242 ) );
         }
-        if ( target.getLocalDateTime3() != null ) {
-            source.setLocalDateTime3( LocalDateTime.parse( target.getLocalDateTime3(), dateTimeFormatter_dd_MM_yyyy_HH_mm_12071757710 ) );
+        String localDateTime3 = target.getLocalDateTime3();
+        if ( localDateTime3 != null ) {
+            source.setLocalDateTime3( LocalDateTime.parse( localDateTime3, dateTimeFormatter_dd_MM_yyyy_HH_mm_12071757710 ) );
         }
 
         return source;
@@ -6,7 +6,9 @@
 package org.mapstruct.ap.test.defaultcomponentmodel;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.processing.Generated;
 
 @Generated(
@@ -25,7 +27,9 @@ public List<Target> map(List<Source> list) {
         }
 
         List<Target> list1 = new ArrayList<Target>( list.size() );
-        for ( Source source : list ) {
+        Iterator<Source> sourceIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            Source source = sourceIterator != null ? sourceIterator.next() : list.get( i );
             list1.add( instanceMapper.map( source ) );
         }
 
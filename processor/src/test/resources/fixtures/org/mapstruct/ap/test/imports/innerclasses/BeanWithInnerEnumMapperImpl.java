@@ -23,8 +23,9 @@ public BeanWithInnerEnum fromFacade(BeanFacade beanFacade) {
         BeanWithInnerEnum beanWithInnerEnum = new BeanWithInnerEnum();
 
         beanWithInnerEnum.setTest( beanFacade.getTest() );
-        if ( beanFacade.getInnerEnum() != null ) {
-            beanWithInnerEnum.setInnerEnum( Enum.valueOf( BeanWithInnerEnum.InnerEnum.class, beanFacade.getInnerEnum() ) );
+        String innerEnum = beanFacade.getInnerEnum();
+        if ( innerEnum != null ) {
+            beanWithInnerEnum.setInnerEnum( Enum.valueOf( BeanWithInnerEnum.InnerEnum.class, innerEnum ) );
         }
 
         return beanWithInnerEnum;
@@ -39,8 +40,9 @@ public BeanFacade toFacade(BeanWithInnerEnum beanWithInnerEnum) {
         BeanFacade beanFacade = new BeanFacade();
 
         beanFacade.setTest( beanWithInnerEnum.getTest() );
-        if ( beanWithInnerEnum.getInnerEnum() != null ) {
-            beanFacade.setInnerEnum( beanWithInnerEnum.getInnerEnum().name() );
+        BeanWithInnerEnum.InnerEnum innerEnum = beanWithInnerEnum.getInnerEnum();
+        if ( innerEnum != null ) {
+            beanFacade.setInnerEnum( innerEnum.name() );
         }
 
         return beanFacade;
@@ -6,7 +6,9 @@
 package org.mapstruct.ap.test.nestedbeans;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 
 @Generated(
@@ -83,7 +85,9 @@ public List<WheelDto> mapWheels(List<Wheel> wheels) {
         }
 
         List<WheelDto> list = new ArrayList<WheelDto>( wheels.size() );
-        for ( Wheel wheel : wheels ) {
+        Iterator<Wheel> wheelIterator = wheels instanceof RandomAccess ? null : wheels.iterator();
+        for ( int i = 0; i < wheels.size(); i++ ) {
+            Wheel wheel = wheelIterator != null ? wheelIterator.next() : wheels.get( i );
             list.add( mapWheel( wheel ) );
         }
 
@@ -6,7 +6,9 @@
 package org.mapstruct.ap.test.nestedbeans;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 
 @Generated(
@@ -66,7 +68,9 @@ protected List<WheelDto> wheelListToWheelDtoList(List<Wheel> list) {
         }
 
         List<WheelDto> list1 = new ArrayList<WheelDto>( list.size() );
-        for ( Wheel wheel : list ) {
+        Iterator<Wheel> wheelIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            Wheel wheel = wheelIterator != null ? wheelIterator.next() : list.get( i );
             list1.add( wheelToWheelDto( wheel ) );
         }
 
@@ -153,7 +157,9 @@ protected List<org.mapstruct.ap.test.nestedbeans.other.WheelDto> wheelListToWhee
         }
 
         List<org.mapstruct.ap.test.nestedbeans.other.WheelDto> list1 = new ArrayList<org.mapstruct.ap.test.nestedbeans.other.WheelDto>( list.size() );
-        for ( Wheel wheel : list ) {
+        Iterator<Wheel> wheelIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            Wheel wheel = wheelIterator != null ? wheelIterator.next() : list.get( i );
             list1.add( wheelToWheelDto1( wheel ) );
         }
 
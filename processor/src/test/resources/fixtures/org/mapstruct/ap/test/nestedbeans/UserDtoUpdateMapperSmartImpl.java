@@ -6,7 +6,9 @@
 package org.mapstruct.ap.test.nestedbeans;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Generated;
 
 @Generated(
@@ -22,35 +24,39 @@ public void userToUserDto(UserDto userDto, User user) {
             return;
         }
 
-        if ( user.getName() != null ) {
-            userDto.setName( user.getName() );
+        String name = user.getName();
+        if ( name != null ) {
+            userDto.setName( name );
         }
         else {
             userDto.setName( null );
         }
-        if ( user.getCar() != null ) {
+        Car car = user.getCar();
+        if ( car != null ) {
             if ( userDto.getCar() == null ) {
                 userDto.setCar( new CarDto() );
             }
-            carToCarDto( user.getCar(), userDto.getCar() );
+            carToCarDto( car, userDto.getCar() );
         }
         else {
             userDto.setCar( null );
         }
-        if ( user.getSecondCar() != null ) {
+        Car secondCar = user.getSecondCar();
+        if ( secondCar != null ) {
             if ( userDto.getSecondCar() == null ) {
                 userDto.setSecondCar( new CarDto() );
             }
-            carToCarDto( user.getSecondCar(), userDto.getSecondCar() );
+            carToCarDto( secondCar, userDto.getSecondCar() );
         }
         else {
             userDto.setSecondCar( null );
         }
-        if ( user.getHouse() != null ) {
+        House house = user.getHouse();
+        if ( house != null ) {
             if ( userDto.getHouse() == null ) {
                 userDto.setHouse( new HouseDto() );
             }
-            houseToHouseDto( user.getHouse(), userDto.getHouse() );
+            houseToHouseDto( house, userDto.getHouse() );
         }
         else {
             userDto.setHouse( null );
@@ -76,7 +82,9 @@ protected List<WheelDto> wheelListToWheelDtoList(List<Wheel> list) {
         }
 
         List<WheelDto> list1 = new ArrayList<WheelDto>( list.size() );
-        for ( Wheel wheel : list ) {
+        Iterator<Wheel> wheelIterator = list instanceof RandomAccess ? null : list.iterator();
+        for ( int i = 0; i < list.size(); i++ ) {
+            Wheel wheel = wheelIterator != null ? wheelIterator.next() : list.get( i );
             list1.add( wheelToWheelDto( wheel ) );
         }
 
@@ -88,8 +96,9 @@ protected void carToCarDto(Car car, CarDto mappingTarget) {
             return;
         }
 
-        if ( car.getName() != null ) {
-            mappingTarget.setName( car.getName() );
+        String name = car.getName();
+        if ( name != null ) {
+            mappingTarget.setName( name );
         }
         else {
             mappingTarget.setName( null );
@@ -136,8 +145,9 @@ protected void roofToRoofDto(Roof roof, RoofDto mappingTarget) {
         }
 
         mappingTarget.setColor( String.valueOf( roof.getColor() ) );
-        if ( roof.getType() != null ) {
-            mappingTarget.setType( roofTypeToExternalRoofType( roof.getType() ) );
+        RoofType type = roof.getType();
+        if ( type != null ) {
+            mappingTarget.setType( roofTypeToExternalRoofType( type ) );
         }
         else {
             mappingTarget.setType( null );
@@ -149,18 +159,20 @@ protected void houseToHouseDto(House house, HouseDto mappingTarget) {
             return;
         }
 
-        if ( house.getName() != null ) {
-            mappingTarget.setName( house.getName() );
+        String name = house.getName();
+        if ( name != null ) {
+            mappingTarget.setName( name );
         }
         else {
             mappingTarget.setName( null );
         }
         mappingTarget.setYear( house.getYear() );
-        if ( house.getRoof() != null ) {
+        Roof roof = house.getRoof();
+        if ( roof != null ) {
             if ( mappingTarget.getRoof() == null ) {
                 mappingTarget.setRoof( new RoofDto() );
             }
-            roofToRoofDto( house.getRoof(), mappingTarget.getRoof() );
+            roofToRoofDto( roof, mappingTarget.getRoof() );
         }
         else {
             mappingTarget.setRoof( null );
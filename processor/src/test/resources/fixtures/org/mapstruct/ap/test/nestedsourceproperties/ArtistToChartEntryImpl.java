@@ -52,10 +52,13 @@ public ChartEntry map(Song song) {
 
         ChartEntry chartEntry = new ChartEntry();
 
+        Artist artist = song.getArtist();
+        Studio studio = artistLabelStudio( artist );
+
         chartEntry.setSongTitle( song.getTitle() );
-        chartEntry.setArtistName( songArtistName( song ) );
-        chartEntry.setRecordedAt( songArtistLabelStudioName( song ) );
-        chartEntry.setCity( songArtistLabelStudioCity( song ) );
+        chartEntry.setArtistName( artistName( artist ) );
+        chartEntry.setRecordedAt( studioName( studio ) );
+        chartEntry.setCity( studioCity( studio ) );
 
         return chartEntry;
     }
@@ -112,4 +115,36 @@ private String songArtistLabelStudioCity(Song song) {
         }
         return studio.getCity();
     }
+
+    private Studio artistLabelStudio(Artist artist) {
+        if ( artist == null ) {
+            return null;
+        }
+        Label label = artist.getLabel();
+        if ( label == null ) {
+            return null;
+        }
+        return label.getStudio();
+    }
+
+    private String artistName(Artist artist) {
+        if ( artist == null ) {
+            return null;
+        }
+        return artist.getName();
+    }
+
+    private String studioName(Studio studio) {
+        if ( studio == null ) {
+            return null;
+        }
+        return studio.getName();
+    }
+
+    private String studioCity(Studio studio) {
+        if ( studio == null ) {
+            return null;
+        }
+        return studio.getCity();
+    }
 }
@@ -68,12 +68,16 @@ public ChartEntry map(Chart chart) {
 
         ChartEntry chartEntry = new ChartEntry();
 
+        Song song = chart.getSong();
+        Artist artist = songArtist( song );
+        Studio studio = artistLabelStudio( artist );
+
         chartEntry.setChartName( chart.getName() );
-        chartEntry.setSongTitle( chartSongTitle( chart ) );
-        chartEntry.setArtistName( chartSongArtistName( chart ) );
-        chartEntry.setRecordedAt( chartSongArtistLabelStudioName( chart ) );
-        chartEntry.setCity( chartSongArtistLabelStudioCity( chart ) );
-        chartEntry.setPosition( mapPosition( chartSongPositions( chart ) ) );
+        chartEntry.setSongTitle( songTitle( song ) );
+        chartEntry.setArtistName( artistName( artist ) );
+        chartEntry.setRecordedAt( studioName( studio ) );
+        chartEntry.setCity( studioCity( studio ) );
+        chartEntry.setPosition( mapPosition( songPositions( song ) ) );
 
         return chartEntry;
     }
@@ -197,68 +201,53 @@ protected void chartEntryToSong2(ChartEntry chartEntry, Song mappingTarget) {
         }
     }
 
-    private String chartSongTitle(Chart chart) {
-        Song song = chart.getSong();
+    private Artist songArtist(Song song) {
         if ( song == null ) {
             return null;
         }
-        return song.getTitle();
+        return song.getArtist();
     }
 
-    private String chartSongArtistName(Chart chart) {
-        Song song = chart.getSong();
-        if ( song == null ) {
+    private Studio artistLabelStudio(Artist artist) {
+        if ( artist == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
+        Label label = artist.getLabel();
+        if ( label == null ) {
             return null;
         }
-        return artist.getName();
+        return label.getStudio();
     }
 
-    private String chartSongArtistLabelStudioName(Chart chart) {
-        Song song = chart.getSong();
+    private String songTitle(Song song) {
         if ( song == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
+        return song.getTitle();
+    }
+
+    private String artistName(Artist artist) {
         if ( artist == null ) {
             return null;
         }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
+        return artist.getName();
+    }
+
+    private String studioName(Studio studio) {
         if ( studio == null ) {
             return null;
         }
         return studio.getName();
     }
 
-    private String chartSongArtistLabelStudioCity(Chart chart) {
-        Song song = chart.getSong();
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
-            return null;
-        }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
+    private String studioCity(Studio studio) {
         if ( studio == null ) {
             return null;
         }
         return studio.getCity();
     }
 
-    private List<Integer> chartSongPositions(Chart chart) {
-        Song song = chart.getSong();
+    private List<Integer> songPositions(Song song) {
         if ( song == null ) {
             return null;
         }
@@ -31,8 +31,9 @@ public void map(ChartEntry chartEntry, Chart chart) {
             chart.setSong( new Song() );
         }
         chartEntryToSong( chartEntry, chart.getSong() );
-        if ( chartEntry.getChartName() != null ) {
-            chart.setName( chartEntry.getChartName() );
+        String chartName = chartEntry.getChartName();
+        if ( chartName != null ) {
+            chart.setName( chartName );
         }
     }
 
@@ -41,11 +42,13 @@ protected void chartEntryToStudio(ChartEntry chartEntry, Studio mappingTarget) {
             return;
         }
 
-        if ( chartEntry.getRecordedAt() != null ) {
-            mappingTarget.setName( chartEntry.getRecordedAt() );
+        String recordedAt = chartEntry.getRecordedAt();
+        if ( recordedAt != null ) {
+            mappingTarget.setName( recordedAt );
         }
-        if ( chartEntry.getCity() != null ) {
-            mappingTarget.setCity( chartEntry.getCity() );
+        String city = chartEntry.getCity();
+        if ( city != null ) {
+            mappingTarget.setCity( city );
         }
     }
 
@@ -69,8 +72,9 @@ protected void chartEntryToArtist(ChartEntry chartEntry, Artist mappingTarget) {
             mappingTarget.setLabel( new Label() );
         }
         chartEntryToLabel( chartEntry, mappingTarget.getLabel() );
-        if ( chartEntry.getArtistName() != null ) {
-            mappingTarget.setName( chartEntry.getArtistName() );
+        String artistName = chartEntry.getArtistName();
+        if ( artistName != null ) {
+            mappingTarget.setName( artistName );
         }
     }
 
@@ -83,8 +87,9 @@ protected void chartEntryToSong(ChartEntry chartEntry, Song mappingTarget) {
             mappingTarget.setArtist( new Artist() );
         }
         chartEntryToArtist( chartEntry, mappingTarget.getArtist() );
-        if ( chartEntry.getSongTitle() != null ) {
-            mappingTarget.setTitle( chartEntry.getSongTitle() );
+        String songTitle = chartEntry.getSongTitle();
+        if ( songTitle != null ) {
+            mappingTarget.setTitle( songTitle );
         }
         if ( mappingTarget.getPositions() != null ) {
             List<Integer> list = mapPosition( chartEntry.getPosition() );
@@ -22,11 +22,12 @@ public void toOrganizationEntity(OrganizationDto dto, OrganizationEntity entity)
             return;
         }
 
-        if ( dto.getCompany() != null ) {
+        CompanyDto company = dto.getCompany();
+        if ( company != null ) {
             if ( entity.getCompany() == null ) {
                 entity.setCompany( new CompanyEntity() );
             }
-            toCompanyEntity( dto.getCompany(), entity.getCompany() );
+            toCompanyEntity( company, entity.getCompany() );
         }
         else {
             entity.setCompany( null );